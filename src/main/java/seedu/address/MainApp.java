@@ -1,13 +1,22 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.commons.core.BackupPolicy;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -15,16 +24,25 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ChunkedBackupStorage;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonChangeFeedStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.StagedAddressBook;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,6 +56,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    public static final String MESSAGE_UNSAVED_CHANGES = "The last changes could not be saved to %s before exiting: %s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +66,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Events and todos of the data file, which are read on a background thread while the window opens
+    private CompletableFuture<ReadOnlyAddressBook> remainingAddressBook;
+    private DataFileWatcher dataFileWatcher;
+    private ScheduledExecutorService backupTimer;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,8 +82,24 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        DataFileCompression compression = userPrefs.getDataFileCompression();
+        AddressBookStorage addressBookStorage = new AsyncAddressBookStorage(
+                new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL, userPrefs.isDataFileCompact(),
+                        compression));
+        AddressBookStorage binaryAddressBookStorage = new AsyncAddressBookStorage(
+                new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), compression));
+        AddressBookStorage shardedAddressBookStorage = new AsyncAddressBookStorage(
+                new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.isDataFileCompact(),
+                        compression));
+        Path dataFilePath = userPrefs.getAddressBookFilePath();
+        storage = new StorageManager(new StorageManager.Components(addressBookStorage, userPrefsStorage)
+                .withBinaryAddressBookStorage(binaryAddressBookStorage)
+                .withShardedAddressBookStorage(shardedAddressBookStorage)
+                .withBackupStorage(new ChunkedBackupStorage(ChunkedBackupStorage.getBackupPath(dataFilePath),
+                        userPrefs.getBackupPolicy()))
+                .withChangeFeedStorage(new JsonChangeFeedStorage(JsonChangeFeedStorage.getChangeFeedPath(dataFilePath),
+                        userPrefs.getChangeFeedPolicy())));
 
         model = initModelManager(storage, userPrefs);
 
@@ -71,26 +112,41 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * <br>
+     * Only the persons are read before the model is created. The events and todos are read on a background thread,
+     * and filled in once they are read or a command needs them.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        Optional<StagedAddressBook> addressBookOptional;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = storage.readAddressBookInStages();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
+                return new ModelManager(SampleDataUtil.getSampleAddressBook(), userPrefs);
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
+
+            AddressBook initialData = new AddressBook();
+            initialData.setPersons(addressBookOptional.get().getPersons());
+            ModelManager modelManager = new ModelManager(initialData, userPrefs);
+            remainingAddressBook = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return addressBookOptional.get().readRemaining();
+                } catch (DataLoadingException e) {
+                    logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                            + " Will be starting with an empty AddressBook.");
+                    throw new CompletionException(e);
+                }
+            });
+            modelManager.setPendingAddressBook(remainingAddressBook);
+            return modelManager;
+        } catch (DataLoadingException | DuplicatePersonException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new ModelManager(new AddressBook(), userPrefs);
         }
-
-        return new ModelManager(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -171,12 +227,122 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        // Commands run in the background, but the lists shown in the window may only change on the JavaFX thread
+        model.setListThread(change -> {
+            if (Platform.isFxApplicationThread()) {
+                change.run();
+            } else {
+                Platform.runLater(change);
+            }
+        });
         ui.start(primaryStage);
+        logger.info("Ready for input " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms after launch");
+
+        if (remainingAddressBook != null) {
+            remainingAddressBook.whenComplete((addressBook, error) -> logic.runInBackground(() -> {
+                model.awaitPendingAddressBook();
+                logger.info("Events and todos loaded " + ManagementFactory.getRuntimeMXBean().getUptime()
+                        + " ms after launch");
+                archiveExpiredEntries();
+            }));
+        } else {
+            logic.runInBackground(this::archiveExpiredEntries);
+        }
+        watchDataFile();
+        scheduleBackups();
+    }
+
+    /**
+     * Backs up the address book every interval of the backup policy in the user prefs, if it has changed since the
+     * last backup.
+     */
+    private void scheduleBackups() {
+        BackupPolicy backupPolicy = model.getUserPrefs().getBackupPolicy();
+        if (!backupPolicy.isScheduled()) {
+            return;
+        }
+
+        backupTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BackupTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = backupPolicy.getIntervalMinutes();
+        // The backup is started on the command thread, which is the only one that changes the address book
+        backupTimer.scheduleAtFixedRate(() -> logic.runInBackground(logic::backupAddressBookIfChanged), interval,
+                interval, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Starts watching the data file for changes made by other programs, e.g. a sync client, so that they are applied
+     * to the address book instead of being overwritten by the next save.
+     */
+    private void watchDataFile() {
+        try {
+            dataFileWatcher = new DataFileWatcher(storage.getAddressBookFilePath(),
+                    () -> logic.runInBackground(this::reloadExternalChanges));
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Not watching the data file for changes made by other programs "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    private void reloadExternalChanges() {
+        try {
+            logic.reloadExternalChanges();
+        } catch (DataLoadingException e) {
+            logger.warning("Ignoring changes to the data file that could not be read " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Moves old entries to the archive if the user prefs ask for it. A failure is only logged, as the entries can
+     * still be archived on a later launch or with the archive command.
+     */
+    private void archiveExpiredEntries() {
+        try {
+            logic.archiveExpiredEntries();
+        } catch (CommandException e) {
+            logger.warning("Failed to archive old entries " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (backupTimer != null) {
+            backupTimer.shutdownNow();
+        }
+        if (dataFileWatcher != null) {
+            try {
+                dataFileWatcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
+            }
+        }
+        // The window is closed, so the lists can be changed on whichever thread runs the last commands
+        model.setListThread(Runnable::run);
+        if (!logic.awaitPendingCommands()) {
+            logger.warning("Stopping while a command is still running, its changes may not be saved");
+        }
+        // Exports are written on a daemon thread, which would otherwise be stopped before the file is complete
+        logic.awaitPendingExports();
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            // The last save failed in the background, so the changes since the last successful one are about to be lost
+            ui.showSaveFailureAndWait(String.format(MESSAGE_UNSAVED_CHANGES, storage.getAddressBookFilePath(),
+                    e.getMessage()));
+        }
+        try {
+            // The storage only knows what the data file holds once the events and todos have been read
+            model.awaitPendingAddressBook();
+            storage.saveAddressBookCache();
+        } catch (IOException e) {
+            logger.warning("Failed to save the cache of the address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
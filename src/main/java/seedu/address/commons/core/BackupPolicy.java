@@ -0,0 +1,103 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the backups of the address book: how often they are taken, and
+ * how many of them are kept.
+ * Guarantees: immutable.
+ */
+public class BackupPolicy implements Serializable {
+
+    public static final int DEFAULT_INTERVAL_MINUTES = 60;
+    public static final int DEFAULT_HOURLY_BACKUPS = 24;
+    public static final int DEFAULT_DAILY_BACKUPS = 7;
+    public static final String MESSAGE_CONSTRAINTS = "The backup interval and the numbers of backups kept cannot be "
+            + "negative.";
+
+    private final int intervalMinutes;
+    private final int hourlyBackups;
+    private final int dailyBackups;
+
+    /**
+     * Constructs a {@code BackupPolicy} that backs up the address book every hour, and keeps the last backup of
+     * each of the last day's hours and of the last week's days.
+     */
+    public BackupPolicy() {
+        this(DEFAULT_INTERVAL_MINUTES, DEFAULT_HOURLY_BACKUPS, DEFAULT_DAILY_BACKUPS);
+    }
+
+    /**
+     * Constructs a {@code BackupPolicy} that backs up the address book every {@code intervalMinutes} minutes, or
+     * never if it is 0, and keeps the last backup of each of the last {@code hourlyBackups} hours and of the last
+     * {@code dailyBackups} days that have backups.
+     */
+    public BackupPolicy(int intervalMinutes, int hourlyBackups, int dailyBackups) {
+        checkArgument(intervalMinutes >= 0 && hourlyBackups >= 0 && dailyBackups >= 0, MESSAGE_CONSTRAINTS);
+        this.intervalMinutes = intervalMinutes;
+        this.hourlyBackups = hourlyBackups;
+        this.dailyBackups = dailyBackups;
+    }
+
+    /**
+     * Returns the number of minutes between backups, or 0 if backups are only taken when asked for.
+     * A negative interval read from a preferences file is treated as 0.
+     */
+    public int getIntervalMinutes() {
+        return Math.max(intervalMinutes, 0);
+    }
+
+    public boolean isScheduled() {
+        return getIntervalMinutes() > 0;
+    }
+
+    /**
+     * Returns the number of hours whose last backup is kept.
+     */
+    public int getHourlyBackups() {
+        return Math.max(hourlyBackups, 0);
+    }
+
+    /**
+     * Returns the number of days whose last backup is kept.
+     */
+    public int getDailyBackups() {
+        return Math.max(dailyBackups, 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackupPolicy)) {
+            return false;
+        }
+
+        BackupPolicy otherPolicy = (BackupPolicy) other;
+        return getIntervalMinutes() == otherPolicy.getIntervalMinutes()
+                && getHourlyBackups() == otherPolicy.getHourlyBackups()
+                && getDailyBackups() == otherPolicy.getDailyBackups();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getIntervalMinutes(), getHourlyBackups(), getDailyBackups());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("intervalMinutes", getIntervalMinutes())
+                .add("hourlyBackups", getHourlyBackups())
+                .add("dailyBackups", getDailyBackups())
+                .toString();
+    }
+}
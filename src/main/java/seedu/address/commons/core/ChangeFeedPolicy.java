@@ -0,0 +1,80 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the change feed: whether every change to the contacts, events
+ * and todos is recorded, and how large a file of the feed grows before a new one is started.
+ * Guarantees: immutable.
+ */
+public class ChangeFeedPolicy implements Serializable {
+
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 4L * 1024 * 1024;
+    public static final String MESSAGE_CONSTRAINTS = "The size of the change feed files must be positive.";
+
+    private final boolean isEnabled;
+    private final long maxSegmentBytes;
+
+    /**
+     * Constructs a {@code ChangeFeedPolicy} that records no changes.
+     */
+    public ChangeFeedPolicy() {
+        this(false, DEFAULT_MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Constructs a {@code ChangeFeedPolicy} that records changes if {@code isEnabled}, and starts a new file once
+     * the current one holds {@code maxSegmentBytes} bytes.
+     */
+    public ChangeFeedPolicy(boolean isEnabled, long maxSegmentBytes) {
+        checkArgument(maxSegmentBytes > 0, MESSAGE_CONSTRAINTS);
+        this.isEnabled = isEnabled;
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Returns the size in bytes a file of the feed may reach before a new one is started.
+     * A size that is not positive, read from a preferences file, is treated as the default.
+     */
+    public long getMaxSegmentBytes() {
+        return maxSegmentBytes > 0 ? maxSegmentBytes : DEFAULT_MAX_SEGMENT_BYTES;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeFeedPolicy)) {
+            return false;
+        }
+
+        ChangeFeedPolicy otherPolicy = (ChangeFeedPolicy) other;
+        return isEnabled == otherPolicy.isEnabled
+                && getMaxSegmentBytes() == otherPolicy.getMaxSegmentBytes();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isEnabled, getMaxSegmentBytes());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isEnabled", isEnabled)
+                .add("maxSegmentBytes", getMaxSegmentBytes())
+                .toString();
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the compression settings of the data files.
+ * Compressed files are recognised by their first bytes when read, whatever these settings are.
+ * Guarantees: immutable.
+ */
+public class DataFileCompression implements Serializable {
+
+    /**
+     * Streaming codecs that data files can be compressed with.
+     */
+    public enum Codec {
+        /** Files are written as they are. */
+        NONE,
+        /** Files are written in the GZIP format, which can be opened by common archive tools. */
+        GZIP,
+        /** Files are written as a zlib stream, which is a few bytes smaller than GZIP. */
+        DEFLATE
+    }
+
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 9;
+    public static final int DEFAULT_LEVEL = 6;
+    public static final String MESSAGE_CONSTRAINTS = "Compression levels range from " + MIN_LEVEL + " (fastest) to "
+            + MAX_LEVEL + " (smallest).";
+
+    private final Codec codec;
+    private final int level;
+
+    /**
+     * Constructs a {@code DataFileCompression} that leaves files uncompressed.
+     */
+    public DataFileCompression() {
+        codec = Codec.NONE;
+        level = DEFAULT_LEVEL;
+    }
+
+    /**
+     * Constructs a {@code DataFileCompression} with the specified codec and level.
+     */
+    public DataFileCompression(Codec codec, int level) {
+        checkArgument(codec != null);
+        checkArgument(isValidLevel(level), MESSAGE_CONSTRAINTS);
+        this.codec = codec;
+        this.level = level;
+    }
+
+    /**
+     * Returns true if {@code level} is a valid compression level.
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= MIN_LEVEL && level <= MAX_LEVEL;
+    }
+
+    public Codec getCodec() {
+        // Preferences files may leave the codec out
+        return codec != null ? codec : Codec.NONE;
+    }
+
+    /**
+     * Returns the compression level, or {@link #DEFAULT_LEVEL} if the level read from a preferences file is invalid.
+     */
+    public int getLevel() {
+        return isValidLevel(level) ? level : DEFAULT_LEVEL;
+    }
+
+    public boolean isCompressed() {
+        return getCodec() != Codec.NONE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DataFileCompression)) {
+            return false;
+        }
+
+        DataFileCompression otherCompression = (DataFileCompression) other;
+        return getCodec() == otherCompression.getCodec()
+                && getLevel() == otherCompression.getLevel();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getCodec(), getLevel());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("codec", getCodec())
+                .add("level", getLevel())
+                .toString();
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** Compact binary snapshots, which are faster to load and save. */
+    BINARY,
+    /** A manifest naming one file per kind of entry, of which only the changed ones are rewritten on save. */
+    SHARDED
+}
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +36,85 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Changes {@code list} to hold the elements of {@code target} in the same order, by replacing only the ranges of
+     * {@code list} whose elements are not the same instances as in {@code target}. Elements that are in both lists
+     * are compared by identity, and stay where they are if they are in the same order in both.
+     * Each range is replaced with a single change, so an {@code ObservableList} fires one change per range, and a
+     * change per element where elements are replaced one for one.
+     */
+    public static <T> void updateList(List<T> list, List<? extends T> target) {
+        requireAllNonNull(list, target);
+        int oldSize = list.size();
+        int newSize = target.size();
+
+        int head = 0;
+        while (head < oldSize && head < newSize && list.get(head) == target.get(head)) {
+            head++;
+        }
+        int tail = 0;
+        while (tail < oldSize - head && tail < newSize - head
+                && list.get(oldSize - 1 - tail) == target.get(newSize - 1 - tail)) {
+            tail++;
+        }
+        int oldEnd = oldSize - tail;
+        int newEnd = newSize - tail;
+
+        Set<T> oldElements = identitySetOf(list.subList(head, oldEnd));
+        Set<T> newElements = identitySetOf(target.subList(head, newEnd));
+        // Positions in list move as ranges are replaced, so i and j index the original list and target
+        int offset = 0;
+        int i = head;
+        int j = head;
+        while (i < oldEnd || j < newEnd) {
+            if (i < oldEnd && j < newEnd && list.get(i + offset) == target.get(j)) {
+                i++;
+                j++;
+                continue;
+            }
+
+            // The range up to the next element both lists share is replaced
+            int rangeStart = i;
+            int from = j;
+            while (true) {
+                while (i < oldEnd && !newElements.contains(list.get(i + offset))) {
+                    i++;
+                }
+                while (j < newEnd && !oldElements.contains(target.get(j))) {
+                    j++;
+                }
+                boolean isBothAtEnd = i == oldEnd && j == newEnd;
+                if (isBothAtEnd || (i < oldEnd && j < newEnd && list.get(i + offset) == target.get(j))) {
+                    break;
+                }
+                // An element that moved is removed and added again
+                i = Math.min(i + 1, oldEnd);
+                j = Math.min(j + 1, newEnd);
+            }
+            offset += replaceRange(list, rangeStart + offset, i + offset, target.subList(from, j));
+        }
+    }
+
+    /**
+     * Replaces the elements of {@code list} from {@code start} (inclusive) to {@code end} (exclusive) with
+     * {@code replacement}, and returns the change in the size of {@code list}.
+     */
+    private static <T> int replaceRange(List<T> list, int start, int end, List<? extends T> replacement) {
+        if (end - start == replacement.size()) {
+            for (int k = 0; k < replacement.size(); k++) {
+                list.set(start + k, replacement.get(k));
+            }
+            return 0;
+        }
+        list.subList(start, end).clear();
+        list.addAll(start, replacement);
+        return replacement.size() - (end - start);
+    }
+
+    private static <T> Set<T> identitySetOf(List<? extends T> elements) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(elements);
+        return set;
+    }
 }
@@ -0,0 +1,156 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.core.DataFileCompression;
+
+/**
+ * Compresses files as they are written and decompresses them as they are read.
+ * Compressed files are recognised by their first bytes, so files written with any codec, or none, can be read.
+ */
+public class CompressionUtil {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final int ZLIB_METHOD_DEFLATE = 8;
+    private static final int ZLIB_HEADER_CHECK = 31;
+
+    private CompressionUtil() {
+    }
+
+    /**
+     * Returns a content writer that passes the content of {@code contentWriter} through the codec of
+     * {@code compression}. The content is compressed as it is written, so it is never held in memory as a whole.
+     */
+    public static FileUtil.ContentWriter compress(DataFileCompression compression,
+                                                  FileUtil.ContentWriter contentWriter) {
+        requireNonNull(compression);
+        requireNonNull(contentWriter);
+
+        switch (compression.getCodec()) {
+        case GZIP:
+            return out -> {
+                LevelledGzipOutputStream compressed = new LevelledGzipOutputStream(out, compression.getLevel());
+                try {
+                    contentWriter.writeTo(compressed);
+                    compressed.finish();
+                } finally {
+                    compressed.end();
+                }
+            };
+        case DEFLATE:
+            return out -> {
+                Deflater deflater = new Deflater(compression.getLevel());
+                try {
+                    DeflaterOutputStream compressed = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+                    contentWriter.writeTo(compressed);
+                    compressed.finish();
+                } finally {
+                    deflater.end();
+                }
+            };
+        default:
+            return contentWriter;
+        }
+    }
+
+    /**
+     * Opens {@code file} for reading, decompressing its content if it was compressed.
+     *
+     * @throws IOException if the file cannot be opened, or its compressed header is invalid.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        requireNonNull(file);
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int first = in.read();
+            int second = in.read();
+            in.reset();
+
+            if (isGzipHeader(first, second)) {
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            } else if (isZlibHeader(first, second)) {
+                return new ZlibInputStream(in);
+            } else {
+                return in;
+            }
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code file} starts with the header of a compressed stream.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            int first = in.read();
+            int second = in.read();
+            return isGzipHeader(first, second) || isZlibHeader(first, second);
+        }
+    }
+
+    private static boolean isGzipHeader(int first, int second) {
+        return first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND;
+    }
+
+    /**
+     * Returns true if the two bytes form a zlib header (RFC 1950), which no JSON document or binary data file
+     * starts with.
+     */
+    private static boolean isZlibHeader(int first, int second) {
+        return first >= 0 && second >= 0
+                && (first & 0x0f) == ZLIB_METHOD_DEFLATE
+                && ((first << 8) | second) % ZLIB_HEADER_CHECK == 0;
+    }
+
+    /**
+     * A {@code GZIPOutputStream} with a configurable compression level, whose deflater can be released without
+     * closing the underlying stream.
+     */
+    private static class LevelledGzipOutputStream extends GZIPOutputStream {
+        LevelledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        void end() {
+            def.end();
+        }
+    }
+
+    /**
+     * An {@code InflaterInputStream} with a larger buffer, which releases its inflater when closed.
+     */
+    private static class ZlibInputStream extends InflaterInputStream {
+        ZlibInputStream(InputStream in) {
+            super(in, new Inflater(), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
+            }
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +89,110 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, such that the file holds either its old or its new content even if the
+     * application or the machine stops midway.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFileAtomically(Path, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, such that the file holds either its old or its
+     * new content even if the application or the machine stops midway.
+     * The content is streamed through a buffer into a new temporary file in the same directory, forced to the disk,
+     * and then moved over the file. The directory is forced to the disk after the move where the platform allows it,
+     * so that the move itself survives a crash. Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeChannelToFileAtomically(file, channel -> {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+        });
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but gives {@code channelWriter} the channel of
+     * the temporary file, e.g. so that other files can be transferred to it by the operating system.
+     */
+    public static void writeChannelToFileAtomically(Path file, ChannelWriter channelWriter) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        // A new name for every write, so that concurrent writes of the same file never share a temporary file
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channelWriter.writeTo(channel);
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk.
+     * Does nothing on platforms that cannot open a directory, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The directory cannot be opened or forced here, and the move has been made either way
+        }
+    }
+
+    /**
+     * Appends given string to a file, and forces it to the disk before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        appendToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Appends given bytes to a file, and forces them to the disk before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, byte[] content) throws IOException {
+        writeAndForce(file, content, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void writeAndForce(Path file, byte[] content, StandardOpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     * The stream must not be closed by the writer.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes content to a file channel.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
 }
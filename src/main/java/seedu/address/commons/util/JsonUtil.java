@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,15 +13,19 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 
@@ -39,8 +45,15 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writers are immutable and cache the serializers they look up, so they are created once and reused
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+    private static final ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, out -> prettyWriter.writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,6 +90,32 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns a parser that streams the JSON content of the given file, for files too large to hold in memory.
+     * Values read through it with {@link JsonParser#readValueAs(Class)} are converted with the same settings as
+     * {@link #readJsonFile(Path, Class)}. The caller is responsible for closing the parser, which closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        // Compressed files are decompressed as the parser reads them
+        return objectMapper.getFactory().createParser(CompressionUtil.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a parser that streams the JSON content read from {@code in} like {@link #createJsonParser(Path)}.
+     * The caller is responsible for closing the parser, which closes {@code in}.
+     *
+     * @param in cannot be null.
+     * @throws IOException if the parser cannot be created.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +131,64 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes a JSON document to the specified file with a streaming generator, so that large documents are never
+     * held in memory as a whole. The file is replaced atomically, as with {@link #saveJsonFile(Object, Path)}.
+     * Values within the document should be written with {@link #writeValue(JsonGenerator, Object)}.
+     *
+     * @param filePath cannot be null
+     * @param isCompact whether to leave out indentation and line breaks
+     * @param contentWriter writes the document to the generator it is given. Cannot be null.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, JsonContentWriter contentWriter)
+            throws IOException {
+        writeJsonFile(filePath, isCompact, new DataFileCompression(), contentWriter);
+    }
+
+    /**
+     * Similar to {@link #writeJsonFile(Path, boolean, JsonContentWriter)}, but compresses the document with the codec
+     * of {@code compression} as it is written.
+     *
+     * @param compression cannot be null
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, DataFileCompression compression,
+                                     JsonContentWriter contentWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        requireNonNull(contentWriter);
+
+        FileUtil.writeToFileAtomically(filePath, CompressionUtil.compress(compression,
+                out -> writeJson(out, isCompact, contentWriter)));
+    }
+
+    /**
+     * Similar to {@link #writeJsonFile(Path, boolean, JsonContentWriter)}, but writes the document to {@code out},
+     * which is left open.
+     *
+     * @param out cannot be null
+     */
+    public static void writeJson(OutputStream out, boolean isCompact, JsonContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(out);
+        requireNonNull(contentWriter);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            contentWriter.writeTo(generator);
+        }
+    }
+
+    /**
+     * Writes the given value at the current position of a generator from {@link #writeJsonFile}.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        valueWriter.writeValue(generator, value);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -108,7 +205,25 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into a compact JSON data string that fits on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes a JSON document to a streaming generator.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
     }
 
     /**
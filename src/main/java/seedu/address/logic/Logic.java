@@ -1,9 +1,13 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -25,6 +29,62 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread, after the commands and tasks submitted before it, so that the
+     * calling thread (e.g. the JavaFX thread) is free while a command works through a large list.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException} or
+     *     {@code ParseException} as {@link #execute(String)} would throw it.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
+    /**
+     * Runs {@code task} on the command thread, after the commands and tasks submitted before it. Tasks that use the
+     * model (e.g. {@link #backupAddressBookIfChanged()}) must be run this way while commands run in the background.
+     */
+    CompletableFuture<Void> runInBackground(Runnable task);
+
+    /**
+     * Stops taking commands and tasks to run in the background, and waits a while for those already submitted.
+     * @return true if they are all done.
+     */
+    boolean awaitPendingCommands();
+
+    /**
+     * Moves the completed todos and past events to the archive, if the user prefs ask for them to be archived
+     * automatically after some number of days.
+     * @throws CommandException If the entries could not be archived, or the address book could not be saved.
+     */
+    void archiveExpiredEntries() throws CommandException;
+
+    /**
+     * Reads the data file again if another program has changed it since it was last read or saved, and applies the
+     * entries that changed to the address book. Entries that did not change are left as they are.
+     * The data file is not read again while the address book has changes that could not be saved, as reading it
+     * would lose them; the next save keeps a copy of the data file instead.
+     * @return true if the data file had changed and was read again.
+     * @throws DataLoadingException If the changed data file could not be read, in which case the address book is left
+     *     as it is.
+     */
+    boolean reloadExternalChanges() throws DataLoadingException;
+
+    /**
+     * Backs up the address book in the background, unless it is unchanged since the last backup taken by this app.
+     * @return the version of the new backup, if one is taken.
+     */
+    Optional<String> backupAddressBookIfChanged();
+
+    /**
+     * Waits for the files being exported in the background to be written.
+     */
+    void awaitPendingExports();
+
+    /**
+     * Sets the handler to pass a message for the user to when saving the address book, or writing an exported file,
+     * fails after {@link #execute(String)} has returned. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -41,6 +101,41 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of todos */
     ObservableList<Todo> getFilteredTodoList();
 
+    /**
+     * Returns the number of persons linked to {@code event}.
+     *
+     * @see seedu.address.model.Model#getAttendeeCount(Event)
+     */
+    int getAttendeeCount(Event event);
+
+    /**
+     * Returns the number of incomplete todos linked to {@code person}.
+     *
+     * @see seedu.address.model.Model#getOpenTodoCount(Person)
+     */
+    int getOpenTodoCount(Person person);
+
+    /**
+     * Returns the number of completed todos linked to {@code person}.
+     *
+     * @see seedu.address.model.Model#getCompletedTodoCount(Person)
+     */
+    int getCompletedTodoCount(Person person);
+
+    /**
+     * Returns the event that {@code person} is linked to.
+     *
+     * @see seedu.address.model.Model#getLinkedEvent(Person)
+     */
+    Optional<Event> getLinkedEvent(Person person);
+
+    /**
+     * Returns the contact that {@code todo} is linked to.
+     *
+     * @see seedu.address.model.Model#getLinkedContact(Todo)
+     */
+    Optional<Person> getLinkedContact(Todo todo);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,21 +1,53 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.ArchiveSearch;
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.BackupRequest;
+import seedu.address.logic.commands.ChangeExportRequest;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportChangesCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.MergeRequest;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.StorageActionRunner;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.interchange.ContactImporter;
+import seedu.address.logic.interchange.ExportRequest;
+import seedu.address.logic.interchange.Exporter;
+import seedu.address.logic.interchange.ImportRequest;
+import seedu.address.logic.interchange.ImportResult;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EntryChange;
+import seedu.address.model.ListEdit;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.merge.AddressBookMerger;
+import seedu.address.model.merge.MergeResult;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.storage.Storage;
@@ -29,11 +61,51 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String FILE_OPS_READ_ERROR_FORMAT = "Could not read the archive file %s.";
+
+    public static final String FILE_OPS_BACKUP_READ_ERROR_FORMAT = "Could not read the backups in folder %s.";
+
+    public static final String FILE_OPS_EXPORT_ERROR_FORMAT = "Could not export to %s due to the following error: %s";
+
+    public static final String FILE_OPS_DATA_FILE_READ_ERROR_FORMAT = "Could not read the data file %s.";
+
+    public static final String FILE_OPS_CHANGE_FEED_ERROR_FORMAT =
+            "Could not record changes in folder %s due to the following error: %s";
+
+    // How long the app waits for the commands still running when it stops
+    private static final long PENDING_COMMANDS_TIMEOUT_SECONDS = 10;
+
+    // No version of the address book is backed up yet, so the first backup is taken whatever its version
+    private static final long NOT_BACKED_UP = -1;
+
+    // The last save failed, so the next command saves the address book whatever its version
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Exporter exporter;
+    private final StorageActionRunner storageActionRunner = new StorageRunner();
+    // Runs the commands and tasks submitted to run in the background, one at a time and in order
+    private final ExecutorService commandThread = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CommandThread");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Changes made to the model that are yet to be appended to the change feed
+    private final List<EntryChange> pendingChanges = new ArrayList<>();
+    // Edits made to the lists of the model since the last save, which storages that keep their own copy of the
+    // address book save instead of the whole address book
+    private final List<ListEdit> unsavedEdits = new ArrayList<>();
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    // Version last given to the storage, moved back by saves that fail in the background on the storage's thread
+    private volatile long savedAddressBookVersion;
+    // Version of the last backup that was written, moved forward on the backup thread once the backup succeeds
+    private volatile long backedUpAddressBookVersion = NOT_BACKED_UP;
+    private int saveCount;
+    private int skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -42,25 +114,376 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        exporter = new Exporter();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
+        model.setEditListener(unsavedEdits::addAll);
+        if (model.getUserPrefs().getChangeFeedPolicy().isEnabled()) {
+            model.setChangeListener(pendingChanges::addAll);
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return execute(command);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandThread.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> runInBackground(Runnable task) {
+        requireNonNull(task);
+        return CompletableFuture.runAsync(task, commandThread);
+    }
+
+    @Override
+    public boolean awaitPendingCommands() {
+        commandThread.shutdown();
+        try {
+            return commandThread.awaitTermination(PENDING_COMMANDS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void archiveExpiredEntries() throws CommandException {
+        int days = model.getUserPrefs().getAutoArchiveAfterDays();
+        if (days <= 0) {
+            return;
+        }
+
+        CommandResult commandResult = execute(new ArchiveCommand(days));
+        logger.info("Archived entries older than " + days + " days: " + commandResult.getFeedbackToUser());
+    }
+
+    @Override
+    public boolean reloadExternalChanges() throws DataLoadingException {
+        // The storage only knows what the data file holds once the events and todos have been read
+        model.awaitPendingAddressBook();
+        if (!storage.isAddressBookChangedExternally()) {
+            return false;
+        }
+        if (savedAddressBookVersion != model.getAddressBookVersion()) {
+            // Reloading would lose the changes whose save failed; the next save writes them and keeps a copy of the
+            // data file instead
+            logger.warning("Data file " + storage.getAddressBookFilePath() + " was changed by another program,"
+                    + " not reloading it over changes that are not saved yet");
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        if (!addressBook.isPresent()) {
+            logger.warning("Data file " + storage.getAddressBookFilePath() + " was removed by another program,"
+                    + " it will be written again on the next save");
+            return false;
+        }
+        model.updateAddressBook(addressBook.get());
+        appendPendingChanges();
+        // The model now holds what the data file holds, so there is nothing to save
+        storage.markAddressBookSaved(model.getAddressBook());
+        unsavedEdits.clear();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        logger.info("Reloaded data file " + storage.getAddressBookFilePath() + " changed by another program");
+        return true;
+    }
+
+    @Override
+    public Optional<String> backupAddressBookIfChanged() {
+        // Backups must hold the events and todos, so they must be loaded first
+        model.awaitPendingAddressBook();
+        if (model.getAddressBookVersion() == backedUpAddressBookVersion) {
+            logger.fine("Address book unchanged, skipped backing up");
+            return Optional.empty();
+        }
+        return Optional.of(backupAddressBook());
+    }
+
+    private CommandResult execute(Command command) throws CommandException {
+        // Commands may use or change the events and todos, so they must be loaded first
+        model.awaitPendingAddressBook();
+        try {
+            return carryOut(command.execute(model));
+        } finally {
+            // Commands that fail may still have changed the model
+            appendPendingChanges();
+        }
+    }
+
+    /**
+     * Carries out what {@code commandResult} asks of the storage, saves the address book if that or the command
+     * changed it, and returns the result for the user.
+     */
+    private CommandResult carryOut(CommandResult commandResult) throws CommandException {
+        CommandResult result = commandResult;
+        if (commandResult.getStorageAction().isPresent()) {
+            result = commandResult.getStorageAction().get().carryOut(storageActionRunner, commandResult);
+        }
+        saveAddressBookIfChanged();
+        return result;
+    }
 
+    /**
+     * Writes {@code entries} to the archive file and then removes them from the address book, so that no entry is
+     * lost if the archive cannot be written.
+     */
+    private void archiveEntries(ReadOnlyAddressBook entries) throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.archiveEntries(entries);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        }
+        model.removeEntries(entries);
+    }
+
+    /**
+     * Returns the result listing the archived events and todos found by {@code archiveSearch}.
+     */
+    private CommandResult searchArchive(ArchiveSearch archiveSearch) throws CommandException {
+        try {
+            ReadOnlyAddressBook matches = storage.searchArchive(archiveSearch.getEventPredicate(),
+                    archiveSearch.getTodoPredicate());
+            return new CommandResult(archiveSearch.describe(matches, model.getAddressBook()));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(FILE_OPS_READ_ERROR_FORMAT, storage.getArchiveFilePath()), e);
         }
+    }
 
-        return commandResult;
+    /**
+     * Writes the file of {@code exportRequest} in the background. The user is told through the save failure handler
+     * if it cannot be written.
+     */
+    private void export(ExportRequest exportRequest) {
+        logger.info("Exporting " + exportRequest.getEntryCount() + " entries to " + exportRequest.getFile());
+        exporter.export(exportRequest, ioe -> saveFailureHandler.accept(
+                String.format(FILE_OPS_EXPORT_ERROR_FORMAT, exportRequest.getFile(), ioe.getMessage())));
+    }
+
+    /**
+     * Appends the changes made to the model since the last append to the change feed. If they cannot be appended,
+     * the user is told through the save failure handler and they are kept to be appended after the next command.
+     */
+    private void appendPendingChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        try {
+            storage.appendChanges(pendingChanges);
+            pendingChanges.clear();
+        } catch (IOException ioe) {
+            logger.warning("Could not record " + pendingChanges.size() + " changes: " + ioe.getMessage());
+            saveFailureHandler.accept(String.format(FILE_OPS_CHANGE_FEED_ERROR_FORMAT,
+                    storage.getChangeFeedFolderPath(), ioe.getMessage()));
+        }
+    }
+
+    /**
+     * Reads the contacts in the file of {@code importRequest} and adds the ones that are valid and new to the
+     * address book, all at once, so that the lists are updated and the data file saved once.
+     */
+    private CommandResult importContacts(ImportRequest importRequest) throws CommandException {
+        ImportResult result;
+        try {
+            result = new ContactImporter().importContacts(importRequest.getFile(), importRequest.getFormat(),
+                    model.getPersonList());
+        } catch (IOException e) {
+            throw new CommandException(String.format(ImportRequest.MESSAGE_READ_ERROR, importRequest.getFile()), e);
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+
+        model.addPersons(result.getPersons());
+        logger.info("Imported " + result.getPersons().size() + " contacts from " + importRequest.getFile());
+        return new CommandResult(importRequest.describe(result));
+    }
+
+    /**
+     * Writes the changes of {@code changeExportRequest} from the change feed, and returns the result for the user.
+     */
+    private CommandResult exportChanges(ChangeExportRequest changeExportRequest) throws CommandException {
+        // Changes that could not be appended earlier must be in the feed before it is exported
+        appendPendingChanges();
+        Path file = changeExportRequest.getFile();
+        try {
+            long count = storage.exportChanges(changeExportRequest.getSinceSequence(), file);
+            return new CommandResult(String.format(ExportChangesCommand.MESSAGE_SUCCESS, count,
+                    changeExportRequest.getSinceSequence(), file, storage.getLastChangeSequence()));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_EXPORT_ERROR_FORMAT, file, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public void awaitPendingExports() {
+        exporter.awaitPendingExports();
+    }
+
+    /**
+     * Carries out {@code backupRequest}, and returns the result for the user.
+     */
+    private CommandResult carryOut(BackupRequest backupRequest) throws CommandException {
+        switch (backupRequest.getAction()) {
+        case BACKUP:
+            return new CommandResult(String.format(BackupCommand.MESSAGE_SUCCESS, backupAddressBook()));
+        case LIST:
+            try {
+                return new CommandResult(BackupRequest.describe(storage.getBackupVersions()));
+            } catch (DataLoadingException e) {
+                throw new CommandException(String.format(FILE_OPS_BACKUP_READ_ERROR_FORMAT,
+                        storage.getBackupFolderPath()), e);
+            }
+        default:
+            return restoreBackup(backupRequest.getVersionToRestore().get());
+        }
+    }
+
+    private String backupAddressBook() {
+        long addressBookVersion = model.getAddressBookVersion();
+        String backupVersion = storage.backupAddressBook(model.getAddressBook(),
+                () -> backedUpAddressBookVersion = addressBookVersion);
+        logger.info("Backing up address book as " + backupVersion);
+        return backupVersion;
+    }
+
+    /**
+     * Replaces the address book with the backup {@code version} and saves it. The address book is backed up first
+     * if it has changed since the last backup, so that the restore can be undone by restoring that backup.
+     */
+    private CommandResult restoreBackup(String version) throws CommandException {
+        Optional<ReadOnlyAddressBook> backup;
+        try {
+            backup = storage.readBackup(version);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(FILE_OPS_BACKUP_READ_ERROR_FORMAT,
+                    storage.getBackupFolderPath()), e);
+        }
+        if (!backup.isPresent()) {
+            throw new CommandException(String.format(RestoreCommand.MESSAGE_BACKUP_NOT_FOUND, version));
+        }
+
+        backupAddressBookIfChanged();
+        model.setAddressBook(backup.get());
+        saveAddressBookIfChanged();
+        return new CommandResult(String.format(RestoreCommand.MESSAGE_SUCCESS, version));
+    }
+
+    /**
+     * Merges the data file of {@code mergeRequest} into the address book and saves it. The address book is backed up
+     * first if the merge changes it, so that the merge can be undone by restoring that backup.
+     */
+    private CommandResult mergeAddressBook(MergeRequest mergeRequest) throws CommandException {
+        ReadOnlyAddressBook other = readDataFile(mergeRequest.getOtherFile());
+        ReadOnlyAddressBook base = readDataFile(mergeRequest.getBaseFile());
+        MergeResult result = AddressBookMerger.merge(base, model.getAddressBook(), other);
+        logger.info("Merged " + mergeRequest.getOtherFile() + " since " + mergeRequest.getBaseFile() + ": " + result);
+
+        if (result.getAddedCount() + result.getUpdatedCount() + result.getDeletedCount() > 0) {
+            backupAddressBookIfChanged();
+            model.updateAddressBook(result.getAddressBook());
+            saveAddressBookIfChanged();
+        }
+        return new CommandResult(mergeRequest.describe(result));
+    }
+
+    private ReadOnlyAddressBook readDataFile(Path file) throws CommandException {
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.readAddressBook(file);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(FILE_OPS_DATA_FILE_READ_ERROR_FORMAT, file), e);
+        }
+        if (!addressBook.isPresent()) {
+            throw new CommandException(String.format(MergeCommand.MESSAGE_FILE_NOT_FOUND, file));
+        }
+        return addressBook.get();
+    }
+
+    /**
+     * Rewrites the data file in {@code format}, which later saves keep using.
+     */
+    private void convertAddressBook(DataFileFormat format) throws CommandException {
+        long version = model.getAddressBookVersion();
+        try {
+            storage.convertAddressBook(model.getAddressBook(), format);
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        } finally {
+            // The whole address book has been given to the storage, so later edits are made to it
+            unsavedEdits.clear();
+        }
+        savedAddressBookVersion = version;
+        saveCount++;
+    }
+
+    /**
+     * Saves the address book unless it is unchanged since it was last given to the storage, as is the case after
+     * commands that only read or filter the data. Storages that save in the background may still be writing that
+     * version; if they fail to, {@link #handleSaveFailure} makes the next command save again.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion) {
+            skippedSaveCount++;
+            logger.info("Address book unchanged since it was last saved, skipped saving (" + skippedSaveCount
+                    + " skipped, " + saveCount + " saved so far)");
+            return;
+        }
+
+        // Moved forward before saving, so that a background save failing early is not overwritten
+        savedAddressBookVersion = version;
+        try {
+            if (storage.hasSavedCopy()) {
+                storage.saveAddressBookEdits(unsavedEdits);
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+            }
+        } catch (IOException ioe) {
+            savedAddressBookVersion = NOT_SAVED;
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        } finally {
+            // The storage has applied the edits to its copy, or been given the whole address book, even if it could
+            // not write them, so they must not be given again
+            unsavedEdits.clear();
+        }
+        saveCount++;
+        logger.info("Saved address book (" + skippedSaveCount + " skipped, " + saveCount + " saved so far)");
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Makes the next command save the address book again after a save failed in the background, and tells the user.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        savedAddressBookVersion = NOT_SAVED;
+        saveFailureHandler.accept(getSaveFailureMessage(ioe));
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -83,6 +506,31 @@ public class LogicManager implements Logic {
         return model.getFilteredTodoList();
     }
 
+    @Override
+    public int getAttendeeCount(Event event) {
+        return model.getAttendeeCount(event);
+    }
+
+    @Override
+    public int getOpenTodoCount(Person person) {
+        return model.getOpenTodoCount(person);
+    }
+
+    @Override
+    public int getCompletedTodoCount(Person person) {
+        return model.getCompletedTodoCount(person);
+    }
+
+    @Override
+    public Optional<Event> getLinkedEvent(Person person) {
+        return model.getLinkedEvent(person);
+    }
+
+    @Override
+    public Optional<Person> getLinkedContact(Todo todo) {
+        return model.getLinkedContact(todo);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -97,4 +545,50 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Carries out the storage actions of command results with the storage of this {@code LogicManager}.
+     */
+    private class StorageRunner implements StorageActionRunner {
+
+        @Override
+        public void convertAddressBook(DataFileFormat format) throws CommandException {
+            LogicManager.this.convertAddressBook(format);
+        }
+
+        @Override
+        public void archiveEntries(ReadOnlyAddressBook entries) throws CommandException {
+            LogicManager.this.archiveEntries(entries);
+        }
+
+        @Override
+        public CommandResult searchArchive(ArchiveSearch archiveSearch) throws CommandException {
+            return LogicManager.this.searchArchive(archiveSearch);
+        }
+
+        @Override
+        public CommandResult carryOut(BackupRequest backupRequest) throws CommandException {
+            return LogicManager.this.carryOut(backupRequest);
+        }
+
+        @Override
+        public void export(ExportRequest exportRequest) {
+            LogicManager.this.export(exportRequest);
+        }
+
+        @Override
+        public CommandResult importContacts(ImportRequest importRequest) throws CommandException {
+            return LogicManager.this.importContacts(importRequest);
+        }
+
+        @Override
+        public CommandResult exportChanges(ChangeExportRequest changeExportRequest) throws CommandException {
+            return LogicManager.this.exportChanges(changeExportRequest);
+        }
+
+        @Override
+        public CommandResult mergeAddressBook(MergeRequest mergeRequest) throws CommandException {
+            return LogicManager.this.mergeAddressBook(mergeRequest);
+        }
+    }
 }
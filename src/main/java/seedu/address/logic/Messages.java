@@ -1,10 +1,13 @@
 package seedu.address.logic;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.FacetCounts;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
@@ -70,17 +73,56 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code todo} for display to the user.
-     * @return
+     * Formats the {@code todo} for display to the user, with the name of its linked contact in {@code addressBook}.
      */
-    public static String format(Todo todo) {
+    public static String format(Todo todo, ReadOnlyAddressBook addressBook) {
         final StringBuilder builder = new StringBuilder();
         builder.append(todo.getTodoName())
                 .append("; Description: ")
                 .append(todo.getTodoDescription())
                 .append("; Contact Name: ")
-                .append(todo.getContactNameDisplay());
+                .append(formatContactName(todo, addressBook));
         return builder.toString();
     }
 
+    private static String formatContactName(Todo todo, ReadOnlyAddressBook addressBook) {
+        if (todo.getContactId() == null) {
+            return "No contact linked";
+        }
+        return addressBook.getPerson(todo.getContactId())
+                .map(contact -> contact.getName().fullName)
+                .orElse("No contact linked");
+    }
+
+    /**
+     * Formats the {@code facetCounts} for display to the user.
+     */
+    public static String format(FacetCounts facetCounts) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("Tags: ")
+                .append(formatCounts(facetCounts.getTagCounts()))
+                .append("\nEvents: ")
+                .append(formatCounts(facetCounts.getEventCounts()))
+                .append("\nEvent dates: ")
+                .append(facetCounts.getUpcomingEventCount())
+                .append(" upcoming, ")
+                .append(facetCounts.getPastEventCount())
+                .append(" past")
+                .append("\nTodos: ")
+                .append(facetCounts.getCompletedTodoCount())
+                .append(" completed, ")
+                .append(facetCounts.getPendingTodoCount())
+                .append(" pending");
+        return builder.toString();
+    }
+
+    private static String formatCounts(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return "none";
+        }
+        return counts.entrySet().stream()
+                .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
 }
@@ -5,6 +5,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TODO_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TODO_NAME;
 
+import java.util.Objects;
+import java.util.Optional;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -32,13 +35,23 @@ public class AddTodoCommand extends Command {
     public static final String MESSAGE_DUPLICATE_TODO = "This todo already exists in the address book";
 
     private final Todo toAdd;
+    private final Name contactName;
 
     /**
      * Creates an AddTodoCommand to add the specified {@code Todo}
      */
     public AddTodoCommand(Todo toAdd) {
+        this(toAdd, null);
+    }
+
+    /**
+     * Creates an AddTodoCommand to add the specified {@code Todo}, linked to the contact named {@code contactName}.
+     * The todo is not linked to a contact if {@code contactName} is null.
+     */
+    public AddTodoCommand(Todo toAdd, Name contactName) {
         requireNonNull(toAdd);
         this.toAdd = toAdd;
+        this.contactName = contactName;
     }
 
     @Override
@@ -49,22 +62,24 @@ public class AddTodoCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TODO);
         }
 
-        final Name contactName = toAdd.getContactName();
-        if (contactName != null && !hasContactName(model, contactName)) {
-            throw new CommandException("Contact not found: " + contactName.fullName);
+        Todo todoToAdd = toAdd;
+        if (contactName != null) {
+            Person contact = findContact(model, contactName)
+                    .orElseThrow(() -> new CommandException("Contact not found: " + contactName.fullName));
+            todoToAdd = toAdd.withLinkedContactId(contact.getId());
         }
 
-        model.addTodo(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        model.addTodo(todoToAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(todoToAdd, model.getAddressBook())));
     }
 
     /**
-     * Checks if the input contact name exists in the current PersonList
+     * Returns the person in the current PersonList with the input contact name, if there is one.
      */
-    private boolean hasContactName(Model model, Name name) {
+    static Optional<Person> findContact(Model model, Name name) {
         return model.getAddressBook().getPersonList().stream()
-                .map(Person::getName)
-                .anyMatch(name::equals);
+                .filter(person -> person.getName().equals(name))
+                .findFirst();
     }
 
     @Override
@@ -76,13 +91,15 @@ public class AddTodoCommand extends Command {
             return false;
         }
         AddTodoCommand e = (AddTodoCommand) other;
-        return toAdd.equals(e.toAdd);
+        return toAdd.equals(e.toAdd)
+                && Objects.equals(contactName, e.contactName);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("toAdd", toAdd)
+                .add("contactName", contactName)
                 .toString();
     }
 }
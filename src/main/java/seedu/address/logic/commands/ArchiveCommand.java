@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Moves completed todos and events that ended the given number of days ago or earlier out of the address book and
+ * into the archive file. The entries are written to the archive by the storage once the command has been executed,
+ * and only removed from the address book after that.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d events and %2$d todos";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves all completed todos, and all events that ended at least DAYS days ago, to the archive file. "
+            + "Archived entries can still be found with " + FindArchivedCommand.COMMAND_WORD + ".\n"
+            + "Parameters: [DAYS] (default: 0)\n"
+            + "Example: " + COMMAND_WORD + " 30";
+
+    private final int days;
+
+    /**
+     * Creates an ArchiveCommand to archive completed todos and events that ended at least {@code days} days ago.
+     */
+    public ArchiveCommand(int days) {
+        assert days >= 0;
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+
+        List<Event> events = model.getAddressBook().getEventList().stream()
+                .filter(event -> !event.getEnd().isAfter(cutoff))
+                .collect(Collectors.toList());
+        List<Todo> todos = model.getAddressBook().getTodoList().stream()
+                .filter(Todo::getIsCompleted)
+                .collect(Collectors.toList());
+        AddressBook entriesToArchive = new AddressBook();
+        entriesToArchive.setEvents(events);
+        entriesToArchive.setTodos(todos);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, events.size(), todos.size()),
+                new ArchiveRequest(entriesToArchive));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherArchiveCommand = (ArchiveCommand) other;
+        return days == otherArchiveCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
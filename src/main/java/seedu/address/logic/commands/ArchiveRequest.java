@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A request to move events and todos to the archive, which is carried out by the storage once the command has been
+ * executed.
+ */
+public class ArchiveRequest implements StorageAction {
+
+    private final ReadOnlyAddressBook entriesToArchive;
+
+    /**
+     * Creates an {@code ArchiveRequest} to move the events and todos of {@code entriesToArchive} to the archive.
+     */
+    public ArchiveRequest(ReadOnlyAddressBook entriesToArchive) {
+        requireNonNull(entriesToArchive);
+        this.entriesToArchive = entriesToArchive;
+    }
+
+    public ReadOnlyAddressBook getEntriesToArchive() {
+        return entriesToArchive;
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        runner.archiveEntries(entriesToArchive);
+        return commandResult;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveRequest)) {
+            return false;
+        }
+
+        ArchiveRequest otherArchiveRequest = (ArchiveRequest) other;
+        return entriesToArchive.equals(otherArchiveRequest.entriesToArchive);
+    }
+
+    @Override
+    public int hashCode() {
+        return entriesToArchive.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entriesToArchive", entriesToArchive)
+                .toString();
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.todo.Todo;
+
+/**
+ * A search over the archived events and todos, which is run by the storage once the command has been executed.
+ */
+public class ArchiveSearch implements StorageAction {
+
+    public static final String MESSAGE_MATCHES_FOUND = "%1$d archived events and %2$d archived todos found";
+
+    private final Predicate<Event> eventPredicate;
+    private final Predicate<Todo> todoPredicate;
+
+    /**
+     * Creates an {@code ArchiveSearch} for the archived events matching {@code eventPredicate} and the archived
+     * todos matching {@code todoPredicate}.
+     */
+    public ArchiveSearch(Predicate<Event> eventPredicate, Predicate<Todo> todoPredicate) {
+        requireNonNull(eventPredicate);
+        requireNonNull(todoPredicate);
+        this.eventPredicate = eventPredicate;
+        this.todoPredicate = todoPredicate;
+    }
+
+    public Predicate<Event> getEventPredicate() {
+        return eventPredicate;
+    }
+
+    public Predicate<Todo> getTodoPredicate() {
+        return todoPredicate;
+    }
+
+    /**
+     * Returns the message for the user listing the events and todos in {@code matches}, with the names of the
+     * contacts of the todos as found in {@code contacts}.
+     */
+    public String describe(ReadOnlyAddressBook matches, ReadOnlyAddressBook contacts) {
+        requireNonNull(matches);
+        requireNonNull(contacts);
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_MATCHES_FOUND,
+                matches.getEventList().size(), matches.getTodoList().size()));
+        for (Event event : matches.getEventList()) {
+            builder.append("\nEvent: ").append(Messages.format(event));
+        }
+        for (Todo todo : matches.getTodoList()) {
+            builder.append("\nTodo: ").append(Messages.format(todo, contacts));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        return runner.searchArchive(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveSearch)) {
+            return false;
+        }
+
+        ArchiveSearch otherArchiveSearch = (ArchiveSearch) other;
+        return eventPredicate.equals(otherArchiveSearch.eventPredicate)
+                && todoPredicate.equals(otherArchiveSearch.todoPredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return eventPredicate.hashCode() * 31 + todoPredicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("eventPredicate", eventPredicate)
+                .add("todoPredicate", todoPredicate)
+                .toString();
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Backs up the address book as it is now. The backup itself is taken by the storage once the command has been
+ * executed.
+ */
+public class BackupCommand extends Command {
+
+    public static final String COMMAND_WORD = "backup";
+
+    public static final String MESSAGE_BACKING_UP = "Backing up the address book";
+
+    public static final String MESSAGE_SUCCESS = "Backing up the address book as %1$s";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Backs up the address book as it is now. Backups can be listed and restored with "
+            + RestoreCommand.COMMAND_WORD + ".\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(MESSAGE_BACKING_UP, new BackupRequest(BackupRequest.Action.BACKUP));
+    }
+}
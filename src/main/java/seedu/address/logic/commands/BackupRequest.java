@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * A request to back up the address book, to list its backups or to restore one of them, which is carried out by the
+ * storage once the command has been executed.
+ */
+public class BackupRequest implements StorageAction {
+
+    public static final String MESSAGE_NO_BACKUPS = "No backups have been taken yet";
+    public static final String MESSAGE_BACKUPS_LISTED = "%1$d backups kept, newest first:";
+
+    /**
+     * What is requested of the backups.
+     */
+    public enum Action {
+        /** The address book should be backed up. */
+        BACKUP,
+        /** The backups kept should be listed. */
+        LIST,
+        /** The address book should be replaced with one of its backups. */
+        RESTORE
+    }
+
+    private final Action action;
+    private final String versionToRestore;
+
+    /**
+     * Creates a {@code BackupRequest} to back up the address book or to list its backups.
+     */
+    public BackupRequest(Action action) {
+        checkArgument(action == Action.BACKUP || action == Action.LIST);
+        this.action = action;
+        this.versionToRestore = null;
+    }
+
+    /**
+     * Creates a {@code BackupRequest} to restore the backup {@code versionToRestore}.
+     */
+    public BackupRequest(String versionToRestore) {
+        requireNonNull(versionToRestore);
+        this.action = Action.RESTORE;
+        this.versionToRestore = versionToRestore;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    /**
+     * Returns the version of the backup to restore, if the address book should be restored.
+     */
+    public Optional<String> getVersionToRestore() {
+        return Optional.ofNullable(versionToRestore);
+    }
+
+    /**
+     * Returns the message for the user listing the backups {@code versions}.
+     */
+    public static String describe(List<String> versions) {
+        requireNonNull(versions);
+        if (versions.isEmpty()) {
+            return MESSAGE_NO_BACKUPS;
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_BACKUPS_LISTED, versions.size()));
+        for (String version : versions) {
+            builder.append("\n").append(version);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        return runner.carryOut(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackupRequest)) {
+            return false;
+        }
+
+        BackupRequest otherBackupRequest = (BackupRequest) other;
+        return action == otherBackupRequest.action
+                && Objects.equals(versionToRestore, otherBackupRequest.versionToRestore);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, versionToRestore);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .add("versionToRestore", versionToRestore)
+                .toString();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * A request to write the changes recorded in the change feed after a given change to a file, which is carried out by
+ * the storage once the command has been executed.
+ */
+public class ChangeExportRequest implements StorageAction {
+
+    private final long sinceSequence;
+    private final Path file;
+
+    /**
+     * Creates a {@code ChangeExportRequest} to write the changes numbered after {@code sinceSequence} to
+     * {@code file}.
+     */
+    public ChangeExportRequest(long sinceSequence, Path file) {
+        requireNonNull(file);
+        checkArgument(sinceSequence >= 0);
+        this.sinceSequence = sinceSequence;
+        this.file = file;
+    }
+
+    public long getSinceSequence() {
+        return sinceSequence;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        return runner.exportChanges(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeExportRequest)) {
+            return false;
+        }
+
+        ChangeExportRequest otherChangeExportRequest = (ChangeExportRequest) other;
+        return sinceSequence == otherChangeExportRequest.sinceSequence
+                && file.equals(otherChangeExportRequest.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sinceSequence, file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sinceSequence", sinceSequence)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.ui.DisplayList;
@@ -25,14 +26,35 @@ public class CommandResult {
      **/
     private final DisplayList displayList;
 
+    /** What the storage should do once the command has been executed, or null if nothing. */
+    private final StorageAction storageAction;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, DisplayList displayList) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, DisplayList displayList,
+                         StorageAction storageAction) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.displayList = requireNonNull(displayList);
+        this.storageAction = storageAction;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, {@code showHelp}, {@code exit}
+     * and {@code displayList}, which asks nothing of the storage.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, DisplayList displayList) {
+        this(feedbackToUser, showHelp, exit, displayList, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that asks for
+     * {@code storageAction} to be carried out. Other fields are set to their default value.
+     */
+    public CommandResult(String feedbackToUser, StorageAction storageAction) {
+        this(feedbackToUser, false, false, DisplayList.NO_CHANGE, requireNonNull(storageAction));
     }
 
     /**
@@ -75,6 +97,10 @@ public class CommandResult {
         return displayList;
     }
 
+    public Optional<StorageAction> getStorageAction() {
+        return Optional.ofNullable(storageAction);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -90,12 +116,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && displayList == otherCommandResult.displayList;
+                && displayList == otherCommandResult.displayList
+                && Objects.equals(storageAction, otherCommandResult.storageAction);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, displayList);
+        return Objects.hash(feedbackToUser, showHelp, exit, displayList, storageAction);
     }
 
     @Override
@@ -105,6 +132,7 @@ public class CommandResult {
                 .add("showHelp", showHelp)
                 .add("exit", exit)
                 .add("displayList", displayList)
+                .add("storageAction", storageAction)
                 .toString();
     }
 
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * A request to rewrite the data file in another format, which is carried out by the storage once the command has
+ * been executed.
+ */
+public class ConversionRequest implements StorageAction {
+
+    private final DataFileFormat format;
+
+    /**
+     * Creates a {@code ConversionRequest} to rewrite the data file in {@code format}.
+     */
+    public ConversionRequest(DataFileFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    public DataFileFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        runner.convertAddressBook(format);
+        return commandResult;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConversionRequest)) {
+            return false;
+        }
+
+        ConversionRequest otherConversionRequest = (ConversionRequest) other;
+        return format == otherConversionRequest.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return format.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Rewrites the data file in the given format, which is kept for later saves.
+ * The conversion itself is done by the storage once the command has been executed.
+ */
+public class ConvertDataCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert-data";
+
+    public static final String MESSAGE_SUCCESS = "Data file converted to %1$s format";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Rewrites the data file in the given format. JSON can be edited by hand, while binary files are "
+            + "smaller and faster to load, and sharded files only rewrite the parts that changed.\n"
+            + "Parameters: json|binary|sharded\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    private final DataFileFormat format;
+
+    /**
+     * Creates a ConvertDataCommand to convert the data file to the given {@code format}.
+     */
+    public ConvertDataCommand(DataFileFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format.name().toLowerCase(Locale.ROOT)),
+                new ConversionRequest(format));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertDataCommand)) {
+            return false;
+        }
+
+        ConvertDataCommand otherConvertDataCommand = (ConvertDataCommand) other;
+        return format == otherConvertDataCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("format", format)
+                .toString();
+    }
+}
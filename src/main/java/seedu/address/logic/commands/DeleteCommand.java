@@ -10,7 +10,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.todo.Todo;
 
 /**
  * Deletes a person identified using it's displayed index from the address book.
@@ -36,23 +35,14 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
-        List<Todo> todoList = model.getFilteredTodoList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        for (int i = 0; i < todoList.size(); i++) {
-            if (todoList.get(i).getContactName() != null
-                    && todoList.get(i).getContactName().equals(personToDelete.getName())) {
-                Todo oldTodo = todoList.get(i);
-                Todo newTodo = new Todo(oldTodo.getTodoName(), oldTodo.getTodoDescription(),
-                        null, oldTodo.getIsCompleted());
-                model.setTodo(oldTodo, newTodo);
-            }
-        }
-        model.deletePerson(personToDelete);
+        // The linked todos, including those filtered out, are unlinked as a single update of the lists
+        model.deletePersonAndUnlinkTodos(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
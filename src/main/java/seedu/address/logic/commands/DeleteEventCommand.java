@@ -11,7 +11,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventAlias;
-import seedu.address.model.person.Person;
 
 /**
  * Deletes an event identified using its alias from the address book.
@@ -37,30 +36,14 @@ public class DeleteEventCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Event> eventList = model.getEventList();
-        List<Person> personList = model.getPersonList();
 
         Event eventToDelete = eventList.stream()
                 .filter(e -> e.getAlias().equalsIgnoreCase(eventAlias.toString()))
                 .findFirst()
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_EVENT_NOT_FOUND, eventAlias)));
 
-        for (int i = 0; i < personList.size(); i++) {
-            if (personList.get(i).getEventAlias() != null
-                    && personList.get(i).getEventAlias().equals(eventToDelete.getEventAlias())) {
-                Person personToEdit = personList.get(i);
-                Person unlinkedPerson = new Person(
-                        personToEdit.getName(),
-                        personToEdit.getPhone(),
-                        personToEdit.getEmail(),
-                        personToEdit.getAddress(),
-                        personToEdit.getTags()
-                );
-                model.setPerson(personToEdit, unlinkedPerson);
-            }
-        }
-
-
-        model.deleteEvent(eventToDelete);
+        // The attendees are unlinked together with the deletion, as a single update of the lists
+        model.deleteEventAndUnlinkPersons(eventToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_EVENT_SUCCESS, Messages.format(eventToDelete)));
     }
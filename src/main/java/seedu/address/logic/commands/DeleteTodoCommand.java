@@ -41,7 +41,8 @@ public class DeleteTodoCommand extends Command {
 
         Todo todoToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteTodo(todoToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_TODO_SUCCESS, Messages.format(todoToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_TODO_SUCCESS,
+                Messages.format(todoToDelete, model.getAddressBook())));
     }
 
     @Override
@@ -102,12 +102,13 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
         return new Person(
+                personToEdit.getId(),
                 updatedName,
                 updatedPhone,
                 updatedEmail,
                 updatedAddress,
                 updatedTags,
-                personToEdit.getEventAlias());
+                personToEdit.getEventId());
     }
 
     @Override
@@ -97,7 +97,8 @@ public class EditEventCommand extends Command {
         String updatedDescription = editEventDescriptor.getDescription().orElse(eventToEdit.getDescription());
 
         try {
-            return new Event(updatedName, eventToEdit.getEventAlias(), updatedStart, updatedEnd, updatedDescription);
+            return new Event(eventToEdit.getId(), updatedName, eventToEdit.getEventAlias(), updatedStart, updatedEnd,
+                    updatedDescription);
         } catch (IllegalArgumentException e) {
             throw new CommandException(e.getMessage());
         }
@@ -9,6 +9,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TODOS;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
@@ -17,7 +18,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.TodoName;
 
@@ -72,50 +72,45 @@ public class EditTodoCommand extends Command {
             throw new CommandException(MESSAGE_NOT_EDITED);
         }
 
-        Todo editedTodo = createEditedTodo(todoToEdit, editTodoDescriptor);
+        Todo editedTodo = createEditedTodo(model, todoToEdit, editTodoDescriptor);
 
         if (!todoToEdit.isSameTodo(editedTodo) && model.hasTodo(editedTodo)) {
             throw new CommandException(MESSAGE_DUPLICATE_TODO);
         }
 
-        Name updatedContact = editedTodo.getContactName();
-        if (updatedContact != null && !hasContactName(model, updatedContact)) {
-            throw new CommandException("Contact not found: " + updatedContact.fullName);
-        }
-
         model.setTodo(todoToEdit, editedTodo);
         model.updateFilteredTodoList(PREDICATE_SHOW_ALL_TODOS);
 
-        return new CommandResult(String.format(MESSAGE_EDIT_TODO_SUCCESS, Messages.format(editedTodo)));
-    }
-
-    /**
-     * Checks if the input contact name exists in the current PersonList
-     */
-    private boolean hasContactName(Model model, Name name) {
-        return model.getAddressBook().getPersonList().stream()
-                .map(Person::getName)
-                .anyMatch(name::equals);
+        return new CommandResult(String.format(MESSAGE_EDIT_TODO_SUCCESS,
+                Messages.format(editedTodo, model.getAddressBook())));
     }
 
     /**
      * Creates and returns {@code Todo} with the details of {@code todoToEdit}
-     * edited with {@code editTodoDescriptor}
+     * edited with {@code editTodoDescriptor}. A new contact is looked up by name in {@code model}.
+     *
+     * @throws CommandException if there is no contact with the new contact name.
      */
-    private static Todo createEditedTodo(Todo todoToEdit, EditTodoDescriptor editTodoDescriptor) {
+    private static Todo createEditedTodo(Model model, Todo todoToEdit, EditTodoDescriptor editTodoDescriptor)
+            throws CommandException {
         assert todoToEdit != null;
 
         TodoName updatedName = editTodoDescriptor.getTodoName().orElse(todoToEdit.getTodoName());
         String updatedDescription = editTodoDescriptor.getDescription().orElse(todoToEdit.getTodoDescription());
-        Name updatedContactName;
+        UUID updatedContactId;
         if (editTodoDescriptor.isContactUnlinked) {
-            updatedContactName = null;
+            updatedContactId = null;
+        } else if (editTodoDescriptor.getContactName().isPresent()) {
+            Name contactName = editTodoDescriptor.getContactName().get();
+            updatedContactId = AddTodoCommand.findContact(model, contactName)
+                    .orElseThrow(() -> new CommandException("Contact not found: " + contactName.fullName))
+                    .getId();
         } else {
-            updatedContactName = editTodoDescriptor.getContactName().orElse(todoToEdit.getContactName());
+            updatedContactId = todoToEdit.getContactId();
         }
         boolean updatedIsCompleted = editTodoDescriptor.getIsCompleted().orElse(todoToEdit.getIsCompleted());
 
-        return new Todo(updatedName, updatedDescription, updatedContactName, updatedIsCompleted);
+        return new Todo(todoToEdit.getId(), updatedName, updatedDescription, updatedContactId, updatedIsCompleted);
     }
 
     @Override
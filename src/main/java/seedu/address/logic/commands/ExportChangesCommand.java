@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Writes the changes recorded in the change feed after a given change to a file, so that another program can pick up
+ * where it left off. The file is written by the storage once the command has been executed.
+ */
+public class ExportChangesCommand extends Command {
+
+    public static final String COMMAND_WORD = "export-changes";
+
+    public static final String SINCE_OPTION = "--since";
+
+    public static final String MESSAGE_EXPORTING = "Exporting the changes made after change %1$d to %2$s";
+
+    public static final String MESSAGE_SUCCESS =
+            "Exported %1$d changes made after change %2$d to %3$s. The latest change is change %4$d";
+
+    public static final String MESSAGE_CHANGE_FEED_DISABLED = "Changes are not being recorded. "
+            + "Set \"isEnabled\" under \"changeFeedPolicy\" in the preferences file to true to record them";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the changes made to the contacts, events and todos to a file, one JSON record per line. "
+            + "With " + SINCE_OPTION + ", writes only the changes made after the change numbered SEQUENCE.\n"
+            + "Parameters: [" + SINCE_OPTION + " SEQUENCE] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + SINCE_OPTION + " 120 data/changes.ndjson";
+
+    private final long sinceSequence;
+    private final Path file;
+
+    /**
+     * Creates an ExportChangesCommand to write the changes made after change {@code sinceSequence} to {@code file}.
+     */
+    public ExportChangesCommand(long sinceSequence, Path file) {
+        requireNonNull(file);
+        checkArgument(sinceSequence >= 0);
+        this.sinceSequence = sinceSequence;
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.getUserPrefs().getChangeFeedPolicy().isEnabled()) {
+            throw new CommandException(MESSAGE_CHANGE_FEED_DISABLED);
+        }
+        return new CommandResult(String.format(MESSAGE_EXPORTING, sinceSequence, file),
+                new ChangeExportRequest(sinceSequence, file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportChangesCommand)) {
+            return false;
+        }
+
+        ExportChangesCommand otherExportChangesCommand = (ExportChangesCommand) other;
+        return sinceSequence == otherExportChangesCommand.sinceSequence
+                && file.equals(otherExportChangesCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sinceSequence", sinceSequence)
+                .add("file", file)
+                .toString();
+    }
+}
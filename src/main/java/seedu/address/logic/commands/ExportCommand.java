@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.interchange.ExportRequest;
+import seedu.address.logic.interchange.InterchangeFormat;
+import seedu.address.model.Model;
+
+/**
+ * Exports the contacts or events shown, or all of them, to a CSV, vCard or iCalendar file.
+ * The file is written in the background once the command has been executed, from the entries as they were then.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_EXPORTING_CONTACTS = "Exporting %1$d contacts to %2$s";
+
+    public static final String MESSAGE_EXPORTING_EVENTS = "Exporting %1$d events to %2$s";
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "Only CSV (.csv), vCard (.vcf) and iCalendar (.ics) files can be exported";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the contacts shown to a CSV (.csv) or vCard (.vcf) file, or the events shown to an "
+            + "iCalendar (.ics) file with the contacts linked to each event as its attendees. "
+            + "With " + ALL_KEYWORD + ", writes every contact or event instead.\n"
+            + "Parameters: [" + ALL_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " data/contacts.vcf";
+
+    private final Path file;
+    private final InterchangeFormat format;
+    private final boolean isAll;
+
+    /**
+     * Creates an ExportCommand to write the contacts or events shown, or all of them if {@code isAll}, to
+     * {@code file} in {@code format}.
+     */
+    public ExportCommand(Path file, InterchangeFormat format, boolean isAll) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+        this.isAll = isAll;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (format.holdsContacts()) {
+            ExportRequest request = new ExportRequest(file, format,
+                    isAll ? model.getPersonList() : model.getFilteredPersonList());
+            return new CommandResult(String.format(MESSAGE_EXPORTING_CONTACTS, request.getEntryCount(), file),
+                    request);
+        }
+
+        // Attendees are looked up among all persons, whichever persons are shown
+        ExportRequest request = new ExportRequest(file, format, model.getPersonList(),
+                isAll ? model.getEventList() : model.getFilteredEventList());
+        return new CommandResult(String.format(MESSAGE_EXPORTING_EVENTS, request.getEntryCount(), file), request);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file)
+                && format.equals(otherExportCommand.format)
+                && isAll == otherExportCommand.isAll;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .add("isAll", isAll)
+                .toString();
+    }
+}
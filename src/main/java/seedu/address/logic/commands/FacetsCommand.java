@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.FacetCounts;
+import seedu.address.model.Model;
+
+/**
+ * Shows how the displayed persons are spread across tags and events, how many displayed events are over, and how many
+ * displayed todos are done.
+ */
+public class FacetsCommand extends Command {
+
+    public static final String COMMAND_WORD = "facets";
+
+    public static final String MESSAGE_SUCCESS =
+            "Facets of the %1$d displayed persons, %2$d displayed events and %3$d displayed todos:\n%4$s";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of displayed persons per tag and per linked event, "
+            + "the number of displayed events that are upcoming or past, "
+            + "and the number of displayed todos that are completed or pending.\n"
+            + "Parameters: none\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        FacetCounts facetCounts = FacetCounts.of(model.getFilteredPersonList(), model.getFilteredEventList(),
+                model.getFilteredTodoList(), model.getAddressBook(), LocalDateTime.now());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(),
+                model.getFilteredEventList().size(), model.getFilteredTodoList().size(),
+                Messages.format(facetCounts)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FacetsCommand; // All FacetsCommand instances are equal since they have no state
+    }
+}
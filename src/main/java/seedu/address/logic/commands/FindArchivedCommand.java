@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all archived events and todos that contain any of the argument keywords as a whole word.
+ * Keyword matching is case insensitive. The archive file is searched by the storage once the command has been
+ * executed.
+ */
+public class FindArchivedCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-archived";
+
+    public static final String MESSAGE_SEARCHING = "Searching the archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all archived events whose name, alias or "
+            + "description, and all archived todos whose name, description or contact name, contain any of the "
+            + "specified keywords (case-insensitive) and lists them.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " orientation proposal";
+
+    private final EventContainsKeywordsPredicate eventPredicate;
+    private final TodoContainsKeywordsPredicate todoPredicate;
+
+    /**
+     * Creates a FindArchivedCommand to find the archived events matching {@code eventPredicate} and the archived
+     * todos matching {@code todoPredicate}.
+     */
+    public FindArchivedCommand(EventContainsKeywordsPredicate eventPredicate,
+                               TodoContainsKeywordsPredicate todoPredicate) {
+        requireNonNull(eventPredicate);
+        requireNonNull(todoPredicate);
+        this.eventPredicate = eventPredicate;
+        this.todoPredicate = todoPredicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Archived todos keep the ids of their contacts, whose names are in the address book
+        return new CommandResult(MESSAGE_SEARCHING,
+                new ArchiveSearch(eventPredicate, todoPredicate.withContacts(model.getAddressBook())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindArchivedCommand)) {
+            return false;
+        }
+
+        FindArchivedCommand otherFindArchivedCommand = (FindArchivedCommand) other;
+        return eventPredicate.equals(otherFindArchivedCommand.eventPredicate)
+                && todoPredicate.equals(otherFindArchivedCommand.todoPredicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("eventPredicate", eventPredicate)
+                .add("todoPredicate", todoPredicate)
+                .toString();
+    }
+}
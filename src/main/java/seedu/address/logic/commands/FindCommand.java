@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -19,19 +20,34 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: " + PREFIX_NAME + " KEYWORD [MORE_KEYWORDS]...\n"
+            + "Add " + FLAG_WITHIN + " to search only within the currently displayed list.\n"
+            + "Parameters: [" + FLAG_WITHIN + "] " + PREFIX_NAME + " KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + " alice bob charlie";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isRefinement;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * @param predicate to filter the list with
+     * @param isRefinement whether to search only within the currently displayed list
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isRefinement) {
         this.predicate = predicate;
+        this.isRefinement = isRefinement;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (isRefinement) {
+            model.refineFilteredPersonList(predicate);
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 DisplayList.PERSON);
@@ -49,13 +65,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isRefinement == otherFindCommand.isRefinement;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isRefinement", isRefinement)
                 .toString();
     }
 }
@@ -12,7 +12,7 @@ import seedu.address.model.person.EventAliasMatchesPredicate;
 import seedu.address.ui.DisplayList;
 
 /**
- * Finds and lists all persons in address book whose linkedEventAlias matches the given EventAlias.
+ * Finds and lists all persons in address book linked to the event with the given EventAlias.
  */
 public class FindContactByEventCommand extends Command {
     public static final String COMMAND_WORD = "find-by-event";
@@ -44,7 +44,7 @@ public class FindContactByEventCommand extends Command {
                 .filter(e -> e.getAlias().equalsIgnoreCase(eventAlias.toString()))
                 .findFirst()
                 .orElseThrow(() -> new CommandException(MESSAGE_EVENT_NOT_FOUND));
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate.withEvents(model.getAddressBook()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 DisplayList.PERSON);
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -19,19 +20,34 @@ public class FindEventCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all events whose aliases have any of "
             + "the specified keywords (case-insensitive) as a prefix and displays them as a list with index numbers.\n"
-            + "Parameters: " + PREFIX_EVENT_ALIAS + " KEYWORD [MORE_KEYWORDS]...\n"
+            + "Add " + FLAG_WITHIN + " to search only within the currently displayed list.\n"
+            + "Parameters: [" + FLAG_WITHIN + "] " + PREFIX_EVENT_ALIAS + " KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_EVENT_ALIAS + "tsc";
 
     private final AliasContainsKeywordsPredicate predicate;
+    private final boolean isRefinement;
 
     public FindEventCommand(AliasContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * @param predicate to filter the list with
+     * @param isRefinement whether to search only within the currently displayed list
+     */
+    public FindEventCommand(AliasContainsKeywordsPredicate predicate, boolean isRefinement) {
         this.predicate = predicate;
+        this.isRefinement = isRefinement;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        if (isRefinement) {
+            model.refineFilteredEventList(predicate);
+        } else {
+            model.updateFilteredEventList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()),
                 DisplayList.EVENT);
@@ -49,13 +65,15 @@ public class FindEventCommand extends Command {
         }
 
         FindEventCommand otherFindEventCommand = (FindEventCommand) other;
-        return predicate.equals(otherFindEventCommand.predicate);
+        return predicate.equals(otherFindEventCommand.predicate)
+                && isRefinement == otherFindEventCommand.isRefinement;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isRefinement", isRefinement)
                 .toString();
     }
 }
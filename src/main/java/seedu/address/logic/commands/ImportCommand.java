@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.interchange.ImportRequest;
+import seedu.address.logic.interchange.InterchangeFormat;
+import seedu.address.model.Model;
+
+/**
+ * Adds the contacts of a CSV or vCard file to the address book, all at once.
+ * Contacts that are invalid or already in the address book are skipped, and explained in an error file.
+ * The file is read and its contacts added once the command has been executed.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_IMPORTING = "Importing the contacts in %1$s";
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only CSV (.csv) and vCard (.vcf) files can be imported";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the contacts of a CSV or vCard file to the address book. The first row of a CSV file must name "
+            + "the name, phone, email and address columns, and may name a tags column (tags separated by ;). "
+            + "Contacts that are invalid or already in the address book are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    private final Path file;
+    private final InterchangeFormat format;
+
+    /**
+     * Creates an ImportCommand to import the contacts of {@code file}, which is in {@code format}.
+     */
+    public ImportCommand(Path file, InterchangeFormat format) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_IMPORTING, file), new ImportRequest(file, format));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file)
+                && format.equals(otherImportCommand.format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .toString();
+    }
+}
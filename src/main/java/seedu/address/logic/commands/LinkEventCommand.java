@@ -78,15 +78,7 @@ public class LinkEventCommand extends Command {
         }
 
         for (Person personToEdit : personsToLink) {
-            Person linkedPerson = new Person(
-                    personToEdit.getName(),
-                    personToEdit.getPhone(),
-                    personToEdit.getEmail(),
-                    personToEdit.getAddress(),
-                    personToEdit.getTags(),
-                    event.getEventAlias()
-            );
-            model.setPerson(personToEdit, linkedPerson);
+            model.setPerson(personToEdit, personToEdit.withLinkedEventId(event.getId()));
         }
 
 
@@ -46,7 +46,7 @@ public class MarkTodoCommand extends Command {
         Todo markedTodo = todoToMark.withCompletionStatus(true);
         model.setTodo(todoToMark, markedTodo);
         return new CommandResult(
-                String.format(MESSAGE_MARK_TODO_SUCCESS, Messages.format(markedTodo)),
+                String.format(MESSAGE_MARK_TODO_SUCCESS, Messages.format(markedTodo, model.getAddressBook())),
                 DisplayList.TODO);
     }
 
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Merges the changes made in another copy of the data file into the address book, given the data file both copies
+ * started from. The data files are read and merged once the command has been executed.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String BASE_OPTION = "--base";
+
+    public static final String MESSAGE_MERGING = "Merging the changes in %1$s";
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "The data file %1$s does not exist";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Takes the changes made in another copy of the data file since BASE_FILE, the data file both copies "
+            + "started from. Contacts, events and todos changed in both, differently, are left as they are here and "
+            + "listed.\n"
+            + "Parameters: OTHER_FILE " + BASE_OPTION + " BASE_FILE\n"
+            + "Example: " + COMMAND_WORD + " shared/addressbook.json " + BASE_OPTION + " shared/base.json";
+
+    private final Path otherFile;
+    private final Path baseFile;
+
+    /**
+     * Creates a MergeCommand to merge the changes from {@code baseFile} to {@code otherFile}.
+     */
+    public MergeCommand(Path otherFile, Path baseFile) {
+        requireAllNonNull(otherFile, baseFile);
+        this.otherFile = otherFile;
+        this.baseFile = baseFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_MERGING, otherFile), new MergeRequest(otherFile, baseFile));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeCommand)) {
+            return false;
+        }
+
+        MergeCommand otherMergeCommand = (MergeCommand) other;
+        return otherFile.equals(otherMergeCommand.otherFile)
+                && baseFile.equals(otherMergeCommand.baseFile);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("otherFile", otherFile)
+                .add("baseFile", baseFile)
+                .toString();
+    }
+}
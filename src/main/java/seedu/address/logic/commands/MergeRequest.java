@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.merge.MergeConflict;
+import seedu.address.model.merge.MergeResult;
+
+/**
+ * A request to merge the changes made in another data file into the address book, which is carried out once the
+ * command has been executed, as the data files must be read from the storage.
+ */
+public class MergeRequest implements StorageAction {
+
+    public static final String MESSAGE_MERGED = "Merged the changes in %1$s: %2$d added, %3$d updated, %4$d deleted";
+
+    public static final String MESSAGE_CONFLICTS = "%1$d conflicting entries were left as they are here:";
+
+    public static final String MESSAGE_MORE_CONFLICTS = "... and %1$d more";
+
+    /** The most conflicts listed to the user. */
+    static final int MAX_CONFLICTS_LISTED = 20;
+
+    private final Path otherFile;
+    private final Path baseFile;
+
+    /**
+     * Creates a {@code MergeRequest} to merge the changes made from {@code baseFile}, the data file both copies
+     * started from, to {@code otherFile}.
+     */
+    public MergeRequest(Path otherFile, Path baseFile) {
+        requireAllNonNull(otherFile, baseFile);
+        this.otherFile = otherFile;
+        this.baseFile = baseFile;
+    }
+
+    public Path getOtherFile() {
+        return otherFile;
+    }
+
+    public Path getBaseFile() {
+        return baseFile;
+    }
+
+    /**
+     * Returns the message for the user describing {@code result}.
+     */
+    public String describe(MergeResult result) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_MERGED, otherFile, result.getAddedCount(),
+                result.getUpdatedCount(), result.getDeletedCount()));
+        List<MergeConflict> conflicts = result.getConflicts();
+        if (conflicts.isEmpty()) {
+            return builder.toString();
+        }
+
+        builder.append("\n").append(String.format(MESSAGE_CONFLICTS, conflicts.size()));
+        for (MergeConflict conflict : conflicts.subList(0, Math.min(conflicts.size(), MAX_CONFLICTS_LISTED))) {
+            builder.append("\n").append(conflict.describe());
+        }
+        if (conflicts.size() > MAX_CONFLICTS_LISTED) {
+            builder.append("\n").append(String.format(MESSAGE_MORE_CONFLICTS,
+                    conflicts.size() - MAX_CONFLICTS_LISTED));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        return runner.mergeAddressBook(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeRequest)) {
+            return false;
+        }
+
+        MergeRequest otherMergeRequest = (MergeRequest) other;
+        return otherFile.equals(otherMergeRequest.otherFile)
+                && baseFile.equals(otherMergeRequest.baseFile);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(otherFile, baseFile);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("otherFile", otherFile)
+                .add("baseFile", baseFile)
+                .toString();
+    }
+}
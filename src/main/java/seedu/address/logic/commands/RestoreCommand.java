@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Replaces the address book with one of its backups, or lists the backups kept if no backup is given.
+ * The backups are read by the storage once the command has been executed.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_LISTING = "Listing the backups";
+
+    public static final String MESSAGE_RESTORING = "Restoring backup %1$s";
+
+    public static final String MESSAGE_SUCCESS = "Restored the address book from backup %1$s";
+
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup %1$s. Enter " + COMMAND_WORD
+            + " without a version to list the backups kept.";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces the address book with the backup of the given version. "
+            + "Without a version, lists the versions of the backups kept.\n"
+            + "Parameters: [VERSION]\n"
+            + "Example: " + COMMAND_WORD + " 20251019-143000";
+
+    private final String version;
+
+    /**
+     * Creates a RestoreCommand that lists the backups kept.
+     */
+    public RestoreCommand() {
+        this.version = null;
+    }
+
+    /**
+     * Creates a RestoreCommand to restore the backup {@code version}.
+     */
+    public RestoreCommand(String version) {
+        requireNonNull(version);
+        this.version = version;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (version == null) {
+            return new CommandResult(MESSAGE_LISTING, new BackupRequest(BackupRequest.Action.LIST));
+        }
+        return new CommandResult(String.format(MESSAGE_RESTORING, version), new BackupRequest(version));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return Objects.equals(version, otherRestoreCommand.version);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Something a command asks of the storage, which is carried out by the logic once the command has been executed.
+ */
+public interface StorageAction {
+
+    /**
+     * Carries out this action with {@code runner}, and returns the result for the user, which may be
+     * {@code commandResult}, the result of the command that asked for it.
+     */
+    CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException;
+}
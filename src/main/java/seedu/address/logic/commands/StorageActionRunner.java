@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.interchange.ExportRequest;
+import seedu.address.logic.interchange.ImportRequest;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Carries out the {@code StorageAction}s of command results with the storage.
+ */
+public interface StorageActionRunner {
+
+    /**
+     * Rewrites the data file in {@code format}, which later saves keep using.
+     */
+    void convertAddressBook(DataFileFormat format) throws CommandException;
+
+    /**
+     * Writes {@code entries} to the archive file and then removes them from the address book.
+     */
+    void archiveEntries(ReadOnlyAddressBook entries) throws CommandException;
+
+    /**
+     * Returns the result listing the archived events and todos found by {@code archiveSearch}.
+     */
+    CommandResult searchArchive(ArchiveSearch archiveSearch) throws CommandException;
+
+    /**
+     * Carries out {@code backupRequest}, and returns the result for the user.
+     */
+    CommandResult carryOut(BackupRequest backupRequest) throws CommandException;
+
+    /**
+     * Writes the file of {@code exportRequest} in the background.
+     */
+    void export(ExportRequest exportRequest);
+
+    /**
+     * Adds the contacts in the file of {@code importRequest} to the address book, and returns the result for the
+     * user.
+     */
+    CommandResult importContacts(ImportRequest importRequest) throws CommandException;
+
+    /**
+     * Writes the changes of {@code changeExportRequest} from the change feed, and returns the result for the user.
+     */
+    CommandResult exportChanges(ChangeExportRequest changeExportRequest) throws CommandException;
+
+    /**
+     * Merges the data file of {@code mergeRequest} into the address book, and returns the result for the user.
+     */
+    CommandResult mergeAddressBook(MergeRequest mergeRequest) throws CommandException;
+}
@@ -63,15 +63,7 @@ public class UnlinkEventCommand extends Command {
         }
 
         for (Person personToUnlink : personsToUnlink) {
-            Person unlinkedPerson = new Person(
-                    personToUnlink.getName(),
-                    personToUnlink.getPhone(),
-                    personToUnlink.getEmail(),
-                    personToUnlink.getAddress(),
-                    personToUnlink.getTags(),
-                    null
-            );
-            model.setPerson(personToUnlink, unlinkedPerson);
+            model.setPerson(personToUnlink, personToUnlink.withLinkedEventId(null));
         }
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, indexes.size()));
@@ -46,7 +46,7 @@ public class UnmarkTodoCommand extends Command {
         Todo unmarkedTodo = todoToUnmark.withCompletionStatus(false);
         model.setTodo(todoToUnmark, unmarkedTodo);
         return new CommandResult(
-                String.format(MESSAGE_UNMARK_TODO_SUCCESS, Messages.format(unmarkedTodo)),
+                String.format(MESSAGE_UNMARK_TODO_SUCCESS, Messages.format(unmarkedTodo, model.getAddressBook())),
                 DisplayList.TODO);
     }
 
@@ -0,0 +1,276 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports the contacts of a CSV or vCard file through a pipeline of three stages, so that reading the file,
+ * validating the contacts and checking them for duplicates overlap:
+ * <ol>
+ *     <li>a reader thread parses the file into batches of contacts,</li>
+ *     <li>validator threads check the contacts of each batch with the rules of {@link ParserUtil}, as
+ *     {@code add-contact} does, and</li>
+ *     <li>the calling thread takes the batches in the order of the file, drops the contacts already in the address
+ *     book or earlier in the file, and collects the rest.</li>
+ * </ol>
+ * The reader hands its batches to the calling thread through a bounded queue, so a large file is never held in
+ * memory as a whole. Contacts are passed on in batches, as handing them over one at a time costs more than
+ * validating them. Rejected contacts are explained, one line each, in an error file next to the imported file.
+ */
+public class ContactImporter {
+
+    public static final String ERROR_FILE_SUFFIX = ".errors";
+
+    static final String MESSAGE_MISSING_FIELD = "The %1$s is missing";
+    static final String MESSAGE_ALREADY_EXISTS = "%1$s is already in the address book";
+    static final String MESSAGE_REPEATED = "%1$s is already imported from an earlier line";
+    static final String ERROR_LINE_FORMAT = "Line %1$d: %2$s";
+
+    /** Number of contacts passed from one stage to the next at a time. */
+    static final int BATCH_SIZE = 512;
+
+    /** Number of batches read ahead of the calling thread before the reader waits. */
+    static final int QUEUE_CAPACITY = 16;
+
+    private static final int VALIDATOR_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final Logger logger = LogsCenter.getLogger(ContactImporter.class);
+
+    // Marks the end of the batches on the queue
+    private static final Future<List<Validated>> END_OF_BATCHES = CompletableFuture.completedFuture(List.of());
+
+    /**
+     * Returns the path of the file that explains the contacts rejected when importing {@code file}.
+     */
+    public static Path getErrorFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + ERROR_FILE_SUFFIX);
+    }
+
+    /**
+     * Reads the contacts of {@code file} in {@code format}, and returns the ones that are valid and not the same
+     * as any of {@code existingPersons} or an earlier contact in the file. The error file is written if any
+     * contacts are rejected, and removed otherwise.
+     *
+     * @throws IllegalValueException if the file as a whole is not in {@code format}.
+     */
+    public ImportResult importContacts(Path file, InterchangeFormat format, List<Person> existingPersons)
+            throws IOException, IllegalValueException {
+        requireAllNonNull(file, format, existingPersons);
+        Set<String> existingNames = new HashSet<>();
+        existingPersons.forEach(person -> existingNames.add(getKey(person)));
+
+        BlockingQueue<Future<List<Validated>>> batches = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> createThread(runnable, "Reader"));
+        ExecutorService validators = Executors.newFixedThreadPool(VALIDATOR_COUNT,
+                runnable -> createThread(runnable, "Validator"));
+        try {
+            Future<?> reading = reader.submit(() -> readBatches(file, format, validators, batches));
+            return collectPersons(file, existingNames, batches, reading);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while importing " + file, e);
+        } finally {
+            // Stops the earlier stages if this one failed, as the reader may be waiting for room on the queue
+            reader.shutdownNow();
+            validators.shutdownNow();
+        }
+    }
+
+    private static Thread createThread(Runnable runnable, String stage) {
+        Thread thread = new Thread(runnable, "ContactImport" + stage);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Reads the contacts of {@code file} in batches, hands each batch to {@code validators}, and puts the pending
+     * results onto {@code batches} in the order of the file. The end marker is put last, even if reading failed,
+     * so that the calling thread finishes.
+     */
+    private static Void readBatches(Path file, InterchangeFormat format, ExecutorService validators,
+                                    BlockingQueue<Future<List<Validated>>> batches)
+            throws IOException, IllegalValueException, InterruptedException {
+        try (ContactRecordReader reader = openReader(file, format)) {
+            List<ContactRecord> batch = new ArrayList<>(BATCH_SIZE);
+            for (Optional<ContactRecord> record = reader.read(); record.isPresent(); record = reader.read()) {
+                batch.add(record.get());
+                if (batch.size() == BATCH_SIZE) {
+                    List<ContactRecord> fullBatch = batch;
+                    batches.put(validators.submit(() -> validate(fullBatch)));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                List<ContactRecord> lastBatch = batch;
+                batches.put(validators.submit(() -> validate(lastBatch)));
+            }
+        } finally {
+            batches.put(END_OF_BATCHES);
+        }
+        return null;
+    }
+
+    private static ContactRecordReader openReader(Path file, InterchangeFormat format) throws IOException {
+        switch (format) {
+        case CSV:
+            return new CsvContactReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        case VCARD:
+            return new VCardContactReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        default:
+            throw new AssertionError("Unknown format " + format);
+        }
+    }
+
+    /**
+     * Returns the contacts of {@code batch}, each with the person it describes or why it is invalid.
+     */
+    private static List<Validated> validate(List<ContactRecord> batch) {
+        List<Validated> validated = new ArrayList<>(batch.size());
+        for (ContactRecord record : batch) {
+            try {
+                validated.add(new Validated(record, toPerson(record), null));
+            } catch (ParseException e) {
+                validated.add(new Validated(record, null, e.getMessage()));
+            }
+        }
+        return validated;
+    }
+
+    /**
+     * Returns the person {@code record} describes, validated as {@code add-contact} validates its parameters.
+     *
+     * @throws ParseException if a field is missing or invalid.
+     */
+    static Person toPerson(ContactRecord record) throws ParseException {
+        return new Person(ParserUtil.parseName(requireField(record.getName(), "name")),
+                ParserUtil.parsePhone(requireField(record.getPhone(), "phone")),
+                ParserUtil.parseEmail(requireField(record.getEmail(), "email")),
+                ParserUtil.parseAddress(requireField(record.getAddress(), "address")),
+                ParserUtil.parseTags(record.getTags()));
+    }
+
+    private static String requireField(String value, String field) throws ParseException {
+        if (value == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return value;
+    }
+
+    /**
+     * Collects the valid persons of the batches taken from {@code batches} whose names are not in
+     * {@code existingNames} or taken earlier, and writes the contacts rejected to the error file. Once the end
+     * marker is taken, the failure of {@code reading}, if any, is thrown.
+     */
+    private static ImportResult collectPersons(Path file, Set<String> existingNames,
+                                               BlockingQueue<Future<List<Validated>>> batches, Future<?> reading)
+            throws IOException, IllegalValueException, InterruptedException {
+        Path errorFilePath = getErrorFilePath(file);
+        List<Person> persons = new ArrayList<>();
+        Set<String> importedNames = new HashSet<>();
+        int rejectedCount = 0;
+        BufferedWriter errorWriter = null;
+        try {
+            for (Future<List<Validated>> batch = batches.take(); batch != END_OF_BATCHES; batch = batches.take()) {
+                for (Validated next : await(batch)) {
+                    String error = next.error;
+                    if (error == null && existingNames.contains(getKey(next.person))) {
+                        error = String.format(MESSAGE_ALREADY_EXISTS, next.person.getName());
+                    } else if (error == null && !importedNames.add(getKey(next.person))) {
+                        error = String.format(MESSAGE_REPEATED, next.person.getName());
+                    }
+                    if (error == null) {
+                        persons.add(next.person);
+                        continue;
+                    }
+
+                    if (errorWriter == null) {
+                        errorWriter = Files.newBufferedWriter(errorFilePath, StandardCharsets.UTF_8);
+                    }
+                    errorWriter.write(String.format(ERROR_LINE_FORMAT, next.record.getLineNumber(),
+                            error.replace('\n', ' ')));
+                    errorWriter.newLine();
+                    rejectedCount++;
+                }
+            }
+            await(reading);
+        } finally {
+            if (errorWriter != null) {
+                errorWriter.close();
+            }
+        }
+
+        if (rejectedCount == 0) {
+            // An error file left by an earlier import would no longer be about this one
+            Files.deleteIfExists(errorFilePath);
+        }
+        logger.info("Read " + (persons.size() + rejectedCount) + " contacts from " + file + ", "
+                + rejectedCount + " rejected");
+        return new ImportResult(persons, rejectedCount, rejectedCount == 0 ? null : errorFilePath);
+    }
+
+    /**
+     * Returns the result of {@code stage}, or throws the exception it failed with.
+     */
+    private static <T> T await(Future<T> stage) throws IOException, IllegalValueException, InterruptedException {
+        try {
+            return stage.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the key that is the same for persons that are the same, i.e. their name ignoring case, as the
+     * person list compares them.
+     */
+    private static String getKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A contact, and either the person it describes or why it is invalid.
+     */
+    private static class Validated {
+        private final ContactRecord record;
+        private final Person person;
+        private final String error;
+
+        Validated(ContactRecord record, Person person, String error) {
+            this.record = record;
+            this.person = person;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.interchange;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The fields of one contact as read from a file, before they are validated.
+ * Fields the file does not give are null.
+ */
+class ContactRecord {
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+
+    /**
+     * Creates a record of the contact that starts at line {@code lineNumber} of the file.
+     */
+    ContactRecord(int lineNumber, String name, String phone, String email, String address, List<String> tags) {
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = List.copyOf(tags);
+    }
+
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    List<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineNumber", lineNumber)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("tags", tags)
+                .toString();
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.logic.interchange;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the contacts of a file one at a time, so that files of any size can be imported.
+ */
+interface ContactRecordReader extends Closeable {
+
+    /**
+     * Returns the next contact in the file, or an empty {@code Optional} at the end of the file.
+     *
+     * @throws IllegalValueException if the file as a whole is not in the expected format.
+     */
+    Optional<ContactRecord> read() throws IOException, IllegalValueException;
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the content lines of vCard and iCalendar files: {@code NAME;PARAMETERS:VALUE}, ended by CRLF and folded
+ * onto continuation lines so that no line is longer than 75 octets in UTF-8.
+ */
+class ContentLineWriter {
+
+    static final String LINE_BREAK = "\r\n";
+    static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+
+    ContentLineWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the property {@code name} (with any parameters) with the already escaped {@code value}.
+     */
+    void write(String name, String value) throws IOException {
+        String line = name + ":" + value;
+        int octets = 0;
+        int lineStart = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int codePointOctets = getUtf8Length(codePoint);
+            if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                writer.write(line, lineStart, i - lineStart);
+                // A continuation line starts with a space, which counts towards its length
+                writer.write(LINE_BREAK);
+                writer.write(' ');
+                octets = 1;
+                lineStart = i;
+            }
+            octets += codePointOctets;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(line, lineStart, line.length() - lineStart);
+        writer.write(LINE_BREAK);
+    }
+
+    private static int getUtf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+
+    /**
+     * Returns {@code text} with the backslashes, commas, semicolons and line breaks escaped, as values of text
+     * properties must be.
+     */
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' || c == ',' || c == ';') {
+                escaped.append('\\').append(c);
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else if (c != '\r') {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.logic.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads contacts from comma-separated values, one contact per row.
+ * The first row names the columns: {@code name}, {@code phone}, {@code email} and {@code address} are required,
+ * {@code tags} (separated by semicolons) is optional, and other columns are ignored. Fields may be quoted as
+ * spreadsheets quote them, which lets them hold commas, quotes and line breaks.
+ */
+class CsvContactReader implements ContactRecordReader {
+
+    static final String NAME_COLUMN = "name";
+    static final String PHONE_COLUMN = "phone";
+    static final String EMAIL_COLUMN = "email";
+    static final String ADDRESS_COLUMN = "address";
+    static final String TAGS_COLUMN = "tags";
+    static final String TAG_SEPARATOR = ";";
+
+    static final String MESSAGE_MISSING_COLUMN = "The CSV file has no %1$s column in its first row";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(NAME_COLUMN, PHONE_COLUMN, EMAIL_COLUMN, ADDRESS_COLUMN);
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columnIndexes;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    /**
+     * Creates a reader of the rows {@code reader} holds.
+     */
+    CsvContactReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public Optional<ContactRecord> read() throws IOException, IllegalValueException {
+        if (columnIndexes == null) {
+            Optional<List<String>> header = readFields();
+            if (!header.isPresent()) {
+                return Optional.empty();
+            }
+            columnIndexes = indexColumns(header.get());
+        }
+
+        Optional<List<String>> fields = readFields();
+        while (fields.isPresent() && isBlank(fields.get())) {
+            fields = readFields();
+        }
+        if (!fields.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> row = fields.get();
+        List<String> tags = new ArrayList<>();
+        String tagField = getField(row, TAGS_COLUMN);
+        if (tagField != null) {
+            Arrays.stream(tagField.split(TAG_SEPARATOR)).map(String::trim).filter(tag -> !tag.isEmpty())
+                    .forEach(tags::add);
+        }
+        return Optional.of(new ContactRecord(recordLineNumber, getField(row, NAME_COLUMN),
+                getField(row, PHONE_COLUMN), getField(row, EMAIL_COLUMN), getField(row, ADDRESS_COLUMN), tags));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns the index of each known column named in {@code header}.
+     *
+     * @throws IllegalValueException if a required column is not named.
+     */
+    private static Map<String, Integer> indexColumns(List<String> header) throws IllegalValueException {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            indexes.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!indexes.containsKey(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the field of {@code row} in {@code column}, or null if the row has no such field or it is blank.
+     */
+    private String getField(List<String> row, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null || index >= row.size() || row.get(index).isBlank()) {
+            return null;
+        }
+        return row.get(index);
+    }
+
+    private static boolean isBlank(List<String> row) {
+        return row.stream().allMatch(String::isBlank);
+    }
+
+    /**
+     * Returns the fields of the next row, which spans several lines if a quoted field holds line breaks,
+     * or an empty {@code Optional} at the end of the file. A quoted field left open at the end of the file
+     * ends there.
+     */
+    private Optional<List<String>> readFields() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return Optional.empty();
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                String nextLine = isQuoted ? readLine() : null;
+                if (nextLine == null) {
+                    break;
+                }
+                field.append('\n');
+                line = nextLine;
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted && c == '"') {
+                if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (isQuoted) {
+                field.append(c);
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return Optional.of(fields);
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        // Spreadsheets often start UTF-8 files with a byte order mark
+        return lineNumber == 1 && line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+}
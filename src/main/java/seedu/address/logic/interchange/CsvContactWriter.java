@@ -0,0 +1,62 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.logic.interchange.CsvContactReader.ADDRESS_COLUMN;
+import static seedu.address.logic.interchange.CsvContactReader.EMAIL_COLUMN;
+import static seedu.address.logic.interchange.CsvContactReader.NAME_COLUMN;
+import static seedu.address.logic.interchange.CsvContactReader.PHONE_COLUMN;
+import static seedu.address.logic.interchange.CsvContactReader.TAGS_COLUMN;
+import static seedu.address.logic.interchange.CsvContactReader.TAG_SEPARATOR;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes contacts as comma-separated values, one row each after a header row, in the layout
+ * {@link CsvContactReader} reads.
+ */
+class CsvContactWriter {
+
+    static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a writer of rows to {@code writer}, and writes the header row.
+     */
+    CsvContactWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writeRow(NAME_COLUMN, PHONE_COLUMN, EMAIL_COLUMN, ADDRESS_COLUMN, TAGS_COLUMN);
+    }
+
+    /**
+     * Writes the row of {@code person}.
+     */
+    void write(Person person) throws IOException {
+        String tags = person.getTags().stream().map(tag -> tag.tagName).sorted()
+                .collect(Collectors.joining(TAG_SEPARATOR));
+        writeRow(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, tags);
+    }
+
+    private void writeRow(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(quote(fields[i]));
+        }
+        writer.write(LINE_BREAK);
+    }
+
+    /**
+     * Returns {@code field} quoted if it holds a character that would otherwise end it or be dropped.
+     */
+    static String quote(String field) {
+        boolean needsQuotes = field.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')
+                || !field.equals(field.trim());
+        return needsQuotes ? '"' + field.replace("\"", "\"\"") + '"' : field;
+    }
+}
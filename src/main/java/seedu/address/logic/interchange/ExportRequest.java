@@ -0,0 +1,110 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StorageAction;
+import seedu.address.logic.commands.StorageActionRunner;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * A file to export, and a snapshot of the entries to write to it. The lists are copied when the request is made,
+ * so the file holds the entries as they were then even if the address book changes while it is written.
+ */
+public class ExportRequest implements StorageAction {
+
+    private final Path file;
+    private final InterchangeFormat format;
+    private final List<Person> persons;
+    private final List<Event> events;
+
+    /**
+     * Creates a request to write {@code persons} to {@code file} in {@code format}, which must hold contacts.
+     */
+    public ExportRequest(Path file, InterchangeFormat format, List<Person> persons) {
+        this(file, format, persons, List.of());
+        if (!format.holdsContacts()) {
+            throw new IllegalArgumentException(format + " files do not hold contacts");
+        }
+    }
+
+    /**
+     * Creates a request to write {@code events} to {@code file} in {@code format}, which must hold events, with
+     * the ones of {@code persons} linked to each event as its attendees.
+     */
+    public ExportRequest(Path file, InterchangeFormat format, List<Person> persons, List<Event> events) {
+        requireAllNonNull(file, format, persons, events);
+        this.file = file;
+        this.format = format;
+        this.persons = List.copyOf(persons);
+        this.events = List.copyOf(events);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public InterchangeFormat getFormat() {
+        return format;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the number of contacts or events to export, whichever the format holds.
+     */
+    public int getEntryCount() {
+        return format.holdsContacts() ? persons.size() : events.size();
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) {
+        runner.export(this);
+        return commandResult;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportRequest)) {
+            return false;
+        }
+
+        ExportRequest otherExportRequest = (ExportRequest) other;
+        return file.equals(otherExportRequest.file)
+                && format.equals(otherExportRequest.format)
+                && persons.equals(otherExportRequest.persons)
+                && events.equals(otherExportRequest.events);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, format, persons, events);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .add("persons", persons.size())
+                .add("events", events.size())
+                .toString();
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.logic.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes exported files on a background thread, so that the user can keep working while a large file is written.
+ * Each entry is written straight through a buffer to the file, so memory use does not grow with the file.
+ * Files are written atomically: a file that could not be written completely keeps its old content, if any.
+ */
+public class Exporter {
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(Exporter.class);
+
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates an exporter with its own background thread.
+     */
+    public Exporter() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates an exporter like {@link #Exporter()} that stamps calendar events with the time of {@code clock}.
+     */
+    Exporter(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Exporter");
+                    // An export cut short at exit leaves the file as it was, as files are written atomically
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // The thread is only kept while files are being written
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Writes the file of {@code request} on the background thread, after the files requested earlier. If it cannot
+     * be written, {@code failureHandler} is called with the reason on the background thread.
+     *
+     * @return the pending export, which fails with the same {@code IOException}.
+     */
+    public Future<?> export(ExportRequest request, Consumer<IOException> failureHandler) {
+        requireNonNull(request);
+        requireNonNull(failureHandler);
+        return executor.submit(() -> {
+            try {
+                write(request);
+                logger.info("Exported " + request.getEntryCount() + " entries to " + request.getFile());
+                return null;
+            } catch (IOException e) {
+                logger.warning("Failed to export to " + request.getFile() + ": " + e);
+                failureHandler.accept(e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Waits for the exports requested so far to finish, whether they succeed or fail.
+     */
+    public void awaitPendingExports() {
+        try {
+            // The thread writes files in the order requested, so this task runs after every earlier one
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    private void write(ExportRequest request) throws IOException {
+        Path file = request.getFile();
+        FileUtil.createParentDirsOfFile(file);
+        FileUtil.writeToFileAtomically(file, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            switch (request.getFormat()) {
+            case CSV:
+                CsvContactWriter csvWriter = new CsvContactWriter(writer);
+                for (Person person : request.getPersons()) {
+                    csvWriter.write(person);
+                }
+                break;
+            case VCARD:
+                VCardContactWriter vcardWriter = new VCardContactWriter(writer);
+                for (Person person : request.getPersons()) {
+                    vcardWriter.write(person);
+                }
+                break;
+            case ICALENDAR:
+                writeEvents(request, new ICalendarEventWriter(writer, clock));
+                break;
+            default:
+                throw new AssertionError("Unknown format " + request.getFormat());
+            }
+            writer.flush();
+        });
+    }
+
+    private static void writeEvents(ExportRequest request, ICalendarEventWriter calendarWriter) throws IOException {
+        Map<UUID, List<Person>> attendees = new HashMap<>();
+        for (Person person : request.getPersons()) {
+            if (person.getEventId() != null) {
+                attendees.computeIfAbsent(person.getEventId(), eventId -> new ArrayList<>()).add(person);
+            }
+        }
+        for (Event event : request.getEvents()) {
+            calendarWriter.write(event, attendees.getOrDefault(event.getId(), List.of()));
+        }
+        calendarWriter.writeEnd();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.logic.interchange.ContentLineWriter.escape;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes events as an iCalendar file, which calendar apps read. The persons linked to an event are written as its
+ * attendees. Times are written as local times, so calendars show them at the same time of day as OverBooked does.
+ */
+class ICalendarEventWriter {
+
+    static final String PRODUCT_ID = "-//OverBooked//OverBooked//EN";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ContentLineWriter writer;
+    private final String timestamp;
+
+    /**
+     * Creates a writer of events to {@code writer}, and writes the start of the calendar. The events are stamped
+     * with the time of {@code clock}.
+     */
+    ICalendarEventWriter(Writer writer, Clock clock) throws IOException {
+        this.writer = new ContentLineWriter(writer);
+        this.timestamp = LocalDateTime.now(clock.withZone(ZoneOffset.UTC)).truncatedTo(ChronoUnit.SECONDS)
+                .format(DATE_TIME_FORMATTER) + "Z";
+        this.writer.write("BEGIN", "VCALENDAR");
+        this.writer.write("VERSION", "2.0");
+        this.writer.write("PRODID", PRODUCT_ID);
+        this.writer.write("CALSCALE", "GREGORIAN");
+    }
+
+    /**
+     * Writes {@code event}, with {@code attendees} as its attendees.
+     */
+    void write(Event event, List<Person> attendees) throws IOException {
+        writer.write("BEGIN", "VEVENT");
+        writer.write("UID", event.getId() + "@overbooked");
+        writer.write("DTSTAMP", timestamp);
+        writer.write("DTSTART", event.getStart().format(DATE_TIME_FORMATTER));
+        writer.write("DTEND", event.getEnd().format(DATE_TIME_FORMATTER));
+        writer.write("SUMMARY", escape(event.getName()));
+        if (!event.getDescription().isBlank()) {
+            writer.write("DESCRIPTION", escape(event.getDescription()));
+        }
+        writer.write("CATEGORIES", escape(event.getAlias()));
+        for (Person attendee : attendees) {
+            // Names only hold letters, digits, spaces and slashes, so they can be quoted as they are
+            writer.write("ATTENDEE;CN=\"" + attendee.getName().fullName + "\"", "mailto:" + attendee.getEmail().value);
+        }
+        writer.write("END", "VEVENT");
+    }
+
+    /**
+     * Writes the end of the calendar.
+     */
+    void writeEnd() throws IOException {
+        writer.write("END", "VCALENDAR");
+    }
+}
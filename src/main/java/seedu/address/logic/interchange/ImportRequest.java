@@ -0,0 +1,90 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StorageAction;
+import seedu.address.logic.commands.StorageActionRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * A file of contacts to add to the address book, which is read once the command has been executed, so that the
+ * file is not read by the command itself.
+ */
+public class ImportRequest implements StorageAction {
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d contacts from %2$s";
+
+    public static final String MESSAGE_REJECTED = "\n%1$d contacts were skipped, see %2$s for the reasons";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read the file %1$s";
+
+    private final Path file;
+    private final InterchangeFormat format;
+
+    /**
+     * Creates a request to import the contacts of {@code file}, which is in {@code format}.
+     */
+    public ImportRequest(Path file, InterchangeFormat format) {
+        requireAllNonNull(file, format);
+        this.file = file;
+        this.format = format;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public InterchangeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the message for the user describing {@code result}.
+     */
+    public String describe(ImportResult result) {
+        String feedback = String.format(MESSAGE_SUCCESS, result.getPersons().size(), file);
+        if (result.getErrorFilePath().isPresent()) {
+            feedback += String.format(MESSAGE_REJECTED, result.getRejectedCount(), result.getErrorFilePath().get());
+        }
+        return feedback;
+    }
+
+    @Override
+    public CommandResult carryOut(StorageActionRunner runner, CommandResult commandResult) throws CommandException {
+        return runner.importContacts(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportRequest)) {
+            return false;
+        }
+
+        ImportRequest otherImportRequest = (ImportRequest) other;
+        return file.equals(otherImportRequest.file)
+                && format.equals(otherImportRequest.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The contacts read from a file that can be added to the address book, and how many were rejected.
+ */
+public class ImportResult {
+
+    private final List<Person> persons;
+    private final int rejectedCount;
+    private final Path errorFilePath;
+
+    /**
+     * Creates a result of {@code persons} to add, and {@code rejectedCount} contacts rejected, which are explained
+     * in the file at {@code errorFilePath} if any were.
+     */
+    public ImportResult(List<Person> persons, int rejectedCount, Path errorFilePath) {
+        requireAllNonNull(persons);
+        this.persons = List.copyOf(persons);
+        this.rejectedCount = rejectedCount;
+        this.errorFilePath = errorFilePath;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public Optional<Path> getErrorFilePath() {
+        return Optional.ofNullable(errorFilePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportResult)) {
+            return false;
+        }
+
+        ImportResult otherImportResult = (ImportResult) other;
+        return persons.equals(otherImportResult.persons)
+                && rejectedCount == otherImportResult.rejectedCount
+                && Objects.equals(errorFilePath, otherImportResult.errorFilePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, rejectedCount, errorFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("rejectedCount", rejectedCount)
+                .add("errorFilePath", errorFilePath)
+                .toString();
+    }
+}
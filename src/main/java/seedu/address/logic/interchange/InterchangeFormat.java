@@ -0,0 +1,51 @@
+package seedu.address.logic.interchange;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Formats other programs use for contacts and events, which files are imported from and exported to.
+ */
+public enum InterchangeFormat {
+    /** Comma-separated values with a header row, as spreadsheets write them. */
+    CSV(true, "csv"),
+    /** vCard contacts, as address book and phone apps share them. */
+    VCARD(true, "vcf", "vcard"),
+    /** iCalendar events, as calendar apps share them. */
+    ICALENDAR(false, "ics");
+
+    private final boolean holdsContacts;
+    private final List<String> extensions;
+
+    InterchangeFormat(boolean holdsContacts, String... extensions) {
+        this.holdsContacts = holdsContacts;
+        this.extensions = List.of(extensions);
+    }
+
+    /**
+     * Returns true if files in this format hold contacts, or false if they hold events.
+     */
+    public boolean holdsContacts() {
+        return holdsContacts;
+    }
+
+    /**
+     * Returns the format of {@code file} going by its file name extension, if it is one of these formats.
+     */
+    public static Optional<InterchangeFormat> ofFile(Path file) {
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        for (InterchangeFormat format : values()) {
+            if (format.extensions.stream().anyMatch(extension -> name.endsWith("." + extension))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
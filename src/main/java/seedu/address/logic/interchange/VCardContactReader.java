@@ -0,0 +1,193 @@
+package seedu.address.logic.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Reads contacts from vCard files (versions 2.1 to 4.0), one contact per {@code BEGIN:VCARD} ... {@code END:VCARD}
+ * block. The formatted name ({@code FN}, or {@code N} if there is none), the first phone number ({@code TEL}),
+ * e-mail address ({@code EMAIL}) and postal address ({@code ADR}), and the {@code CATEGORIES} as tags are read;
+ * other properties are ignored.
+ */
+class VCardContactReader implements ContactRecordReader {
+
+    private final BufferedReader reader;
+    private String nextLine;
+    private int nextLineNumber;
+    private int lineNumber;
+
+    /**
+     * Creates a reader of the vCards {@code reader} holds.
+     */
+    VCardContactReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public Optional<ContactRecord> read() throws IOException {
+        String line = readUnfoldedLine();
+        while (line != null && !line.equalsIgnoreCase("BEGIN:VCARD")) {
+            line = readUnfoldedLine();
+        }
+        if (line == null) {
+            return Optional.empty();
+        }
+
+        int startLineNumber = lineNumber;
+        String formattedName = null;
+        String structuredName = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<String> tags = new ArrayList<>();
+        for (line = readUnfoldedLine(); line != null && !line.equalsIgnoreCase("END:VCARD");
+                line = readUnfoldedLine()) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String property = getPropertyName(line.substring(0, colon));
+            String value = line.substring(colon + 1);
+            switch (property) {
+            case "FN":
+                formattedName = formattedName == null ? unescape(value) : formattedName;
+                break;
+            case "N":
+                structuredName = structuredName == null ? joinComponents(value, " ", 1, 0) : structuredName;
+                break;
+            case "TEL":
+                phone = phone == null ? unescape(value.replaceFirst("(?i)^tel:", "")) : phone;
+                break;
+            case "EMAIL":
+                email = email == null ? unescape(value) : email;
+                break;
+            case "ADR":
+                address = address == null ? joinComponents(value, ", ", 0, 1, 2, 3, 4, 5, 6) : address;
+                break;
+            case "CATEGORIES":
+                splitUnescaped(value, ',').stream().map(VCardContactReader::unescape).map(String::trim)
+                        .filter(tag -> !tag.isEmpty()).forEach(tags::add);
+                break;
+            default:
+                break;
+            }
+        }
+
+        String name = formattedName != null ? formattedName : structuredName;
+        return Optional.of(new ContactRecord(startLineNumber, blankToNull(name), blankToNull(phone),
+                blankToNull(email), blankToNull(address), tags));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns the upper-case name of the property in {@code nameAndParameters}, e.g. {@code TEL} for
+     * {@code item1.tel;type=CELL}.
+     */
+    private static String getPropertyName(String nameAndParameters) {
+        int semicolon = nameAndParameters.indexOf(';');
+        String name = semicolon < 0 ? nameAndParameters : nameAndParameters.substring(0, semicolon);
+        return name.substring(name.lastIndexOf('.') + 1).trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the non-blank components of the structured {@code value} at {@code indexes}, in that order,
+     * joined by {@code separator}.
+     */
+    private static String joinComponents(String value, String separator, int... indexes) {
+        List<String> components = splitUnescaped(value, ';');
+        List<String> parts = new ArrayList<>();
+        for (int index : indexes) {
+            if (index < components.size()) {
+                String part = unescape(components.get(index)).replace('\n', ' ').trim();
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+            }
+        }
+        return String.join(separator, parts);
+    }
+
+    /**
+     * Splits {@code value} at each {@code separator} that is not escaped by a backslash.
+     */
+    private static List<String> splitUnescaped(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == separator) {
+                parts.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(value.substring(start));
+        return parts;
+    }
+
+    /**
+     * Returns {@code value} with the backslash escapes of vCard text replaced by the characters they stand for.
+     */
+    static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * Returns the next logical line, joining the lines folded onto the following ones (which start with a space
+     * or a tab), or null at the end of the file.
+     */
+    private String readUnfoldedLine() throws IOException {
+        if (nextLine == null) {
+            nextLine = readLine();
+        }
+        if (nextLine == null) {
+            return null;
+        }
+
+        StringBuilder line = new StringBuilder(nextLine);
+        lineNumber = nextLineNumber;
+        nextLine = readLine();
+        while (nextLine != null && !nextLine.isEmpty()
+                && (nextLine.charAt(0) == ' ' || nextLine.charAt(0) == '\t')) {
+            line.append(nextLine, 1, nextLine.length());
+            nextLine = readLine();
+        }
+        return line.toString().trim();
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        nextLineNumber++;
+        // Some apps start UTF-8 files with a byte order mark
+        return nextLineNumber == 1 && line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+}
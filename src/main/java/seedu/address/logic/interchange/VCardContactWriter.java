@@ -0,0 +1,42 @@
+package seedu.address.logic.interchange;
+
+import static seedu.address.logic.interchange.ContentLineWriter.escape;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes contacts as vCards (version 3.0), which {@link VCardContactReader} and other address book apps read.
+ */
+class VCardContactWriter {
+
+    private final ContentLineWriter writer;
+
+    VCardContactWriter(Writer writer) {
+        this.writer = new ContentLineWriter(writer);
+    }
+
+    /**
+     * Writes the vCard of {@code person}.
+     */
+    void write(Person person) throws IOException {
+        String name = escape(person.getName().fullName);
+        writer.write("BEGIN", "VCARD");
+        writer.write("VERSION", "3.0");
+        writer.write("UID", "urn:uuid:" + person.getId());
+        writer.write("FN", name);
+        // The name is not split into its parts, so it is all given as the family name
+        writer.write("N", name + ";;;;");
+        writer.write("TEL", escape(person.getPhone().value));
+        writer.write("EMAIL;TYPE=INTERNET", escape(person.getEmail().value));
+        writer.write("ADR", ";;" + escape(person.getAddress().value) + ";;;;");
+        if (!person.getTags().isEmpty()) {
+            writer.write("CATEGORIES", person.getTags().stream().map(tag -> escape(tag.tagName)).sorted()
+                    .collect(Collectors.joining(",")));
+        }
+        writer.write("END", "VCARD");
+    }
+}
@@ -11,8 +11,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddTodoCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertDataCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.DeleteTodoCommand;
@@ -20,15 +23,22 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditEventCommand;
 import seedu.address.logic.commands.EditTodoCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportChangesCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FacetsCommand;
+import seedu.address.logic.commands.FindArchivedCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindContactByEventCommand;
 import seedu.address.logic.commands.FindEventCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.LinkEventCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListEventsCommand;
 import seedu.address.logic.commands.ListTodosCommand;
 import seedu.address.logic.commands.MarkTodoCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.UnlinkEventCommand;
 import seedu.address.logic.commands.UnmarkTodoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -143,6 +153,39 @@ public class AddressBookParser {
         case DeleteTodoCommand.COMMAND_WORD:
             return new DeleteTodoCommandParser().parse(arguments);
 
+        case FacetsCommand.COMMAND_WORD:
+            return new FacetsCommandParser().parse(arguments);
+
+        case ConvertDataCommand.COMMAND_WORD:
+            return new ConvertDataCommandParser().parse(arguments);
+
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommandParser().parse(arguments);
+
+        case FindArchivedCommand.COMMAND_WORD:
+            return new FindArchivedCommandParser().parse(arguments);
+
+        case BackupCommand.COMMAND_WORD:
+            if (!arguments.trim().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackupCommand.MESSAGE_USAGE));
+            }
+            return new BackupCommand();
+
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case ExportChangesCommand.COMMAND_WORD:
+            return new ExportChangesCommandParser().parse(arguments);
+
+        case MergeCommand.COMMAND_WORD:
+            return new MergeCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
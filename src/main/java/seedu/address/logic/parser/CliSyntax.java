@@ -21,4 +21,8 @@ public class CliSyntax {
     // for todos
     public static final Prefix PREFIX_TODO_NAME = new Prefix("tn/");
     public static final Prefix PREFIX_TODO_DESCRIPTION = new Prefix("td/");
+
+    /* Flag definitions */
+    // for narrowing down the currently displayed list instead of searching the whole address book
+    public static final String FLAG_WITHIN = "--within";
 }
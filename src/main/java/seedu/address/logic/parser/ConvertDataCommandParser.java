@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.ConvertDataCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertDataCommand object
+ */
+public class ConvertDataCommandParser implements Parser<ConvertDataCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertDataCommand
+     * and returns a ConvertDataCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertDataCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        for (DataFileFormat format : DataFileFormat.values()) {
+            if (format.name().equalsIgnoreCase(trimmedArgs)) {
+                return new ConvertDataCommand(format);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertDataCommand.MESSAGE_USAGE));
+    }
+}
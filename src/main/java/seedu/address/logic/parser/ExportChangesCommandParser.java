@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ExportChangesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportChangesCommand object
+ */
+public class ExportChangesCommandParser implements Parser<ExportChangesCommand> {
+
+    public static final String MESSAGE_INVALID_SEQUENCE = "The change number after " + ExportChangesCommand.SINCE_OPTION
+            + " must be a whole number that is 0 or more";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportChangesCommand
+     * and returns an ExportChangesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportChangesCommand parse(String args) throws ParseException {
+        String fileArg = args.trim();
+        long sinceSequence = 0;
+        if (fileArg.startsWith(ExportChangesCommand.SINCE_OPTION)) {
+            String[] words = fileArg.split("\\s+", 3);
+            if (words.length < 3 || !words[0].equals(ExportChangesCommand.SINCE_OPTION)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        ExportChangesCommand.MESSAGE_USAGE));
+            }
+            sinceSequence = parseSequence(words[1]);
+            fileArg = words[2];
+        }
+        if (fileArg.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportChangesCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(fileArg);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportChangesCommand.MESSAGE_USAGE), e);
+        }
+        return new ExportChangesCommand(sinceSequence, file);
+    }
+
+    private static long parseSequence(String sequence) throws ParseException {
+        if (!sequence.matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_SEQUENCE);
+        }
+        try {
+            return Long.parseLong(sequence);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_SEQUENCE, e);
+        }
+    }
+
+}
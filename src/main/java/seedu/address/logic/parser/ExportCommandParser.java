@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.interchange.InterchangeFormat;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String[] words = trimmedArgs.split("\\s+", 2);
+        boolean isAll = words.length == 2 && words[0].equalsIgnoreCase(ExportCommand.ALL_KEYWORD);
+        String fileArg = isAll ? words[1] : trimmedArgs;
+        if (fileArg.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(fileArg);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), e);
+        }
+
+        Optional<InterchangeFormat> format = InterchangeFormat.ofFile(file);
+        if (!format.isPresent()) {
+            throw new ParseException(ExportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        return new ExportCommand(file, format.get(), isAll);
+    }
+
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FacetsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FacetsCommand object
+ */
+public class FacetsCommandParser implements Parser<FacetsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FacetsCommand
+     * and returns a FacetsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FacetsCommand parse(String args) throws ParseException {
+        if (!args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FacetsCommand.MESSAGE_USAGE));
+        }
+        return new FacetsCommand();
+    }
+
+}
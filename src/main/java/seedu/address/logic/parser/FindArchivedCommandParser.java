@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.FindArchivedCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindArchivedCommand object
+ */
+public class FindArchivedCommandParser implements Parser<FindArchivedCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindArchivedCommand
+     * and returns a FindArchivedCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindArchivedCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindArchivedCommand.MESSAGE_USAGE));
+        }
+
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        return new FindArchivedCommand(new EventContainsKeywordsPredicate(keywords),
+                new TodoContainsKeywordsPredicate(keywords));
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.Arrays;
@@ -24,8 +25,10 @@ public class FindCommandParser implements Parser<FindCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
 
         Optional<String> keywords = argMultimap.getValue(PREFIX_NAME);
+        String preamble = argMultimap.getPreamble();
+        boolean isRefinement = preamble.equals(FLAG_WITHIN);
 
-        if (keywords.isEmpty() || keywords.get().isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+        if (keywords.isEmpty() || keywords.get().isEmpty() || !(preamble.isEmpty() || isRefinement)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
@@ -33,7 +36,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] keywordsArray = keywords.get().split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywordsArray)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywordsArray)), isRefinement);
     }
 
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 
 import java.util.Arrays;
@@ -23,8 +24,10 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
     public FindEventCommand parse(String args) throws ParseException {
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_ALIAS);
+        String preamble = argMultimap.getPreamble();
+        boolean isRefinement = preamble.equals(FLAG_WITHIN);
 
-        if (!argMultimap.getPreamble().isEmpty()
+        if (!(preamble.isEmpty() || isRefinement)
                 || !argMultimap.getValue(PREFIX_EVENT_ALIAS).isPresent()
                 || argMultimap.getValue(PREFIX_EVENT_ALIAS).get().trim().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
@@ -34,6 +37,6 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
 
         String[] aliasKeywords = argMultimap.getValue(PREFIX_EVENT_ALIAS).get().trim().split("\\s+");
 
-        return new FindEventCommand(new AliasContainsKeywordsPredicate(Arrays.asList(aliasKeywords)));
+        return new FindEventCommand(new AliasContainsKeywordsPredicate(Arrays.asList(aliasKeywords)), isRefinement);
     }
 }
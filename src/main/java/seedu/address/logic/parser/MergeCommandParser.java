@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    private static final Pattern MERGE_ARGUMENTS_FORMAT = Pattern.compile(
+            "(?<otherFile>.+?)\\s+" + Pattern.quote(MergeCommand.BASE_OPTION) + "\\s+(?<baseFile>.+)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        Matcher matcher = MERGE_ARGUMENTS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path otherFile = Paths.get(matcher.group("otherFile"));
+            Path baseFile = Paths.get(matcher.group("baseFile"));
+            return new MergeCommand(otherFile, baseFile);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE), e);
+        }
+    }
+
+}
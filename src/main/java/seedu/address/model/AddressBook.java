@@ -2,7 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -25,6 +35,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueEventList events;
     private final UniqueTodoList todos;
+    private final LinkCounters linkCounters;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         events = new UniqueEventList();
         todos = new UniqueTodoList();
+        linkCounters = new LinkCounters();
     }
 
     public AddressBook() {}
@@ -57,6 +69,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        recountLinks();
     }
 
     /**
@@ -73,6 +86,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTodos(List<Todo> todos) {
         this.todos.setTodos(todos);
+        recountLinks();
     }
 
     /**
@@ -80,9 +94,47 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setPersons(newData.getPersonList());
-        setEvents(newData.getEventList());
-        setTodos(newData.getTodoList());
+        persons.setPersons(newData.getPersonList());
+        events.setEvents(newData.getEventList());
+        todos.setTodos(newData.getTodoList());
+        recountLinks();
+    }
+
+    /**
+     * Changes the data of this {@code AddressBook} to {@code newData}, like {@link #resetData(ReadOnlyAddressBook)},
+     * but only replaces the entries that have changed. An entry of {@code newData} with the same id and fields as an
+     * entry of this address book is taken to be unchanged, and the entry of this address book is kept in its place.
+     */
+    public void updateData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        events.updateEvents(keepUnchanged(events.asUnmodifiableObservableList(), newData.getEventList(),
+                Event::getId));
+        persons.updatePersons(keepUnchanged(persons.asUnmodifiableObservableList(), newData.getPersonList(),
+                Person::getId));
+        todos.updateTodos(keepUnchanged(todos.asUnmodifiableObservableList(), newData.getTodoList(), Todo::getId));
+        recountLinks();
+    }
+
+    /**
+     * Recounts the links of every person and todo, after the lists have been replaced wholesale.
+     */
+    private void recountLinks() {
+        linkCounters.reset(persons.asUnmodifiableObservableList(), todos.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns {@code updated} with each entry that is unchanged from an entry of {@code current} replaced by that
+     * entry.
+     */
+    private static <T> List<T> keepUnchanged(List<T> current, List<T> updated, Function<T, UUID> idOf) {
+        Map<UUID, T> currentById = new HashMap<>();
+        current.forEach(entry -> currentById.put(idOf.apply(entry), entry));
+        return updated.stream()
+                .map(entry -> {
+                    T currentEntry = currentById.get(idOf.apply(entry));
+                    return entry.equals(currentEntry) ? currentEntry : entry;
+                })
+                .collect(Collectors.toList());
     }
 
     //// person-level operations
@@ -101,6 +153,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        linkCounters.addPerson(p);
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single change to the person list.
+     * None of the persons may already exist in the address book, or be the same as another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        persons.forEach(linkCounters::addPerson);
     }
 
     /**
@@ -111,8 +173,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        // Todos link to the person by id, so they keep following the person through a rename
         persons.setPerson(target, editedPerson);
-        todos.setPerson(target, editedPerson);
+        linkCounters.removePerson(target);
+        linkCounters.addPerson(editedPerson);
     }
 
     /**
@@ -121,6 +185,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        linkCounters.removePerson(key);
+    }
+
+    /**
+     * Removes {@code key} from the address book, and unlinks the todos linked to it in a single change to the todo
+     * list. {@code key} must exist in the address book.
+     */
+    public void removePersonAndUnlinkTodos(Person key) {
+        requireNonNull(key);
+        UUID id = key.getId();
+        if (todos.asUnmodifiableObservableList().stream().anyMatch(todo -> id.equals(todo.getContactId()))) {
+            todos.setTodos(todos.asUnmodifiableObservableList().stream()
+                    .map(todo -> id.equals(todo.getContactId()) ? todo.withLinkedContactId(null) : todo)
+                    .collect(Collectors.toList()));
+        }
+        persons.remove(key);
+        recountLinks();
     }
 
     /**
@@ -155,6 +236,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.remove(e);
     }
 
+    /**
+     * Removes {@code e} from the address book, and unlinks the persons linked to it in a single change to the person
+     * list. {@code e} must exist in the address book.
+     */
+    public void removeEventAndUnlinkPersons(Event e) {
+        requireNonNull(e);
+        UUID id = e.getId();
+        if (persons.asUnmodifiableObservableList().stream().anyMatch(person -> id.equals(person.getEventId()))) {
+            persons.setPersons(persons.asUnmodifiableObservableList().stream()
+                    .map(person -> id.equals(person.getEventId()) ? person.withLinkedEventId(null) : person)
+                    .collect(Collectors.toList()));
+        }
+        events.remove(e);
+        recountLinks();
+    }
+
     /**
      * Returns true if a todo with the same name as {@code todo} exists in the address book.
      */
@@ -169,6 +266,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTodo(Todo todo) {
         todos.add(todo);
+        linkCounters.addTodo(todo);
     }
 
     /**
@@ -180,11 +278,71 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedTodo);
 
         todos.setTodo(target, editedTodo);
+        linkCounters.removeTodo(target);
+        linkCounters.addTodo(editedTodo);
     }
 
     /** Removes todo from the address book. */
     public void removeTodo(Todo todo) {
         todos.remove(todo);
+        linkCounters.removeTodo(todo);
+    }
+
+    /**
+     * Removes every event and todo of {@code entries} from the address book in one pass, and unlinks the persons
+     * linked to the removed events. The persons of {@code entries} are ignored.
+     */
+    public void removeEntries(ReadOnlyAddressBook entries) {
+        requireNonNull(entries);
+        Set<Event> removedEvents = identitySetOf(entries.getEventList());
+        Set<Todo> removedTodos = identitySetOf(entries.getTodoList());
+        Set<UUID> removedEventIds = new HashSet<>();
+        removedEvents.forEach(event -> removedEventIds.add(event.getId()));
+
+        if (persons.asUnmodifiableObservableList().stream()
+                .anyMatch(person -> removedEventIds.contains(person.getEventId()))) {
+            persons.setPersons(persons.asUnmodifiableObservableList().stream()
+                    .map(person -> removedEventIds.contains(person.getEventId())
+                            ? person.withLinkedEventId(null)
+                            : person)
+                    .collect(Collectors.toList()));
+        }
+        events.setEvents(events.asUnmodifiableObservableList().stream()
+                .filter(event -> !removedEvents.contains(event))
+                .collect(Collectors.toList()));
+        todos.setTodos(todos.asUnmodifiableObservableList().stream()
+                .filter(todo -> !removedTodos.contains(todo))
+                .collect(Collectors.toList()));
+        recountLinks();
+    }
+
+    private static <T> Set<T> identitySetOf(List<? extends T> entries) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(entries);
+        return set;
+    }
+
+    //// link count operations
+
+    /**
+     * Returns the number of persons linked to the event with id {@code eventId}.
+     */
+    public int getAttendeeCount(UUID eventId) {
+        return linkCounters.getAttendeeCount(eventId);
+    }
+
+    /**
+     * Returns the number of incomplete todos linked to the contact with id {@code contactId}.
+     */
+    public int getOpenTodoCount(UUID contactId) {
+        return linkCounters.getOpenTodoCount(contactId);
+    }
+
+    /**
+     * Returns the number of completed todos linked to the contact with id {@code contactId}.
+     */
+    public int getCompletedTodoCount(UUID contactId) {
+        return linkCounters.getCompletedTodoCount(contactId);
     }
 
     //// util methods
@@ -201,6 +359,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> getPerson(UUID id) {
+        return persons.get(id);
+    }
+
+    @Override
+    public Optional<Event> getEvent(UUID id) {
+        return events.get(id);
+    }
+
     public ObservableList<Event> getEventList() {
         return events.asUnmodifiableObservableList();
     }
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A person, event or todo that was added, updated or deleted, identified by its id, which stays the same across
+ * edits.
+ * Guarantees: immutable.
+ */
+public class EntryChange {
+
+    /**
+     * What happened to the entry.
+     */
+    public enum Operation {
+        ADD, UPDATE, DELETE
+    }
+
+    /**
+     * The list the entry is in.
+     */
+    public enum EntryType {
+        PERSON, EVENT, TODO
+    }
+
+    private final Operation operation;
+    private final EntryType entryType;
+    private final UUID key;
+    private final Instant time;
+    private final Object entry;
+
+    /**
+     * Creates a change of the entry with id {@code key}, which is {@code entry} after the change, or null if it was
+     * deleted. The entry must be a {@code Person}, {@code Event} or {@code Todo} as {@code entryType} says.
+     */
+    public EntryChange(Operation operation, EntryType entryType, UUID key, Instant time, Object entry) {
+        requireAllNonNull(operation, entryType, key, time);
+        assert (entry == null) == (operation == Operation.DELETE);
+        this.operation = operation;
+        this.entryType = entryType;
+        this.key = key;
+        this.time = time;
+        this.entry = entry;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public EntryType getEntryType() {
+        return entryType;
+    }
+
+    public UUID getKey() {
+        return key;
+    }
+
+    public Instant getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the entry as it is after the change, or {@code Optional.empty()} if it was deleted.
+     */
+    public Optional<Object> getEntry() {
+        return Optional.ofNullable(entry);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EntryChange)) {
+            return false;
+        }
+
+        EntryChange otherChange = (EntryChange) other;
+        return operation == otherChange.operation
+                && entryType == otherChange.entryType
+                && key.equals(otherChange.key)
+                && time.equals(otherChange.time)
+                && Objects.equals(entry, otherChange.entry);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operation, entryType, key, time, entry);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operation", operation)
+                .add("entryType", entryType)
+                .add("key", key)
+                .add("time", time)
+                .add("entry", entry)
+                .toString();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Counts of persons per tag and per linked event, of events that are upcoming or past, and of todos per completion
+ * status.
+ * Guarantees: immutable; tag and event counts are ordered by name.
+ */
+public class FacetCounts {
+
+    private final Map<String, Integer> tagCounts;
+    private final Map<String, Integer> eventCounts;
+    private final int upcomingEventCount;
+    private final int pastEventCount;
+    private final int completedTodoCount;
+    private final int pendingTodoCount;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public FacetCounts(Map<String, Integer> tagCounts, Map<String, Integer> eventCounts, int upcomingEventCount,
+                       int pastEventCount, int completedTodoCount, int pendingTodoCount) {
+        requireAllNonNull(tagCounts, eventCounts);
+        this.tagCounts = Collections.unmodifiableMap(new TreeMap<>(tagCounts));
+        this.eventCounts = Collections.unmodifiableMap(new TreeMap<>(eventCounts));
+        this.upcomingEventCount = upcomingEventCount;
+        this.pastEventCount = pastEventCount;
+        this.completedTodoCount = completedTodoCount;
+        this.pendingTodoCount = pendingTodoCount;
+    }
+
+    /**
+     * Returns the facet counts of {@code persons}, {@code events} and {@code todos}, going over each list once.
+     * The events that persons are linked to are looked up in {@code addressBook}, and counted by alias.
+     * Events that have ended by {@code now} are past.
+     */
+    public static FacetCounts of(List<Person> persons, List<Event> events, List<Todo> todos,
+                                 ReadOnlyAddressBook addressBook, LocalDateTime now) {
+        requireAllNonNull(persons, events, todos, addressBook, now);
+
+        Map<String, Integer> tagCounts = new HashMap<>();
+        Map<UUID, Integer> eventIdCounts = new HashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagCounts.merge(tag.tagName, 1, Integer::sum);
+            }
+            if (person.getEventId() != null) {
+                eventIdCounts.merge(person.getEventId(), 1, Integer::sum);
+            }
+        }
+        Map<String, Integer> eventCounts = new HashMap<>();
+        eventIdCounts.forEach((eventId, count) -> addressBook.getEvent(eventId)
+                .ifPresent(event -> eventCounts.put(event.getAlias(), count)));
+
+        int pastEventCount = 0;
+        for (Event event : events) {
+            if (!event.getEnd().isAfter(now)) {
+                pastEventCount++;
+            }
+        }
+
+        int completedTodoCount = 0;
+        for (Todo todo : todos) {
+            if (todo.getIsCompleted()) {
+                completedTodoCount++;
+            }
+        }
+
+        return new FacetCounts(tagCounts, eventCounts, events.size() - pastEventCount, pastEventCount,
+                completedTodoCount, todos.size() - completedTodoCount);
+    }
+
+    /**
+     * Returns the number of persons with each tag, ordered by tag name.
+     */
+    public Map<String, Integer> getTagCounts() {
+        return tagCounts;
+    }
+
+    /**
+     * Returns the number of persons linked to each event alias, ordered by alias.
+     */
+    public Map<String, Integer> getEventCounts() {
+        return eventCounts;
+    }
+
+    public int getUpcomingEventCount() {
+        return upcomingEventCount;
+    }
+
+    public int getPastEventCount() {
+        return pastEventCount;
+    }
+
+    public int getCompletedTodoCount() {
+        return completedTodoCount;
+    }
+
+    public int getPendingTodoCount() {
+        return pendingTodoCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FacetCounts)) {
+            return false;
+        }
+
+        FacetCounts otherFacetCounts = (FacetCounts) other;
+        return tagCounts.equals(otherFacetCounts.tagCounts)
+                && eventCounts.equals(otherFacetCounts.eventCounts)
+                && upcomingEventCount == otherFacetCounts.upcomingEventCount
+                && pastEventCount == otherFacetCounts.pastEventCount
+                && completedTodoCount == otherFacetCounts.completedTodoCount
+                && pendingTodoCount == otherFacetCounts.pendingTodoCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagCounts, eventCounts, upcomingEventCount, pastEventCount, completedTodoCount,
+                pendingTodoCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tagCounts", tagCounts)
+                .add("eventCounts", eventCounts)
+                .add("upcomingEventCount", upcomingEventCount)
+                .add("pastEventCount", pastEventCount)
+                .add("completedTodoCount", completedTodoCount)
+                .add("pendingTodoCount", pendingTodoCount)
+                .toString();
+    }
+}
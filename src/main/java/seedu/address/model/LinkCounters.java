@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Keeps the number of persons linked to each event, and the number of open and completed todos linked to each
+ * contact, up to date as persons and todos are added, replaced and removed.
+ * Each update costs constant time, so the counts never require a scan of the lists.
+ */
+class LinkCounters {
+
+    // Links are held as the ids of the linked event and contact, so the counts are keyed by id
+    private final Map<UUID, Integer> attendeeCounts = new HashMap<>();
+    private final Map<UUID, Integer> openTodoCounts = new HashMap<>();
+    private final Map<UUID, Integer> completedTodoCounts = new HashMap<>();
+
+    /**
+     * Recounts everything from {@code persons} and {@code todos}.
+     */
+    void reset(List<Person> persons, List<Todo> todos) {
+        requireNonNull(persons);
+        requireNonNull(todos);
+        attendeeCounts.clear();
+        openTodoCounts.clear();
+        completedTodoCounts.clear();
+        persons.forEach(this::addPerson);
+        todos.forEach(this::addTodo);
+    }
+
+    void addPerson(Person person) {
+        if (person.getEventId() != null) {
+            adjust(attendeeCounts, person.getEventId(), 1);
+        }
+    }
+
+    void removePerson(Person person) {
+        if (person.getEventId() != null) {
+            adjust(attendeeCounts, person.getEventId(), -1);
+        }
+    }
+
+    void addTodo(Todo todo) {
+        if (todo.getContactId() != null) {
+            adjust(todo.getIsCompleted() ? completedTodoCounts : openTodoCounts, todo.getContactId(), 1);
+        }
+    }
+
+    void removeTodo(Todo todo) {
+        if (todo.getContactId() != null) {
+            adjust(todo.getIsCompleted() ? completedTodoCounts : openTodoCounts, todo.getContactId(), -1);
+        }
+    }
+
+    /**
+     * Returns the number of persons linked to the event with id {@code eventId}.
+     */
+    int getAttendeeCount(UUID eventId) {
+        requireNonNull(eventId);
+        return attendeeCounts.getOrDefault(eventId, 0);
+    }
+
+    /**
+     * Returns the number of incomplete todos linked to the contact with id {@code contactId}.
+     */
+    int getOpenTodoCount(UUID contactId) {
+        requireNonNull(contactId);
+        return openTodoCounts.getOrDefault(contactId, 0);
+    }
+
+    /**
+     * Returns the number of completed todos linked to the contact with id {@code contactId}.
+     */
+    int getCompletedTodoCount(UUID contactId) {
+        requireNonNull(contactId);
+        return completedTodoCounts.getOrDefault(contactId, 0);
+    }
+
+    private static void adjust(Map<UUID, Integer> counts, UUID key, int delta) {
+        // Removes the entry once it drops to zero, so that the maps only hold linked keys
+        counts.compute(key, (k, count) -> {
+            int newCount = (count == null ? 0 : count) + delta;
+            return newCount == 0 ? null : newCount;
+        });
+    }
+}
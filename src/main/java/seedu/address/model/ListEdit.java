@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.EntryChange.EntryType;
+
+/**
+ * The replacement of {@code removedSize} entries at {@code from} in the list of persons, events or todos of an
+ * address book by the {@code added} entries, in the same way as a {@code ListChangeListener.Change}.
+ * Applying the edits made to a list in the order they were made turns a copy of the list from before them into the
+ * list as it is after them.
+ * Guarantees: immutable.
+ */
+public class ListEdit {
+
+    private final EntryType entryType;
+    private final int from;
+    private final int removedSize;
+    private final List<?> added;
+
+    /**
+     * Creates an edit of the list of entries of {@code entryType}. The entries in {@code added} must be
+     * {@code Person}s, {@code Event}s or {@code Todo}s as {@code entryType} says.
+     */
+    public ListEdit(EntryType entryType, int from, int removedSize, List<?> added) {
+        requireNonNull(entryType);
+        requireNonNull(added);
+        assert from >= 0 && removedSize >= 0;
+        this.entryType = entryType;
+        this.from = from;
+        this.removedSize = removedSize;
+        this.added = List.copyOf(added);
+    }
+
+    public EntryType getEntryType() {
+        return entryType;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedSize() {
+        return removedSize;
+    }
+
+    /**
+     * Returns the entries added at {@code from}, which are of {@code entryClass}.
+     */
+    public <T> List<T> getAdded(Class<T> entryClass) {
+        return added.stream().map(entryClass::cast).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit otherEdit = (ListEdit) other;
+        return entryType == otherEdit.entryType
+                && from == otherEdit.from
+                && removedSize == otherEdit.removedSize
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entryType, from, removedSize, added);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entryType", entryType)
+                .add("from", from)
+                .add("removedSize", removedSize)
+                .add("added", added.size())
+                .toString();
+    }
+}
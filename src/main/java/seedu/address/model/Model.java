@@ -1,6 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -56,9 +61,59 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the data in {@code addressBook}, but only replaces the entries that have
+     * changed, so that the lists of entries are not reset.
+     */
+    void updateAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the persons, events or todos of the address book change.
+     * Two equal versions mean the address book has not changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Fills in the events and todos of the address book from {@code remainingData} once it is read, for an address
+     * book whose persons, or the first of them, were read first. Persons that were not read first are filled in as
+     * well. If {@code remainingData} fails, the address book is emptied instead.
+     * Neither changes the address book version, as the data is already in storage.
+     */
+    void setPendingAddressBook(CompletableFuture<? extends ReadOnlyAddressBook> remainingData);
+
+    /**
+     * Waits for the data given to {@link #setPendingAddressBook} to be read and fills it in, if that has not been
+     * done yet.
+     */
+    void awaitPendingAddressBook();
+
+    /**
+     * Passes each later change to the persons, events and todos of the address book to {@code changeListener}, as
+     * one add, update or delete per entry. The entries of one change to a list are passed together, in the order
+     * they are in the list. Filling in the data given to {@link #setPendingAddressBook} is not passed on.
+     * Changes are no longer passed on if {@code changeListener} is null.
+     */
+    void setChangeListener(Consumer<List<EntryChange>> changeListener);
+
+    /**
+     * Passes each later change to the persons, events and todos of the address book to {@code editListener}, as the
+     * ranges of the lists that were replaced. The edits of one change are passed together, in the order they must be
+     * applied. Filling in the data given to {@link #setPendingAddressBook} is not passed on.
+     * Edits are no longer passed on if {@code editListener} is null.
+     */
+    void setEditListener(Consumer<List<ListEdit>> editListener);
+
+    /**
+     * Makes every later change to the lists of the address book and to the filtered lists on {@code listThread},
+     * which is where the UI showing them reads them, and waits for each change to be made before returning. Filter
+     * predicates of large lists are still evaluated on the calling thread first. By default, changes are made on
+     * the calling thread.
+     */
+    void setListThread(Executor listThread);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -70,12 +125,24 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given person, and unlinks the todos linked to it, in one update of the lists.
+     * The person must exist in the address book.
+     */
+    void deletePersonAndUnlinkTodos(Person target);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons at the end of the person list as a single change.
+     * None of {@code persons} may already exist in the address book, or be the same as another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -92,6 +159,12 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Narrows the filtered person list down to the persons currently shown that also satisfy {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredPersonList(Predicate<Person> predicate);
+
     /**
      * Returns true if an event with the same identity as {@code event} exists in the address book.
      */
@@ -116,6 +189,12 @@ public interface Model {
      */
     void deleteEvent(Event event);
 
+    /**
+     * Deletes the given event, and unlinks the persons linked to it, in one update of the lists.
+     * The event must exist in the address book.
+     */
+    void deleteEventAndUnlinkPersons(Event event);
+
     /**
      * Returns an unmodifiable view of the event list
      */
@@ -139,6 +218,18 @@ public interface Model {
      */
     void updateFilteredEventList(Predicate<Event> predicate);
 
+    /**
+     * Narrows the filtered event list down to the events currently shown that also satisfy {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredEventList(Predicate<Event> predicate);
+
+    /**
+     * Removes the events and todos of {@code entries}, which must exist in the address book, and unlinks the
+     * persons linked to the removed events.
+     */
+    void removeEntries(ReadOnlyAddressBook entries);
+
     /**
      * Returns true if a todo with the same identity as {@code todo} exists in the address book.
      */
@@ -163,6 +254,31 @@ public interface Model {
      */
     void setTodo(Todo target, Todo editedTodo);
 
+    /**
+     * Returns the number of persons linked to {@code event}.
+     */
+    int getAttendeeCount(Event event);
+
+    /**
+     * Returns the number of incomplete todos linked to {@code person}.
+     */
+    int getOpenTodoCount(Person person);
+
+    /**
+     * Returns the number of completed todos linked to {@code person}.
+     */
+    int getCompletedTodoCount(Person person);
+
+    /**
+     * Returns the event that {@code person} is linked to, if it is linked to one in the address book.
+     */
+    Optional<Event> getLinkedEvent(Person person);
+
+    /**
+     * Returns the contact that {@code todo} is linked to, if it is linked to one in the address book.
+     */
+    Optional<Person> getLinkedContact(Todo todo);
+
     /** Returns an unmodifiable view of the filtered todo list */
     ObservableList<Todo> getFilteredTodoList();
 
@@ -172,4 +288,10 @@ public interface Model {
      */
     void updateFilteredTodoList(Predicate<Todo> predicate);
 
+    /**
+     * Narrows the filtered todo list down to the todos currently shown that also satisfy {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredTodoList(Predicate<Todo> predicate);
+
 }
@@ -4,13 +4,33 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.EntryChange.EntryType;
+import seedu.address.model.EntryChange.Operation;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
@@ -26,6 +46,12 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Todo> filteredTodos;
+    private long addressBookVersion;
+    private CompletableFuture<? extends ReadOnlyAddressBook> pendingAddressBook;
+    private Consumer<List<EntryChange>> changeListener;
+    private Consumer<List<ListEdit>> editListener;
+    private boolean isFillingInPendingData;
+    private volatile Executor listThread = Runnable::run;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,6 +66,81 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
         filteredTodos = new FilteredList<>(this.addressBook.getTodoList());
+
+        ListChangeListener<Object> versionIncrementer = change -> addressBookVersion++;
+        this.addressBook.getPersonList().addListener(versionIncrementer);
+        this.addressBook.getEventList().addListener(versionIncrementer);
+        this.addressBook.getTodoList().addListener(versionIncrementer);
+
+        // equals() leaves out the event a person is linked to, and ignores the case of todo descriptions
+        this.addressBook.getPersonList().addListener(changeRecorder(EntryType.PERSON, Person::getId, (person, other)
+                -> person.equals(other) && Objects.equals(person.getEventId(), other.getEventId())));
+        this.addressBook.getEventList().addListener(changeRecorder(EntryType.EVENT, Event::getId, Event::equals));
+        this.addressBook.getTodoList().addListener(changeRecorder(EntryType.TODO, Todo::getId, (todo, other)
+                -> todo.equals(other) && todo.getTodoDescription().equals(other.getTodoDescription())));
+    }
+
+    /**
+     * Returns a listener that passes the changes to a list of entries of {@code entryType} on to the edit listener
+     * and the change listener, if there are any. The edit listener is given the replaced ranges of the list. For the
+     * change listener, entries are matched by {@code keyOf}, so an entry replaced by one with the same id is an
+     * update, whether it was set in place or removed and added again, unless {@code isUnchanged} finds it the same
+     * as the entry it replaced.
+     */
+    private <T> ListChangeListener<T> changeRecorder(EntryType entryType, Function<T, UUID> keyOf,
+                                                     BiPredicate<T, T> isUnchanged) {
+        return change -> {
+            if ((changeListener == null && editListener == null) || isFillingInPendingData) {
+                return;
+            }
+
+            Instant time = Instant.now();
+            List<ListEdit> edits = new ArrayList<>();
+            Map<UUID, T> removed = new LinkedHashMap<>();
+            List<T> added = new ArrayList<>();
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    continue;
+                }
+                if (change.wasPermutated()) {
+                    // The same entries in a new order, which only changes their positions
+                    int size = change.getTo() - change.getFrom();
+                    edits.add(new ListEdit(entryType, change.getFrom(), size,
+                            change.getList().subList(change.getFrom(), change.getTo())));
+                    continue;
+                }
+                edits.add(new ListEdit(entryType, change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+                for (T entry : change.getRemoved()) {
+                    removed.put(keyOf.apply(entry), entry);
+                }
+                added.addAll(change.getAddedSubList());
+            }
+            if (editListener != null && !edits.isEmpty()) {
+                editListener.accept(edits);
+            }
+            if (changeListener == null) {
+                return;
+            }
+
+            List<EntryChange> entryChanges = new ArrayList<>();
+            for (T entry : added) {
+                UUID key = keyOf.apply(entry);
+                T oldEntry = removed.remove(key);
+                if (oldEntry == null) {
+                    entryChanges.add(new EntryChange(Operation.ADD, entryType, key, time, entry));
+                } else if (!isUnchanged.test(oldEntry, entry)) {
+                    // Entries put back as they were, such as those read again from a file by a restore, are skipped
+                    entryChanges.add(new EntryChange(Operation.UPDATE, entryType, key, time, entry));
+                }
+            }
+            for (UUID key : removed.keySet()) {
+                entryChanges.add(new EntryChange(Operation.DELETE, entryType, key, time, null));
+            }
+            if (!entryChanges.isEmpty()) {
+                changeListener.accept(entryChanges);
+            }
+        };
     }
 
     public ModelManager() {
@@ -85,7 +186,13 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        onListThread(() -> this.addressBook.resetData(addressBook));
+    }
+
+    @Override
+    public void updateAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        onListThread(() -> this.addressBook.updateData(addressBook));
     }
 
     @Override
@@ -93,6 +200,93 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public void setPendingAddressBook(CompletableFuture<? extends ReadOnlyAddressBook> remainingData) {
+        requireNonNull(remainingData);
+        pendingAddressBook = remainingData;
+    }
+
+    @Override
+    public void awaitPendingAddressBook() {
+        if (pendingAddressBook == null) {
+            return;
+        }
+
+        ReadOnlyAddressBook remainingData;
+        try {
+            remainingData = pendingAddressBook.join();
+        } catch (CompletionException | CancellationException e) {
+            logger.warning("Events and todos could not be loaded, starting with an empty address book: "
+                    + e.getCause());
+            remainingData = null;
+        }
+        pendingAddressBook = null;
+
+        ReadOnlyAddressBook filledInData = remainingData;
+        onListThread(() -> {
+            long version = addressBookVersion;
+            isFillingInPendingData = true;
+            try {
+                if (filledInData == null) {
+                    addressBook.resetData(new AddressBook());
+                } else {
+                    if (filledInData.getPersonList().size() != addressBook.getPersonList().size()) {
+                        // Only the first persons were read before the rest of the address book
+                        addressBook.setPersons(filledInData.getPersonList());
+                    }
+                    addressBook.setEvents(filledInData.getEventList());
+                    addressBook.setTodos(filledInData.getTodoList());
+                }
+            } finally {
+                isFillingInPendingData = false;
+            }
+            addressBookVersion = version;
+        });
+    }
+
+    @Override
+    public void setChangeListener(Consumer<List<EntryChange>> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    @Override
+    public void setEditListener(Consumer<List<ListEdit>> editListener) {
+        this.editListener = editListener;
+    }
+
+    @Override
+    public void setListThread(Executor listThread) {
+        requireNonNull(listThread);
+        this.listThread = listThread;
+    }
+
+    /**
+     * Runs {@code change} on the list thread and waits for it. Exceptions thrown by {@code change} are rethrown.
+     */
+    private void onListThread(Runnable change) {
+        FutureTask<Void> task = new FutureTask<>(change, null);
+        listThread.execute(task);
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the lists to be changed");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -101,19 +295,32 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        onListThread(() -> addressBook.removePerson(target));
+    }
+
+    @Override
+    public void deletePersonAndUnlinkTodos(Person target) {
+        requireNonNull(target);
+        onListThread(() -> addressBook.removePersonAndUnlinkTodos(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        onListThread(() -> addressBook.addPerson(person));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        onListThread(() -> addressBook.addPersons(persons));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        addressBook.setPerson(target, editedPerson);
+        onListThread(() -> addressBook.setPerson(target, editedPerson));
     }
 
     @Override
@@ -124,20 +331,26 @@ public class ModelManager implements Model {
 
     @Override
     public void addEvent(Event event) {
-        addressBook.addEvent(event);
+        onListThread(() -> addressBook.addEvent(event));
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
     @Override
     public void deleteEvent(Event event) {
         requireNonNull(event);
-        addressBook.removeEvent(event);
+        onListThread(() -> addressBook.removeEvent(event));
+    }
+
+    @Override
+    public void deleteEventAndUnlinkPersons(Event event) {
+        requireNonNull(event);
+        onListThread(() -> addressBook.removeEventAndUnlinkPersons(event));
     }
 
     @Override
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
-        addressBook.setEvent(target, editedEvent);
+        onListThread(() -> addressBook.setEvent(target, editedEvent));
     }
 
     @Override
@@ -146,23 +359,59 @@ public class ModelManager implements Model {
         return addressBook.hasTodo(todo);
     }
 
+    @Override
+    public void removeEntries(ReadOnlyAddressBook entries) {
+        requireNonNull(entries);
+        onListThread(() -> addressBook.removeEntries(entries));
+    }
+
     @Override
     public void deleteTodo(Todo todo) {
         requireNonNull(todo);
-        addressBook.removeTodo(todo);
+        onListThread(() -> addressBook.removeTodo(todo));
     }
 
     @Override
     public void addTodo(Todo todo) {
         requireNonNull(todo);
-        addressBook.addTodo(todo);
+        onListThread(() -> addressBook.addTodo(todo));
         updateFilteredTodoList(PREDICATE_SHOW_ALL_TODOS);
     }
 
     @Override
     public void setTodo(Todo target, Todo editedTodo) {
         requireAllNonNull(target, editedTodo);
-        addressBook.setTodo(target, editedTodo);
+        onListThread(() -> addressBook.setTodo(target, editedTodo));
+    }
+
+    @Override
+    public int getAttendeeCount(Event event) {
+        requireNonNull(event);
+        return addressBook.getAttendeeCount(event.getId());
+    }
+
+    @Override
+    public int getOpenTodoCount(Person person) {
+        requireNonNull(person);
+        return addressBook.getOpenTodoCount(person.getId());
+    }
+
+    @Override
+    public int getCompletedTodoCount(Person person) {
+        requireNonNull(person);
+        return addressBook.getCompletedTodoCount(person.getId());
+    }
+
+    @Override
+    public Optional<Event> getLinkedEvent(Person person) {
+        requireNonNull(person);
+        return person.getEventId() == null ? Optional.empty() : addressBook.getEvent(person.getEventId());
+    }
+
+    @Override
+    public Optional<Person> getLinkedContact(Todo todo) {
+        requireNonNull(todo);
+        return todo.getContactId() == null ? Optional.empty() : addressBook.getPerson(todo.getContactId());
     }
 
     //=========== Person List Accessors =============================================================
@@ -182,7 +431,13 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filter(filteredPersons, predicate);
+    }
+
+    @Override
+    public void refineFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        refine(filteredPersons, predicate);
     }
 
     //=========== Event List Accessors =======================================================================
@@ -209,7 +464,13 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        filter(filteredEvents, predicate);
+    }
+
+    @Override
+    public void refineFilteredEventList(Predicate<Event> predicate) {
+        requireNonNull(predicate);
+        refine(filteredEvents, predicate);
     }
 
     //=========== Filtered Todo List Accessors =============================================================
@@ -222,7 +483,55 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTodoList(Predicate<Todo> predicate) {
         requireNonNull(predicate);
-        filteredTodos.setPredicate(predicate);
+        filter(filteredTodos, predicate);
+    }
+
+    @Override
+    public void refineFilteredTodoList(Predicate<Todo> predicate) {
+        requireNonNull(predicate);
+        refine(filteredTodos, predicate);
+    }
+
+    /**
+     * Filters {@code filteredList} by {@code predicate}.
+     * Large lists are evaluated in parallel on the calling thread first, so that installing the predicate on the
+     * list thread only looks up precomputed results.
+     */
+    private <T> void filter(FilteredList<T> filteredList, Predicate<T> predicate) {
+        List<? extends T> source = filteredList.getSource();
+        if (source.size() < PredicateEvaluator.PARALLEL_THRESHOLD) {
+            onListThread(() -> filteredList.setPredicate(predicate));
+            return;
+        }
+
+        List<T> matches = PredicateEvaluator.findMatches(source, predicate);
+        install(filteredList, matches.size() == source.size()
+                ? PrecomputedPredicate.matchingAll(predicate)
+                : new PrecomputedPredicate<>(matches, predicate));
+    }
+
+    /**
+     * Narrows {@code filteredList} down to the entries that satisfy both its current predicate and
+     * {@code predicate}. Only the entries currently shown are tested against {@code predicate}.
+     */
+    private <T> void refine(FilteredList<T> filteredList, Predicate<T> predicate) {
+        Predicate<? super T> currentPredicate = filteredList.getPredicate();
+        List<T> matches = PredicateEvaluator.findMatches(filteredList, predicate);
+        Predicate<T> fullPredicate = currentPredicate == null
+                ? predicate
+                : t -> currentPredicate.test(t) && predicate.test(t);
+
+        install(filteredList, new PrecomputedPredicate<>(matches, fullPredicate));
+    }
+
+    /**
+     * Installs {@code predicate} on {@code filteredList} in a single update on the list thread.
+     */
+    private <T> void install(FilteredList<T> filteredList, PrecomputedPredicate<T> predicate) {
+        onListThread(() -> {
+            filteredList.setPredicate(predicate);
+            predicate.markInstalled();
+        });
     }
 
     @Override
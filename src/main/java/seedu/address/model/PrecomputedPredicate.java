@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate whose verdicts for the entries of a list at the time it is installed have already been computed.
+ * While it is being installed, only entries in the precomputed match set pass, so installing it costs a hash
+ * lookup per entry instead of a full evaluation. Once {@link #markInstalled()} is called, the match set is released
+ * and every entry, such as one added or replaced afterwards, is tested against the full predicate.
+ */
+class PrecomputedPredicate<T> implements Predicate<T> {
+
+    // Null if every entry present at installation matched, or once the predicate is installed
+    private Set<T> matches;
+    private final Predicate<? super T> fullPredicate;
+    private boolean isInstalled;
+
+    /**
+     * Creates a {@code PrecomputedPredicate} that matches exactly {@code matches} until it is installed,
+     * and evaluates {@code fullPredicate} for every entry afterwards.
+     */
+    PrecomputedPredicate(Collection<? extends T> matches, Predicate<? super T> fullPredicate) {
+        requireAllNonNull(matches, fullPredicate);
+        this.matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.matches.addAll(matches);
+        this.fullPredicate = fullPredicate;
+    }
+
+    private PrecomputedPredicate(Predicate<? super T> fullPredicate) {
+        requireAllNonNull(fullPredicate);
+        this.matches = null;
+        this.fullPredicate = fullPredicate;
+    }
+
+    /**
+     * Returns a {@code PrecomputedPredicate} that matches every entry until it is installed,
+     * and evaluates {@code fullPredicate} for any entry afterwards.
+     * This avoids holding a match set when every entry is known to match.
+     */
+    static <T> PrecomputedPredicate<T> matchingAll(Predicate<? super T> fullPredicate) {
+        return new PrecomputedPredicate<>(fullPredicate);
+    }
+
+    /**
+     * Signals that the predicate has been applied to every entry present at the time of installation, and releases
+     * the match set, which is not needed any more.
+     */
+    void markInstalled() {
+        isInstalled = true;
+        matches = null;
+    }
+
+    @Override
+    public boolean test(T t) {
+        if (isInstalled) {
+            return fullPredicate.test(t);
+        }
+        return matches == null || matches.contains(t);
+    }
+}
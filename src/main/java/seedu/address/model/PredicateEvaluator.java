@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a predicate against every entry of a list, splitting large lists across a fork/join pool.
+ * Predicates passed in must be free of side effects, as they may be tested concurrently.
+ */
+class PredicateEvaluator {
+
+    /** Lists with at least this many entries are evaluated in parallel. */
+    static final int PARALLEL_THRESHOLD = 10_000;
+
+    /** Number of entries a single fork/join task evaluates serially, a multiple of 64. */
+    private static final int CHUNK_SIZE = 2_048;
+
+    /**
+     * Returns the entries of {@code entries} that satisfy {@code predicate}, in their original order.
+     */
+    static <T> List<T> findMatches(List<? extends T> entries, Predicate<? super T> predicate) {
+        requireAllNonNull(entries, predicate);
+
+        // A plain array snapshot can be read safely from the worker threads
+        Object[] snapshot = entries.toArray();
+        // Every task marks its matches in its own words of the one bit array, so no task allocates its own
+        long[] matchedWords = new long[(snapshot.length + Long.SIZE - 1) / Long.SIZE];
+        if (snapshot.length < PARALLEL_THRESHOLD) {
+            markMatches(snapshot, predicate, matchedWords, 0, snapshot.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new MatchTask<T>(snapshot, predicate, matchedWords, 0, snapshot.length));
+        }
+
+        BitSet matchedIndexes = BitSet.valueOf(matchedWords);
+        List<T> matches = new ArrayList<>(matchedIndexes.cardinality());
+        for (int i = matchedIndexes.nextSetBit(0); i >= 0; i = matchedIndexes.nextSetBit(i + 1)) {
+            matches.add(entryAt(snapshot, i));
+        }
+        return matches;
+    }
+
+    /**
+     * Sets the bits in {@code matchedWords} of the indexes in {@code [from, to)} of {@code snapshot} whose entries
+     * satisfy {@code predicate}.
+     */
+    private static <T> void markMatches(Object[] snapshot, Predicate<? super T> predicate, long[] matchedWords,
+                                        int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (predicate.test(PredicateEvaluator.<T>entryAt(snapshot, i))) {
+                matchedWords[i / Long.SIZE] |= 1L << i;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T entryAt(Object[] snapshot, int index) {
+        return (T) snapshot[index];
+    }
+
+    /**
+     * Marks the indexes in {@code [from, to)} whose entries satisfy the predicate, forking for large ranges.
+     * Ranges are only split at multiples of 64, so concurrent tasks never write to the same word.
+     */
+    private static class MatchTask<T> extends RecursiveAction {
+        private final Object[] snapshot;
+        private final Predicate<? super T> predicate;
+        private final long[] matchedWords;
+        private final int from;
+        private final int to;
+
+        MatchTask(Object[] snapshot, Predicate<? super T> predicate, long[] matchedWords, int from, int to) {
+            this.snapshot = snapshot;
+            this.predicate = predicate;
+            this.matchedWords = matchedWords;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                markMatches(snapshot, predicate, matchedWords, from, to);
+                return;
+            }
+
+            int mid = from + (to - from) / 2 / Long.SIZE * Long.SIZE;
+            invokeAll(new MatchTask<>(snapshot, predicate, matchedWords, from, mid),
+                    new MatchTask<>(snapshot, predicate, matchedWords, mid, to));
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.Optional;
+import java.util.UUID;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -27,4 +30,18 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate todos.
      */
     ObservableList<Todo> getTodoList();
+
+    /**
+     * Returns the person with id {@code id}, if there is one.
+     */
+    default Optional<Person> getPerson(UUID id) {
+        return getPersonList().stream().filter(person -> person.getId().equals(id)).findFirst();
+    }
+
+    /**
+     * Returns the event with id {@code id}, if there is one.
+     */
+    default Optional<Event> getEvent(UUID id) {
+        return getEventList().stream().filter(event -> event.getId().equals(id)).findFirst();
+    }
 }
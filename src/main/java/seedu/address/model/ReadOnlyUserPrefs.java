@@ -2,6 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.BackupPolicy;
+import seedu.address.commons.core.ChangeFeedPolicy;
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +16,30 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book data file should be written without indentation and line breaks.
+     */
+    boolean isDataFileCompact();
+
+    /**
+     * Returns how the address book data files should be compressed when they are written.
+     */
+    DataFileCompression getDataFileCompression();
+
+    /**
+     * Returns the number of days after their end that events are archived at launch, together with the completed
+     * todos, or 0 if nothing is archived automatically.
+     */
+    int getAutoArchiveAfterDays();
+
+    /**
+     * Returns how often the address book is backed up, and how many of its backups are kept.
+     */
+    BackupPolicy getBackupPolicy();
+
+    /**
+     * Returns whether changes to the address book are recorded in the change feed, and how large its files grow.
+     */
+    ChangeFeedPolicy getChangeFeedPolicy();
+
 }
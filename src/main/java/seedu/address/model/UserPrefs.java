@@ -6,6 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.BackupPolicy;
+import seedu.address.commons.core.ChangeFeedPolicy;
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +18,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean isDataFileCompact = false;
+    private DataFileCompression dataFileCompression = new DataFileCompression();
+    private int autoArchiveAfterDays = 0;
+    private BackupPolicy backupPolicy = new BackupPolicy();
+    private ChangeFeedPolicy changeFeedPolicy = new ChangeFeedPolicy();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataFileCompact(newUserPrefs.isDataFileCompact());
+        setDataFileCompression(newUserPrefs.getDataFileCompression());
+        setAutoArchiveAfterDays(newUserPrefs.getAutoArchiveAfterDays());
+        setBackupPolicy(newUserPrefs.getBackupPolicy());
+        setChangeFeedPolicy(newUserPrefs.getChangeFeedPolicy());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +69,49 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    public DataFileCompression getDataFileCompression() {
+        return dataFileCompression;
+    }
+
+    public void setDataFileCompression(DataFileCompression dataFileCompression) {
+        requireNonNull(dataFileCompression);
+        this.dataFileCompression = dataFileCompression;
+    }
+
+    public int getAutoArchiveAfterDays() {
+        return autoArchiveAfterDays;
+    }
+
+    public void setAutoArchiveAfterDays(int autoArchiveAfterDays) {
+        this.autoArchiveAfterDays = autoArchiveAfterDays;
+    }
+
+    public BackupPolicy getBackupPolicy() {
+        return backupPolicy;
+    }
+
+    public void setBackupPolicy(BackupPolicy backupPolicy) {
+        requireNonNull(backupPolicy);
+        this.backupPolicy = backupPolicy;
+    }
+
+    public ChangeFeedPolicy getChangeFeedPolicy() {
+        return changeFeedPolicy;
+    }
+
+    public void setChangeFeedPolicy(ChangeFeedPolicy changeFeedPolicy) {
+        requireNonNull(changeFeedPolicy);
+        this.changeFeedPolicy = changeFeedPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +125,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isDataFileCompact == otherUserPrefs.isDataFileCompact
+                && dataFileCompression.equals(otherUserPrefs.dataFileCompression)
+                && autoArchiveAfterDays == otherUserPrefs.autoArchiveAfterDays
+                && backupPolicy.equals(otherUserPrefs.backupPolicy)
+                && changeFeedPolicy.equals(otherUserPrefs.changeFeedPolicy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isDataFileCompact, dataFileCompression,
+                autoArchiveAfterDays, backupPolicy, changeFeedPolicy);
     }
 
     @Override
@@ -82,6 +144,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data file : " + isDataFileCompact);
+        sb.append("\nData file compression : " + dataFileCompression);
+        sb.append("\nAuto archive after days : " + autoArchiveAfterDays);
+        sb.append("\nBackup policy : " + backupPolicy);
+        sb.append("\nChange feed policy : " + changeFeedPolicy);
         return sb.toString();
     }
 
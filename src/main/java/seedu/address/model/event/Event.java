@@ -3,12 +3,14 @@ package seedu.address.model.event;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Represents an Event in the address book.
  *
  */
 public class Event {
+    private final UUID id; // surrogate key that stays the same across edits, not part of equality
     private final EventName name;
     private final EventAlias alias;
     private final LocalDateTime start;
@@ -16,7 +18,7 @@ public class Event {
     private final String description;
 
     /**
-     * Constructs an Event with the specified details.
+     * Constructs an Event with the specified details and a freshly generated id.
      * @param name The name of the event. Must not be null and must be a valid event name.
      * @param start The start date and time of the event. Must not be null.
      * @param end The end date and time of the event. Must not be null.
@@ -26,7 +28,19 @@ public class Event {
      */
     public Event(EventName name, EventAlias alias,
                  LocalDateTime start, LocalDateTime end, String description) {
-        requireAllNonNull(name, alias, start, end, description);
+        this(UUID.randomUUID(), name, alias, start, end, description);
+    }
+
+    /**
+     * Constructs an Event with the specified id and details.
+     * @param id The id of the event. Must not be null.
+     * @throws NullPointerException if any parameter is null.
+     * @throws IllegalArgumentException if start time is after end time.
+     */
+    public Event(UUID id, EventName name, EventAlias alias,
+                 LocalDateTime start, LocalDateTime end, String description) {
+        requireAllNonNull(id, name, alias, start, end, description);
+        this.id = id;
         this.name = name;
         this.alias = alias;
         if (!start.isBefore(end)) {
@@ -37,6 +51,10 @@ public class Event {
         this.description = description;
     }
 
+    public UUID getId() {
+        return this.id;
+    }
+
     /**
      * Returns the name of the event as a string.
      */
@@ -0,0 +1,51 @@
+package seedu.address.model.event;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Event}'s name, alias or description contains any of the keywords given as a whole word.
+ */
+public class EventContainsKeywordsPredicate implements Predicate<Event> {
+    private final List<String> keywords;
+
+    public EventContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Event event) {
+        return keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getName(), keyword)
+                        || StringUtil.containsWordIgnoreCase(event.getAlias(), keyword)
+                        || StringUtil.containsWordIgnoreCase(event.getDescription(), keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        EventContainsKeywordsPredicate otherPredicate = (EventContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -2,9 +2,17 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.updateList;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,12 +21,13 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
- *
+ * Events can also be looked up by id.
  **/
 public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, Event> eventsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
@@ -38,11 +47,13 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        eventsById.put(toAdd.getId(), toAdd);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     public void setEvents(List<Event> events) {
@@ -52,6 +63,22 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.setAll(events);
+        reindex();
+    }
+
+    /**
+     * Changes the contents of this list to {@code events}, replacing only the ranges of entries that are not the same
+     * instances as in {@code events}, so that observers are told about the changed entries only.
+     * {@code events} must not contain duplicate events.
+     */
+    public void updateEvents(List<Event> events) {
+        requireAllNonNull(events);
+        if (!eventsAreUnique(events)) {
+            throw new DuplicateEventException();
+        }
+
+        updateList(internalList, events);
+        reindex();
     }
 
     /**
@@ -60,9 +87,11 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        eventsById.remove(internalList.remove(index).getId());
     }
 
     /**
@@ -83,6 +112,16 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, editedEvent);
+        eventsById.remove(target.getId());
+        eventsById.put(editedEvent.getId(), editedEvent);
+    }
+
+    /**
+     * Returns the event with id {@code id}, if there is one in the list.
+     */
+    public Optional<Event> get(UUID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(eventsById.get(id));
     }
 
     public ObservableList<Event> asUnmodifiableObservableList() {
@@ -123,13 +162,18 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        // Same events have aliases that are equal ignoring case
+        Set<String> aliases = new HashSet<>();
+        for (Event event : events) {
+            if (!aliases.add(event.getAlias().toLowerCase(Locale.ROOT))) {
+                return false;
             }
         }
         return true;
     }
+
+    private void reindex() {
+        eventsById.clear();
+        internalList.forEach(event -> eventsById.put(event.getId(), event));
+    }
 }
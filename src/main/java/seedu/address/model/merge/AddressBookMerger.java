@@ -0,0 +1,317 @@
+package seedu.address.model.merge;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EntryChange.EntryType;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.merge.EntryHashTree.Difference;
+import seedu.address.model.merge.MergeConflict.Reason;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Merges the changes made in another copy of an address book into the address book, given the copy both started
+ * from (three-way merge).
+ * <p>
+ * Entries are matched by id. An entry changed only in the other copy takes the other copy's version; an entry changed
+ * only in the address book keeps its version. An entry changed in both, differently, is a conflict and keeps the
+ * address book's version. The changes on each side are found by comparing {@link EntryHashTree}s with the base copy,
+ * so the work spent on entries that are the same on both sides is hashing them once.
+ * <p>
+ * Changes taken from the other copy that would clash with another entry, or leave a person linked to a missing event
+ * or a todo to a missing person, are undone and recorded as conflicts.
+ */
+public class AddressBookMerger {
+
+    private static final EntryKind<Person> PERSONS = new EntryKind<>(EntryType.PERSON, Person::getId,
+            EntryHashes::hashOf, person -> person.getName().fullName.toLowerCase(Locale.ROOT),
+            person -> person.getName().fullName);
+    private static final EntryKind<Event> EVENTS = new EntryKind<>(EntryType.EVENT, Event::getId,
+            EntryHashes::hashOf, event -> event.getAlias().toLowerCase(Locale.ROOT), Event::getAlias);
+    private static final EntryKind<Todo> TODOS = new EntryKind<>(EntryType.TODO, Todo::getId,
+            EntryHashes::hashOf, todo -> todo.getTodoName().todoName.toLowerCase(Locale.ROOT) + "\n"
+                    + todo.getTodoDescription().toLowerCase(Locale.ROOT), todo -> todo.getTodoName().todoName);
+
+    private final List<MergeConflict> conflicts = new ArrayList<>();
+
+    private AddressBookMerger() {}
+
+    /**
+     * Merges the changes from {@code base} to {@code other} into the changes from {@code base} to {@code current},
+     * and returns the merged address book. None of the address books are changed.
+     */
+    public static MergeResult merge(ReadOnlyAddressBook base, ReadOnlyAddressBook current,
+                                    ReadOnlyAddressBook other) {
+        requireAllNonNull(base, current, other);
+        AddressBookMerger merger = new AddressBookMerger();
+        MergedEntries<Event> events = merger.mergeEntries(EVENTS, base.getEventList(), current.getEventList(),
+                other.getEventList());
+        MergedEntries<Person> persons = merger.mergeEntries(PERSONS, base.getPersonList(), current.getPersonList(),
+                other.getPersonList());
+        MergedEntries<Todo> todos = merger.mergeEntries(TODOS, base.getTodoList(), current.getTodoList(),
+                other.getTodoList());
+
+        boolean isUndone = true;
+        // Undoing a change brings back the address book's version, which may clash with or link to another change
+        while (isUndone) {
+            isUndone = merger.keepUnique(events);
+            isUndone |= merger.keepUnique(persons);
+            isUndone |= merger.keepUnique(todos);
+            isUndone |= merger.keepLinks(persons, Person::getEventId, events);
+            isUndone |= merger.keepLinks(todos, Todo::getContactId, persons);
+        }
+
+        AddressBook merged = new AddressBook();
+        merged.setEvents(events.toList());
+        merged.setPersons(persons.toList());
+        merged.setTodos(todos.toList());
+        int addedCount = events.countAdded() + persons.countAdded() + todos.countAdded();
+        int updatedCount = events.countUpdated() + persons.countUpdated() + todos.countUpdated();
+        int deletedCount = events.deletedEntries.size() + persons.deletedEntries.size() + todos.deletedEntries.size();
+        return new MergeResult(merged, addedCount, updatedCount, deletedCount, merger.conflicts);
+    }
+
+    /**
+     * Returns {@code current} with the changes from {@code base} to {@code other} that do not conflict applied.
+     */
+    private <T> MergedEntries<T> mergeEntries(EntryKind<T> kind, List<T> base, List<T> current, List<T> other) {
+        MergedEntries<T> merged = new MergedEntries<>(kind);
+        int depth = EntryHashTree.depthFor(Math.max(base.size(), Math.max(current.size(), other.size())));
+        EntryHashTree<T> baseTree = new EntryHashTree<>(base, kind.keyOf, kind.contentHashOf, depth);
+        List<Difference<T>> otherChanges = baseTree.diff(
+                new EntryHashTree<>(other, kind.keyOf, kind.contentHashOf, depth));
+        if (otherChanges.isEmpty()) {
+            merged.entries.addAll(current);
+            return merged;
+        }
+        Map<UUID, Difference<T>> currentChanges = new HashMap<>();
+        for (Difference<T> change : baseTree.diff(
+                new EntryHashTree<>(current, kind.keyOf, kind.contentHashOf, depth))) {
+            currentChanges.put(change.getKey(), change);
+        }
+
+        // The other copy's versions of the entries to change, or null for those to delete
+        Map<UUID, T> replacements = new HashMap<>();
+        List<T> additions = new ArrayList<>();
+        for (Difference<T> otherChange : otherChanges) {
+            T otherEntry = otherChange.getOtherEntry();
+            Difference<T> currentChange = currentChanges.get(otherChange.getKey());
+            if (currentChange == null) {
+                if (otherChange.getEntry() == null) {
+                    additions.add(otherEntry);
+                } else {
+                    replacements.put(otherChange.getKey(), otherEntry);
+                }
+                continue;
+            }
+
+            T currentEntry = currentChange.getOtherEntry();
+            if (currentEntry == null && otherEntry == null) {
+                continue;
+            }
+            if (currentEntry == null) {
+                conflicts.add(new MergeConflict(kind.type, kind.labelOf.apply(otherEntry), Reason.DELETED_HERE));
+            } else if (otherEntry == null) {
+                conflicts.add(new MergeConflict(kind.type, kind.labelOf.apply(currentEntry),
+                        Reason.DELETED_IN_OTHER));
+            } else if (kind.contentHashOf.applyAsLong(currentEntry) != kind.contentHashOf.applyAsLong(otherEntry)) {
+                conflicts.add(new MergeConflict(kind.type, kind.labelOf.apply(currentEntry),
+                        Reason.CHANGED_IN_BOTH));
+            }
+        }
+
+        for (T entry : current) {
+            UUID key = kind.keyOf.apply(entry);
+            if (!replacements.containsKey(key)) {
+                merged.entries.add(entry);
+                continue;
+            }
+            T replacement = replacements.get(key);
+            if (replacement == null) {
+                // Left as a null, so that the deletion can be undone in place
+                merged.deletedPositions.add(merged.entries.size());
+                merged.deletedEntries.add(entry);
+                merged.entries.add(null);
+                continue;
+            }
+            merged.takenPositions.add(merged.entries.size());
+            merged.replacedEntries.add(entry);
+            merged.entries.add(replacement);
+        }
+        for (T addition : additions) {
+            merged.takenPositions.add(merged.entries.size());
+            merged.replacedEntries.add(null);
+            merged.entries.add(addition);
+        }
+        return merged;
+    }
+
+    /**
+     * Undoes the changes taken from the other copy that would make two entries of {@code merged} the same entry,
+     * such as two persons with the same name, and records them as conflicts. Additions undone are left as nulls.
+     * Returns true if any change was undone.
+     */
+    private <T> boolean keepUnique(MergedEntries<T> merged) {
+        EntryKind<T> kind = merged.kind;
+        boolean isUndone = false;
+        boolean hasClash = true;
+        // Undoing a change brings back the entry it replaced, which may clash with another change taken
+        while (hasClash) {
+            Map<String, Integer> identityCounts = new HashMap<>();
+            for (T entry : merged.entries) {
+                if (entry != null) {
+                    identityCounts.merge(kind.identityOf.apply(entry), 1, Integer::sum);
+                }
+            }
+
+            hasClash = false;
+            for (int i = merged.takenPositions.size() - 1; i >= 0; i--) {
+                T taken = merged.entries.get(merged.takenPositions.get(i));
+                if (identityCounts.get(kind.identityOf.apply(taken)) == 1) {
+                    continue;
+                }
+                conflicts.add(new MergeConflict(kind.type, kind.labelOf.apply(taken), Reason.DUPLICATE));
+                merged.undoTaken(i);
+                hasClash = true;
+                isUndone = true;
+            }
+        }
+        return isUndone;
+    }
+
+    /**
+     * Makes every entry of {@code linking} that is linked by {@code linkOf} to an entry that is not in
+     * {@code linked} keep its link, and records the changes undone for it as conflicts: the linked entry is brought
+     * back if its deletion was taken from the other copy, and otherwise the change that made the link is undone.
+     * Returns true if any change was undone.
+     */
+    private <T, U> boolean keepLinks(MergedEntries<T> linking, Function<T, UUID> linkOf, MergedEntries<U> linked) {
+        Set<UUID> linkedKeys = new HashSet<>();
+        for (U entry : linked.entries) {
+            if (entry != null) {
+                linkedKeys.add(linked.kind.keyOf.apply(entry));
+            }
+        }
+
+        boolean isUndone = false;
+        for (int position = 0; position < linking.entries.size(); position++) {
+            T entry = linking.entries.get(position);
+            UUID link = entry == null ? null : linkOf.apply(entry);
+            if (link == null || linkedKeys.contains(link)) {
+                continue;
+            }
+
+            int deletion = linked.indexOfDeletion(link);
+            if (deletion != -1) {
+                U deleted = linked.deletedEntries.get(deletion);
+                conflicts.add(new MergeConflict(linked.kind.type, linked.kind.labelOf.apply(deleted),
+                        Reason.STILL_LINKED));
+                linked.undoDeletion(deletion);
+                linkedKeys.add(link);
+                isUndone = true;
+                continue;
+            }
+            int taken = linking.takenPositions.indexOf(position);
+            if (taken != -1) {
+                conflicts.add(new MergeConflict(linking.kind.type, linking.kind.labelOf.apply(entry),
+                        Reason.MISSING_LINK));
+                linking.undoTaken(taken);
+                isUndone = true;
+            }
+        }
+        return isUndone;
+    }
+
+    /**
+     * How the entries of one list of an address book are keyed, hashed and named.
+     */
+    private static class EntryKind<T> {
+        private final EntryType type;
+        private final Function<T, UUID> keyOf;
+        private final ToLongFunction<T> contentHashOf;
+        // Entries with equal identities may not both be in an address book
+        private final Function<T, String> identityOf;
+        private final Function<T, String> labelOf;
+
+        EntryKind(EntryType type, Function<T, UUID> keyOf, ToLongFunction<T> contentHashOf,
+                  Function<T, String> identityOf, Function<T, String> labelOf) {
+            this.type = type;
+            this.keyOf = keyOf;
+            this.contentHashOf = contentHashOf;
+            this.identityOf = identityOf;
+            this.labelOf = labelOf;
+        }
+    }
+
+    /**
+     * One merged list of entries, with the changes taken from the other copy so that they can be undone in place.
+     * Deleted entries and additions that were undone are left as nulls until the list is done.
+     */
+    private static class MergedEntries<T> {
+        private final EntryKind<T> kind;
+        private final List<T> entries = new ArrayList<>();
+        // Where the entries taken from the other copy are, and what they replaced, or null for additions
+        private final List<Integer> takenPositions = new ArrayList<>();
+        private final List<T> replacedEntries = new ArrayList<>();
+        // Where the entries deleted by the other copy were, and the entries themselves
+        private final List<Integer> deletedPositions = new ArrayList<>();
+        private final List<T> deletedEntries = new ArrayList<>();
+
+        MergedEntries(EntryKind<T> kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * Puts back the entry replaced by the {@code i}th change taken, or removes the entry if it was added.
+         */
+        void undoTaken(int i) {
+            entries.set(takenPositions.remove(i), replacedEntries.remove(i));
+        }
+
+        /**
+         * Returns the index of the deletion of the entry keyed {@code key}, or -1 if it was not deleted.
+         */
+        int indexOfDeletion(UUID key) {
+            for (int i = 0; i < deletedEntries.size(); i++) {
+                if (kind.keyOf.apply(deletedEntries.get(i)).equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Puts back the entry removed by the {@code i}th deletion taken.
+         */
+        void undoDeletion(int i) {
+            entries.set(deletedPositions.remove(i), deletedEntries.remove(i));
+        }
+
+        int countAdded() {
+            return (int) replacedEntries.stream().filter(entry -> entry == null).count();
+        }
+
+        int countUpdated() {
+            return replacedEntries.size() - countAdded();
+        }
+
+        List<T> toList() {
+            List<T> list = new ArrayList<>(entries);
+            list.removeIf(entry -> entry == null);
+            return list;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.model.merge;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A hash tree (Merkle tree) over one list of entries, such as the persons of an address book, keyed by their ids.
+ * <p>
+ * Entries are put into {@code 2^depth} leaves by the leading bits of their ids, and each node holds a hash of all the
+ * entries below it. Two trees of the same depth can then be compared from the root down, skipping every subtree whose
+ * hashes are equal, so only the leaves that hold differing entries are looked into.
+ */
+public class EntryHashTree<T> {
+
+    /** The number of entries a leaf holds on average in a tree of the depth returned by {@link #depthFor(int)}. */
+    static final int ENTRIES_PER_LEAF = 8;
+
+    private static final int MAX_DEPTH = 20;
+
+    private final int depth;
+    private final List<T> entries;
+    // The entries in leaf order: the entries of leaf i are at positions leafStarts[i] to leafStarts[i + 1]
+    private final int[] leafStarts;
+    private final UUID[] keys;
+    private final long[] contentHashes;
+    private final int[] entryIndexes;
+    // nodeHashes[1] is the root, the children of node i are nodes 2i and 2i + 1, and the leaves come last
+    private final long[] nodeHashes;
+
+    /**
+     * Builds a tree of {@code depth} over {@code entries}, which are keyed by {@code keyOf} and whose content is
+     * hashed by {@code contentHashOf}. The keys must be unique.
+     */
+    public EntryHashTree(List<T> entries, Function<T, UUID> keyOf, ToLongFunction<T> contentHashOf, int depth) {
+        requireNonNull(entries);
+        checkArgument(depth >= 0 && depth <= MAX_DEPTH);
+        this.depth = depth;
+        this.entries = entries;
+
+        int leafCount = 1 << depth;
+        int size = entries.size();
+        UUID[] entryKeys = new UUID[size];
+        int[] entryLeaves = new int[size];
+        leafStarts = new int[leafCount + 1];
+        for (int i = 0; i < size; i++) {
+            entryKeys[i] = keyOf.apply(entries.get(i));
+            entryLeaves[i] = leafOf(entryKeys[i]);
+            leafStarts[entryLeaves[i] + 1]++;
+        }
+        for (int leaf = 0; leaf < leafCount; leaf++) {
+            leafStarts[leaf + 1] += leafStarts[leaf];
+        }
+
+        // Counting sort of the entries by leaf
+        keys = new UUID[size];
+        contentHashes = new long[size];
+        entryIndexes = new int[size];
+        nodeHashes = new long[2 * leafCount];
+        int[] nextPositions = leafStarts.clone();
+        for (int i = 0; i < size; i++) {
+            int leaf = entryLeaves[i];
+            int position = nextPositions[leaf]++;
+            keys[position] = entryKeys[i];
+            contentHashes[position] = contentHashOf.applyAsLong(entries.get(i));
+            entryIndexes[position] = i;
+            // Entries are added up, so that the hash of a leaf does not depend on the order of its entries
+            nodeHashes[leafCount + leaf] += EntryHashes.hashOf(entryKeys[i], contentHashes[position]);
+        }
+        for (int node = leafCount - 1; node >= 1; node--) {
+            nodeHashes[node] = EntryHashes.combine(nodeHashes[2 * node], nodeHashes[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Returns the depth of a tree that holds about {@link #ENTRIES_PER_LEAF} entries per leaf when built over
+     * {@code size} entries.
+     */
+    public static int depthFor(int size) {
+        int depth = 0;
+        while (depth < MAX_DEPTH && ((long) ENTRIES_PER_LEAF << depth) < size) {
+            depth++;
+        }
+        return depth;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the hash of all the entries of the tree.
+     */
+    public long getRootHash() {
+        return nodeHashes[1];
+    }
+
+    private int leafOf(UUID key) {
+        return depth == 0 ? 0 : (int) (key.getMostSignificantBits() >>> (Long.SIZE - depth));
+    }
+
+    /**
+     * Returns the entries that differ between this tree and {@code other}, which must have the same depth: those
+     * whose keys are in only one of the trees, and those whose content differs.
+     */
+    public List<Difference<T>> diff(EntryHashTree<T> other) {
+        requireNonNull(other);
+        checkArgument(depth == other.depth);
+        List<Difference<T>> differences = new ArrayList<>();
+        int leafCount = 1 << depth;
+        int[] pendingNodes = new int[Long.SIZE];
+        int pendingCount = 0;
+        pendingNodes[pendingCount++] = 1;
+        while (pendingCount > 0) {
+            int node = pendingNodes[--pendingCount];
+            if (nodeHashes[node] == other.nodeHashes[node]) {
+                continue;
+            }
+            if (node >= leafCount) {
+                diffLeaf(other, node - leafCount, differences);
+            } else {
+                // The right child is taken last, so the leaves are compared from left to right
+                pendingNodes[pendingCount++] = 2 * node + 1;
+                pendingNodes[pendingCount++] = 2 * node;
+            }
+        }
+        return differences;
+    }
+
+    private void diffLeaf(EntryHashTree<T> other, int leaf, List<Difference<T>> differences) {
+        int otherStart = other.leafStarts[leaf];
+        int otherEnd = other.leafStarts[leaf + 1];
+        // Leaves hold a few entries, so they are matched by scanning
+        boolean[] isMatched = new boolean[otherEnd - otherStart];
+        for (int i = leafStarts[leaf]; i < leafStarts[leaf + 1]; i++) {
+            int match = -1;
+            for (int j = otherStart; j < otherEnd; j++) {
+                if (keys[i].equals(other.keys[j])) {
+                    match = j;
+                    break;
+                }
+            }
+            if (match < 0) {
+                differences.add(new Difference<>(keys[i], entryAt(i), null));
+                continue;
+            }
+            isMatched[match - otherStart] = true;
+            if (contentHashes[i] != other.contentHashes[match]) {
+                differences.add(new Difference<>(keys[i], entryAt(i), other.entryAt(match)));
+            }
+        }
+        for (int j = otherStart; j < otherEnd; j++) {
+            if (!isMatched[j - otherStart]) {
+                differences.add(new Difference<>(other.keys[j], null, other.entryAt(j)));
+            }
+        }
+    }
+
+    private T entryAt(int position) {
+        return entries.get(entryIndexes[position]);
+    }
+
+    /**
+     * An entry that differs between two trees, with its version in each tree, or null if it is not in that tree.
+     */
+    public static class Difference<T> {
+        private final UUID key;
+        private final T entry;
+        private final T otherEntry;
+
+        Difference(UUID key, T entry, T otherEntry) {
+            this.key = key;
+            this.entry = entry;
+            this.otherEntry = otherEntry;
+        }
+
+        public UUID getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the version of the entry in the tree {@code diff} was called on, or null if it is not in it.
+         */
+        public T getEntry() {
+            return entry;
+        }
+
+        /**
+         * Returns the version of the entry in the tree passed to {@code diff}, or null if it is not in it.
+         */
+        public T getOtherEntry() {
+            return otherEntry;
+        }
+    }
+}
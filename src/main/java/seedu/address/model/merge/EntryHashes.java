@@ -0,0 +1,127 @@
+package seedu.address.model.merge;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Computes 64-bit hashes of the content of entries, which are equal for entries whose saved fields are all equal.
+ * Unlike {@code equals}, the hashes tell apart every field that is saved, case included, such as the id of a person's
+ * linked event.
+ */
+public class EntryHashes {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    // Larger than any char, so that a missing field hashes differently from every string
+    private static final long NULL_MARKER = 0x10000L;
+
+    private EntryHashes() {}
+
+    /**
+     * Returns the hash of the fields of {@code person}, excluding its id.
+     */
+    public static long hashOf(Person person) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, person.getName().fullName);
+        hash = hash(hash, person.getPhone().value);
+        hash = hash(hash, person.getEmail().value);
+        hash = hash(hash, person.getAddress().value);
+        // Tags are a set, so they are combined in a way that does not depend on their order
+        long tagsHash = 0;
+        for (Tag tag : person.getTags()) {
+            tagsHash += mix(hash(FNV_OFFSET_BASIS, tag.tagName));
+        }
+        hash = hash(hash, tagsHash);
+        hash = hash(hash, person.getEventId());
+        return mix(hash);
+    }
+
+    /**
+     * Returns the hash of the fields of {@code event}, excluding its id.
+     */
+    public static long hashOf(Event event) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, event.getName());
+        hash = hash(hash, event.getAlias());
+        hash = hash(hash, event.getStart());
+        hash = hash(hash, event.getEnd());
+        hash = hash(hash, event.getDescription());
+        return mix(hash);
+    }
+
+    /**
+     * Returns the hash of the fields of {@code todo}, excluding its id.
+     */
+    public static long hashOf(Todo todo) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, todo.getTodoName().todoName);
+        hash = hash(hash, todo.getTodoDescription());
+        hash = hash(hash, todo.getContactId());
+        hash = hash(hash, todo.getIsCompleted() ? 1 : 0);
+        return mix(hash);
+    }
+
+    /**
+     * Returns the hash of an entry keyed by {@code key} whose fields hash to {@code contentHash}, so that equal
+     * content under different keys hashes differently.
+     */
+    static long hashOf(UUID key, long contentHash) {
+        return mix(contentHash ^ mix(key.getMostSignificantBits()) ^ mix(key.getLeastSignificantBits() + 1));
+    }
+
+    /**
+     * Returns the hash of the two hashes {@code left} and {@code right}, in that order.
+     */
+    static long combine(long left, long right) {
+        return mix(left * FNV_PRIME + Long.rotateLeft(right, 31));
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return (hash ^ NULL_MARKER) * FNV_PRIME;
+        }
+        long result = hash;
+        for (int i = 0; i < value.length(); i++) {
+            result = (result ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // The length ends the field, so that moving characters from one field to the next changes the hash
+        return (result ^ value.length()) * FNV_PRIME;
+    }
+
+    private static long hash(long hash, LocalDateTime value) {
+        if (value == null) {
+            return (hash ^ NULL_MARKER) * FNV_PRIME;
+        }
+        return hash(hash(hash, value.toEpochSecond(ZoneOffset.UTC)), value.getNano());
+    }
+
+    private static long hash(long hash, UUID value) {
+        if (value == null) {
+            return (hash ^ NULL_MARKER) * FNV_PRIME;
+        }
+        return hash(hash(hash, value.getMostSignificantBits()), value.getLeastSignificantBits());
+    }
+
+    private static long hash(long hash, long value) {
+        return (hash ^ mix(value)) * FNV_PRIME;
+    }
+
+    /**
+     * Spreads the bits of {@code value} over the whole hash (the finalizer of MurmurHash3).
+     */
+    static long mix(long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb3fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.merge;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.EntryChange.EntryType;
+
+/**
+ * An entry that was changed both in the address book and in the other data file of a merge, in different ways, or
+ * whose change from the other data file would clash with another entry or break a link between entries. The address
+ * book keeps its own version.
+ */
+public class MergeConflict {
+
+    /**
+     * Why the change from the other data file could not be taken.
+     */
+    public enum Reason {
+        /** Both sides changed the entry, differently. */
+        CHANGED_IN_BOTH("changed in both"),
+        /** The address book changed the entry, and the other data file deleted it. */
+        DELETED_IN_OTHER("changed here but deleted in the other file"),
+        /** The address book deleted the entry, and the other data file changed it. */
+        DELETED_HERE("deleted here but changed in the other file"),
+        /** The other data file's version has the same name or alias as another entry. */
+        DUPLICATE("the other file's version clashes with another entry"),
+        /** The other data file's version links to an event or contact that is not in the merged address book. */
+        MISSING_LINK("the other file's version links to an entry that is not here"),
+        /** The other data file deleted the entry, but an entry in the merged address book still links to it. */
+        STILL_LINKED("deleted in the other file but still linked to here");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final EntryType entryType;
+    private final String label;
+    private final Reason reason;
+
+    /**
+     * Creates a conflict over the entry of {@code entryType} named {@code label}.
+     */
+    public MergeConflict(EntryType entryType, String label, Reason reason) {
+        requireAllNonNull(entryType, label, reason);
+        this.entryType = entryType;
+        this.label = label;
+        this.reason = reason;
+    }
+
+    public EntryType getEntryType() {
+        return entryType;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns a line describing the conflict to the user.
+     */
+    public String describe() {
+        return entryType.name().toLowerCase(Locale.ROOT) + " " + label + ": " + reason;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MergeConflict)) {
+            return false;
+        }
+
+        MergeConflict otherMergeConflict = (MergeConflict) other;
+        return entryType == otherMergeConflict.entryType
+                && label.equals(otherMergeConflict.label)
+                && reason == otherMergeConflict.reason;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entryType, label, reason);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entryType", entryType)
+                .add("label", label)
+                .add("reason", reason)
+                .toString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.merge;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The result of merging the changes of another data file into the address book.
+ */
+public class MergeResult {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final int addedCount;
+    private final int updatedCount;
+    private final int deletedCount;
+    private final List<MergeConflict> conflicts;
+
+    /**
+     * Creates a result holding the merged {@code addressBook}, into which {@code addedCount} entries were added,
+     * {@code updatedCount} updated and {@code deletedCount} deleted from the other data file, and the
+     * {@code conflicts} that kept the address book's own version.
+     */
+    public MergeResult(ReadOnlyAddressBook addressBook, int addedCount, int updatedCount, int deletedCount,
+                       List<MergeConflict> conflicts) {
+        requireAllNonNull(addressBook, conflicts);
+        this.addressBook = addressBook;
+        this.addedCount = addedCount;
+        this.updatedCount = updatedCount;
+        this.deletedCount = deletedCount;
+        this.conflicts = Collections.unmodifiableList(conflicts);
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    public List<MergeConflict> getConflicts() {
+        return conflicts;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("addedCount", addedCount)
+                .add("updatedCount", updatedCount)
+                .add("deletedCount", deletedCount)
+                .add("conflicts", conflicts)
+                .toString();
+    }
+}
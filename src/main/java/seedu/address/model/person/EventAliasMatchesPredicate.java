@@ -1,26 +1,56 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.EventAlias;
 
 /**
- * Tests that a {@code Person}'s {@code linkedEventAlias} matches the given EventAlias.
+ * Tests that the alias of the event a {@code Person} is linked to matches the given EventAlias.
+ * Linked events are looked up by the person's event id in an address book of events, which must be given with
+ * {@link #withEvents(ReadOnlyAddressBook)} before the predicate is used.
  */
 public class EventAliasMatchesPredicate implements Predicate<Person> {
+    public static final String MESSAGE_EVENTS_NOT_SET = "The events to look up linked events in were not given";
+
     private final EventAlias alias;
+    private final ReadOnlyAddressBook events; // null until given with withEvents(ReadOnlyAddressBook)
 
+    /**
+     * Creates a predicate for {@code alias}, which can only be used once the events are given with
+     * {@link #withEvents(ReadOnlyAddressBook)}.
+     */
     public EventAliasMatchesPredicate(EventAlias alias) {
+        this(alias, null);
+    }
+
+    private EventAliasMatchesPredicate(EventAlias alias, ReadOnlyAddressBook events) {
         this.alias = alias;
+        this.events = events;
+    }
+
+    /**
+     * Returns a predicate for the same alias that looks up the linked events of persons in {@code events}.
+     */
+    public EventAliasMatchesPredicate withEvents(ReadOnlyAddressBook events) {
+        requireNonNull(events);
+        return new EventAliasMatchesPredicate(alias, events);
     }
 
     @Override
     public boolean test(Person person) {
-        if (person.getEventAlias() == null) {
+        if (events == null) {
+            throw new IllegalStateException(MESSAGE_EVENTS_NOT_SET);
+        }
+        if (person.getEventId() == null) {
             return false;
         }
-        return person.getEventAlias().equals(alias);
+        return events.getEvent(person.getEventId())
+                .map(event -> event.getEventAlias().equals(alias))
+                .orElse(false);
     }
 
     @Override
@@ -34,6 +64,7 @@ public class EventAliasMatchesPredicate implements Predicate<Person> {
             return false;
         }
 
+        // The events are only looked up in, so predicates for the same alias are equal
         EventAliasMatchesPredicate otherEventAliasMatchesPredicate = (EventAliasMatchesPredicate) other;
         return alias.equals(otherEventAliasMatchesPredicate.alias);
     }
@@ -6,9 +6,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.event.EventAlias;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -17,6 +17,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Surrogate key that stays the same across edits, not part of equality
+    private final UUID id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -25,20 +28,30 @@ public class Person {
     // Data fields
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final EventAlias linkedEventAlias;
+    private final UUID linkedEventId; // id of the linked event, may be null
 
     /**
-     * Every field (except event) must be present and not null.
+     * Every field (except the linked event id) must be present and not null.
      */
-    public Person(Name name, Phone phone, Email email, Address address,
-                  Set<Tag> tags, EventAlias linkedEventAlias) {
-        requireAllNonNull(name, phone, email, address, tags);
+    public Person(UUID id, Name name, Phone phone, Email email, Address address,
+                  Set<Tag> tags, UUID linkedEventId) {
+        requireAllNonNull(id, name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.tags.addAll(tags);
-        this.linkedEventAlias = linkedEventAlias;
+        this.linkedEventId = linkedEventId;
+    }
+
+    /**
+     * Creates a new person with a freshly generated id.
+     * Every field (except the linked event id) must be present and not null.
+     */
+    public Person(Name name, Phone phone, Email email, Address address,
+                  Set<Tag> tags, UUID linkedEventId) {
+        this(UUID.randomUUID(), name, phone, email, address, tags, linkedEventId);
     }
 
     /**
@@ -48,6 +61,10 @@ public class Person {
         this(name, phone, email, address, tags, null);
     }
 
+    public UUID getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -72,8 +89,19 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
-    public EventAlias getEventAlias() {
-        return linkedEventAlias;
+    /**
+     * Returns the id of the linked event, or null if the person is not linked to an event.
+     */
+    public UUID getEventId() {
+        return linkedEventId;
+    }
+
+    /**
+     * Creates and returns a copy of this person linked to the event with id {@code linkedEventId},
+     * or unlinked if {@code linkedEventId} is null.
+     */
+    public Person withLinkedEventId(UUID linkedEventId) {
+        return new Person(id, name, phone, email, address, tags, linkedEventId);
     }
 
     /**
@@ -126,7 +154,7 @@ public class Person {
                 .add("email", email)
                 .add("address", address)
                 .add("tags", tags)
-                .add("event", linkedEventAlias == null ? "No event" : linkedEventAlias.toString())
+                .add("event", linkedEventId == null ? "No event" : linkedEventId.toString())
                 .toString();
     }
 
@@ -2,9 +2,18 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.updateList;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,7 +27,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations, and looking up a person by id.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,6 +36,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UUID, Person> personsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,6 +56,23 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsById.put(toAdd.getId(), toAdd);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list as a single change, so that observers are told once.
+     * None of {@code persons} may already exist in the list, or be the same as another of them.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        List<Person> combined = new ArrayList<>(internalList);
+        combined.addAll(persons);
+        if (!personsAreUnique(combined)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(persons);
+        persons.forEach(person -> personsById.put(person.getId(), person));
     }
 
     /**
@@ -66,6 +93,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
     }
 
     /**
@@ -74,14 +103,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        personsById.remove(internalList.remove(index).getId());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -95,6 +127,35 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        reindex();
+    }
+
+    /**
+     * Changes the contents of this list to {@code persons}, replacing only the ranges of entries that are not the same
+     * instances as in {@code persons}, so that observers are told about the changed entries only.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void updatePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+
+        updateList(internalList, persons);
+        reindex();
+    }
+
+    /**
+     * Returns the person with id {@code id}, if there is one in the list.
+     */
+    public Optional<Person> get(UUID id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    private void reindex() {
+        personsById.clear();
+        internalList.forEach(person -> personsById.put(person.getId(), person));
     }
 
     /**
@@ -138,11 +199,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Same persons have names that are equal ignoring case
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName().fullName.toLowerCase(Locale.ROOT))) {
+                return false;
             }
         }
         return true;
@@ -3,44 +3,56 @@ package seedu.address.model.todo;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
-
-import seedu.address.model.person.Name;
+import java.util.UUID;
 
 /**
  * Represents a Todo in the address book.
  */
 public class Todo {
+    private final UUID id; // surrogate key that stays the same across edits, not part of equality
     private final TodoName todoName;
     private final String todoDescription;
-    private final Name contactName; // may be null
+    private final UUID contactId; // id of the linked contact, may be null
     private final boolean isCompleted;
 
     /**
      * Constructs a Todo with the specified details.
      * @param todoName The name of the todo. Must not be null and must be a valid todo name.
      * @param todoDescription The description of the todo. Must not be null.
-     * @param contactName The name of the linked contact. Can be null.
+     * @param contactId The id of the linked contact. Can be null.
      */
-    public Todo(TodoName todoName, String todoDescription, Name contactName) {
-        requireAllNonNull(todoName, todoDescription);
-        this.todoName = todoName;
-        this.todoDescription = todoDescription;
-        this.contactName = contactName;
-        this.isCompleted = false;
+    public Todo(TodoName todoName, String todoDescription, UUID contactId) {
+        this(todoName, todoDescription, contactId, false);
     }
 
     /**
      * Separate constructor for loading from database into the code.
      * @param isCompleted true if the todo is marked as completed.
      */
-    public Todo(TodoName todoName, String todoDescription, Name contactName, boolean isCompleted) {
-        requireAllNonNull(todoName, todoDescription, isCompleted);
+    public Todo(TodoName todoName, String todoDescription, UUID contactId, boolean isCompleted) {
+        this(UUID.randomUUID(), todoName, todoDescription, contactId, isCompleted);
+    }
+
+    /**
+     * Constructs a Todo with the specified id and details.
+     * @param id The id of the todo. Must not be null.
+     */
+    public Todo(UUID id, TodoName todoName, String todoDescription, UUID contactId, boolean isCompleted) {
+        requireAllNonNull(id, todoName, todoDescription, isCompleted);
+        this.id = id;
         this.todoName = todoName;
         this.todoDescription = todoDescription;
-        this.contactName = contactName;
+        this.contactId = contactId;
         this.isCompleted = isCompleted;
     }
 
+    /**
+     * Returns the id of the todo.
+     */
+    public UUID getId() {
+        return id;
+    }
+
     /**
      * Returns the name of the todo.
      */
@@ -56,20 +68,10 @@ public class Todo {
     }
 
     /**
-     * Returns the linked contact Name
-     */
-    public Name getContactName() {
-        return contactName;
-    }
-
-    /**
-     * Returns the name of the linked contact as a string.
+     * Returns the id of the linked contact, or null if no contact is linked.
      */
-    public String getContactNameDisplay() {
-        if (contactName != null) {
-            return contactName.toString();
-        }
-        return "No contact linked";
+    public UUID getContactId() {
+        return contactId;
     }
 
     /**
@@ -94,13 +96,13 @@ public class Todo {
     }
 
     /**
-     * Creates and returns a copy of this todo with the specified linked contact name.
+     * Creates and returns a copy of this todo with the specified linked contact id.
      *
-     * @param contactName the new linked contact name
-     * @return a new Todo with the same properties but different linked contact name
+     * @param contactId the id of the new linked contact
+     * @return a new Todo with the same properties but different linked contact
      */
-    public Todo withLinkedContactName(Name contactName) {
-        return new Todo(this.todoName, this.todoDescription, contactName, this.isCompleted);
+    public Todo withLinkedContactId(UUID contactId) {
+        return new Todo(this.id, this.todoName, this.todoDescription, contactId, this.isCompleted);
     }
 
     /**
@@ -109,7 +111,7 @@ public class Todo {
      * @return a new Todo with the same properties but different completion status
      */
     public Todo withCompletionStatus(boolean isCompleted) {
-        return new Todo(this.todoName, this.todoDescription, this.contactName, isCompleted);
+        return new Todo(this.id, this.todoName, this.todoDescription, this.contactId, isCompleted);
     }
 
     @Override
@@ -117,7 +119,7 @@ public class Todo {
         return "Todo{"
                 + "todoName='" + todoName + '\''
                 + ", todoDescription='" + todoDescription + '\''
-                + ", contactName='" + contactName + '\''
+                + ", contactId='" + contactId + '\''
                 + ", isCompleted=" + isCompleted
                 + '}';
     }
@@ -133,13 +135,13 @@ public class Todo {
         Todo otherTodo = (Todo) other;
         return this.todoName.equals(otherTodo.todoName)
                 && this.todoDescription.equalsIgnoreCase(otherTodo.todoDescription)
-                && java.util.Objects.equals(contactName, otherTodo.contactName)
+                && java.util.Objects.equals(contactId, otherTodo.contactId)
                 && this.isCompleted == otherTodo.isCompleted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(todoName, todoDescription, contactName, isCompleted);
+        return Objects.hash(todoName, todoDescription, contactId, isCompleted);
     }
 
 }
@@ -0,0 +1,73 @@
+package seedu.address.model.todo;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Todo}'s name, description or contact name contains any of the keywords given as a whole word.
+ * Contact names are looked up by the todo's contact id in an address book of contacts, which is empty unless one is
+ * given with {@link #withContacts(ReadOnlyAddressBook)}.
+ */
+public class TodoContainsKeywordsPredicate implements Predicate<Todo> {
+    private final List<String> keywords;
+    private final ReadOnlyAddressBook contacts;
+
+    public TodoContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, new AddressBook());
+    }
+
+    private TodoContainsKeywordsPredicate(List<String> keywords, ReadOnlyAddressBook contacts) {
+        this.keywords = keywords;
+        this.contacts = contacts;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that looks up the contacts of todos in {@code contacts}.
+     */
+    public TodoContainsKeywordsPredicate withContacts(ReadOnlyAddressBook contacts) {
+        return new TodoContainsKeywordsPredicate(keywords, contacts);
+    }
+
+    @Override
+    public boolean test(Todo todo) {
+        String contactName = todo.getContactId() == null
+                ? null
+                : contacts.getPerson(todo.getContactId()).map(Person::getName).map(name -> name.fullName).orElse(null);
+        return keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(todo.getTodoName().toString(), keyword)
+                        || StringUtil.containsWordIgnoreCase(todo.getTodoDescription(), keyword)
+                        || (contactName != null && StringUtil.containsWordIgnoreCase(contactName, keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TodoContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        // The contacts are only looked up in, so predicates with the same keywords are equal
+        TodoContainsKeywordsPredicate otherPredicate = (TodoContainsKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
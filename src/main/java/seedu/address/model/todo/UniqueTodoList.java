@@ -2,14 +2,16 @@ package seedu.address.model.todo;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.updateList;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.model.person.Name;
-import seedu.address.model.person.Person;
 import seedu.address.model.todo.exceptions.DuplicateTodoException;
 import seedu.address.model.todo.exceptions.TodoNotFoundException;
 
@@ -50,6 +52,20 @@ public class UniqueTodoList implements Iterable<Todo> {
         internalList.setAll(todos);
     }
 
+    /**
+     * Changes the contents of this list to {@code todos}, replacing only the ranges of entries that are not the same
+     * instances as in {@code todos}, so that observers are told about the changed entries only.
+     * {@code todos} must not contain duplicate todos.
+     */
+    public void updateTodos(List<Todo> todos) {
+        requireAllNonNull(todos);
+        if (!todosAreUnique(todos)) {
+            throw new DuplicateTodoException();
+        }
+
+        updateList(internalList, todos);
+    }
+
     /**
      * Removes the equivalent todo from the list.
      * The todo must exist in the list.
@@ -80,34 +96,16 @@ public class UniqueTodoList implements Iterable<Todo> {
         internalList.set(index, editedTodo);
     }
 
-    /**
-     * Replaces each todo in the list that is associated with person {@code target} with a new todo associated with
-     * person {@code editedPerson}.
-     */
-    public void setPerson(Person target, Person editedPerson) {
-        requireAllNonNull(target, editedPerson);
-
-        Name targetName = requireNonNull(target.getName());
-        if (targetName.equals(editedPerson.getName())) {
-            return;
-        }
-
-        for (Todo todo : this) {
-            if (targetName.equals(todo.getContactName())) {
-                setTodo(todo, todo.withLinkedContactName(editedPerson.getName()));
-            }
-        }
-    }
-
     /**
      * Returns true if {@code todos} contains only unique todos.
      */
     private boolean todosAreUnique(List<Todo> todos) {
-        for (int i = 0; i < todos.size() - 1; i++) {
-            for (int j = i + 1; j < todos.size(); j++) {
-                if (todos.get(i).isSameTodo(todos.get(j))) {
-                    return false;
-                }
+        // Same todos have names and descriptions that are equal ignoring case
+        Set<List<String>> namesAndDescriptions = new HashSet<>();
+        for (Todo todo : todos) {
+            if (!namesAndDescriptions.add(List.of(todo.getTodoName().todoName.toLowerCase(Locale.ROOT),
+                    todo.getTodoDescription().toLowerCase(Locale.ROOT)))) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * An unmodifiable copy of the lists of an address book at one point in time.
+ * Entries are immutable, so copying the lists is enough for the copy to be read safely from another thread while
+ * the address book itself keeps changing.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final ObservableList<Todo> todos;
+
+    /**
+     * Copies the lists of {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        events = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getEventList()));
+        todos = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getTodoList()));
+    }
+
+    /**
+     * Copies the given lists.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Event> events, List<Todo> todos) {
+        requireNonNull(persons);
+        requireNonNull(events);
+        requireNonNull(todos);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.events = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(events));
+        this.todos = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(todos));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableList<Todo> getTodoList() {
+        return todos;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.size())
+                .add("events", events.size())
+                .add("todos", todos.size())
+                .toString();
+    }
+}
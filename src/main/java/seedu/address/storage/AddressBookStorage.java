@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ListEdit;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -30,6 +33,17 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns AddressBook data as a {@link StagedAddressBook}, whose persons are available before the rest of the
+     * data is read. Storages that cannot read the persons on their own read the whole address book at once.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the persons from storage failed.
+     */
+    default Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
+        return readAddressBook().map(StagedAddressBook::of);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +56,60 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns true if the storage keeps its own copy of the address book as it was last read or saved, so that it can
+     * be saved with {@link #saveAddressBookEdits(List)} instead of being given the whole address book again.
+     */
+    default boolean hasSavedCopy() {
+        return false;
+    }
+
+    /**
+     * Saves the address book last read or saved through this storage after applying {@code edits}, which must be all
+     * the edits made to it since. Only supported while {@link #hasSavedCopy()} returns true.
+     * The edits are applied to the storage's copy even if they cannot be written, so they must not be given again.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookEdits(List<ListEdit> edits) throws IOException {
+        throw new UnsupportedOperationException("Storage does not keep a copy of the address book to edit");
+    }
+
+    /**
+     * Sets the handler to notify when a save fails after {@code saveAddressBook} has already returned.
+     * Storages that finish every save before returning report failures by throwing instead, and ignore the handler.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+    }
+
+    /**
+     * Waits until every save requested so far has been written.
+     * @throws IOException if the last of those saves failed.
+     */
+    default void flushAddressBook() throws IOException {
+    }
+
+    /**
+     * Writes a cache of the address book as it was last read or saved, which lets the next launch skip parsing the
+     * data file if it is unchanged by then. Storages whose data file is quick to read do nothing.
+     * @throws IOException if there was any problem writing the cache.
+     */
+    default void saveAddressBookCache() throws IOException {
+    }
+
+    /**
+     * Returns true if the data file has been changed by another program since this storage last read or saved it,
+     * after waiting for pending saves to be written. Storages that cannot tell always return false.
+     */
+    default boolean isAddressBookChangedExternally() {
+        return false;
+    }
+
+    /**
+     * Records that the data file holds {@code addressBook}, which must be equal to the address book last read, so that
+     * later edits are applied to its lists. This is needed when the address book that was read has been merged into
+     * one whose lists were edited to match it.
+     */
+    default void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+    }
+
 }
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Represents a storage for events and todos that have been moved out of the address book.
+ */
+public interface ArchiveStorage {
+
+    /**
+     * Returns the file path of the archive file.
+     */
+    Path getArchiveFilePath();
+
+    /**
+     * Adds the events and todos of {@code entries} to the archive. The persons of {@code entries} are ignored.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void archiveEntries(ReadOnlyAddressBook entries) throws IOException;
+
+    /**
+     * Returns the archived events and todos that satisfy {@code eventPredicate} and {@code todoPredicate}, in the
+     * order they were archived. The returned address book has no persons.
+     *
+     * @throws DataLoadingException if the archive file could not be read.
+     */
+    ReadOnlyAddressBook searchArchive(Predicate<Event> eventPredicate, Predicate<Todo> todoPredicate)
+            throws DataLoadingException;
+
+}
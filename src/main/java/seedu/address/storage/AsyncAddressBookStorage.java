@@ -0,0 +1,260 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves the address book on a background thread, so that commands do not wait
+ * for the disk. Each save takes a snapshot of the address book and returns; a single writer thread then passes the
+ * snapshots to the wrapped storage in order. Saves requested while an earlier one is still being written are
+ * coalesced, and only the latest of them is written.
+ * If the wrapped storage keeps its own copy of the address book, saves of edits only queue the edits, and the writer
+ * passes on all the edits queued since it last ran.
+ * Failures of background saves are passed to the handler set with {@link #setSaveFailureHandler(Consumer)}.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer;
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingSnapshot; // latest snapshot not yet taken by the writer, if any
+    private List<ListEdit> pendingEdits = new ArrayList<>(); // edits not yet taken by the writer
+    private boolean isWriteScheduled;
+    private Future<?> lastWrite;
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through {@code addressBookStorage}.
+     * Once created, {@code addressBookStorage} should only be accessed through this storage.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookWriter");
+            // Saves still pending at exit are written by flushAddressBook() when the app stops
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Waits for pending saves to be written, then reads the address book at {@code filePath}.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            // Already reported to the failure handler; the file holds whatever was last written successfully
+            logger.warning("Reading " + filePath + " after a failed save: " + StringUtil.getDetails(e));
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Waits for pending saves to be written, then reads the address book in stages.
+     */
+    @Override
+    public Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Reading " + getAddressBookFilePath() + " after a failed save: " + StringUtil.getDetails(e));
+        }
+        return addressBookStorage.readAddressBookInStages();
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written, and returns without waiting for it.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            // The snapshot already has the edits not yet written
+            pendingEdits.clear();
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Returns true if the wrapped storage keeps its own copy of the address book, and no snapshot is waiting to be
+     * written, which the edits would have to be applied to.
+     */
+    @Override
+    public synchronized boolean hasSavedCopy() {
+        return pendingSnapshot == null && addressBookStorage.hasSavedCopy();
+    }
+
+    /**
+     * Schedules {@code edits} to be written after the edits scheduled before, and returns without waiting for them.
+     */
+    @Override
+    public void saveAddressBookEdits(List<ListEdit> edits) {
+        requireNonNull(edits);
+        synchronized (this) {
+            assert pendingSnapshot == null;
+            pendingEdits.addAll(edits);
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Submits a write of the pending snapshot or edits, unless one is already waiting. Must be called holding the lock.
+     */
+    private void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            lastWrite = writer.submit(this::writePending);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}, after any pending saves, and waits for it to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        await(writer.submit(() -> {
+            addressBookStorage.saveAddressBook(snapshot, filePath);
+            return null;
+        }));
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Waits until every save requested so far has been written.
+     *
+     * @throws IOException if the last of those saves failed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        Future<?> write;
+        synchronized (this) {
+            write = lastWrite;
+        }
+        if (write != null) {
+            // The writer runs saves in the order they were requested, so earlier saves are done as well
+            await(write);
+        }
+    }
+
+    /**
+     * Waits for pending saves to be written, then writes the cache of the address book.
+     */
+    @Override
+    public void saveAddressBookCache() throws IOException {
+        flushAddressBook();
+        addressBookStorage.saveAddressBookCache();
+    }
+
+    /**
+     * Waits for pending saves to be written, then checks the data file on the writer thread, so that the check never
+     * sees a save that is half done. Returns false if interrupted while waiting.
+     */
+    @Override
+    public boolean isAddressBookChangedExternally() {
+        try {
+            return await(writer.submit(addressBookStorage::isAddressBookChangedExternally));
+        } catch (IOException e) {
+            logger.warning("Interrupted while checking " + getAddressBookFilePath() + " for changes: "
+                    + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Records on the writer thread that the data file holds {@code addressBook}, before any save requested after this.
+     */
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        writer.submit(() -> addressBookStorage.markAddressBookSaved(snapshot));
+    }
+
+    private Void writePending() throws IOException {
+        ReadOnlyAddressBook snapshot;
+        List<ListEdit> edits;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            edits = pendingEdits;
+            pendingSnapshot = null;
+            pendingEdits = new ArrayList<>();
+            isWriteScheduled = false;
+        }
+
+        try {
+            if (snapshot != null) {
+                addressBookStorage.saveAddressBook(snapshot);
+            } else {
+                addressBookStorage.saveAddressBookEdits(edits);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(e);
+            throw e;
+        }
+        return null;
+    }
+
+    private static <T> T await(Future<T> write) throws IOException {
+        try {
+            return write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
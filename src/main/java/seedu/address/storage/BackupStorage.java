@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a storage for point-in-time backups of the address book.
+ */
+public interface BackupStorage {
+
+    /**
+     * Returns the path of the folder the backups are kept in.
+     */
+    Path getBackupFolderPath();
+
+    /**
+     * Backs up {@code addressBook} as it is now. The backup is written in the background, so this returns as soon as
+     * the lists of {@code addressBook} have been copied; backups that fail are logged.
+     *
+     * @return the version the backup is kept as.
+     */
+    default String backupAddressBook(ReadOnlyAddressBook addressBook) {
+        return backupAddressBook(addressBook, () -> { });
+    }
+
+    /**
+     * Backs up {@code addressBook} like {@link #backupAddressBook(ReadOnlyAddressBook)}, and runs
+     * {@code onBackedUp} on the background thread once the backup has been written. {@code onBackedUp} is not run
+     * if the backup fails.
+     *
+     * @return the version the backup is kept as.
+     */
+    String backupAddressBook(ReadOnlyAddressBook addressBook, Runnable onBackedUp);
+
+    /**
+     * Returns the versions of the backups that are kept, newest first, once the backups in progress are written.
+     *
+     * @throws DataLoadingException if the backup folder could not be read.
+     */
+    List<String> getBackupVersions() throws DataLoadingException;
+
+    /**
+     * Returns the address book backed up as {@code version}, or {@code Optional.empty()} if there is no such backup.
+     *
+     * @throws DataLoadingException if the backup could not be read or is damaged.
+     */
+    Optional<ReadOnlyAddressBook> readBackup(String version) throws DataLoadingException;
+
+}
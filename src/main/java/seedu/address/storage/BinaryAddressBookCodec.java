@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Encodes an address book in the binary data file format. Files are decoded by {@link BinaryAddressBookReader}.
+ * <p>
+ * A file consists of:
+ * <ul>
+ *     <li>the {@link #MAGIC} bytes and a one byte format version,</li>
+ *     <li>the string table: the tags and event aliases used in the file, each stored once,</li>
+ *     <li>the event, person and todo sections, each a count followed by that many entries,</li>
+ *     <li>the record index: for each of the three sections, the file offset of every entry as a 4 byte integer,
+ *     so that any entry can be found without reading the ones before it,</li>
+ *     <li>a trailer with the file offsets of the four sections and the three parts of the record index, as 8 byte
+ *     integers.</li>
+ * </ul>
+ * Persons refer to their linked event and todos to their linked contact by id. Version 2 files refer to them by
+ * event alias and contact name instead, and version 1 files have no record index either, so their trailer only
+ * holds the offsets of the four sections.
+ * Counts, lengths and string table indexes are unsigned LEB128 varints. Strings are UTF-8 bytes prefixed with
+ * their length. Ids are two 8 byte integers, and date-times are a zigzag varint of UTC epoch seconds followed by a
+ * varint of nanoseconds.
+ */
+class BinaryAddressBookCodec {
+
+    static final byte[] MAGIC = {'O', 'B', 'A', 'B'};
+    static final byte VERSION = 3;
+    static final byte VERSION_WITH_LINKS_BY_NAME = 2;
+    static final byte VERSION_WITHOUT_INDEX = 1;
+
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %1$d is not supported.";
+    static final String MESSAGE_CORRUPT_FILE = "Binary data file is truncated or corrupt.";
+    static final String MESSAGE_FILE_TOO_LARGE = "Binary data files cannot be larger than 2GB.";
+
+    static final int SECTION_COUNT = 4;
+    static final int RECORD_LIST_COUNT = 3;
+    static final int TRAILER_SIZE = (SECTION_COUNT + RECORD_LIST_COUNT) * Long.BYTES;
+    static final int TRAILER_SIZE_WITHOUT_INDEX = SECTION_COUNT * Long.BYTES;
+    static final int NO_EVENT = 0;
+    static final int HAS_EVENT = 1;
+    static final int TODO_COMPLETED = 1;
+    static final int TODO_HAS_CONTACT = 1 << 1;
+
+    private BinaryAddressBookCodec() {
+    }
+
+    /**
+     * Returns true if {@code header} starts with the magic bytes of the binary format.
+     */
+    static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length && Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC);
+    }
+
+    //=========== Encoding ===================================================================================
+
+    /**
+     * Writes {@code addressBook} to {@code out}. The stream is not closed.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out);
+        long[] offsets = new long[SECTION_COUNT + RECORD_LIST_COUNT];
+        ByteBuffer eventIndex = ByteBuffer.allocate(addressBook.getEventList().size() * Integer.BYTES);
+        ByteBuffer personIndex = ByteBuffer.allocate(addressBook.getPersonList().size() * Integer.BYTES);
+        ByteBuffer todoIndex = ByteBuffer.allocate(addressBook.getTodoList().size() * Integer.BYTES);
+
+        encoder.writeBytes(MAGIC);
+        encoder.writeBytes(new byte[] {VERSION});
+
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Event event : addressBook.getEventList()) {
+            index(event.getAlias(), stringIndexes, strings);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            person.getTags().forEach(tag -> index(tag.tagName, stringIndexes, strings));
+        }
+
+        offsets[0] = encoder.getPosition();
+        encoder.writeVarInt(strings.size());
+        for (String string : strings) {
+            encoder.writeString(string);
+        }
+
+        offsets[1] = encoder.getPosition();
+        encoder.writeVarInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            eventIndex.putInt(encoder.getRecordOffset());
+            encoder.writeId(event.getId());
+            encoder.writeString(event.getName());
+            encoder.writeVarInt(stringIndexes.get(event.getAlias()));
+            encoder.writeDateTime(event.getStart());
+            encoder.writeDateTime(event.getEnd());
+            encoder.writeString(event.getDescription());
+        }
+
+        offsets[2] = encoder.getPosition();
+        encoder.writeVarInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            personIndex.putInt(encoder.getRecordOffset());
+            encoder.writeId(person.getId());
+            encoder.writeString(person.getName().fullName);
+            encoder.writeString(person.getPhone().value);
+            encoder.writeString(person.getEmail().value);
+            encoder.writeString(person.getAddress().value);
+            encoder.writeVarInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                encoder.writeVarInt(stringIndexes.get(tag.tagName));
+            }
+            encoder.writeVarInt(person.getEventId() == null ? NO_EVENT : HAS_EVENT);
+            if (person.getEventId() != null) {
+                encoder.writeId(person.getEventId());
+            }
+        }
+
+        offsets[3] = encoder.getPosition();
+        encoder.writeVarInt(addressBook.getTodoList().size());
+        for (Todo todo : addressBook.getTodoList()) {
+            todoIndex.putInt(encoder.getRecordOffset());
+            encoder.writeId(todo.getId());
+            encoder.writeString(todo.getTodoName().todoName);
+            encoder.writeString(todo.getTodoDescription());
+            int flags = (todo.getIsCompleted() ? TODO_COMPLETED : 0)
+                    | (todo.getContactId() != null ? TODO_HAS_CONTACT : 0);
+            encoder.writeVarInt(flags);
+            if (todo.getContactId() != null) {
+                encoder.writeId(todo.getContactId());
+            }
+        }
+
+        offsets[4] = encoder.getPosition();
+        encoder.writeBytes(eventIndex.array());
+        offsets[5] = encoder.getPosition();
+        encoder.writeBytes(personIndex.array());
+        offsets[6] = encoder.getPosition();
+        encoder.writeBytes(todoIndex.array());
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+        for (long offset : offsets) {
+            trailer.putLong(offset);
+        }
+        encoder.writeBytes(trailer.array());
+    }
+
+    private static void index(String string, Map<String, Integer> stringIndexes, List<String> strings) {
+        if (!stringIndexes.containsKey(string)) {
+            stringIndexes.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    /**
+     * Writes the primitive values of the format to a stream, keeping track of the position within the file.
+     */
+    private static class Encoder {
+        private final OutputStream out;
+        private long position;
+
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        /**
+         * Returns the current position as an entry of the record index, which only addresses the first 2GB of a file.
+         */
+        int getRecordOffset() throws IOException {
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_FILE_TOO_LARGE);
+            }
+            return (int) position;
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+                position++;
+            }
+            out.write((int) value);
+            position++;
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeId(UUID id) throws IOException {
+            ByteBuffer bytes = ByteBuffer.allocate(2 * Long.BYTES);
+            bytes.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+            writeBytes(bytes.array());
+        }
+
+        void writeDateTime(LocalDateTime dateTime) throws IOException {
+            long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            writeVarLong((epochSecond << 1) ^ (epochSecond >> 63));
+            writeVarInt(dateTime.getNano());
+        }
+    }
+}
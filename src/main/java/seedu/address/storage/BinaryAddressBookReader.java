@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryAddressBookCodec.MAGIC;
+import static seedu.address.storage.BinaryAddressBookCodec.MESSAGE_CORRUPT_FILE;
+import static seedu.address.storage.BinaryAddressBookCodec.MESSAGE_FILE_TOO_LARGE;
+import static seedu.address.storage.BinaryAddressBookCodec.MESSAGE_UNSUPPORTED_VERSION;
+import static seedu.address.storage.BinaryAddressBookCodec.NO_EVENT;
+import static seedu.address.storage.BinaryAddressBookCodec.RECORD_LIST_COUNT;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_COUNT;
+import static seedu.address.storage.BinaryAddressBookCodec.TODO_COMPLETED;
+import static seedu.address.storage.BinaryAddressBookCodec.TODO_HAS_CONTACT;
+import static seedu.address.storage.BinaryAddressBookCodec.TRAILER_SIZE;
+import static seedu.address.storage.BinaryAddressBookCodec.TRAILER_SIZE_WITHOUT_INDEX;
+import static seedu.address.storage.BinaryAddressBookCodec.VERSION;
+import static seedu.address.storage.BinaryAddressBookCodec.VERSION_WITHOUT_INDEX;
+import static seedu.address.storage.BinaryAddressBookCodec.VERSION_WITH_LINKS_BY_NAME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.EventName;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.Todo;
+import seedu.address.model.todo.TodoName;
+
+/**
+ * Reads a file in the format of {@link BinaryAddressBookCodec}. Only the header, the trailer and the string table
+ * are read when the reader is created. The record index locates every entry directly, so the first page of persons
+ * can be decoded on its own, leaving the rest of the file untouched until it is asked for. Each section is
+ * otherwise decoded as a whole when it is first asked for, across several threads if it is large. Decoded entries
+ * are kept, so the persons decoded for the first stage of a load are not decoded again.
+ * <p>
+ * Files that link entries by event alias and contact name are linked by id as they are read. Linked entries that
+ * cannot be found are left unlinked.
+ */
+class BinaryAddressBookReader {
+
+    // Windows does not let a file be replaced while it is mapped, and mappings are only released by the garbage
+    // collector, so the file is read into memory there instead
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name").startsWith("Windows");
+
+    private static final int EVENT_SECTION = 1;
+    private static final int PERSON_SECTION = 2;
+    private static final int TODO_SECTION = 3;
+
+    /** Number of persons decoded for the first stage of a load, more than a screen of the person list shows. */
+    static final int FIRST_PERSON_PAGE_SIZE = 256;
+
+    private final ByteBuffer file;
+    private final boolean hasIndex;
+    private final boolean linksByName;
+    // Offsets of the sections, followed by the offsets of their parts of the record index if the file has one
+    private final int[] offsets;
+    private final String[] strings;
+    // Entries that share a tag share the model object as well
+    private final Tag[] tags;
+    // Only used for files that link entries by event alias and contact name
+    private Map<String, UUID> eventIdsByAlias = Map.of();
+    private Map<String, UUID> personIdsByName = Map.of();
+
+    private List<Event> events;
+    // The first page of persons, until the rest of the persons are decoded after it
+    private List<Person> firstPersons;
+    private List<Person> persons;
+    private List<Todo> todos;
+
+    /**
+     * Creates a reader for the file held in {@code file}.
+     *
+     * @throws IllegalValueException if the file is not in a supported version of the format, or its header, trailer
+     *     or string table is corrupt.
+     */
+    BinaryAddressBookReader(ByteBuffer file) throws IllegalValueException {
+        requireNonNull(file);
+        this.file = file;
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            file.get(0, magic);
+            if (!BinaryAddressBookCodec.hasMagic(magic)) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+            }
+            byte version = file.get(MAGIC.length);
+            if (version != VERSION && version != VERSION_WITH_LINKS_BY_NAME && version != VERSION_WITHOUT_INDEX) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            hasIndex = version != VERSION_WITHOUT_INDEX;
+            linksByName = version != VERSION;
+
+            int listCount = hasIndex ? SECTION_COUNT + RECORD_LIST_COUNT : SECTION_COUNT;
+            int trailerStart = file.limit() - (hasIndex ? TRAILER_SIZE : TRAILER_SIZE_WITHOUT_INDEX);
+            offsets = new int[listCount];
+            for (int i = 0; i < listCount; i++) {
+                long offset = file.getLong(trailerStart + i * Long.BYTES);
+                if (offset <= MAGIC.length || offset > trailerStart) {
+                    throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+                }
+                offsets[i] = (int) offset;
+            }
+
+            Decoder decoder = decoderAt(offsets[0]);
+            strings = new String[decoder.readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = decoder.readString();
+            }
+            tags = new Tag[strings.length];
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory and creates a reader for it.
+     * The mapping stays valid after the file is closed, and is released once the reader is no longer used.
+     * Compressed files are decompressed into memory instead.
+     */
+    static BinaryAddressBookReader open(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        if (CompressionUtil.isCompressed(filePath)) {
+            try (InputStream in = CompressionUtil.newInputStream(filePath)) {
+                return new BinaryAddressBookReader(ByteBuffer.wrap(in.readAllBytes()));
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_FILE_TOO_LARGE);
+            }
+            if (IS_MAPPING_SUPPORTED) {
+                return new BinaryAddressBookReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+
+            ByteBuffer file = ByteBuffer.allocate((int) channel.size());
+            while (file.hasRemaining() && channel.read(file) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            return new BinaryAddressBookReader(file.flip());
+        }
+    }
+
+    /**
+     * Decodes every entry and returns them as the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if the file is corrupt, or holds data that violates the constraints of the model.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        return JsonSerializableAddressBook.toAddressBook(decodeEvents(), decodePersons(), decodeTodos());
+    }
+
+    /**
+     * Decodes the first {@value #FIRST_PERSON_PAGE_SIZE} persons, so that they can be shown before the rest of the
+     * file is decoded. Every person is decoded instead if the file has no record index, or links persons to events
+     * by alias, as the events must then be decoded first anyway.
+     *
+     * @throws IllegalValueException if any of the persons is corrupt or violates the constraints of the model.
+     */
+    List<Person> decodeFirstPersons() throws IllegalValueException {
+        if (persons != null || !hasIndex || linksByName) {
+            return decodePersons();
+        }
+        if (firstPersons == null) {
+            firstPersons = decodeIndexedRecords(PERSON_SECTION, 0, FIRST_PERSON_PAGE_SIZE, this::readPerson);
+        }
+        return firstPersons;
+    }
+
+    /**
+     * Decodes every person, so that the persons can be used before {@link #toAddressBook()} decodes the rest.
+     * Persons already decoded by {@link #decodeFirstPersons()} are not decoded again.
+     *
+     * @throws IllegalValueException if any person is corrupt or violates the constraints of the model.
+     */
+    List<Person> decodePersons() throws IllegalValueException {
+        if (persons == null) {
+            if (linksByName) {
+                decodeEvents();
+                persons = decodeSection(PERSON_SECTION, this::readPersonLinkedByAlias);
+                personIdsByName = JsonSerializableAddressBook.mapPersonIdsByName(persons);
+            } else if (firstPersons != null) {
+                List<Person> allPersons = new ArrayList<>(firstPersons);
+                allPersons.addAll(decodeIndexedRecords(PERSON_SECTION, firstPersons.size(), Integer.MAX_VALUE,
+                        this::readPerson));
+                persons = allPersons;
+                firstPersons = null;
+            } else {
+                persons = decodeSection(PERSON_SECTION, this::readPerson);
+            }
+        }
+        return persons;
+    }
+
+    private List<Event> decodeEvents() throws IllegalValueException {
+        if (events == null) {
+            events = decodeSection(EVENT_SECTION, this::readEvent);
+            if (linksByName) {
+                eventIdsByAlias = JsonSerializableAddressBook.mapEventIdsByAlias(events);
+            }
+        }
+        return events;
+    }
+
+    private List<Todo> decodeTodos() throws IllegalValueException {
+        if (todos == null) {
+            if (linksByName) {
+                decodePersons();
+                todos = decodeSection(TODO_SECTION, this::readTodoLinkedByName);
+            } else {
+                todos = decodeSection(TODO_SECTION, this::readTodo);
+            }
+        }
+        return todos;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("hasIndex", hasIndex)
+                .add("linksByName", linksByName)
+                .add("strings", strings.length)
+                .toString();
+    }
+
+    //=========== Entries ====================================================================================
+
+    /**
+     * Returns a decoder that starts at {@code offset}. Each decoder has its own position, so entries can be decoded
+     * from several threads at once.
+     */
+    private Decoder decoderAt(int offset) {
+        ByteBuffer view = file.duplicate();
+        view.position(offset);
+        return new Decoder(view);
+    }
+
+    /**
+     * Decodes every entry of {@code section}. Entries are located through the record index if the file has one, so
+     * that they can be decoded across several threads.
+     */
+    private <T> List<T> decodeSection(int section, RecordDecoder<T> recordDecoder) throws IllegalValueException {
+        if (hasIndex) {
+            return decodeIndexedRecords(section, 0, Integer.MAX_VALUE, recordDecoder);
+        }
+
+        try {
+            Decoder decoder = decoderAt(offsets[section]);
+            int count = decoder.readCount();
+            List<T> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                records.add(recordDecoder.read(decoder));
+            }
+            return records;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the entries of {@code section} from index {@code from} up to, but not including, {@code to} or the end
+     * of the section, whichever comes first. Only the entries in that range are read, as the record index locates
+     * each of them directly.
+     */
+    private <T> List<T> decodeIndexedRecords(int section, int from, int to, RecordDecoder<T> recordDecoder)
+            throws IllegalValueException {
+        try {
+            int count = decoderAt(offsets[section]).readCount();
+            int indexOffset = offsets[section + RECORD_LIST_COUNT];
+            if ((long) indexOffset + (long) count * Integer.BYTES > file.limit()) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+            }
+            int size = Math.max(0, Math.min(to, count) - from);
+            return ParallelConverter.convert(size, i -> decodeRecord(indexOffset, from + i, recordDecoder));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+    }
+
+    /**
+     * Decodes the entry at {@code index} of the part of the record index at {@code indexOffset}.
+     */
+    private <T> T decodeRecord(int indexOffset, int index, RecordDecoder<T> recordDecoder)
+            throws IllegalValueException {
+        int offset = file.getInt(indexOffset + index * Integer.BYTES);
+        if (offset <= MAGIC.length || offset >= indexOffset) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        }
+        try {
+            return recordDecoder.read(decoderAt(offset));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_FILE);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private Event readEvent(Decoder decoder) {
+        UUID id = decoder.readId();
+        EventName name = new EventName(decoder.readString());
+        EventAlias alias = new EventAlias(strings[decoder.readVarInt()]);
+        LocalDateTime start = decoder.readDateTime();
+        LocalDateTime end = decoder.readDateTime();
+        return new Event(id, name, alias, start, end, decoder.readString());
+    }
+
+    private Person readPerson(Decoder decoder) {
+        Person person = readPersonFields(decoder);
+        UUID eventId = decoder.readVarInt() == NO_EVENT ? null : decoder.readId();
+        return person.withLinkedEventId(eventId);
+    }
+
+    private Person readPersonLinkedByAlias(Decoder decoder) {
+        Person person = readPersonFields(decoder);
+        // Aliases are shifted by one so that 0 can stand for no linked event
+        int aliasIndex = decoder.readVarInt();
+        UUID eventId = aliasIndex == NO_EVENT
+                ? null
+                : eventIdsByAlias.get(strings[aliasIndex - 1].toLowerCase(Locale.ROOT));
+        return person.withLinkedEventId(eventId);
+    }
+
+    /**
+     * Decodes the fields of a person up to its link, returning the person without a linked event.
+     */
+    private Person readPersonFields(Decoder decoder) {
+        UUID id = decoder.readId();
+        Name name = new Name(decoder.readString());
+        Phone phone = new Phone(decoder.readString());
+        Email email = new Email(decoder.readString());
+        Address address = new Address(decoder.readString());
+        Set<Tag> personTags = new HashSet<>();
+        for (int tagCount = decoder.readCount(); tagCount > 0; tagCount--) {
+            personTags.add(tagAt(decoder.readVarInt()));
+        }
+        return new Person(id, name, phone, email, address, personTags, null);
+    }
+
+    private Todo readTodo(Decoder decoder) {
+        UUID id = decoder.readId();
+        TodoName name = new TodoName(decoder.readString());
+        String description = decoder.readString();
+        int flags = decoder.readVarInt();
+        UUID contactId = (flags & TODO_HAS_CONTACT) != 0 ? decoder.readId() : null;
+        return new Todo(id, name, description, contactId, (flags & TODO_COMPLETED) != 0);
+    }
+
+    private Todo readTodoLinkedByName(Decoder decoder) {
+        UUID id = decoder.readId();
+        TodoName name = new TodoName(decoder.readString());
+        String description = decoder.readString();
+        int flags = decoder.readVarInt();
+        UUID contactId = (flags & TODO_HAS_CONTACT) != 0
+                ? personIdsByName.get(new Name(decoder.readString()).fullName.toLowerCase(Locale.ROOT))
+                : null;
+        return new Todo(id, name, description, contactId, (flags & TODO_COMPLETED) != 0);
+    }
+
+    private Tag tagAt(int index) {
+        if (tags[index] == null) {
+            tags[index] = new Tag(strings[index]);
+        }
+        return tags[index];
+    }
+
+    /**
+     * Decodes one entry from the position of {@code decoder}.
+     */
+    @FunctionalInterface
+    private interface RecordDecoder<T> {
+        T read(Decoder decoder);
+    }
+
+    /**
+     * Reads the primitive values of the format from a buffer holding the file.
+     */
+    private static class Decoder {
+        private final ByteBuffer file;
+
+        Decoder(ByteBuffer file) {
+            this.file = file;
+        }
+
+        int readVarInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IndexOutOfBoundsException();
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads a count of entries, which cannot be more than the bytes left in the file.
+         */
+        int readCount() {
+            int count = readVarInt();
+            if (count > file.remaining()) {
+                throw new IndexOutOfBoundsException();
+            }
+            return count;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = file.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IndexOutOfBoundsException();
+        }
+
+        String readString() {
+            byte[] bytes = new byte[readCount()];
+            file.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        UUID readId() {
+            return new UUID(file.getLong(), file.getLong());
+        }
+
+        LocalDateTime readDateTime() {
+            long zigzag = readVarLong();
+            long epochSecond = (zigzag >>> 1) ^ -(zigzag & 1);
+            return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The format is described in {@link BinaryAddressBookCodec}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final DataFileCompression compression;
+
+    // Size and modification time of the data file as of the last save or read, or null if there has been neither
+    private long savedFileSize;
+    private FileTime savedFileTime;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, new DataFileCompression());
+    }
+
+    /**
+     * Creates a storage that compresses the data file with the codec of {@code compression}.
+     * Compressed files are decompressed into memory when read, instead of being memory-mapped.
+     */
+    public BinaryAddressBookStorage(Path filePath, DataFileCompression compression) {
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath}, once decompressed, starts with the magic bytes of the binary
+     * format.
+     * Returns false if the file does not exist or cannot be read.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = CompressionUtil.newInputStream(filePath)) {
+            return BinaryAddressBookCodec.hasMagic(in.readNBytes(BinaryAddressBookCodec.MAGIC.length));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ReadOnlyAddressBook addressBook = BinaryAddressBookReader.open(filePath).toAddressBook();
+            if (filePath.equals(this.filePath)) {
+                rememberFile();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Decodes the first page of persons of the data file first, and leaves the rest of the persons, the events and
+     * the todos to the second stage.
+     */
+    @Override
+    public Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            BinaryAddressBookReader reader = BinaryAddressBookReader.open(filePath);
+            rememberFile();
+            return Optional.of(new StagedAddressBook(reader.decodeFirstPersons(), () -> {
+                try {
+                    // Persons decoded in the first stage are kept by the reader, and not decoded again
+                    return reader.toAddressBook();
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                    throw new DataLoadingException(ive);
+                }
+            }));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, CompressionUtil.compress(compression,
+                out -> BinaryAddressBookCodec.write(addressBook, out)));
+        if (filePath.equals(this.filePath)) {
+            rememberFile();
+        }
+    }
+
+    /**
+     * Returns true if the data file is no longer the file this storage last read or wrote, or if it has appeared
+     * since this storage found none.
+     */
+    @Override
+    public boolean isAddressBookChangedExternally() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return attributes.size() != savedFileSize || !attributes.lastModifiedTime().equals(savedFileTime);
+        } catch (IOException e) {
+            return savedFileTime != null;
+        }
+    }
+
+    private void rememberFile() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            savedFileSize = attributes.size();
+            savedFileTime = attributes.lastModifiedTime();
+        } catch (IOException e) {
+            savedFileTime = null;
+        }
+    }
+
+}
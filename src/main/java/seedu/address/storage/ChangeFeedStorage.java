@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.model.EntryChange;
+
+/**
+ * Represents a storage for the change feed: an append-only record of every change to the entries of the address
+ * book, numbered in the order they were made.
+ */
+public interface ChangeFeedStorage {
+
+    /**
+     * Returns the path of the folder the change feed is kept in.
+     */
+    Path getChangeFeedFolderPath();
+
+    /**
+     * Appends {@code changes} to the feed, numbered after the changes already in it.
+     *
+     * @throws IOException if the changes could not be appended, in which case none of them are recorded.
+     */
+    void appendChanges(List<EntryChange> changes) throws IOException;
+
+    /**
+     * Returns the number of the last change in the feed, or 0 if the feed is empty.
+     *
+     * @throws IOException if the feed could not be read.
+     */
+    long getLastChangeSequence() throws IOException;
+
+    /**
+     * Writes the changes numbered after {@code sinceSequence} to {@code file}, one per line, in the same format as
+     * the feed.
+     *
+     * @return the number of changes written.
+     * @throws IOException if the feed could not be read or the file could not be written.
+     */
+    long exportChanges(long sinceSequence, Path file) throws IOException;
+
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A folder of chunks that are stored once each, under the SHA-256 hash of their content.
+ * Chunks are spread across subfolders named after the first two digits of their hash, so that no folder holds more
+ * than a few thousand files.
+ */
+class ChunkStore {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int PREFIX_LENGTH = 2;
+
+    private final Path folder;
+
+    /**
+     * Creates a store that keeps its chunks in {@code folder}. The folder is created once the first chunk is stored.
+     */
+    ChunkStore(Path folder) {
+        requireNonNull(folder);
+        this.folder = folder;
+    }
+
+    /**
+     * Stores the first {@code length} bytes of {@code chunk} unless a chunk with the same content is stored already,
+     * and returns the hash the chunk is stored under.
+     */
+    String put(byte[] chunk, int length) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+        digest.update(chunk, 0, length);
+        String hash = HexFormat.of().formatHex(digest.digest());
+
+        Path chunkPath = getChunkPath(hash);
+        if (!Files.exists(chunkPath)) {
+            FileUtil.createParentDirsOfFile(chunkPath);
+            FileUtil.writeToFileAtomically(chunkPath, out -> out.write(chunk, 0, length));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the size of the chunk stored under {@code hash}.
+     *
+     * @throws NoSuchFileException if no chunk is stored under {@code hash}.
+     */
+    long size(String hash) throws IOException {
+        return Files.size(getChunkPath(hash));
+    }
+
+    /**
+     * Returns a stream of the chunks stored under {@code hashes}, one after another. Each chunk is only opened once
+     * the chunks before it have been read, so at most one chunk is open at a time.
+     * Reading fails with a {@link NoSuchFileException} once it reaches a hash that no chunk is stored under.
+     */
+    InputStream open(List<String> hashes) {
+        requireNonNull(hashes);
+        return new ChunkSequenceStream(hashes.iterator());
+    }
+
+    /**
+     * Deletes every file in the store that is not the chunk of one of {@code hashesInUse}, such as the chunks of
+     * backups that are no longer kept and the remains of interrupted writes. Returns the number of files deleted.
+     */
+    int deleteAllExcept(Set<String> hashesInUse) throws IOException {
+        requireNonNull(hashesInUse);
+        if (!Files.isDirectory(folder)) {
+            return 0;
+        }
+
+        List<Path> unused;
+        try (Stream<Path> files = Files.walk(folder)) {
+            unused = files.filter(Files::isRegularFile)
+                    .filter(file -> !hashesInUse.contains(file.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+        for (Path file : unused) {
+            Files.deleteIfExists(file);
+        }
+        return unused.size();
+    }
+
+    Path getChunkPath(String hash) {
+        return folder.resolve(hash.substring(0, PREFIX_LENGTH)).resolve(hash);
+    }
+
+    /**
+     * Reads the chunks of a list of hashes in turn, opening each one when the one before it is used up.
+     */
+    private class ChunkSequenceStream extends InputStream {
+
+        private Iterator<String> hashes;
+        private InputStream chunk;
+
+        ChunkSequenceStream(Iterator<String> hashes) {
+            this.hashes = hashes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] buffer = new byte[1];
+            return read(buffer, 0, 1) == -1 ? -1 : buffer[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            if (length == 0) {
+                return 0;
+            }
+
+            while (true) {
+                if (chunk == null) {
+                    if (!hashes.hasNext()) {
+                        return -1;
+                    }
+                    chunk = Files.newInputStream(getChunkPath(hashes.next()));
+                }
+                int count = chunk.read(buffer, offset, length);
+                if (count != -1) {
+                    return count;
+                }
+                chunk.close();
+                chunk = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            hashes = Collections.emptyIterator();
+            if (chunk != null) {
+                chunk.close();
+                chunk = null;
+            }
+        }
+    }
+}
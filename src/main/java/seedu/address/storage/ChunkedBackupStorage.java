@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.BackupPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access backups of the address book that are kept as content-defined chunks in a folder next to the data
+ * file.
+ * <p>
+ * A backup is the address book written in the JSON format of the data file, split by a {@link ChunkingOutputStream}.
+ * Each chunk is kept once in a {@link ChunkStore}, however many backups it is part of, so a backup only adds the
+ * chunks around the entries that changed since the backups before it. A {@link JsonBackupManifest} named after the
+ * version of the backup lists its chunks, and is written once all of them are stored.
+ * <p>
+ * After each backup, the backups that the {@link BackupPolicy} no longer keeps are removed, together with the chunks
+ * that only they used. Backups are written, removed and read on a single background thread, one at a time.
+ */
+public class ChunkedBackupStorage implements BackupStorage {
+
+    public static final String BACKUP_FOLDER_SUFFIX = ".backups";
+    public static final String MESSAGE_DAMAGED_BACKUP = "Backup %1$s is damaged: its chunks hold %2$d bytes "
+            + "instead of %3$d.";
+
+    private static final String VERSION_FOLDER = "versions";
+    private static final String CHUNK_FOLDER = "chunks";
+    private static final String MANIFEST_SUFFIX = ".json";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String VERSION_REGEX = "\\d{8}-\\d{6}";
+    private static final int DAY_LENGTH = "yyyyMMdd".length();
+    private static final int HOUR_LENGTH = "yyyyMMdd-HH".length();
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ChunkedBackupStorage.class);
+
+    private final Path folder;
+    private final BackupPolicy policy;
+    private final Clock clock;
+    private final ChunkStore chunkStore;
+    private final ThreadPoolExecutor executor;
+    private LocalDateTime lastBackupTime;
+
+    /**
+     * Creates a storage that keeps backups in {@code folder}, and removes the backups {@code policy} does not keep.
+     */
+    public ChunkedBackupStorage(Path folder, BackupPolicy policy) {
+        this(folder, policy, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a storage like {@link #ChunkedBackupStorage(Path, BackupPolicy)} that names backups after the time
+     * of {@code clock}.
+     */
+    ChunkedBackupStorage(Path folder, BackupPolicy policy, Clock clock) {
+        requireNonNull(folder);
+        requireNonNull(policy);
+        requireNonNull(clock);
+        this.folder = folder;
+        this.policy = policy;
+        this.clock = clock;
+        chunkStore = new ChunkStore(folder.resolve(CHUNK_FOLDER));
+        executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "AddressBookBackup");
+                    // A backup cut short at exit leaves no manifest, and its chunks are removed by the next backup
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // The thread is only kept while backups are being written or read
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the path of the backup folder that belongs to the data file at {@code dataFilePath}.
+     */
+    public static Path getBackupPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + BACKUP_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code version} is in the form backups are named in, e.g. {@code 20251019-143000}.
+     */
+    public static boolean isValidVersion(String version) {
+        return version.matches(VERSION_REGEX);
+    }
+
+    @Override
+    public Path getBackupFolderPath() {
+        return folder;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Backups are named after the second they are taken in, or the second after the last backup taken through this
+     * storage if that is later, so that no backup replaces another.
+     */
+    @Override
+    public synchronized String backupAddressBook(ReadOnlyAddressBook addressBook, Runnable onBackedUp) {
+        requireNonNull(addressBook);
+        requireNonNull(onBackedUp);
+        LocalDateTime backupTime = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+        if (lastBackupTime != null && !backupTime.isAfter(lastBackupTime)) {
+            backupTime = lastBackupTime.plusSeconds(1);
+        }
+        lastBackupTime = backupTime;
+        String version = backupTime.format(VERSION_FORMAT);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        executor.execute(() -> {
+            try {
+                writeBackup(version, snapshot);
+                onBackedUp.run();
+            } catch (IOException e) {
+                logger.warning("Failed to back up the address book as " + version + ": " + e);
+            }
+        });
+        return version;
+    }
+
+    @Override
+    public List<String> getBackupVersions() throws DataLoadingException {
+        return await(executor.submit(this::listVersions));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackup(String version) throws DataLoadingException {
+        requireNonNull(version);
+        if (!isValidVersion(version)) {
+            return Optional.empty();
+        }
+        return await(executor.submit(() -> readBackupNow(version)));
+    }
+
+    /**
+     * Returns the versions of the backups that {@code policy} keeps out of {@code versions}, which must be sorted
+     * newest first: every backup taken in the same hour as the newest one, so that backups taken just before a
+     * restore are not lost to the next backup, and the newest backup of each of the most recent hours and days that
+     * have backups.
+     */
+    static Set<String> selectVersionsToKeep(List<String> versions, BackupPolicy policy) {
+        Set<String> versionsToKeep = new HashSet<>();
+        if (!versions.isEmpty()) {
+            String newestHour = versions.get(0).substring(0, HOUR_LENGTH);
+            versions.stream().filter(version -> version.startsWith(newestHour)).forEach(versionsToKeep::add);
+        }
+        keepNewestOfEachPeriod(versions, HOUR_LENGTH, policy.getHourlyBackups(), versionsToKeep);
+        keepNewestOfEachPeriod(versions, DAY_LENGTH, policy.getDailyBackups(), versionsToKeep);
+        return versionsToKeep;
+    }
+
+    /**
+     * Adds the newest of {@code versions} in each of the {@code periodCount} most recent periods to
+     * {@code versionsToKeep}. Versions are in the same period if their first {@code periodLength} characters match.
+     */
+    private static void keepNewestOfEachPeriod(List<String> versions, int periodLength, int periodCount,
+                                               Set<String> versionsToKeep) {
+        String period = null;
+        int periodsKept = 0;
+        for (String version : versions) {
+            if (periodsKept == periodCount) {
+                return;
+            }
+            String versionPeriod = version.substring(0, periodLength);
+            if (!versionPeriod.equals(period)) {
+                versionsToKeep.add(version);
+                period = versionPeriod;
+                periodsKept++;
+            }
+        }
+    }
+
+    private void writeBackup(String version, ReadOnlyAddressBook addressBook) throws IOException {
+        List<String> chunks = new ArrayList<>();
+        ChunkingOutputStream out = new ChunkingOutputStream((chunk, length) -> chunks.add(chunkStore.put(chunk,
+                length)));
+        try (out) {
+            JsonAddressBookWriter.write(addressBook, out, false);
+        }
+
+        Path manifestPath = getManifestPath(version);
+        FileUtil.createParentDirsOfFile(manifestPath);
+        JsonUtil.saveJsonFile(new JsonBackupManifest(version, out.getCount(), chunks), manifestPath);
+        logger.info("Backed up the address book as " + version + " in " + chunks.size() + " chunks");
+        removeExpiredBackups();
+    }
+
+    /**
+     * Removes the backups that {@code policy} does not keep, and the chunks that no kept backup uses.
+     */
+    private void removeExpiredBackups() throws IOException {
+        List<String> versions = listVersions();
+        Set<String> versionsToKeep = selectVersionsToKeep(versions, policy);
+        Set<String> chunksInUse = new HashSet<>();
+        for (String version : versions) {
+            if (!versionsToKeep.contains(version)) {
+                Files.deleteIfExists(getManifestPath(version));
+                continue;
+            }
+
+            try {
+                readManifest(version).ifPresent(manifest -> chunksInUse.addAll(manifest.getChunks()));
+            } catch (DataLoadingException | IllegalValueException e) {
+                // The chunks of the backup cannot be told apart from unused ones, so none are removed
+                logger.warning("Not removing unused chunks as backup " + version + " cannot be read: " + e);
+                return;
+            }
+        }
+
+        int removedCount = chunkStore.deleteAllExcept(chunksInUse);
+        logger.fine("Removed " + (versions.size() - versionsToKeep.size()) + " backups and " + removedCount
+                + " unused chunks");
+    }
+
+    private List<String> listVersions() throws IOException {
+        Path versionFolder = folder.resolve(VERSION_FOLDER);
+        if (!Files.isDirectory(versionFolder)) {
+            return new ArrayList<>();
+        }
+
+        try (Stream<Path> files = Files.list(versionFolder)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(MANIFEST_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - MANIFEST_SUFFIX.length()))
+                    .filter(ChunkedBackupStorage::isValidVersion)
+                    .sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readBackupNow(String version)
+            throws IOException, DataLoadingException, IllegalValueException {
+        Optional<JsonBackupManifest> manifest = readManifest(version);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        requireSize(manifest.get());
+        JsonAddressBookLoader loader = JsonAddressBookLoader.load(chunkStore.open(manifest.get().getChunks()));
+        return Optional.of(loader.toModelType());
+    }
+
+    /**
+     * Checks that the chunks listed by {@code manifest} are all stored and add up to the size of the backup, before
+     * they are streamed one after another into the loader.
+     */
+    private void requireSize(JsonBackupManifest manifest) throws IOException {
+        long size = 0;
+        for (String chunk : manifest.getChunks()) {
+            size += chunkStore.size(chunk);
+        }
+        if (size != manifest.getSize()) {
+            throw new IOException(String.format(MESSAGE_DAMAGED_BACKUP, manifest.getVersion(), size,
+                    manifest.getSize()));
+        }
+    }
+
+    private Optional<JsonBackupManifest> readManifest(String version)
+            throws DataLoadingException, IllegalValueException {
+        Optional<JsonBackupManifest> manifest = JsonUtil.readJsonFile(getManifestPath(version),
+                JsonBackupManifest.class);
+        if (manifest.isPresent()) {
+            manifest.get().requireComplete();
+        }
+        return manifest;
+    }
+
+    private Path getManifestPath(String version) {
+        return folder.resolve(VERSION_FOLDER).resolve(version + MANIFEST_SUFFIX);
+    }
+
+    private static <T> T await(Future<T> task) throws DataLoadingException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            } else if (e.getCause() instanceof Exception) {
+                throw new DataLoadingException((Exception) e.getCause());
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * An output stream that splits the bytes written to it into content-defined chunks, and hands each chunk to a
+ * {@link ChunkConsumer} as soon as it is complete.
+ * <p>
+ * Chunk boundaries are found with a gear rolling hash, as in FastCDC: after each byte, the hash is shifted left and
+ * the random number that the byte stands for is added, so that its top bits depend only on the last 64 bytes. A chunk
+ * ends where those bits are all zero. As a boundary depends only on the bytes just before it, an edit only changes
+ * the chunks around it; the chunks after it are cut at the same bytes as before, and are found in the chunk store.
+ * <p>
+ * Chunks are at least {@link #MIN_CHUNK_SIZE} and at most {@link #MAX_CHUNK_SIZE} bytes long (except for the last),
+ * and bytes before the minimum size are not hashed at all. A boundary is made less likely before
+ * {@link #AVERAGE_CHUNK_SIZE} and more likely after it, so that most chunks are close to the average size.
+ */
+class ChunkingOutputStream extends OutputStream {
+
+    static final int MIN_CHUNK_SIZE = 16 * 1024;
+    static final int AVERAGE_CHUNK_SIZE = 64 * 1024;
+    static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+    private static final long MASK_BEFORE_AVERAGE = topBits(18);
+    private static final long MASK_AFTER_AVERAGE = topBits(14);
+
+    // java.util.Random is fully specified, so the same table (and the same boundaries) are used on every platform
+    private static final long GEAR_SEED = 0x4f42_4b50L;
+    private static final long[] GEAR = new long[256];
+
+    static {
+        Random random = new Random(GEAR_SEED);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private final ChunkConsumer consumer;
+    private final byte[] chunk = new byte[MAX_CHUNK_SIZE];
+    private int size;
+    private long hash;
+    private long count;
+    private boolean isClosed;
+
+    /**
+     * Creates a stream that hands the chunks of the bytes written to it to {@code consumer}.
+     */
+    ChunkingOutputStream(ChunkConsumer consumer) {
+        requireNonNull(consumer);
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (isClosed) {
+            throw new IOException("Stream closed");
+        }
+
+        count += length;
+        int end = offset + length;
+        while (offset < end) {
+            int next = size < MIN_CHUNK_SIZE
+                    ? Math.min(end, offset + MIN_CHUNK_SIZE - size)
+                    : findBoundary(bytes, offset, Math.min(end, offset + MAX_CHUNK_SIZE - size));
+            System.arraycopy(bytes, offset, chunk, size, next - offset);
+            size += next - offset;
+            offset = next;
+            if (size == MAX_CHUNK_SIZE || size > MIN_CHUNK_SIZE && isAtBoundary()) {
+                endChunk();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes written to this stream.
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Does not end the current chunk, as its end must depend on the content alone.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Hands the last chunk to the consumer.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        if (size > 0) {
+            endChunk();
+        }
+    }
+
+    /**
+     * Hashes {@code bytes} from {@code from} as if they were appended to the current chunk, and returns the index
+     * after the first byte that ends a chunk, or {@code to} if none of them does.
+     */
+    private int findBoundary(byte[] bytes, int from, int to) {
+        long h = hash;
+        int chunkSize = size;
+        for (int i = from; i < to; i++) {
+            h = (h << 1) + GEAR[bytes[i] & 0xff];
+            chunkSize++;
+            if ((h & maskFor(chunkSize)) == 0) {
+                hash = h;
+                return i + 1;
+            }
+        }
+        hash = h;
+        return to;
+    }
+
+    private boolean isAtBoundary() {
+        return (hash & maskFor(size)) == 0;
+    }
+
+    private void endChunk() throws IOException {
+        consumer.accept(chunk, size);
+        size = 0;
+        hash = 0;
+    }
+
+    private static long maskFor(int chunkSize) {
+        return chunkSize < AVERAGE_CHUNK_SIZE ? MASK_BEFORE_AVERAGE : MASK_AFTER_AVERAGE;
+    }
+
+    private static long topBits(int count) {
+        return -1L << (Long.SIZE - count);
+    }
+
+    /**
+     * Receives the chunks of a {@link ChunkingOutputStream}.
+     */
+    @FunctionalInterface
+    interface ChunkConsumer {
+        /**
+         * Receives the chunk held by the first {@code length} bytes of {@code chunk}. The array is reused for the
+         * next chunk once this returns.
+         */
+        void accept(byte[] chunk, int length) throws IOException;
+    }
+}
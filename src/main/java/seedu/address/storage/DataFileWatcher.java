@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the folder of the data file, and tells a listener when the files of the address book in it (the data file,
+ * and the files named after it such as its journal) have been created, modified or deleted.
+ * <p>
+ * A single save usually touches the files several times, so the listener is only called once the folder has been
+ * quiet for {@link #SETTLE_MILLIS}. The listener is called for the app's own saves as well; it is up to the listener
+ * to tell those apart, e.g. with {@link AddressBookStorage#isAddressBookChangedExternally()}.
+ */
+public class DataFileWatcher implements AutoCloseable {
+
+    public static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final String fileName;
+    private final Runnable listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Creates a watcher of the files of the data file at {@code dataFilePath}, which calls {@code listener} on its own
+     * thread once they change. The folder of the data file is created if it does not exist yet.
+     *
+     * @throws IOException if the folder could not be created or watched.
+     */
+    public DataFileWatcher(Path dataFilePath, Runnable listener) throws IOException {
+        requireNonNull(dataFilePath);
+        requireNonNull(listener);
+        Path folder = dataFilePath.toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        this.fileName = dataFilePath.getFileName().toString();
+        this.listener = listener;
+        watchService = folder.getFileSystem().newWatchService();
+        folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        thread = new Thread(this::watch, "DataFileWatcher");
+        // Stops with the app, even if the watcher is never closed
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops watching. A call to the listener that is already due may still happen.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!hasDataFileEvent(watchService.take())) {
+                    continue;
+                }
+                // Wait for the changes to settle
+                WatchKey key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                while (key != null) {
+                    hasDataFileEvent(key);
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                listener.run();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching the files of " + fileName);
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} may be a change to the files of the data file, and gets
+     * {@code key} ready for the next events.
+     */
+    private boolean hasDataFileEvent(WatchKey key) {
+        boolean hasDataFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // Events lost to an overflow may have been about the data file
+            if (event.kind() == OVERFLOW || event.context().toString().startsWith(fileName)) {
+                hasDataFileEvent = true;
+            }
+        }
+        key.reset();
+        return hasDataFileEvent;
+    }
+}
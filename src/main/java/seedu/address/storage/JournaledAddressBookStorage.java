@@ -0,0 +1,526 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * A class to access AddressBook data stored as a JSON snapshot plus an append-only journal of changes.
+ * The storage keeps a copy of the address book as it was last read or saved. {@link #saveAddressBookEdits(List)}
+ * applies the edits recorded by the model to that copy and appends one line per edit to the journal, so it writes
+ * in proportion to the size of the change rather than the size of the address book. A whole address book given to
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} is written as a new snapshot, as is the copy every
+ * {@code checkpointInterval} records, which empties the journal. The snapshot has the same format as the data file
+ * of {@link JsonAddressBookStorage}.
+ * <p>
+ * {@link #saveAddressBookCache()} writes a {@link WarmStartCache} of the snapshot and journal, which later reads use
+ * instead of parsing them as long as neither has changed.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String CONFLICT_FILE_SUFFIX = ".conflict";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1_000;
+    public static final String MESSAGE_CHANGED_EXTERNALLY = "%1$s was changed by another program before the latest"
+            + " changes were saved. The latest changes were saved over it, and a copy of the other program's version"
+            + " was kept at %2$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+    private final boolean isCompact;
+    private final DataFileCompression compression;
+    private final WarmStartCache cache;
+
+    // Contents of the lists as of the last save or read, or null if nothing has been saved or read yet.
+    // savedPersons is assigned last and is volatile, as hasSavedCopy() is called from other threads.
+    private volatile List<Person> savedPersons;
+    private List<Event> savedEvents;
+    private List<Todo> savedTodos;
+
+    // Size and modification time of the snapshot as of the last save or read, used to notice when the file has
+    // been replaced by something else (e.g. converted to another format), which makes the journal meaningless.
+    private long savedSnapshotSize;
+    private FileTime savedSnapshotTime;
+    // Same for the journal, which is null if there was no journal
+    private long savedJournalSize;
+    private FileTime savedJournalTime;
+
+    private long lastSequence;
+    private int recordsSinceCheckpoint;
+    private boolean isCheckpointNeeded;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL, false);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot after every {@code checkpointInterval} journal records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, false);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot after every {@code checkpointInterval} journal records, without
+     * indentation and line breaks if {@code isCompact} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval, boolean isCompact) {
+        this(filePath, checkpointInterval, isCompact, new DataFileCompression());
+    }
+
+    /**
+     * Creates a storage like {@link #JournaledAddressBookStorage(Path, int, boolean)} that compresses its snapshots
+     * with the codec of {@code compression}. The journal is only ever appended to, so it is not compressed.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval, boolean isCompact,
+                                       DataFileCompression compression) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        assert checkpointInterval > 0;
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+        this.isCompact = isCompact;
+        this.compression = compression;
+        this.cache = new WarmStartCache(WarmStartCache.getCachePath(filePath),
+                List.of(filePath, getJournalPath(filePath)));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path that a snapshot at {@code snapshotPath} changed by another program is copied to before
+     * edits are saved over it. The copy has its own journal, so it can be read like any data file.
+     */
+    public static Path getConflictPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + CONFLICT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the records of its journal that are newer than it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<StagedAddressBook> addressBook = readInStages(filePath, false);
+        return addressBook.isPresent() ? Optional.of(addressBook.get().readRemaining()) : Optional.empty();
+    }
+
+    /**
+     * Reads the snapshot and replays the journal like {@link #readAddressBook()}, but leaves the todos to be
+     * converted by the second stage.
+     */
+    @Override
+    public Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
+        return readInStages(filePath, true);
+    }
+
+    private Optional<StagedAddressBook> readInStages(Path filePath, boolean isPersonsFirst)
+            throws DataLoadingException {
+        if (filePath.equals(this.filePath)) {
+            Optional<WarmStartCache.CachedAddressBook> cachedAddressBook = cache.read();
+            if (cachedAddressBook.isPresent()) {
+                logger.info("Read " + filePath + " and its journal from the cache");
+                ReadOnlyAddressBook addressBook = cachedAddressBook.get().getAddressBook();
+                lastSequence = Math.max(lastSequence, cachedAddressBook.get().getJournalSequence());
+                recordsSinceCheckpoint = cachedAddressBook.get().getJournalRecordCount();
+                remember(addressBook);
+                rememberSnapshotFile();
+                return Optional.of(StagedAddressBook.of(addressBook));
+            }
+        }
+
+        Optional<JsonAddressBookLoader> snapshot;
+        ReplayedJournal journal;
+        try {
+            snapshot = isPersonsFirst
+                    ? JsonAddressBookLoader.loadPersonsFirst(filePath)
+                    : JsonAddressBookLoader.load(filePath);
+            if (!snapshot.isPresent()) {
+                if (Files.exists(getJournalPath(filePath))) {
+                    logger.warning("Ignoring journal " + getJournalPath(filePath) + " as its snapshot is missing.");
+                }
+                return Optional.empty();
+            }
+            journal = replayJournal(snapshot.get(), getJournalPath(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        return Optional.of(new StagedAddressBook(snapshot.get().getPersons(), () -> {
+            ReadOnlyAddressBook addressBook;
+            try {
+                addressBook = snapshot.get().toModelType();
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+
+            if (filePath.equals(this.filePath)) {
+                // Later saves only need to journal what changes after this point
+                lastSequence = Math.max(lastSequence, snapshot.get().getJournalSequence());
+                lastSequence = Math.max(lastSequence, journal.lastSequence);
+                recordsSinceCheckpoint = journal.recordCount;
+                remember(addressBook);
+                rememberSnapshotFile();
+            }
+            return addressBook;
+        }));
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} that are not yet included in {@code addressBook},
+     * reading the journal one line at a time, and returns a summary of every record in the journal.
+     * An unreadable last line is the remains of an interrupted append, and is skipped.
+     */
+    private ReplayedJournal replayJournal(JsonAddressBookLoader addressBook, Path journalPath)
+            throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return new ReplayedJournal(0, 0);
+        }
+
+        long lastRecordSequence = 0;
+        int recordCount = 0;
+        int replayedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath)) {
+            // Set when a line cannot be read, which is only allowed if no line follows it
+            IOException unreadableLineError = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (unreadableLineError != null) {
+                    throw new DataLoadingException(unreadableLineError);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    unreadableLineError = e;
+                    continue;
+                }
+
+                lastRecordSequence = Math.max(lastRecordSequence, record.getSeq());
+                recordCount++;
+                if (record.getSeq() > addressBook.getJournalSequence()) {
+                    addressBook.applyJournalRecord(record);
+                    replayedCount++;
+                }
+            }
+            if (unreadableLineError != null) {
+                logger.warning("Skipping incomplete last record of journal " + journalPath);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        logger.info("Replayed " + replayedCount + " records from journal " + journalPath);
+        return new ReplayedJournal(lastRecordSequence, recordCount);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving the whole address book to this storage's own file path writes it as a new snapshot, and later edits are
+     * journaled against it. Saving to any other path only writes a complete snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookWriter.write(addressBook, filePath, isCompact, compression);
+            return;
+        }
+
+        // Remembered first, so that the copy holds the address book even if the snapshot cannot be written
+        remember(addressBook);
+        checkpoint();
+    }
+
+    @Override
+    public boolean hasSavedCopy() {
+        return savedPersons != null;
+    }
+
+    /**
+     * Applies {@code edits} to the address book last read or saved, and appends them to the journal.
+     * A new snapshot is written instead if the journal cannot be trusted after a failed save, or the snapshot has
+     * been deleted. The edits are applied to the copy of this storage even if they cannot be written.
+     * <p>
+     * If the snapshot or journal has been changed by another program, there is nothing to reload it into without
+     * losing the edits. They are saved over it as a new snapshot, after the other program's version is copied to
+     * {@link #getConflictPath(Path)} so that neither is lost. Without edits, nothing is written, so that the data file
+     * can be reloaded instead.
+     *
+     * @throws IOException if the edits were saved over a data file changed by another program, to tell the user, or
+     *     if there was any problem writing to the file.
+     */
+    @Override
+    public void saveAddressBookEdits(List<ListEdit> edits) throws IOException {
+        requireNonNull(edits);
+        if (!hasSavedCopy()) {
+            throw new IllegalStateException("Nothing read or saved to apply the edits to");
+        }
+        // After a failed save the files lack changes of this storage, and are only rewritten from its copy
+        boolean isChangedExternally = !isCheckpointNeeded && Files.exists(filePath)
+                && (isSnapshotReplaced() || isJournalReplaced());
+        if (isChangedExternally && edits.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (ListEdit edit : edits) {
+            records.add(apply(edit));
+        }
+        if (isChangedExternally) {
+            // If the copy fails, the next save finds the files changed again and tries again
+            copyToConflictPath();
+            checkpoint();
+            throw new IOException(String.format(MESSAGE_CHANGED_EXTERNALLY, filePath, getConflictPath(filePath)));
+        }
+        if (isCheckpointNeeded || isSnapshotReplaced()) {
+            checkpoint();
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        append(records);
+        if (recordsSinceCheckpoint >= checkpointInterval) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Writes the address book as it was last read or saved to the cache, together with the journal position, unless
+     * the snapshot or journal may no longer hold it.
+     */
+    @Override
+    public void saveAddressBookCache() throws IOException {
+        if (savedPersons == null || isCheckpointNeeded || isSnapshotReplaced()) {
+            logger.fine("Not caching " + filePath + " as it may not hold the address book last read or saved");
+            return;
+        }
+        cache.write(getSavedCopy(), lastSequence, recordsSinceCheckpoint);
+        logger.fine("Cached " + filePath + " up to journal record " + lastSequence);
+    }
+
+    /**
+     * Returns true if the snapshot or the journal is no longer the file this storage last read or wrote, or if the
+     * snapshot has appeared since this storage found none.
+     * Returns false after a failed save, as the files then lack changes that only the address book being saved has.
+     */
+    @Override
+    public boolean isAddressBookChangedExternally() {
+        if (isCheckpointNeeded) {
+            return false;
+        }
+        if (savedPersons == null) {
+            return Files.exists(filePath);
+        }
+        return isSnapshotReplaced() || isJournalReplaced();
+    }
+
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        remember(addressBook);
+    }
+
+    /**
+     * Copies the snapshot and journal, as changed by another program, to {@link #getConflictPath(Path)} and its
+     * journal, replacing any earlier copy.
+     */
+    private void copyToConflictPath() throws IOException {
+        Path conflictPath = getConflictPath(filePath);
+        Files.copy(filePath, conflictPath, StandardCopyOption.REPLACE_EXISTING);
+        if (Files.exists(getJournalPath(filePath))) {
+            Files.copy(getJournalPath(filePath), getJournalPath(conflictPath), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(getJournalPath(conflictPath));
+        }
+        logger.warning(filePath + " was changed by another program, copied it to " + conflictPath
+                + " before saving over it");
+    }
+
+    private void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+        try {
+            FileUtil.appendToFile(getJournalPath(filePath), lines.toString());
+        } catch (IOException e) {
+            // The journal may now end with part of the records, so only a new snapshot is trustworthy
+            isCheckpointNeeded = true;
+            throw e;
+        }
+        recordsSinceCheckpoint += records.size();
+        rememberJournalFile();
+    }
+
+    /**
+     * Writes the address book last read or saved as the new snapshot and empties the journal.
+     */
+    private void checkpoint() throws IOException {
+        // The journal is only removed once the snapshot is in place, and the snapshot records which journal
+        // records it already includes, so a crash in between does not apply any record twice
+        isCheckpointNeeded = true;
+        JsonAddressBookWriter.writeSnapshot(getSavedCopy(), filePath, isCompact, compression, lastSequence);
+        Files.deleteIfExists(getJournalPath(filePath));
+
+        rememberSnapshotFile();
+        recordsSinceCheckpoint = 0;
+        isCheckpointNeeded = false;
+        logger.fine("Wrote snapshot " + filePath + " up to journal record " + lastSequence);
+    }
+
+    private void remember(ReadOnlyAddressBook addressBook) {
+        savedEvents = new ArrayList<>(addressBook.getEventList());
+        savedTodos = new ArrayList<>(addressBook.getTodoList());
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+    }
+
+    private ReadOnlyAddressBook getSavedCopy() {
+        return new AddressBookSnapshot(savedPersons, savedEvents, savedTodos);
+    }
+
+    /**
+     * Applies {@code edit} to the address book last read or saved, and returns it as the next journal record.
+     */
+    private JsonAdaptedJournalRecord apply(ListEdit edit) {
+        long seq = ++lastSequence;
+        switch (edit.getEntryType()) {
+        case PERSON:
+            List<Person> persons = edit.getAdded(Person.class);
+            replaceRange(savedPersons, edit, persons);
+            return JsonAdaptedJournalRecord.ofPersons(seq, edit.getFrom(), edit.getRemovedSize(), persons);
+        case EVENT:
+            List<Event> events = edit.getAdded(Event.class);
+            replaceRange(savedEvents, edit, events);
+            return JsonAdaptedJournalRecord.ofEvents(seq, edit.getFrom(), edit.getRemovedSize(), events);
+        default:
+            List<Todo> todos = edit.getAdded(Todo.class);
+            replaceRange(savedTodos, edit, todos);
+            return JsonAdaptedJournalRecord.ofTodos(seq, edit.getFrom(), edit.getRemovedSize(), todos);
+        }
+    }
+
+    private static <T> void replaceRange(List<T> entries, ListEdit edit, List<T> added) {
+        List<T> range = entries.subList(edit.getFrom(), edit.getFrom() + edit.getRemovedSize());
+        range.clear();
+        range.addAll(added);
+    }
+
+    private void rememberSnapshotFile() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            savedSnapshotSize = attributes.size();
+            savedSnapshotTime = attributes.lastModifiedTime();
+        } catch (IOException e) {
+            savedSnapshotTime = null;
+        }
+        rememberJournalFile();
+    }
+
+    private void rememberJournalFile() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(getJournalPath(filePath), BasicFileAttributes.class);
+            savedJournalSize = attributes.size();
+            savedJournalTime = attributes.lastModifiedTime();
+        } catch (IOException e) {
+            savedJournalTime = null;
+        }
+    }
+
+    /**
+     * Returns true if the snapshot is no longer the file this storage last read or wrote.
+     */
+    private boolean isSnapshotReplaced() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return attributes.size() != savedSnapshotSize || !attributes.lastModifiedTime().equals(savedSnapshotTime);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Returns true if the journal is no longer the file this storage last read or wrote, or has appeared or
+     * disappeared since.
+     */
+    private boolean isJournalReplaced() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(getJournalPath(filePath), BasicFileAttributes.class);
+            return attributes.size() != savedJournalSize || !attributes.lastModifiedTime().equals(savedJournalTime);
+        } catch (IOException e) {
+            return savedJournalTime != null;
+        }
+    }
+
+    /**
+     * The highest sequence number and the number of records found in a journal.
+     */
+    private static class ReplayedJournal {
+        private final long lastSequence;
+        private final int recordCount;
+
+        ReplayedJournal(long lastSequence, int recordCount) {
+            this.lastSequence = lastSequence;
+            this.recordCount = recordCount;
+        }
+    }
+}
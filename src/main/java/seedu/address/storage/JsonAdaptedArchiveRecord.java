@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Jackson-friendly version of the events and todos moved to the archive at one time.
+ */
+class JsonAdaptedArchiveRecord {
+
+    private final String archivedAt;
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final List<JsonAdaptedTodo> todos = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedArchiveRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchiveRecord(@JsonProperty("archivedAt") String archivedAt,
+                                    @JsonProperty("events") List<JsonAdaptedEvent> events,
+                                    @JsonProperty("todos") List<JsonAdaptedTodo> todos) {
+        this.archivedAt = archivedAt;
+        if (events != null) {
+            this.events.addAll(events);
+        }
+        if (todos != null) {
+            this.todos.addAll(todos);
+        }
+    }
+
+    /**
+     * Converts the events and todos of {@code entries}, archived at {@code archivedAt}, into this class for Jackson
+     * use.
+     */
+    public JsonAdaptedArchiveRecord(String archivedAt, ReadOnlyAddressBook entries) {
+        this.archivedAt = archivedAt;
+        events.addAll(entries.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        todos.addAll(entries.getTodoList().stream().map(JsonAdaptedTodo::new).collect(Collectors.toList()));
+    }
+
+    String getArchivedAt() {
+        return archivedAt;
+    }
+
+    List<JsonAdaptedEvent> getEvents() {
+        return events;
+    }
+
+    List<JsonAdaptedTodo> getTodos() {
+        return todos;
+    }
+}
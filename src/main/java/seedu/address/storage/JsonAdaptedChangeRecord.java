@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.model.EntryChange;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Jackson-friendly version of one record of the change feed: an {@link EntryChange} and its sequence number.
+ * The entry as it is after the change is held in the field named after its type; deletes only have the key.
+ * The sequence number is always written first, so that it can be read without parsing the rest of the record.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"seq", "time", "op", "type", "key", "person", "event", "todo"})
+class JsonAdaptedChangeRecord {
+
+    private final long seq;
+    private final String time;
+    private final String op;
+    private final String type;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedEvent event;
+    private final JsonAdaptedTodo todo;
+
+    /**
+     * Constructs a {@code JsonAdaptedChangeRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedChangeRecord(@JsonProperty("seq") long seq,
+                                   @JsonProperty("time") String time,
+                                   @JsonProperty("op") String op,
+                                   @JsonProperty("type") String type,
+                                   @JsonProperty("key") String key,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("event") JsonAdaptedEvent event,
+                                   @JsonProperty("todo") JsonAdaptedTodo todo) {
+        this.seq = seq;
+        this.time = time;
+        this.op = op;
+        this.type = type;
+        this.key = key;
+        this.person = person;
+        this.event = event;
+        this.todo = todo;
+    }
+
+    /**
+     * Converts {@code change}, recorded as change number {@code seq}, into this class for Jackson use.
+     */
+    public JsonAdaptedChangeRecord(long seq, EntryChange change) {
+        this.seq = seq;
+        time = change.getTime().toString();
+        op = change.getOperation().name().toLowerCase(Locale.ROOT);
+        type = change.getEntryType().name().toLowerCase(Locale.ROOT);
+        key = JsonIds.toJsonId(change.getKey());
+        Object entry = change.getEntry().orElse(null);
+        person = entry instanceof Person ? new JsonAdaptedPerson((Person) entry) : null;
+        event = entry instanceof Event ? new JsonAdaptedEvent((Event) entry) : null;
+        todo = entry instanceof Todo ? new JsonAdaptedTodo((Todo) entry) : null;
+    }
+
+    long getSeq() {
+        return seq;
+    }
+
+    String getTime() {
+        return time;
+    }
+
+    String getOp() {
+        return op;
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    JsonAdaptedEvent getEvent() {
+        return event;
+    }
+
+    JsonAdaptedTodo getTodo() {
+        return todo;
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Event;
@@ -12,11 +18,12 @@ import seedu.address.model.event.EventName;
 
 
 /**
- * Jackson-friendly version of {@link Event}.
+ * Jackson-friendly version of {@link Event}, read and written by the serializers of {@link JsonAdaptedModule}.
  */
 public class JsonAdaptedEvent {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
 
+    private final String id;
     private final String name;
     private final String alias;
     private final String start;
@@ -26,12 +33,8 @@ public class JsonAdaptedEvent {
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
      */
-    @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("name") String name,
-                            @JsonProperty("alias") String alias,
-                            @JsonProperty("start") String start,
-                            @JsonProperty("end") String end,
-                            @JsonProperty("description") String description) {
+    public JsonAdaptedEvent(String id, String name, String alias, String start, String end, String description) {
+        this.id = id;
         this.name = name;
         this.alias = alias;
         this.start = start;
@@ -39,10 +42,18 @@ public class JsonAdaptedEvent {
         this.description = description;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedEvent} without an id, as stored before ids were introduced.
+     */
+    public JsonAdaptedEvent(String name, String alias, String start, String end, String description) {
+        this(null, name, alias, start, end, description);
+    }
+
     /**
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        this.id = JsonIds.toJsonId(source.getId());
         this.name = source.getName();
         this.alias = source.getAlias();
         this.start = source.getStart().toString();
@@ -56,6 +67,8 @@ public class JsonAdaptedEvent {
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
+        UUID modelId = JsonIds.toModelId(id);
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
         }
@@ -78,9 +91,78 @@ public class JsonAdaptedEvent {
         LocalDateTime modelEnd = LocalDateTime.parse(end);
 
         try {
-            return new Event(modelName, modelAlias, modelStart, modelEnd, description);
+            return new Event(modelId, modelName, modelAlias, modelStart, modelEnd, description);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
     }
+
+    /**
+     * Writes the fields of a {@code JsonAdaptedEvent} in the order they are declared.
+     */
+    static class Serializer extends StdSerializer<JsonAdaptedEvent> {
+        Serializer() {
+            super(JsonAdaptedEvent.class);
+        }
+
+        @Override
+        public void serialize(JsonAdaptedEvent event, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", event.id);
+            generator.writeStringField("name", event.name);
+            generator.writeStringField("alias", event.alias);
+            generator.writeStringField("start", event.start);
+            generator.writeStringField("end", event.end);
+            generator.writeStringField("description", event.description);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads a {@code JsonAdaptedEvent}, leaving out fields that are missing or unknown.
+     */
+    static class Deserializer extends StdDeserializer<JsonAdaptedEvent> {
+        Deserializer() {
+            super(JsonAdaptedEvent.class);
+        }
+
+        @Override
+        public JsonAdaptedEvent deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonAdaptedModule.expectObject(parser, JsonAdaptedEvent.class);
+            String id = null;
+            String name = null;
+            String alias = null;
+            String start = null;
+            String end = null;
+            String description = null;
+
+            for (String field = JsonAdaptedModule.nextField(parser); field != null;
+                    field = JsonAdaptedModule.nextField(parser)) {
+                switch (field) {
+                case "id":
+                    id = JsonAdaptedModule.readString(parser);
+                    break;
+                case "name":
+                    name = JsonAdaptedModule.readString(parser);
+                    break;
+                case "alias":
+                    alias = JsonAdaptedModule.readString(parser);
+                    break;
+                case "start":
+                    start = JsonAdaptedModule.readString(parser);
+                    break;
+                case "end":
+                    end = JsonAdaptedModule.readString(parser);
+                    break;
+                case "description":
+                    description = JsonAdaptedModule.readString(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            return new JsonAdaptedEvent(id, name, alias, start, end, description);
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Jackson-friendly version of a single change to one of the lists of an address book.
+ * The change removes {@code removedSize} entries starting at index {@code from}, then inserts the added entries
+ * at {@code from}, in the same way as a {@code ListChangeListener.Change}.
+ * Added entries are stored with their own ids and the ids of the entries they link to, so that replaying a record
+ * restores the same entries, linked in the same way.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String PERSONS = "persons";
+    public static final String EVENTS = "events";
+    public static final String TODOS = "todos";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    private final long seq;
+    private final String list;
+    private final int from;
+    private final int removedSize;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedEvent> events;
+    private final List<JsonAdaptedTodo> todos;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("seq") long seq,
+                                    @JsonProperty("list") String list,
+                                    @JsonProperty("from") int from,
+                                    @JsonProperty("removedSize") int removedSize,
+                                    @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                    @JsonProperty("events") List<JsonAdaptedEvent> events,
+                                    @JsonProperty("todos") List<JsonAdaptedTodo> todos) {
+        this.seq = seq;
+        this.list = list;
+        this.from = from;
+        this.removedSize = removedSize;
+        this.persons = persons;
+        this.events = events;
+        this.todos = todos;
+    }
+
+    /**
+     * Returns a record of a change to the person list that replaces {@code removedSize} persons at {@code from}
+     * with {@code added}.
+     */
+    static JsonAdaptedJournalRecord ofPersons(long seq, int from, int removedSize, List<Person> added) {
+        return new JsonAdaptedJournalRecord(seq, PERSONS, from, removedSize,
+                added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()), null, null);
+    }
+
+    /**
+     * Returns a record of a change to the event list that replaces {@code removedSize} events at {@code from}
+     * with {@code added}.
+     */
+    static JsonAdaptedJournalRecord ofEvents(long seq, int from, int removedSize, List<Event> added) {
+        return new JsonAdaptedJournalRecord(seq, EVENTS, from, removedSize, null,
+                added.stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns a record of a change to the todo list that replaces {@code removedSize} todos at {@code from}
+     * with {@code added}.
+     */
+    static JsonAdaptedJournalRecord ofTodos(long seq, int from, int removedSize, List<Todo> added) {
+        return new JsonAdaptedJournalRecord(seq, TODOS, from, removedSize, null, null,
+                added.stream().map(JsonAdaptedTodo::new).collect(Collectors.toList()));
+    }
+
+    long getSeq() {
+        return seq;
+    }
+
+    String getList() {
+        return list;
+    }
+
+    int getFrom() {
+        return from;
+    }
+
+    int getRemovedSize() {
+        return removedSize;
+    }
+
+    /**
+     * Returns the added persons.
+     *
+     * @throws IllegalValueException if this record has no added persons.
+     */
+    List<JsonAdaptedPerson> getAddedPersons() throws IllegalValueException {
+        return requirePresent(persons, PERSONS);
+    }
+
+    /**
+     * Returns the added events.
+     *
+     * @throws IllegalValueException if this record has no added events.
+     */
+    List<JsonAdaptedEvent> getAddedEvents() throws IllegalValueException {
+        return requirePresent(events, EVENTS);
+    }
+
+    /**
+     * Returns the added todos.
+     *
+     * @throws IllegalValueException if this record has no added todos.
+     */
+    List<JsonAdaptedTodo> getAddedTodos() throws IllegalValueException {
+        return requirePresent(todos, TODOS);
+    }
+
+    private static <T> List<T> requirePresent(List<T> added, String fieldName) throws IllegalValueException {
+        if (added == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return new ArrayList<>(added);
+    }
+}
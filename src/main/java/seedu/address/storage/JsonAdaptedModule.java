@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * A Jackson module with hand-written serializers and deserializers for the persons, events and todos of the data
+ * file. They read and write the fields of the {@code JsonAdapted*} classes directly, instead of looking them up
+ * and setting them through reflection, and read tags as plain strings.
+ * <p>
+ * The module is listed in {@code META-INF/services}, so {@code JsonUtil} registers it with
+ * {@code ObjectMapper#findAndRegisterModules()} like any other module on the classpath.
+ */
+public class JsonAdaptedModule extends SimpleModule {
+
+    /**
+     * Creates the module with the serializers and deserializers of each {@code JsonAdapted*} entry.
+     */
+    public JsonAdaptedModule() {
+        super(JsonAdaptedModule.class.getSimpleName());
+        addSerializer(JsonAdaptedPerson.class, new JsonAdaptedPerson.Serializer());
+        addDeserializer(JsonAdaptedPerson.class, new JsonAdaptedPerson.Deserializer());
+        addSerializer(JsonAdaptedEvent.class, new JsonAdaptedEvent.Serializer());
+        addDeserializer(JsonAdaptedEvent.class, new JsonAdaptedEvent.Deserializer());
+        addSerializer(JsonAdaptedTodo.class, new JsonAdaptedTodo.Serializer());
+        addDeserializer(JsonAdaptedTodo.class, new JsonAdaptedTodo.Deserializer());
+    }
+
+    /**
+     * Checks that {@code parser} is at the start of an object, as deserializers are called.
+     */
+    static void expectObject(JsonParser parser, Class<?> type) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an object for " + type.getSimpleName()
+                    + " but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Moves {@code parser} to the value of the next field of the current object, and returns the name of the field.
+     * Returns null at the end of the object.
+     */
+    static String nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            throw JsonMappingException.from(parser, "Expected a field name but found " + token);
+        }
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        return fieldName;
+    }
+
+    /**
+     * Returns the string value {@code parser} is at, or null for a JSON null.
+     * Numbers and booleans are read as their text, as Jackson does for {@code String} fields.
+     */
+    static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isScalarValue()) {
+            throw JsonMappingException.from(parser, "Expected a string but found " + token);
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Returns the boolean value {@code parser} is at. A JSON null is read as false, as Jackson does for
+     * {@code boolean} fields.
+     */
+    static boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (token == JsonToken.VALUE_FALSE || token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token == JsonToken.VALUE_STRING && "true".equals(parser.getText())) {
+            return true;
+        }
+        if (token == JsonToken.VALUE_STRING && "false".equals(parser.getText())) {
+            return false;
+        }
+        throw JsonMappingException.from(parser, "Expected true or false but found " + token);
+    }
+
+    /**
+     * Returns the array of strings {@code parser} is at, or null for a JSON null.
+     */
+    static List<String> readStrings(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(parser, "Expected an array but found " + token);
+        }
+
+        List<String> strings = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(readString(parser));
+        }
+        return strings;
+    }
+}
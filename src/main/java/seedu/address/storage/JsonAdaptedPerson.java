@@ -1,16 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -19,29 +30,29 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
 /**
- * Jackson-friendly version of {@link Person}.
+ * Jackson-friendly version of {@link Person}, read and written by the serializers of {@link JsonAdaptedModule}.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPerson.class);
+
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
-    private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final List<String> tags = new ArrayList<>();
     private final String eventAlias;
+    private final String eventId; // references the linked Event by id
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
-    @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
-                             @JsonProperty("phone") String phone,
-                             @JsonProperty("email") String email,
-                             @JsonProperty("address") String address,
-                             @JsonProperty("tags") List<JsonAdaptedTag> tags,
-                             @JsonProperty("eventAlias") String eventAlias) {
+    public JsonAdaptedPerson(String id, String name, String phone, String email, String address, List<String> tags,
+                             String eventAlias, String eventId) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -50,31 +61,77 @@ class JsonAdaptedPerson {
             this.tags.addAll(tags);
         }
         this.eventAlias = eventAlias;
+        this.eventId = eventId;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without ids, as stored before ids were introduced.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address,
+                             List<String> tags, String eventAlias) {
+        this(null, name, phone, email, address, tags, eventAlias, null);
     }
 
     /**
      * Converts a given {@code Person} into this class for Jackson use.
+     * The person's linked event is stored by id only.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, storing the alias of {@code linkedEvent}
+     * along with the id of the linked event. {@code linkedEvent} is null if the person's linked event is unknown.
+     */
+    public JsonAdaptedPerson(Person source, Event linkedEvent) {
+        id = JsonIds.toJsonId(source.getId());
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
         tags.addAll(source.getTags().stream()
-                .map(JsonAdaptedTag::new)
+                .map(tag -> tag.tagName)
                 .collect(Collectors.toList()));
-        eventAlias = source.getEventAlias() == null ? null : source.getEventAlias().toString();
+        eventAlias = linkedEvent == null ? null : linkedEvent.getAlias();
+        eventId = JsonIds.toJsonId(source.getEventId());
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The events are not known here, so a stored event id is kept as it is.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap(), Collections.emptyMap(), false);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object,
+     * looking up the linked event by id in {@code eventsById}. If the person has no event id or the event cannot be
+     * found, the stored event alias is looked up in {@code eventIdsByAlias}, keyed by lowercased alias, instead.
+     * A stored event id that is found in neither refers to an event that does not exist, so the link is cleared and
+     * logged.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(Map<UUID, Event> eventsById, Map<String, UUID> eventIdsByAlias)
+            throws IllegalValueException {
+        return toModelType(eventsById, eventIdsByAlias, true);
+    }
+
+    private Person toModelType(Map<UUID, Event> eventsById, Map<String, UUID> eventIdsByAlias,
+            boolean isUnknownEventCleared) throws IllegalValueException {
+        final UUID modelId = JsonIds.toModelId(id);
+        final UUID modelEventId = JsonIds.toModelReference(eventId);
+
         final List<Tag> personTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+        for (String tag : tags) {
+            if (tag == null || !Tag.isValidTagName(tag)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            personTags.add(new Tag(tag));
         }
 
         if (name == null) {
@@ -111,12 +168,98 @@ class JsonAdaptedPerson {
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        EventAlias modelEventAlias = null;
-        if (eventAlias != null) {
-            modelEventAlias = new EventAlias(eventAlias);
+        UUID modelLinkedEventId = modelEventId;
+        if ((modelEventId == null || !eventsById.containsKey(modelEventId)) && eventAlias != null
+                && eventIdsByAlias.containsKey(eventAlias.toLowerCase(Locale.ROOT))) {
+            modelLinkedEventId = eventIdsByAlias.get(eventAlias.toLowerCase(Locale.ROOT));
+        } else if (isUnknownEventCleared && modelEventId != null && !eventsById.containsKey(modelEventId)) {
+            logger.warning("Unlinked " + name + " from event " + modelEventId + ", which does not exist");
+            modelLinkedEventId = null;
+        }
+
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags, modelLinkedEventId);
+    }
+
+    /**
+     * Writes the fields of a {@code JsonAdaptedPerson} in the order they are declared.
+     */
+    static class Serializer extends StdSerializer<JsonAdaptedPerson> {
+        Serializer() {
+            super(JsonAdaptedPerson.class);
         }
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelEventAlias);
+        @Override
+        public void serialize(JsonAdaptedPerson person, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", person.id);
+            generator.writeStringField("name", person.name);
+            generator.writeStringField("phone", person.phone);
+            generator.writeStringField("email", person.email);
+            generator.writeStringField("address", person.address);
+            generator.writeArrayFieldStart("tags");
+            for (String tag : person.tags) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("eventAlias", person.eventAlias);
+            generator.writeStringField("eventId", person.eventId);
+            generator.writeEndObject();
+        }
     }
 
+    /**
+     * Reads a {@code JsonAdaptedPerson}, leaving out fields that are missing or unknown.
+     */
+    static class Deserializer extends StdDeserializer<JsonAdaptedPerson> {
+        Deserializer() {
+            super(JsonAdaptedPerson.class);
+        }
+
+        @Override
+        public JsonAdaptedPerson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonAdaptedModule.expectObject(parser, JsonAdaptedPerson.class);
+            String id = null;
+            String name = null;
+            String phone = null;
+            String email = null;
+            String address = null;
+            List<String> tags = null;
+            String eventAlias = null;
+            String eventId = null;
+
+            for (String field = JsonAdaptedModule.nextField(parser); field != null;
+                    field = JsonAdaptedModule.nextField(parser)) {
+                switch (field) {
+                case "id":
+                    id = JsonAdaptedModule.readString(parser);
+                    break;
+                case "name":
+                    name = JsonAdaptedModule.readString(parser);
+                    break;
+                case "phone":
+                    phone = JsonAdaptedModule.readString(parser);
+                    break;
+                case "email":
+                    email = JsonAdaptedModule.readString(parser);
+                    break;
+                case "address":
+                    address = JsonAdaptedModule.readString(parser);
+                    break;
+                case "tags":
+                    tags = JsonAdaptedModule.readStrings(parser);
+                    break;
+                case "eventAlias":
+                    eventAlias = JsonAdaptedModule.readString(parser);
+                    break;
+                case "eventId":
+                    eventId = JsonAdaptedModule.readString(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            return new JsonAdaptedPerson(id, name, phone, email, address, tags, eventAlias, eventId);
+        }
+    }
 }
@@ -2,50 +2,78 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.TodoName;
 
 /**
- * Jackson-friendly adapted version of {@link Todo}
+ * Jackson-friendly adapted version of {@link Todo}, read and written by the serializers of {@link JsonAdaptedModule}.
  */
 public class JsonAdaptedTodo {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Todo's %s field is missing!";
 
+    private final String id;
     private final String todoName;
     private final String description;
     private final String contactName; // references Person by unique name
+    private final String contactId; // references Person by id
     private final boolean isCompleted;
 
     /**
      * Constructs a {@code JsonAdaptedTodo} with the given todo details
      */
-    @JsonCreator
-    public JsonAdaptedTodo(@JsonProperty("todoName") String todoName,
-                           @JsonProperty("description") String description,
-                           @JsonProperty("contactName") String contactName,
-                           @JsonProperty("isCompleted") boolean isCompleted) {
+    public JsonAdaptedTodo(String id, String todoName, String description, String contactName, String contactId,
+                           boolean isCompleted) {
+        this.id = id;
         this.todoName = todoName;
         this.description = description;
         this.contactName = contactName;
+        this.contactId = contactId;
         this.isCompleted = isCompleted;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedTodo} without ids, as stored before ids were introduced.
+     */
+    public JsonAdaptedTodo(String todoName, String description, String contactName, boolean isCompleted) {
+        this(null, todoName, description, contactName, null, isCompleted);
+    }
+
     /**
      * Converts a given {@code Todo} into this class for Jackson use.
+     * The todo's linked contact is stored by id only.
      */
     public JsonAdaptedTodo(Todo source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Todo} into this class for Jackson use, storing the name of {@code contact} along with
+     * the id of the linked contact. {@code contact} is null if the todo's linked contact is unknown.
+     */
+    public JsonAdaptedTodo(Todo source, Person contact) {
         requireNonNull(source);
+        this.id = JsonIds.toJsonId(source.getId());
         this.todoName = source.getTodoName().toString();
         this.description = source.getTodoDescription();
-        this.contactName = source.getContactName() == null
-                ? null
-                : source.getContactName().fullName;
+        this.contactName = contact == null ? null : contact.getName().fullName;
+        this.contactId = JsonIds.toJsonId(source.getContactId());
         this.isCompleted = source.getIsCompleted();
     }
 
@@ -55,6 +83,22 @@ public class JsonAdaptedTodo {
      * @throws IllegalValueException if there were any data constraints violated in the adapted todo.
      */
     public Todo toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted todo object into the model's {@code Todo} object,
+     * looking up the linked contact by id in {@code personsById}. If the todo has no contact id or the contact cannot
+     * be found, the stored contact name is looked up in {@code personIdsByName}, keyed by lowercased name, instead.
+     * A stored contact id that is found in neither is kept as it is.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted todo.
+     */
+    public Todo toModelType(Map<UUID, Person> personsById, Map<String, UUID> personIdsByName)
+            throws IllegalValueException {
+        final UUID modelId = JsonIds.toModelId(id);
+        final UUID modelContactId = JsonIds.toModelReference(contactId);
+
         if (todoName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "todoName"));
         }
@@ -63,17 +107,85 @@ public class JsonAdaptedTodo {
         }
         TodoName modelTodoName = new TodoName(todoName);
 
-        final Name modelContactName;
-        if (contactName == null) {
-            modelContactName = null;
-        } else {
-            try {
-                modelContactName = new Name(contactName);
-            } catch (IllegalArgumentException ex) {
-                throw new IllegalValueException(ex.getMessage());
+        UUID modelLinkedContactId = modelContactId;
+        if ((modelContactId == null || !personsById.containsKey(modelContactId)) && contactName != null) {
+            if (!Name.isValidName(contactName)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            if (personIdsByName.containsKey(contactName.toLowerCase(Locale.ROOT))) {
+                modelLinkedContactId = personIdsByName.get(contactName.toLowerCase(Locale.ROOT));
             }
         }
 
-        return new Todo(modelTodoName, description, modelContactName, isCompleted);
+        return new Todo(modelId, modelTodoName, description, modelLinkedContactId, isCompleted);
+    }
+
+    /**
+     * Writes the fields of a {@code JsonAdaptedTodo} in the order they are declared.
+     */
+    static class Serializer extends StdSerializer<JsonAdaptedTodo> {
+        Serializer() {
+            super(JsonAdaptedTodo.class);
+        }
+
+        @Override
+        public void serialize(JsonAdaptedTodo todo, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", todo.id);
+            generator.writeStringField("todoName", todo.todoName);
+            generator.writeStringField("description", todo.description);
+            generator.writeStringField("contactName", todo.contactName);
+            generator.writeStringField("contactId", todo.contactId);
+            generator.writeBooleanField("isCompleted", todo.isCompleted);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads a {@code JsonAdaptedTodo}, leaving out fields that are missing or unknown.
+     */
+    static class Deserializer extends StdDeserializer<JsonAdaptedTodo> {
+        Deserializer() {
+            super(JsonAdaptedTodo.class);
+        }
+
+        @Override
+        public JsonAdaptedTodo deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonAdaptedModule.expectObject(parser, JsonAdaptedTodo.class);
+            String id = null;
+            String todoName = null;
+            String description = null;
+            String contactName = null;
+            String contactId = null;
+            boolean isCompleted = false;
+
+            for (String field = JsonAdaptedModule.nextField(parser); field != null;
+                    field = JsonAdaptedModule.nextField(parser)) {
+                switch (field) {
+                case "id":
+                    id = JsonAdaptedModule.readString(parser);
+                    break;
+                case "todoName":
+                    todoName = JsonAdaptedModule.readString(parser);
+                    break;
+                case "description":
+                    description = JsonAdaptedModule.readString(parser);
+                    break;
+                case "contactName":
+                    contactName = JsonAdaptedModule.readString(parser);
+                    break;
+                case "contactId":
+                    contactId = JsonAdaptedModule.readString(parser);
+                    break;
+                case "isCompleted":
+                    isCompleted = JsonAdaptedModule.readBoolean(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            return new JsonAdaptedTodo(id, todoName, description, contactName, contactId, isCompleted);
+        }
     }
 }
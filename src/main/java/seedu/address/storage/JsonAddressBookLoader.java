@@ -0,0 +1,375 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Loads an address book from a file in the format of {@link JsonSerializableAddressBook} with a streaming parser.
+ * Persons, events and todos are converted to model objects in batches as they are parsed, so that apart from the
+ * model objects themselves, loading only holds one batch of adapted entries at a time. Large batches are converted
+ * by a {@link ParallelConverter}.
+ * Persons are linked to events and todos to persons by id, so entries that come before the list they refer to
+ * are kept until the end of the file. Files written by this app list events, persons and todos in that order, so
+ * none have to be kept.
+ * <p>
+ * A loader created by {@link #loadPersonsFirst(Path)} keeps the todos as they are parsed instead, so that the
+ * persons can be used before the todos are converted by {@link #toModelType()}.
+ */
+class JsonAddressBookLoader {
+
+    public static final String MESSAGE_INVALID_JOURNAL_RECORD = "Journal record %1$d does not fit the address book.";
+
+    /** Number of parsed entries that are converted together, across several threads if there are enough. */
+    private static final int BATCH_SIZE = 4 * ParallelConverter.PARALLEL_THRESHOLD;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookLoader.class);
+
+    private final List<Event> events = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Todo> todos = new ArrayList<>();
+    private final Map<UUID, Event> eventsById = new HashMap<>();
+    private final Map<UUID, Person> personsById = new HashMap<>();
+    // Only needed to link entries of files that refer to events by alias and persons by name
+    private final Map<String, UUID> eventIdsByAlias = new HashMap<>();
+    private final Map<String, UUID> personIdsByName = new HashMap<>();
+
+    private final List<JsonAdaptedPerson> personsBeforeEvents = new ArrayList<>();
+    private final List<JsonAdaptedTodo> todosBeforePersons = new ArrayList<>();
+    private boolean hasReadEvents;
+    private boolean hasReadPersons;
+
+    // Todos left for toModelType() to convert, or null if todos are converted as they are parsed
+    private List<JsonAdaptedTodo> unconvertedTodos;
+
+    private long journalSequence;
+
+    private JsonAddressBookLoader() {
+    }
+
+    /**
+     * Loads the address book at {@code filePath}, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if any entry violates the constraints of the model.
+     */
+    static Optional<JsonAddressBookLoader> load(Path filePath) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        return Optional.of(loadAll(List.of(filePath)));
+    }
+
+    /**
+     * Loads the address book at {@code filePath} like {@link #load(Path)}, except that the todos are only converted
+     * by {@link #toModelType()}. Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if any person or event violates the constraints of the model.
+     */
+    static Optional<JsonAddressBookLoader> loadPersonsFirst(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        JsonAddressBookLoader loader = new JsonAddressBookLoader();
+        loader.unconvertedTodos = new ArrayList<>();
+        loader.readFiles(List.of(filePath));
+        return Optional.of(loader);
+    }
+
+    /**
+     * Loads an address book whose lists are spread across the files at {@code filePaths}, as if they were one file.
+     *
+     * @throws DataLoadingException if any of the files is missing, cannot be read or is not valid JSON.
+     * @throws IllegalValueException if any entry violates the constraints of the model.
+     */
+    static JsonAddressBookLoader loadAll(List<Path> filePaths) throws DataLoadingException, IllegalValueException {
+        JsonAddressBookLoader loader = new JsonAddressBookLoader();
+        loader.readFiles(filePaths);
+        return loader;
+    }
+
+    /**
+     * Loads the address book read from {@code in} as it is streamed, without it being written to a file first.
+     * {@code in} is closed once it has been read.
+     *
+     * @throws DataLoadingException if {@code in} cannot be read or is not valid JSON.
+     * @throws IllegalValueException if any entry violates the constraints of the model.
+     */
+    static JsonAddressBookLoader load(InputStream in) throws DataLoadingException, IllegalValueException {
+        requireNonNull(in);
+        JsonAddressBookLoader loader = new JsonAddressBookLoader();
+        try (JsonParser parser = JsonUtil.createJsonParser(in)) {
+            loader.readFile(parser);
+        } catch (IOException e) {
+            logger.warning("Error reading from JSON stream: " + e);
+            throw new DataLoadingException(e);
+        }
+        loader.convertDeferredEntries();
+        return loader;
+    }
+
+    /**
+     * Loads the lists in the files at {@code filePaths} into this loader, as if they came after the files loaded
+     * so far.
+     *
+     * @throws DataLoadingException if any of the files is missing, cannot be read or is not valid JSON.
+     * @throws IllegalValueException if any entry violates the constraints of the model.
+     */
+    void readFiles(List<Path> filePaths) throws DataLoadingException, IllegalValueException {
+        for (Path filePath : filePaths) {
+            try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+                readFile(parser);
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+        convertDeferredEntries();
+    }
+
+    private void readFile(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "events":
+                readEntries(parser, JsonAdaptedEvent.class, this::addEvents);
+                hasReadEvents = true;
+                break;
+            case "persons":
+                readEntries(parser, JsonAdaptedPerson.class, this::addPersons);
+                // Todos refer to persons, so they can only be converted once no person is waiting for the events
+                hasReadPersons = personsBeforeEvents.isEmpty();
+                break;
+            case "todos":
+                readEntries(parser, JsonAdaptedTodo.class, this::addTodos);
+                break;
+            case "journalSequence":
+                journalSequence = parser.getCurrentToken() == JsonToken.VALUE_NULL ? 0 : parser.getLongValue();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void convertDeferredEntries() throws IllegalValueException {
+        hasReadEvents = true;
+        addPersons(personsBeforeEvents);
+        hasReadPersons = true;
+        addTodos(todosBeforePersons);
+    }
+
+    /**
+     * Reads the JSON array at the current token of {@code parser} in batches of up to {@link #BATCH_SIZE} entries.
+     * A missing list is left empty, as with {@link JsonSerializableAddressBook}.
+     */
+    private static <T> void readEntries(JsonParser parser, Class<T> entryClass, BatchConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a JSON array");
+        }
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(entryClass));
+            if (batch.size() == BATCH_SIZE) {
+                consumer.accept(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        consumer.accept(batch);
+    }
+
+    private void addEvents(List<JsonAdaptedEvent> batch) throws IllegalValueException {
+        List<Event> converted = ParallelConverter.convert(batch.size(), i -> batch.get(i).toModelType());
+        events.addAll(converted);
+        indexEvents(List.of(), converted);
+    }
+
+    private void addPersons(List<JsonAdaptedPerson> batch) throws IllegalValueException {
+        if (!hasReadEvents) {
+            personsBeforeEvents.addAll(batch);
+            return;
+        }
+        List<Person> converted = ParallelConverter.convert(batch.size(), i ->
+                batch.get(i).toModelType(eventsById, eventIdsByAlias));
+        persons.addAll(converted);
+        indexPersons(List.of(), converted);
+    }
+
+    private void addTodos(List<JsonAdaptedTodo> batch) throws IllegalValueException {
+        if (unconvertedTodos != null) {
+            unconvertedTodos.addAll(batch);
+            return;
+        }
+        if (!hasReadPersons) {
+            todosBeforePersons.addAll(batch);
+            return;
+        }
+        todos.addAll(ParallelConverter.convert(batch.size(), i ->
+                batch.get(i).toModelType(personsById, personIdsByName)));
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the loaded address book, or 0 if there is
+     * none.
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Applies the change described by {@code record} to the matching list of the loaded address book.
+     *
+     * @throws IllegalValueException if the change does not fit the current contents of the list, or if any added
+     *     entry violates the constraints of the model.
+     */
+    void applyJournalRecord(JsonAdaptedJournalRecord record) throws IllegalValueException {
+        if (record.getList() == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedJournalRecord.MISSING_FIELD_MESSAGE_FORMAT,
+                    "list"));
+        }
+
+        switch (record.getList()) {
+        case JsonAdaptedJournalRecord.EVENTS:
+            List<Event> addedEvents = new ArrayList<>();
+            for (JsonAdaptedEvent jsonAdaptedEvent : record.getAddedEvents()) {
+                addedEvents.add(jsonAdaptedEvent.toModelType());
+            }
+            indexEvents(replaceRange(events, record, addedEvents), addedEvents);
+            break;
+        case JsonAdaptedJournalRecord.PERSONS:
+            List<Person> addedPersons = new ArrayList<>();
+            for (JsonAdaptedPerson jsonAdaptedPerson : record.getAddedPersons()) {
+                addedPersons.add(jsonAdaptedPerson.toModelType(eventsById, eventIdsByAlias));
+            }
+            indexPersons(replaceRange(persons, record, addedPersons), addedPersons);
+            break;
+        case JsonAdaptedJournalRecord.TODOS:
+            if (unconvertedTodos != null) {
+                replaceRange(unconvertedTodos, record, record.getAddedTodos());
+                break;
+            }
+            List<Todo> addedTodos = new ArrayList<>();
+            for (JsonAdaptedTodo jsonAdaptedTodo : record.getAddedTodos()) {
+                addedTodos.add(jsonAdaptedTodo.toModelType(personsById, personIdsByName));
+            }
+            replaceRange(todos, record, addedTodos);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_RECORD, record.getSeq()));
+        }
+        journalSequence = record.getSeq();
+    }
+
+    /**
+     * Replaces the range of {@code list} removed by {@code record} with {@code added}, and returns the removed
+     * entries.
+     */
+    private static <T> List<T> replaceRange(List<T> list, JsonAdaptedJournalRecord record, List<T> added)
+            throws IllegalValueException {
+        int from = record.getFrom();
+        int to = from + record.getRemovedSize();
+        if (from < 0 || record.getRemovedSize() < 0 || to > list.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_RECORD, record.getSeq()));
+        }
+
+        List<T> range = list.subList(from, to);
+        List<T> removed = new ArrayList<>(range);
+        range.clear();
+        range.addAll(added);
+        return removed;
+    }
+
+    private void indexEvents(List<Event> removed, List<Event> added) {
+        reindex(eventsById, Event::getId, event -> event, removed, added);
+        reindex(eventIdsByAlias, JsonSerializableAddressBook::aliasKeyOf, Event::getId, removed, added);
+    }
+
+    private void indexPersons(List<Person> removed, List<Person> added) {
+        reindex(personsById, Person::getId, person -> person, removed, added);
+        reindex(personIdsByName, JsonSerializableAddressBook::nameKeyOf, Person::getId, removed, added);
+    }
+
+    private static <K, V, T> void reindex(Map<K, V> index, Function<T, K> keyOf, Function<T, V> valueOf,
+                                          List<T> removed, List<T> added) {
+        for (T entry : removed) {
+            index.remove(keyOf.apply(entry), valueOf.apply(entry));
+        }
+        for (T entry : added) {
+            index.putIfAbsent(keyOf.apply(entry), valueOf.apply(entry));
+        }
+    }
+
+    /**
+     * Returns the persons loaded so far. Unlike {@link #toModelType()}, the persons are not checked for duplicates.
+     */
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the loaded address book as the model's {@code AddressBook} object, converting any todos that were
+     * left unconverted.
+     *
+     * @throws IllegalValueException if the address book contains duplicate entries or ids, or a todo violates the
+     *     constraints of the model.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        if (unconvertedTodos != null) {
+            List<JsonAdaptedTodo> batch = unconvertedTodos;
+            unconvertedTodos = null;
+            addTodos(batch);
+        }
+        return JsonSerializableAddressBook.toAddressBook(events, persons, todos);
+    }
+
+    /**
+     * Consumes a batch of entries as soon as it is parsed.
+     */
+    @FunctionalInterface
+    private interface BatchConsumer<T> {
+        void accept(List<T> batch) throws IllegalValueException;
+    }
+}
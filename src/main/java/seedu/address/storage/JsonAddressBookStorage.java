@@ -7,11 +7,10 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +21,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final DataFileCompression compression;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that writes the data file without indentation and line breaks if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, new DataFileCompression());
+    }
+
+    /**
+     * Creates a storage that writes the data file without indentation and line breaks if {@code isCompact} is true,
+     * compressed with the codec of {@code compression}. Files are read whether they are compressed or not.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, DataFileCompression compression) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compression = compression;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +64,36 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        try {
+            Optional<JsonAddressBookLoader> jsonAddressBook = JsonAddressBookLoader.load(filePath);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(jsonAddressBook.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
         }
+    }
 
+    /**
+     * Reads the data file like {@link #readAddressBook()}, but leaves the todos to be converted by the second stage.
+     */
+    @Override
+    public Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<JsonAddressBookLoader> jsonAddressBook = JsonAddressBookLoader.loadPersonsFirst(filePath);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StagedAddressBook(jsonAddressBook.get().getPersons(), () -> {
+                try {
+                    return jsonAddressBook.get().toModelType();
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                    throw new DataLoadingException(ive);
+                }
+            }));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +114,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookWriter.write(addressBook, filePath, isCompact, compression);
     }
 
 }
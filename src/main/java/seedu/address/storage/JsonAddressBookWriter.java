@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} with a streaming generator.
+ * Each person, event and todo is adapted and written straight to the file, so that neither the adapted lists nor
+ * the whole document are ever held in memory.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file atomically.
+     *
+     * @param isCompact whether to leave out indentation and line breaks.
+     * @param compression how to compress the file as it is written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+                      DataFileCompression compression) throws IOException {
+        write(addressBook, filePath, isCompact, compression, null);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} as a snapshot that includes every journal record up to
+     * {@code journalSequence}.
+     *
+     * @see #write(ReadOnlyAddressBook, Path, boolean, DataFileCompression)
+     */
+    static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+                              DataFileCompression compression, long journalSequence) throws IOException {
+        write(addressBook, filePath, isCompact, compression, journalSequence);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is left open, without compressing it.
+     *
+     * @see #write(ReadOnlyAddressBook, Path, boolean, DataFileCompression)
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(addressBook);
+        JsonUtil.writeJson(out, isCompact, contentOf(addressBook, null));
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+                              DataFileCompression compression, Long journalSequence) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        requireNonNull(compression);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.writeJsonFile(filePath, isCompact, compression, contentOf(addressBook, journalSequence));
+    }
+
+    private static JsonUtil.JsonContentWriter contentOf(ReadOnlyAddressBook addressBook, Long journalSequence) {
+        Map<UUID, Event> eventsById = JsonSerializableAddressBook.mapById(addressBook.getEventList(), Event::getId);
+        Map<UUID, Person> personsById = JsonSerializableAddressBook.mapById(addressBook.getPersonList(),
+                Person::getId);
+
+        return generator -> {
+            generator.writeStartObject();
+
+            // Same order as JsonSerializableAddressBook, so that the file can be loaded in a single pass
+            generator.writeArrayFieldStart("events");
+            for (Event event : addressBook.getEventList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedEvent(event));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, JsonSerializableAddressBook.toJsonAdaptedPerson(person,
+                        eventsById));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("todos");
+            for (Todo todo : addressBook.getTodoList()) {
+                JsonUtil.writeValue(generator, JsonSerializableAddressBook.toJsonAdaptedTodo(todo,
+                        personsById));
+            }
+            generator.writeEndArray();
+
+            if (journalSequence != null) {
+                generator.writeNumberField("journalSequence", journalSequence);
+            }
+            generator.writeEndObject();
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.todo.Todo;
+
+/**
+ * A class to access archived events and todos stored in a file next to the data file.
+ * Each archive adds one {@link JsonAdaptedArchiveRecord} line to the end of the file, so archiving never rewrites
+ * what was archived before, and searches read the file one line at a time instead of loading it as a whole.
+ */
+public class JsonArchiveStorage implements ArchiveStorage {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonArchiveStorage.class);
+
+    private final Path filePath;
+
+    public JsonArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the archive that belongs to the data file at {@code dataFilePath}.
+     */
+    public static Path getArchivePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void archiveEntries(ReadOnlyAddressBook entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.getEventList().isEmpty() && entries.getTodoList().isEmpty()) {
+            return;
+        }
+
+        JsonAdaptedArchiveRecord record = new JsonAdaptedArchiveRecord(LocalDateTime.now().toString(), entries);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, JsonUtil.toCompactJsonString(record) + System.lineSeparator());
+        logger.info("Archived " + entries.getEventList().size() + " events and " + entries.getTodoList().size()
+                + " todos to " + filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * An entry archived more than once (e.g. when the data file could not be saved after archiving it) is returned
+     * once, as it was last archived. An unreadable last line is the remains of an interrupted append, and is skipped.
+     */
+    @Override
+    public ReadOnlyAddressBook searchArchive(Predicate<Event> eventPredicate, Predicate<Todo> todoPredicate)
+            throws DataLoadingException {
+        requireNonNull(eventPredicate);
+        requireNonNull(todoPredicate);
+        Map<UUID, Event> events = new LinkedHashMap<>();
+        Map<UUID, Todo> todos = new LinkedHashMap<>();
+        if (!Files.exists(filePath)) {
+            return new AddressBookSnapshot(List.of(), List.of(), List.of());
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                JsonAdaptedArchiveRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedArchiveRecord.class);
+                } catch (IOException e) {
+                    if (reader.readLine() != null) {
+                        throw new DataLoadingException(e);
+                    }
+                    logger.warning("Skipping incomplete last record of archive " + filePath);
+                    break;
+                }
+                addMatches(record, eventPredicate, todoPredicate, events, todos);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return new AddressBookSnapshot(List.of(), new ArrayList<>(events.values()), new ArrayList<>(todos.values()));
+    }
+
+    private static void addMatches(JsonAdaptedArchiveRecord record, Predicate<Event> eventPredicate,
+                                   Predicate<Todo> todoPredicate, Map<UUID, Event> events, Map<UUID, Todo> todos)
+            throws IllegalValueException {
+        for (JsonAdaptedEvent jsonEvent : record.getEvents()) {
+            Event event = jsonEvent.toModelType();
+            // Removed first, so that an entry archived again moves to the position it was last archived at
+            events.remove(event.getId());
+            if (eventPredicate.test(event)) {
+                events.put(event.getId(), event);
+            }
+        }
+        for (JsonAdaptedTodo jsonTodo : record.getTodos()) {
+            Todo todo = jsonTodo.toModelType();
+            todos.remove(todo.getId());
+            if (todoPredicate.test(todo)) {
+                todos.put(todo.getId(), todo);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a backup, which lists the hashes of the chunks that make up the backed
+ * up data file, in order.
+ */
+@JsonPropertyOrder({"version", "size", "chunks"})
+class JsonBackupManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Backup manifest's %s field is missing!";
+    public static final String INVALID_CHUNK_MESSAGE = "Backup manifest lists a chunk that is not a SHA-256 hash!";
+
+    private static final String HASH_REGEX = "[0-9a-f]{64}";
+
+    private final String version;
+    private final long size;
+    private final List<String> chunks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonBackupManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonBackupManifest(@JsonProperty("version") String version, @JsonProperty("size") long size,
+                              @JsonProperty("chunks") List<String> chunks) {
+        this.version = version;
+        this.size = size;
+        if (chunks != null) {
+            this.chunks.addAll(chunks);
+        }
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the size of the backed up data file in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public List<String> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Checks that the manifest has every field needed to restore the backup.
+     *
+     * @throws IllegalValueException if a field is missing from the manifest.
+     */
+    void requireComplete() throws IllegalValueException {
+        if (version == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "version"));
+        }
+        for (String chunk : chunks) {
+            if (chunk == null || !chunk.matches(HASH_REGEX)) {
+                throw new IllegalValueException(INVALID_CHUNK_MESSAGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.ChangeFeedPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EntryChange;
+
+/**
+ * A class to access the change feed, kept as newline-delimited JSON: one {@link JsonAdaptedChangeRecord} per line.
+ * <p>
+ * The feed is split into segments, each named after the sequence number of its first record, e.g.
+ * {@code changes-00000000000000000001.ndjson}. Once a segment reaches the size set by the {@link ChangeFeedPolicy},
+ * later records go to a new segment, so consumers can tail the newest segment and find older records by name without
+ * reading the others. The records appended together always go to the same segment, and each append is forced to the
+ * disk.
+ */
+public class JsonChangeFeedStorage implements ChangeFeedStorage {
+
+    public static final String CHANGE_FEED_FOLDER_SUFFIX = ".changes";
+
+    public static final String MESSAGE_DAMAGED_RECORD = "The change feed file %1$s has a damaged record";
+
+    static final String SEGMENT_PREFIX = "changes-";
+    static final String SEGMENT_SUFFIX = ".ndjson";
+
+    private static final Pattern SEGMENT_NAME_PATTERN = Pattern.compile(
+            Pattern.quote(SEGMENT_PREFIX) + "(\\d{20})" + Pattern.quote(SEGMENT_SUFFIX));
+    private static final String SEQUENCE_PREFIX = "{\"seq\":";
+    private static final byte LINE_BREAK = '\n';
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonChangeFeedStorage.class);
+
+    private final Path folder;
+    private final long maxSegmentBytes;
+
+    // State of the newest segment, read from the disk the first time the feed is used and after failed appends
+    private boolean isOpen;
+    private long lastSequence;
+    private Path currentSegment;
+    private long currentSegmentSize;
+
+    /**
+     * Creates a storage that keeps the change feed in {@code folder}, in segments of the size set by
+     * {@code policy}.
+     */
+    public JsonChangeFeedStorage(Path folder, ChangeFeedPolicy policy) {
+        requireNonNull(folder);
+        requireNonNull(policy);
+        this.folder = folder;
+        this.maxSegmentBytes = policy.getMaxSegmentBytes();
+    }
+
+    /**
+     * Returns the path of the change feed folder that belongs to the data file at {@code dataFilePath}.
+     */
+    public static Path getChangeFeedPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + CHANGE_FEED_FOLDER_SUFFIX);
+    }
+
+    @Override
+    public Path getChangeFeedFolderPath() {
+        return folder;
+    }
+
+    @Override
+    public synchronized void appendChanges(List<EntryChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        open();
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        long sequence = lastSequence;
+        for (EntryChange change : changes) {
+            sequence++;
+            lines.write((JsonUtil.toCompactJsonString(new JsonAdaptedChangeRecord(sequence, change)) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        // The changes are appended together to one segment, so that they are either all recorded or none are
+        if (currentSegment == null
+                || (currentSegmentSize > 0 && currentSegmentSize + lines.size() > maxSegmentBytes)) {
+            startSegment(lastSequence + 1);
+        }
+        try {
+            FileUtil.appendToFile(currentSegment, lines.toByteArray());
+        } catch (IOException e) {
+            discardIncompleteAppend();
+            throw e;
+        }
+        currentSegmentSize += lines.size();
+        lastSequence = sequence;
+    }
+
+    /**
+     * Cuts off whatever part of a failed append reached the current segment.
+     */
+    private void discardIncompleteAppend() {
+        if (!Files.exists(currentSegment)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(currentSegment, StandardOpenOption.WRITE)) {
+            channel.truncate(currentSegmentSize);
+        } catch (IOException e) {
+            // An incomplete record is cut off when the feed is opened again
+            logger.warning("Could not remove an incomplete append from change feed file " + currentSegment);
+            isOpen = false;
+        }
+    }
+
+    private void startSegment(long firstSequence) throws IOException {
+        Files.createDirectories(folder);
+        currentSegment = folder.resolve(getSegmentName(firstSequence));
+        currentSegmentSize = 0;
+        logger.fine("Starting change feed segment " + currentSegment);
+    }
+
+    static String getSegmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    @Override
+    public synchronized long getLastChangeSequence() throws IOException {
+        open();
+        return lastSequence;
+    }
+
+    @Override
+    public synchronized long exportChanges(long sinceSequence, Path file) throws IOException {
+        requireNonNull(file);
+        open();
+        List<Path> segments = listSegments();
+        long[] count = new long[1];
+        FileUtil.createParentDirsOfFile(file);
+        FileUtil.writeToFileAtomically(file, out -> {
+            for (int i = 0; i < segments.size(); i++) {
+                Path segment = segments.get(i);
+                boolean hasNewerSegment = i + 1 < segments.size();
+                if (hasNewerSegment && getFirstSequence(segments.get(i + 1)) <= sinceSequence + 1) {
+                    // Every record of this segment is older than the ones asked for
+                    continue;
+                }
+                if (getFirstSequence(segment) > sinceSequence) {
+                    // Every record of this segment is newer, so it is copied as it is
+                    count[0] += countLines(segment);
+                    Files.copy(segment, out);
+                    continue;
+                }
+                try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (readSequence(line, segment) > sinceSequence) {
+                            out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                            count[0]++;
+                        }
+                    }
+                }
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Finds the newest segment and the sequence number of its last record, cutting off a record left incomplete by
+     * an interrupted append, if the feed has not been opened yet.
+     */
+    private void open() throws IOException {
+        if (isOpen) {
+            return;
+        }
+
+        List<Path> segments = listSegments();
+        if (segments.isEmpty()) {
+            lastSequence = 0;
+            currentSegment = null;
+            currentSegmentSize = 0;
+            isOpen = true;
+            return;
+        }
+
+        Path segment = segments.get(segments.size() - 1);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long lastLineEnd = findLastLineBreak(channel, size);
+            if (lastLineEnd + 1 < size) {
+                logger.warning("Removing an incomplete record at the end of change feed file " + segment);
+                channel.truncate(lastLineEnd + 1);
+                size = lastLineEnd + 1;
+            }
+
+            if (size == 0) {
+                lastSequence = getFirstSequence(segment) - 1;
+            } else {
+                long lastLineStart = findLastLineBreak(channel, size - 1) + 1;
+                ByteBuffer lastLine = ByteBuffer.allocate((int) (size - 1 - lastLineStart));
+                channel.read(lastLine, lastLineStart);
+                lastSequence = readSequence(new String(lastLine.array(), StandardCharsets.UTF_8), segment);
+            }
+            currentSegment = segment;
+            currentSegmentSize = size;
+        }
+        isOpen = true;
+    }
+
+    /**
+     * Returns the position of the last line break before {@code end} in {@code channel}, or -1 if there is none.
+     */
+    private static long findLastLineBreak(FileChannel channel, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        long position = end;
+        while (position > 0) {
+            long start = Math.max(0, position - READ_BUFFER_SIZE);
+            buffer.clear().limit((int) (position - start));
+            while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) >= 0) {
+                // keep reading until the range is filled
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == LINE_BREAK) {
+                    return start + i;
+                }
+            }
+            position = start;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the sequence number at the start of {@code line}, a record of {@code segment}.
+     */
+    private static long readSequence(String line, Path segment) throws IOException {
+        int end = SEQUENCE_PREFIX.length();
+        while (end < line.length() && Character.isDigit(line.charAt(end))) {
+            end++;
+        }
+        if (!line.startsWith(SEQUENCE_PREFIX) || end == SEQUENCE_PREFIX.length()) {
+            throw new IOException(String.format(MESSAGE_DAMAGED_RECORD, segment));
+        }
+        try {
+            return Long.parseLong(line.substring(SEQUENCE_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            throw new IOException(String.format(MESSAGE_DAMAGED_RECORD, segment), e);
+        }
+    }
+
+    private static long countLines(Path segment) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            while (reader.readLine() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the segments of the feed, oldest first.
+     */
+    private List<Path> listSegments() throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return Collections.emptyList();
+        }
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(folder)) {
+            files.filter(file -> SEGMENT_NAME_PATTERN.matcher(file.getFileName().toString()).matches())
+                    .forEach(segments::add);
+        }
+        // Sequence numbers are padded to the same length, so the names sort in sequence order
+        segments.sort(null);
+        return segments;
+    }
+
+    private static long getFirstSequence(Path segment) {
+        Matcher matcher = SEGMENT_NAME_PATTERN.matcher(segment.getFileName().toString());
+        boolean isSegment = matcher.matches();
+        assert isSegment;
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the ids stored in the JSON data file into the model's ids.
+ */
+final class JsonIds {
+
+    public static final String INVALID_ID_MESSAGE_FORMAT = "%s is not a valid id!";
+
+    private JsonIds() {}
+
+    /**
+     * Returns the id of an entity stored as {@code id}.
+     * Data files written before ids were introduced have no ids, so a new id is generated if {@code id} is null.
+     *
+     * @throws IllegalValueException if {@code id} is not a valid id.
+     */
+    static UUID toModelId(String id) throws IllegalValueException {
+        return id == null ? UUID.randomUUID() : parse(id);
+    }
+
+    /**
+     * Returns the id of a referenced entity stored as {@code id}, or null if there is no such reference.
+     *
+     * @throws IllegalValueException if {@code id} is not a valid id.
+     */
+    static UUID toModelReference(String id) throws IllegalValueException {
+        return id == null ? null : parse(id);
+    }
+
+    /**
+     * Returns the JSON form of {@code id}, or null if {@code id} is null.
+     */
+    static String toJsonId(UUID id) {
+        return id == null ? null : id.toString();
+    }
+
+    private static UUID parse(String id) throws IllegalValueException {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_ID_MESSAGE_FORMAT, id));
+        }
+    }
+}
@@ -1,29 +1,42 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.todo.Todo;
+import seedu.address.model.todo.exceptions.DuplicateTodoException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"events", "persons", "todos"}) // lets JsonAddressBookLoader link entries as it reads them
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
     public static final String MESSAGE_DUPLICATE_TODO = "Todos list contains duplicate todo(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Address book contains duplicate id(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
@@ -53,9 +66,63 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        Map<UUID, Event> eventsById = mapById(source.getEventList(), Event::getId);
+        Map<UUID, Person> personsById = mapById(source.getPersonList(), Person::getId);
+
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> toJsonAdaptedPerson(person, eventsById))
+                .collect(Collectors.toList()));
         events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
-        todos.addAll(source.getTodoList().stream().map(JsonAdaptedTodo::new).collect(Collectors.toList()));
+        todos.addAll(source.getTodoList().stream()
+                .map(todo -> toJsonAdaptedTodo(todo, personsById))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the ids of {@code events} by their lowercased alias.
+     * Links are kept by id, but files written before ids were introduced link by alias and name.
+     */
+    static Map<String, UUID> mapEventIdsByAlias(List<Event> events) {
+        Map<String, UUID> eventIdsByAlias = new HashMap<>();
+        events.forEach(event -> eventIdsByAlias.put(aliasKeyOf(event), event.getId()));
+        return eventIdsByAlias;
+    }
+
+    /**
+     * Returns the ids of {@code persons} by their lowercased name.
+     */
+    static Map<String, UUID> mapPersonIdsByName(List<Person> persons) {
+        Map<String, UUID> personIdsByName = new HashMap<>();
+        persons.forEach(person -> personIdsByName.put(nameKeyOf(person), person.getId()));
+        return personIdsByName;
+    }
+
+    /**
+     * Returns the key under which {@link #mapEventIdsByAlias(List)} stores the id of {@code event}.
+     */
+    static String aliasKeyOf(Event event) {
+        return event.getAlias().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the key under which {@link #mapPersonIdsByName(List)} stores the id of {@code person}.
+     */
+    static String nameKeyOf(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adapts {@code person}, storing the alias of its linked event as found in {@code eventsById} as well.
+     */
+    static JsonAdaptedPerson toJsonAdaptedPerson(Person person, Map<UUID, Event> eventsById) {
+        return new JsonAdaptedPerson(person, person.getEventId() == null ? null : eventsById.get(person.getEventId()));
+    }
+
+    /**
+     * Adapts {@code todo}, storing the name of its linked contact as found in {@code personsById} as well.
+     */
+    static JsonAdaptedTodo toJsonAdaptedTodo(Todo todo, Map<UUID, Person> personsById) {
+        return new JsonAdaptedTodo(todo, todo.getContactId() == null ? null : personsById.get(todo.getContactId()));
     }
 
     /**
@@ -64,31 +131,71 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        // Events are converted first, as persons refer to them by id
+        List<Event> modelEvents = ParallelConverter.convert(events.size(), i -> events.get(i).toModelType());
+        Map<UUID, Event> eventsById = mapById(modelEvents, Event::getId);
+        Map<String, UUID> eventIdsByAlias = mapEventIdsByAlias(modelEvents);
+
+        List<Person> modelPersons = ParallelConverter.convert(persons.size(), i ->
+                persons.get(i).toModelType(eventsById, eventIdsByAlias));
+        Map<UUID, Person> personsById = mapById(modelPersons, Person::getId);
+        Map<String, UUID> personIdsByName = mapPersonIdsByName(modelPersons);
+
+        List<Todo> modelTodos = ParallelConverter.convert(todos.size(), i ->
+                todos.get(i).toModelType(personsById, personIdsByName));
+        return toAddressBook(modelEvents, modelPersons, modelTodos);
+    }
+
+    /**
+     * Returns {@code entries} by id. If several entries share an id, the first one is kept.
+     */
+    static <T> Map<UUID, T> mapById(List<T> entries, Function<T, UUID> idOf) {
+        Map<UUID, T> entriesById = new HashMap<>();
+        for (T entry : entries) {
+            entriesById.putIfAbsent(idOf.apply(entry), entry);
+        }
+        return entriesById;
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding the given entries.
+     *
+     * @throws IllegalValueException if there are duplicate entries or ids.
+     */
+    static AddressBook toAddressBook(List<Event> events, List<Person> persons, List<Todo> todos)
+            throws IllegalValueException {
+        // Duplicates are found by the bulk setters in one pass over each list, instead of a search per entry
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setEvents(events);
+        } catch (DuplicateEventException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
         }
+        requireUniqueIds(events, Event::getId);
 
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
+        requireUniqueIds(persons, Person::getId);
 
-        for (JsonAdaptedTodo jsonAdaptedTodo : todos) {
-            Todo todo = jsonAdaptedTodo.toModelType();
-            if (addressBook.hasTodo(todo)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TODO);
-            }
-            addressBook.addTodo(todo);
+        try {
+            addressBook.setTodos(todos);
+        } catch (DuplicateTodoException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TODO);
         }
+        requireUniqueIds(todos, Todo::getId);
         return addressBook;
     }
 
+    private static <T> void requireUniqueIds(List<T> entries, Function<T, UUID> idOf) throws IllegalValueException {
+        Set<UUID> ids = new HashSet<>();
+        for (T entry : entries) {
+            if (!ids.add(idOf.apply(entry))) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded data file, which names the shard files that together hold
+ * the address book. Shard names are relative to the shard folder.
+ */
+@JsonPropertyOrder({ShardedAddressBookStorage.MANIFEST_VERSION_FIELD, "generation", "events", "persons",
+    "personOrder", "todos"}) // the first field identifies the file as a manifest
+class JsonShardManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard manifest's %s field is missing!";
+
+    private final int shardManifest;
+    private final long generation;
+    private final String events;
+    private final List<String> persons = new ArrayList<>();
+    private final String personOrder;
+    private final String todos;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard names.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty(ShardedAddressBookStorage.MANIFEST_VERSION_FIELD) int shardManifest,
+                             @JsonProperty("generation") long generation,
+                             @JsonProperty("events") String events,
+                             @JsonProperty("persons") List<String> persons,
+                             @JsonProperty("personOrder") String personOrder,
+                             @JsonProperty("todos") String todos) {
+        this.shardManifest = shardManifest;
+        this.generation = generation;
+        this.events = events;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.personOrder = personOrder;
+        this.todos = todos;
+    }
+
+    public int getShardManifest() {
+        return shardManifest;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public String getEvents() {
+        return events;
+    }
+
+    public List<String> getPersons() {
+        return persons;
+    }
+
+    public String getPersonOrder() {
+        return personOrder;
+    }
+
+    public String getTodos() {
+        return todos;
+    }
+
+    /**
+     * Checks that the manifest names every shard.
+     *
+     * @throws IllegalValueException if a shard is missing from the manifest.
+     */
+    void requireComplete() throws IllegalValueException {
+        if (events == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "events"));
+        }
+        if (personOrder == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "personOrder"));
+        }
+        if (todos == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "todos"));
+        }
+        if (persons.contains(null)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "persons"));
+        }
+    }
+}
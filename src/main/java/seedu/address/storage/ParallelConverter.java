@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the entries of a data file to model objects, splitting large lists across a fork/join pool.
+ * The converted entries keep the order of the file, and if any entries are invalid, the error of the first one
+ * is reported, exactly as if they had been converted one by one.
+ * Converters passed in must be safe to call from several threads at once.
+ */
+class ParallelConverter {
+
+    /** Lists with at least this many entries are converted in parallel. */
+    static final int PARALLEL_THRESHOLD = 4_096;
+
+    /** Number of entries a single fork/join task converts serially. */
+    private static final int CHUNK_SIZE = 1_024;
+
+    /**
+     * Returns the entries at indexes {@code 0} to {@code size - 1} converted by {@code converter}, in that order.
+     *
+     * @throws IllegalValueException the error of the entry with the lowest index that failed to convert.
+     */
+    static <T> List<T> convert(int size, EntryConverter<T> converter) throws IllegalValueException {
+        Object[] converted = new Object[size];
+        Failure failure = size < PARALLEL_THRESHOLD
+                ? convertRange(converted, converter, 0, size, new AtomicInteger(size))
+                : ForkJoinPool.commonPool().invoke(
+                        new ConvertTask<>(converted, converter, 0, size, new AtomicInteger(size)));
+        if (failure != null) {
+            throw failure.exception;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> entries = (List<T>) new ArrayList<>(Arrays.asList(converted));
+        return entries;
+    }
+
+    /**
+     * Converts the entries in {@code [from, to)} into {@code converted}, stopping at the first invalid entry.
+     * Ranges that start after an entry already known to be invalid are skipped, as their errors would not be
+     * reported.
+     *
+     * @return the first failure in the range, or null if every entry was converted.
+     */
+    private static <T> Failure convertRange(Object[] converted, EntryConverter<T> converter, int from, int to,
+                                            AtomicInteger firstFailedIndex) {
+        for (int i = from; i < to && i < firstFailedIndex.get(); i++) {
+            try {
+                converted[i] = converter.convert(i);
+            } catch (IllegalValueException e) {
+                firstFailedIndex.accumulateAndGet(i, Math::min);
+                return new Failure(i, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts one entry of a list.
+     */
+    @FunctionalInterface
+    interface EntryConverter<T> {
+        T convert(int index) throws IllegalValueException;
+    }
+
+    /**
+     * An entry that could not be converted, and the reason why.
+     */
+    private static class Failure {
+        private final int index;
+        private final IllegalValueException exception;
+
+        Failure(int index, IllegalValueException exception) {
+            this.index = index;
+            this.exception = exception;
+        }
+
+        /**
+         * Returns whichever of {@code first} and {@code second} happened at the lower index, or null if both are.
+         */
+        static Failure earlier(Failure first, Failure second) {
+            if (first == null || (second != null && second.index < first.index)) {
+                return second;
+            }
+            return first;
+        }
+    }
+
+    /**
+     * Converts the entries in {@code [from, to)}, forking for large ranges.
+     */
+    private static class ConvertTask<T> extends RecursiveTask<Failure> {
+        private final Object[] converted;
+        private final EntryConverter<T> converter;
+        private final int from;
+        private final int to;
+        private final AtomicInteger firstFailedIndex;
+
+        ConvertTask(Object[] converted, EntryConverter<T> converter, int from, int to,
+                    AtomicInteger firstFailedIndex) {
+            this.converted = converted;
+            this.converter = converter;
+            this.from = from;
+            this.to = to;
+            this.firstFailedIndex = firstFailedIndex;
+        }
+
+        @Override
+        protected Failure compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return convertRange(converted, converter, from, to, firstFailedIndex);
+            }
+
+            int mid = (from + to) >>> 1;
+            ConvertTask<T> left = new ConvertTask<>(converted, converter, from, mid, firstFailedIndex);
+            ConvertTask<T> right = new ConvertTask<>(converted, converter, mid, to, firstFailedIndex);
+            left.fork();
+            Failure rightFailure = right.compute();
+            return Failure.earlier(left.join(), rightFailure);
+        }
+    }
+}
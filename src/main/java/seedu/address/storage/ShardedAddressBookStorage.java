@@ -0,0 +1,548 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * A class to access AddressBook data stored as a set of shard files, named by a manifest at the data file path.
+ * Events and todos each have a shard, and persons are spread over {@link #PERSON_SEGMENT_COUNT} segments by id,
+ * with their order kept in a separate shard of ids. Each save compares the lists with the ones saved last and only
+ * rewrites the shards whose entries changed, in parallel.
+ * <p>
+ * Shards are never overwritten. Changed shards are written to new files named after the next generation of the
+ * manifest, and the manifest is then replaced atomically, so the set of shards it names is always consistent.
+ * Shards that the manifest no longer names are deleted afterwards.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_FOLDER_SUFFIX = ".shards";
+    public static final int PERSON_SEGMENT_COUNT = 4;
+
+    static final String MANIFEST_VERSION_FIELD = "shardManifest";
+    static final int MANIFEST_VERSION = 1;
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Shard manifest version %1$d is not supported.";
+    static final String MESSAGE_INCONSISTENT_ORDER = "Person order shard does not match the person segments.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final DataFileCompression compression;
+
+    // Contents of each shard as of the last save or read, or null if nothing has been saved or read yet.
+    // Entries are immutable, so unchanged entries are the same instances in later versions of the lists.
+    private JsonShardManifest savedManifest;
+    private List<Event> savedEvents;
+    private List<List<Person>> savedSegments;
+    private List<UUID> savedPersonOrder;
+    private List<Todo> savedTodos;
+
+    // Size and modification time of the manifest as of the last save or read, used to notice when the file has
+    // been replaced by something else (e.g. converted to another format)
+    private long savedManifestSize;
+    private FileTime savedManifestTime;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that writes its shards without indentation and line breaks if {@code isCompact} is true.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, new DataFileCompression());
+    }
+
+    /**
+     * Creates a storage like {@link #ShardedAddressBookStorage(Path, boolean)} that compresses its shards with the
+     * codec of {@code compression}. The manifest is small and always left uncompressed.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact, DataFileCompression compression) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compression = compression;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the folder that holds the shards of the manifest at {@code manifestPath}.
+     */
+    public static Path getShardFolder(Path manifestPath) {
+        return manifestPath.resolveSibling(manifestPath.getFileName() + SHARD_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a shard manifest, i.e. a JSON object whose first field is
+     * {@value #MANIFEST_VERSION_FIELD}. Returns false if the file does not exist or cannot be read.
+     */
+    public static boolean isManifest(Path filePath) {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && MANIFEST_VERSION_FIELD.equals(parser.getCurrentName());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the shards named by the manifest at {@code filePath}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<StagedAddressBook> addressBook = readInStages(filePath);
+        return addressBook.isPresent() ? Optional.of(addressBook.get().readRemaining()) : Optional.empty();
+    }
+
+    /**
+     * Reads the events shard, the person segments and the person order first, and leaves the todos shard to the
+     * second stage.
+     */
+    @Override
+    public Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
+        return readInStages(filePath);
+    }
+
+    private Optional<StagedAddressBook> readInStages(Path filePath) throws DataLoadingException {
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path shardFolder = getShardFolder(filePath);
+        JsonAddressBookLoader loader;
+        List<UUID> personOrder;
+        List<Person> persons;
+        try {
+            if (manifest.get().getShardManifest() != MANIFEST_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION,
+                        manifest.get().getShardManifest()));
+            }
+            manifest.get().requireComplete();
+
+            List<Path> shardPaths = new ArrayList<>();
+            shardPaths.add(shardFolder.resolve(manifest.get().getEvents()));
+            manifest.get().getPersons().forEach(segment -> shardPaths.add(shardFolder.resolve(segment)));
+            loader = JsonAddressBookLoader.loadAll(shardPaths);
+
+            personOrder = readPersonOrder(shardFolder.resolve(manifest.get().getPersonOrder()));
+            persons = inOrder(loader.getPersons(), personOrder);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        return Optional.of(new StagedAddressBook(persons, () -> {
+            AddressBook addressBook;
+            try {
+                loader.readFiles(List.of(shardFolder.resolve(manifest.get().getTodos())));
+                addressBook = loader.toModelType();
+                addressBook.setPersons(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+
+            if (filePath.equals(this.filePath) && manifest.get().getPersons().size() == PERSON_SEGMENT_COUNT) {
+                // Later saves only need to rewrite the shards that change after this point
+                remember(manifest.get(), addressBook, personOrder);
+            }
+            return addressBook;
+        }));
+    }
+
+    private static List<UUID> readPersonOrder(Path orderPath) throws DataLoadingException, IllegalValueException {
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                CompressionUtil.newInputStream(orderPath), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        List<UUID> personOrder = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (!line.isBlank()) {
+                personOrder.add(JsonIds.toModelId(line.trim()));
+            }
+        }
+        return personOrder;
+    }
+
+    /**
+     * Returns {@code persons} sorted into {@code personOrder}, which must list the id of every person exactly once.
+     */
+    private static List<Person> inOrder(List<Person> persons, List<UUID> personOrder) throws IllegalValueException {
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (UUID id : personOrder) {
+            positions.put(id, positions.size());
+        }
+        if (positions.size() != personOrder.size() || personOrder.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_INCONSISTENT_ORDER);
+        }
+        for (Person person : persons) {
+            if (!positions.containsKey(person.getId())) {
+                throw new IllegalValueException(MESSAGE_INCONSISTENT_ORDER);
+            }
+        }
+
+        List<Person> ordered = new ArrayList<>(persons);
+        ordered.sort(Comparator.comparing(person -> positions.get(person.getId())));
+        return ordered;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards at this storage's own file path are compared with the last save; saving to any other path
+     * writes every shard there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isIncremental = filePath.equals(this.filePath) && savedManifest != null && !isManifestReplaced();
+        JsonShardManifest previous = isIncremental ? savedManifest : null;
+        long generation = previous == null ? readGeneration(filePath) + 1 : previous.getGeneration() + 1;
+        Path shardFolder = getShardFolder(filePath);
+        String suffix = "-g" + generation;
+
+        List<Event> events = new ArrayList<>(addressBook.getEventList());
+        List<List<Person>> segments = toSegments(addressBook.getPersonList());
+        List<UUID> personOrder = idsOf(addressBook.getPersonList());
+        List<Todo> todos = new ArrayList<>(addressBook.getTodoList());
+
+        List<ShardWrite> writes = new ArrayList<>();
+        String eventsShard = previous != null && isSameEntries(savedEvents, events)
+                ? previous.getEvents()
+                : addWrite(writes, shardFolder, "events" + suffix + ".json",
+                        path -> writeShard(path, JsonAdaptedJournalRecord.EVENTS, events, JsonAdaptedEvent::new));
+        List<String> personShards = new ArrayList<>();
+        for (int i = 0; i < PERSON_SEGMENT_COUNT; i++) {
+            List<Person> segment = segments.get(i);
+            ShardWriter segmentWriter = path ->
+                    writeShard(path, JsonAdaptedJournalRecord.PERSONS, segment, JsonAdaptedPerson::new);
+            personShards.add(previous != null && isSameEntries(savedSegments.get(i), segment)
+                    ? previous.getPersons().get(i)
+                    : addWrite(writes, shardFolder, "persons-" + i + suffix + ".json", segmentWriter));
+        }
+        String personOrderShard = previous != null && savedPersonOrder.equals(personOrder)
+                ? previous.getPersonOrder()
+                : addWrite(writes, shardFolder, "person-order" + suffix + ".txt",
+                        path -> writePersonOrder(path, personOrder));
+        String todosShard = previous != null && isSameEntries(savedTodos, todos)
+                ? previous.getTodos()
+                : addWrite(writes, shardFolder, "todos" + suffix + ".json",
+                        path -> writeShard(path, JsonAdaptedJournalRecord.TODOS, todos, JsonAdaptedTodo::new));
+
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        Files.createDirectories(shardFolder);
+        writeInParallel(writes);
+        JsonShardManifest manifest = new JsonShardManifest(MANIFEST_VERSION, generation, eventsShard, personShards,
+                personOrderShard, todosShard);
+        JsonUtil.saveJsonFile(manifest, filePath);
+        logger.fine("Wrote " + writes.size() + " shards of " + filePath + " for generation " + generation);
+
+        deleteUnusedShards(shardFolder, manifest);
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            savedEvents = events;
+            savedSegments = segments;
+            savedPersonOrder = personOrder;
+            savedTodos = todos;
+            rememberManifestFile();
+        }
+    }
+
+    /**
+     * Returns true if the manifest is no longer the file this storage last read or wrote, or if it has appeared since
+     * this storage found none. Shards are only ever added under new names, so a changed manifest is the only sign of
+     * changed shards.
+     */
+    @Override
+    public boolean isAddressBookChangedExternally() {
+        if (savedManifest == null) {
+            return Files.exists(filePath);
+        }
+        return isManifestReplaced();
+    }
+
+    /**
+     * Records that the shards named by the manifest now at the data file path hold {@code addressBook}. If that
+     * manifest cannot be read, the next save writes every shard instead.
+     */
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        Optional<JsonShardManifest> manifest;
+        try {
+            manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+            if (manifest.isPresent()) {
+                manifest.get().requireComplete();
+            }
+        } catch (DataLoadingException | IllegalValueException e) {
+            manifest = Optional.empty();
+        }
+        if (!manifest.isPresent() || manifest.get().getShardManifest() != MANIFEST_VERSION
+                || manifest.get().getPersons().size() != PERSON_SEGMENT_COUNT) {
+            savedManifest = null;
+            return;
+        }
+        remember(manifest.get(), addressBook, idsOf(addressBook.getPersonList()));
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no readable manifest there.
+     * New shards are named after a later generation, so that they never overwrite the shards it names.
+     */
+    private static long readGeneration(Path filePath) {
+        if (!isManifest(filePath)) {
+            return 0;
+        }
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonShardManifest.class).map(JsonShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    private static List<UUID> idsOf(List<Person> persons) {
+        return persons.stream().map(Person::getId).collect(Collectors.toList());
+    }
+
+    private static List<List<Person>> toSegments(List<Person> persons) {
+        List<List<Person>> segments = new ArrayList<>();
+        for (int i = 0; i < PERSON_SEGMENT_COUNT; i++) {
+            segments.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            segments.get(Math.floorMod(person.getId().hashCode(), PERSON_SEGMENT_COUNT)).add(person);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns true if {@code saved} and {@code current} hold the same entries in the same order. Entries are compared
+     * by identity, as unchanged entries are never copied.
+     */
+    private static <T> boolean isSameEntries(List<T> saved, List<T> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String addWrite(List<ShardWrite> writes, Path shardFolder, String shardName,
+                                   ShardWriter shardWriter) {
+        writes.add(new ShardWrite(shardFolder.resolve(shardName), shardWriter));
+        return shardName;
+    }
+
+    /**
+     * Writes every shard in {@code writes} at once on the common fork/join pool, and waits for all of them.
+     *
+     * @throws IOException the first error of any write that failed.
+     */
+    private static void writeInParallel(List<ShardWrite> writes) throws IOException {
+        CompletableFuture<?>[] futures = writes.stream()
+                .map(write -> CompletableFuture.runAsync(() -> {
+                    try {
+                        write.shardWriter.write(write.path);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }))
+                .toArray(CompletableFuture<?>[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code entries} to {@code path} as the list {@code fieldName} of an otherwise empty address book.
+     * Entries are stored with their own ids and the ids of the entries they link to, so links are kept even though
+     * the linked entries are in other shards.
+     */
+    private <T> void writeShard(Path path, String fieldName, List<T> entries, EntryAdapter<T> adapter)
+            throws IOException {
+        JsonUtil.writeJsonFile(path, isCompact, compression, generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            for (T entry : entries) {
+                JsonUtil.writeValue(generator, adapter.adapt(entry));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+    }
+
+    private void writePersonOrder(Path path, List<UUID> personOrder) throws IOException {
+        FileUtil.writeToFileAtomically(path, CompressionUtil.compress(compression, out -> {
+            for (UUID id : personOrder) {
+                out.write((id + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+    }
+
+    /**
+     * Deletes the files in {@code shardFolder} that {@code manifest} does not name.
+     * Failures are only logged, as the files are ignored anyway and deleted again by later saves.
+     */
+    private static void deleteUnusedShards(Path shardFolder, JsonShardManifest manifest) {
+        Set<String> shardNames = new HashSet<>(manifest.getPersons());
+        shardNames.add(manifest.getEvents());
+        shardNames.add(manifest.getPersonOrder());
+        shardNames.add(manifest.getTodos());
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardFolder)) {
+            for (Path file : files) {
+                if (!shardNames.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused shards in " + shardFolder + ": " + e);
+        }
+    }
+
+    private void remember(JsonShardManifest manifest, ReadOnlyAddressBook addressBook, List<UUID> personOrder) {
+        savedManifest = manifest;
+        savedEvents = new ArrayList<>(addressBook.getEventList());
+        savedSegments = toSegments(addressBook.getPersonList());
+        savedPersonOrder = personOrder;
+        savedTodos = new ArrayList<>(addressBook.getTodoList());
+        rememberManifestFile();
+    }
+
+    private void rememberManifestFile() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            savedManifestSize = attributes.size();
+            savedManifestTime = attributes.lastModifiedTime();
+        } catch (IOException e) {
+            savedManifestTime = null;
+        }
+    }
+
+    /**
+     * Returns true if the manifest is no longer the file this storage last read or wrote.
+     */
+    private boolean isManifestReplaced() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return attributes.size() != savedManifestSize || !attributes.lastModifiedTime().equals(savedManifestTime);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Adapts an entry for Jackson.
+     */
+    @FunctionalInterface
+    private interface EntryAdapter<T> {
+        Object adapt(T entry);
+    }
+
+    /**
+     * Writes a shard to the given path.
+     */
+    @FunctionalInterface
+    private interface ShardWriter {
+        void write(Path path) throws IOException;
+    }
+
+    /**
+     * A shard that has to be written as part of a save.
+     */
+    private static class ShardWrite {
+        private final Path path;
+        private final ShardWriter shardWriter;
+
+        ShardWrite(Path path, ShardWriter shardWriter) {
+            this.path = path;
+            this.shardWriter = shardWriter;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book that is read from storage in two stages. The persons, or at least the first of them, are read
+ * first, so that they can be shown while the second stage reads the rest of the address book, which may take much
+ * longer.
+ */
+public class StagedAddressBook {
+
+    private final List<Person> persons;
+    private final RemainingStage remainingStage;
+
+    /**
+     * Creates a {@code StagedAddressBook} with the persons read so far and the stage that reads the rest.
+     * The persons of the address book returned by {@code remainingStage} must start with the ones in
+     * {@code persons}, in the same order.
+     */
+    public StagedAddressBook(List<Person> persons, RemainingStage remainingStage) {
+        requireNonNull(persons);
+        requireNonNull(remainingStage);
+        this.persons = persons;
+        this.remainingStage = remainingStage;
+    }
+
+    /**
+     * Returns a {@code StagedAddressBook} of an address book that has already been read as a whole.
+     */
+    public static StagedAddressBook of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new StagedAddressBook(addressBook.getPersonList(), () -> addressBook);
+    }
+
+    /**
+     * Returns the persons read in the first stage, which may only be the first persons of the address book.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Reads the rest of the address book, and returns the whole address book. May be called from any thread, but
+     * only once.
+     *
+     * @throws DataLoadingException if the rest of the address book could not be read, or does not fit the persons.
+     */
+    public ReadOnlyAddressBook readRemaining() throws DataLoadingException {
+        return remainingStage.read();
+    }
+
+    /**
+     * Reads the part of an address book that was left out of the first stage.
+     */
+    @FunctionalInterface
+    public interface RemainingStage {
+        ReadOnlyAddressBook read() throws DataLoadingException;
+    }
+}
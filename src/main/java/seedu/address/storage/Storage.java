@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.EntryChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -12,7 +15,8 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, ArchiveStorage, BackupStorage,
+        ChangeFeedStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -26,7 +30,40 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
+    @Override
+    Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException;
+
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void saveAddressBookCache() throws IOException;
+
+    @Override
+    String backupAddressBook(ReadOnlyAddressBook addressBook, Runnable onBackedUp);
+
+    @Override
+    List<String> getBackupVersions() throws DataLoadingException;
+
+    @Override
+    Optional<ReadOnlyAddressBook> readBackup(String version) throws DataLoadingException;
+
+    @Override
+    void appendChanges(List<EntryChange> changes) throws IOException;
+
+    @Override
+    long exportChanges(long sinceSequence, Path file) throws IOException;
+
+    /**
+     * Returns the format in which the address book is saved to its data file.
+     */
+    DataFileFormat getAddressBookFormat();
+
+    /**
+     * Rewrites the data file with {@code addressBook} in the given {@code format}, which is used by later saves.
+     *
+     * @throws IOException if the data file could not be written.
+     */
+    void convertAddressBook(ReadOnlyAddressBook addressBook, DataFileFormat format) throws IOException;
+
 }
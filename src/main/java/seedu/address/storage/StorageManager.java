@@ -1,15 +1,26 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.BackupPolicy;
+import seedu.address.commons.core.ChangeFeedPolicy;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.EntryChange;
+import seedu.address.model.ListEdit;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.todo.Todo;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -18,14 +29,25 @@ public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
+    private AddressBookStorage binaryAddressBookStorage;
+    private AddressBookStorage shardedAddressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ArchiveStorage archiveStorage;
+    private BackupStorage backupStorage;
+    private ChangeFeedStorage changeFeedStorage;
+    private DataFileFormat addressBookFormat = DataFileFormat.JSON;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} that stores its data with the storages of {@code components}.
      */
-    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
-        this.addressBookStorage = addressBookStorage;
-        this.userPrefsStorage = userPrefsStorage;
+    public StorageManager(Components components) {
+        this.addressBookStorage = components.addressBookStorage;
+        this.binaryAddressBookStorage = components.binaryAddressBookStorage;
+        this.shardedAddressBookStorage = components.shardedAddressBookStorage;
+        this.userPrefsStorage = components.userPrefsStorage;
+        this.archiveStorage = components.archiveStorage;
+        this.backupStorage = components.backupStorage;
+        this.changeFeedStorage = components.changeFeedStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,7 +83,19 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        DataFileFormat format = detectFormat(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            // Later saves keep the data file in the format it was found in
+            addressBookFormat = format;
+        }
+        return getStorageFor(format).readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<StagedAddressBook> readAddressBookInStages() throws DataLoadingException {
+        logger.fine("Attempting to read data in stages from file: " + getAddressBookFilePath());
+        addressBookFormat = detectFormat(getAddressBookFilePath());
+        return getStorageFor(addressBookFormat).readAddressBookInStages();
     }
 
     @Override
@@ -72,7 +106,239 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            getStorageFor(addressBookFormat).saveAddressBook(addressBook, filePath);
+        } else {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public boolean hasSavedCopy() {
+        return getStorageFor(addressBookFormat).hasSavedCopy();
+    }
+
+    @Override
+    public void saveAddressBookEdits(List<ListEdit> edits) throws IOException {
+        logger.fine("Attempting to write " + edits.size() + " edits to data file: " + getAddressBookFilePath());
+        getStorageFor(addressBookFormat).saveAddressBookEdits(edits);
+    }
+
+    @Override
+    public void saveAddressBookCache() throws IOException {
+        getStorageFor(addressBookFormat).saveAddressBookCache();
+    }
+
+    @Override
+    public boolean isAddressBookChangedExternally() {
+        return getStorageFor(addressBookFormat).isAddressBookChangedExternally();
+    }
+
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        getStorageFor(addressBookFormat).markAddressBookSaved(addressBook);
+    }
+
+    @Override
+    public DataFileFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    @Override
+    public void convertAddressBook(ReadOnlyAddressBook addressBook, DataFileFormat format) throws IOException {
+        logger.info("Converting data file to " + format);
+        // Pending saves in the old format must not land on top of the converted file
+        getStorageFor(addressBookFormat).flushAddressBook();
+        addressBookFormat = format;
+        AddressBookStorage storage = getStorageFor(format);
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        if (format != DataFileFormat.JSON) {
+            // Only JSON data files are journaled, so the journal of the old file would be left behind
+            Files.deleteIfExists(JournaledAddressBookStorage.getJournalPath(getAddressBookFilePath()));
+        }
+    }
+
+    private static DataFileFormat detectFormat(Path filePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return DataFileFormat.BINARY;
+        } else if (ShardedAddressBookStorage.isManifest(filePath)) {
+            return DataFileFormat.SHARDED;
+        } else {
+            return DataFileFormat.JSON;
+        }
+    }
+
+    private AddressBookStorage getStorageFor(DataFileFormat format) {
+        switch (format) {
+        case BINARY:
+            return binaryAddressBookStorage;
+        case SHARDED:
+            return shardedAddressBookStorage;
+        default:
+            return addressBookStorage;
+        }
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getArchiveFilePath();
+    }
+
+    @Override
+    public void archiveEntries(ReadOnlyAddressBook entries) throws IOException {
+        logger.fine("Attempting to archive entries to file: " + getArchiveFilePath());
+        archiveStorage.archiveEntries(entries);
+    }
+
+    @Override
+    public ReadOnlyAddressBook searchArchive(Predicate<Event> eventPredicate, Predicate<Todo> todoPredicate)
+            throws DataLoadingException {
+        logger.fine("Attempting to search archive file: " + getArchiveFilePath());
+        return archiveStorage.searchArchive(eventPredicate, todoPredicate);
+    }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public Path getBackupFolderPath() {
+        return backupStorage.getBackupFolderPath();
+    }
+
+    @Override
+    public String backupAddressBook(ReadOnlyAddressBook addressBook, Runnable onBackedUp) {
+        logger.fine("Attempting to back up the address book to folder: " + getBackupFolderPath());
+        return backupStorage.backupAddressBook(addressBook, onBackedUp);
     }
 
+    @Override
+    public List<String> getBackupVersions() throws DataLoadingException {
+        return backupStorage.getBackupVersions();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackup(String version) throws DataLoadingException {
+        logger.fine("Attempting to read backup " + version + " from folder: " + getBackupFolderPath());
+        return backupStorage.readBackup(version);
+    }
+
+    // ================ Change feed methods ==============================
+
+    @Override
+    public Path getChangeFeedFolderPath() {
+        return changeFeedStorage.getChangeFeedFolderPath();
+    }
+
+    @Override
+    public void appendChanges(List<EntryChange> changes) throws IOException {
+        logger.fine("Attempting to record " + changes.size() + " changes in folder: " + getChangeFeedFolderPath());
+        changeFeedStorage.appendChanges(changes);
+    }
+
+    @Override
+    public long getLastChangeSequence() throws IOException {
+        return changeFeedStorage.getLastChangeSequence();
+    }
+
+    @Override
+    public long exportChanges(long sinceSequence, Path file) throws IOException {
+        logger.fine("Attempting to export the changes after change " + sinceSequence + " to file: " + file);
+        return changeFeedStorage.exportChanges(sinceSequence, file);
+    }
+
+    // ================ Other AddressBook methods ==============================
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        addressBookStorage.setSaveFailureHandler(saveFailureHandler);
+        binaryAddressBookStorage.setSaveFailureHandler(saveFailureHandler);
+        shardedAddressBookStorage.setSaveFailureHandler(saveFailureHandler);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+        binaryAddressBookStorage.flushAddressBook();
+        shardedAddressBookStorage.flushAddressBook();
+    }
+
+
+    /**
+     * The storages a {@code StorageManager} stores its data with. Storages that are not given are created with
+     * their default settings, next to the data file of the JSON address book storage.
+     */
+    public static class Components {
+
+        private final AddressBookStorage addressBookStorage;
+        private final UserPrefsStorage userPrefsStorage;
+        private AddressBookStorage binaryAddressBookStorage;
+        private AddressBookStorage shardedAddressBookStorage;
+        private ArchiveStorage archiveStorage;
+        private BackupStorage backupStorage;
+        private ChangeFeedStorage changeFeedStorage;
+
+        /**
+         * Creates the storages for JSON data files in {@code addressBookStorage} and user prefs in
+         * {@code userPrefsStorage}. Binary and sharded data files are accessed directly through a
+         * {@link BinaryAddressBookStorage} and a {@link ShardedAddressBookStorage}, archived entries are kept in a
+         * {@link JsonArchiveStorage}, backups in a {@link ChunkedBackupStorage} and changes are recorded in a
+         * {@link JsonChangeFeedStorage}.
+         */
+        public Components(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+            this.addressBookStorage = addressBookStorage;
+            this.userPrefsStorage = userPrefsStorage;
+            Path dataFilePath = addressBookStorage.getAddressBookFilePath();
+            binaryAddressBookStorage = new BinaryAddressBookStorage(dataFilePath);
+            shardedAddressBookStorage = new ShardedAddressBookStorage(dataFilePath);
+            archiveStorage = new JsonArchiveStorage(JsonArchiveStorage.getArchivePath(dataFilePath));
+            backupStorage = new ChunkedBackupStorage(ChunkedBackupStorage.getBackupPath(dataFilePath),
+                    new BackupPolicy());
+            changeFeedStorage = new JsonChangeFeedStorage(JsonChangeFeedStorage.getChangeFeedPath(dataFilePath),
+                    new ChangeFeedPolicy());
+        }
+
+        /**
+         * Accesses binary data files through {@code binaryAddressBookStorage}, which must use the same file path as
+         * the JSON address book storage.
+         */
+        public Components withBinaryAddressBookStorage(AddressBookStorage binaryAddressBookStorage) {
+            this.binaryAddressBookStorage = binaryAddressBookStorage;
+            return this;
+        }
+
+        /**
+         * Accesses sharded data files through {@code shardedAddressBookStorage}, which must use the same file path
+         * as the JSON address book storage.
+         */
+        public Components withShardedAddressBookStorage(AddressBookStorage shardedAddressBookStorage) {
+            this.shardedAddressBookStorage = shardedAddressBookStorage;
+            return this;
+        }
+
+        /**
+         * Keeps archived entries in {@code archiveStorage}.
+         */
+        public Components withArchiveStorage(ArchiveStorage archiveStorage) {
+            this.archiveStorage = archiveStorage;
+            return this;
+        }
+
+        /**
+         * Keeps backups of the address book in {@code backupStorage}.
+         */
+        public Components withBackupStorage(BackupStorage backupStorage) {
+            this.backupStorage = backupStorage;
+            return this;
+        }
+
+        /**
+         * Records changes in {@code changeFeedStorage}.
+         */
+        public Components withChangeFeedStorage(ChangeFeedStorage changeFeedStorage) {
+            this.changeFeedStorage = changeFeedStorage;
+            return this;
+        }
+    }
 }
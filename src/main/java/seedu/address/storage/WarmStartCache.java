@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A binary copy of the address book held by a set of source files, which is read instead of parsing them again as
+ * long as they have not changed since the copy was written.
+ * <p>
+ * A cache file consists of:
+ * <ul>
+ *     <li>the {@link #MAGIC} bytes and a one byte format version,</li>
+ *     <li>the key: the number of source files, the size and modification time of each (a size of -1 for missing
+ *     files), and a SHA-256 hash of their contents,</li>
+ *     <li>the journal sequence number and the number of journal records the source files held,</li>
+ *     <li>the address book in the format written by {@link BinaryAddressBookCodec}.</li>
+ * </ul>
+ * The size and modification times are compared first, so that the source files are only hashed when they look
+ * unchanged.
+ */
+class WarmStartCache {
+
+    static final String CACHE_FILE_SUFFIX = ".cache";
+
+    private static final byte[] MAGIC = {'O', 'B', 'A', 'C'};
+    private static final byte VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_SIZE = 32;
+    private static final long MISSING_FILE_SIZE = -1;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(WarmStartCache.class);
+
+    private final Path cachePath;
+    private final List<Path> sourcePaths;
+
+    /**
+     * Creates a cache stored at {@code cachePath} of the address book held by {@code sourcePaths}.
+     */
+    WarmStartCache(Path cachePath, List<Path> sourcePaths) {
+        requireNonNull(cachePath);
+        requireNonNull(sourcePaths);
+        this.cachePath = cachePath;
+        this.sourcePaths = List.copyOf(sourcePaths);
+    }
+
+    /**
+     * Returns the path of the cache that belongs to the data file at {@code dataFilePath}.
+     */
+    static Path getCachePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + CACHE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the cached address book, fully decoded and validated.
+     * Returns {@code Optional.empty()} if there is no cache, the source files have changed since it was written,
+     * or it cannot be read; the source files should be read instead then.
+     */
+    Optional<CachedAddressBook> read() {
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer cache = ByteBuffer.wrap(Files.readAllBytes(cachePath));
+            byte[] magic = new byte[MAGIC.length];
+            cache.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || cache.get() != VERSION) {
+                logger.info("Ignoring cache " + cachePath + " written by another version");
+                return Optional.empty();
+            }
+
+            if (cache.getInt() != sourcePaths.size()) {
+                return Optional.empty();
+            }
+            for (Path sourcePath : sourcePaths) {
+                long cachedSize = cache.getLong();
+                long cachedTime = cache.getLong();
+                long[] attributes = readAttributes(sourcePath);
+                if (cachedSize != attributes[0] || cachedTime != attributes[1]) {
+                    logger.info("Ignoring cache " + cachePath + " as " + sourcePath + " has changed");
+                    return Optional.empty();
+                }
+            }
+            byte[] hash = new byte[HASH_SIZE];
+            cache.get(hash);
+            if (!Arrays.equals(hash, hashSources())) {
+                logger.info("Ignoring cache " + cachePath + " as the contents of its source files have changed");
+                return Optional.empty();
+            }
+
+            long journalSequence = cache.getLong();
+            int journalRecordCount = cache.getInt();
+            AddressBook addressBook = new BinaryAddressBookReader(cache.slice()).toAddressBook();
+            return Optional.of(new CachedAddressBook(addressBook, journalSequence, journalRecordCount));
+        } catch (IOException | BufferUnderflowException | IllegalValueException e) {
+            logger.warning("Ignoring unreadable cache " + cachePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the cache of the source files as they are now.
+     * {@code addressBook} must be the address book the source files hold, which held {@code journalRecordCount}
+     * journal records up to {@code journalSequence}.
+     */
+    void write(ReadOnlyAddressBook addressBook, long journalSequence, int journalRecordCount) throws IOException {
+        requireNonNull(addressBook);
+        long[][] attributes = new long[sourcePaths.size()][];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = readAttributes(sourcePaths.get(i));
+        }
+        byte[] hash = hashSources();
+
+        FileUtil.createParentDirsOfFile(cachePath);
+        FileUtil.writeToFileAtomically(cachePath, out -> {
+            DataOutputStream header = new DataOutputStream(out);
+            header.write(MAGIC);
+            header.writeByte(VERSION);
+            header.writeInt(attributes.length);
+            for (long[] sourceAttributes : attributes) {
+                header.writeLong(sourceAttributes[0]);
+                header.writeLong(sourceAttributes[1]);
+            }
+            header.write(hash);
+            header.writeLong(journalSequence);
+            header.writeInt(journalRecordCount);
+            header.flush();
+            BinaryAddressBookCodec.write(addressBook, out);
+        });
+    }
+
+    /**
+     * Returns the size and modification time in milliseconds of the file at {@code sourcePath}.
+     */
+    private static long[] readAttributes(Path sourcePath) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(sourcePath, BasicFileAttributes.class);
+            return new long[] {attributes.size(), attributes.lastModifiedTime().toMillis()};
+        } catch (NoSuchFileException e) {
+            return new long[] {MISSING_FILE_SIZE, 0};
+        }
+    }
+
+    private byte[] hashSources() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        for (Path sourcePath : sourcePaths) {
+            if (!Files.exists(sourcePath)) {
+                continue;
+            }
+            try (InputStream in = Files.newInputStream(sourcePath)) {
+                for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * An address book read from the cache, with the journal position its source files were at.
+     */
+    static class CachedAddressBook {
+        private final AddressBook addressBook;
+        private final long journalSequence;
+        private final int journalRecordCount;
+
+        CachedAddressBook(AddressBook addressBook, long journalSequence, int journalRecordCount) {
+            this.addressBook = addressBook;
+            this.journalSequence = journalSequence;
+            this.journalRecordCount = journalRecordCount;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        long getJournalSequence() {
+            return journalSequence;
+        }
+
+        int getJournalRecordCount() {
+            return journalRecordCount;
+        }
+    }
+}
@@ -32,11 +32,13 @@ public class EventCard extends UiPart<Region> {
     private Label endTime;
     @FXML
     private Label alias;
+    @FXML
+    private Label attendees;
 
     /**
-     * Creates a {@code EventCard} with the given {@code Event} and index to display.
+     * Creates a {@code EventCard} with the given {@code Event}, index and number of linked persons to display.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard(Event event, int displayedIndex, int attendeeCount) {
         super(FXML);
         this.event = event;
         id.setText(displayedIndex + ". ");
@@ -45,6 +47,7 @@ public class EventCard extends UiPart<Region> {
         description.setText(event.getDescription());
         startTime.setText("Start: " + event.getStart().format(DATE_TIME_FORMATTER));
         endTime.setText("End: " + event.getEnd().format(DATE_TIME_FORMATTER));
+        attendees.setText("Attendees: " + attendeeCount);
     }
 }
 
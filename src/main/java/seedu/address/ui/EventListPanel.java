@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -20,15 +21,26 @@ public class EventListPanel extends UiPart<Region> {
     @FXML
     private ListView<Event> eventListView;
 
+    private final ToIntFunction<Event> attendeeCounter;
+
     /**
-     * Creates a {@code EventListPanel} with the given {@code ObservableList}.
+     * Creates a {@code EventListPanel} with the given {@code ObservableList},
+     * using {@code attendeeCounter} to look up the number of persons linked to each event.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<Event> eventList, ToIntFunction<Event> attendeeCounter) {
         super(FXML);
+        this.attendeeCounter = attendeeCounter;
         eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListViewCell());
     }
 
+    /**
+     * Redraws the displayed cards, so that their attendee counts are up to date.
+     */
+    public void refresh() {
+        eventListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of an {@code Event} using an {@code EventCard}.
      */
@@ -41,7 +53,7 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                setGraphic(new EventCard(event, getIndex() + 1, attendeeCounter.applyAsInt(event)).getRoot());
                 getStyleClass().add("event-card");
 
             }
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,8 +18,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.todo.Todo;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -120,17 +123,21 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(),
+                logic::getOpenTodoCount, logic::getCompletedTodoCount, logic::getLinkedEvent);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        // The todos may be filled in after the window opens, which changes the counts shown on the cards
+        logic.getFilteredTodoList().addListener((ListChangeListener<Todo>) change -> personListPanel.refresh());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic::getAttendeeCount);
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
-        todoListPanel = new TodoListPanel(logic.getFilteredTodoList());
+        todoListPanel = new TodoListPanel(logic.getFilteredTodoList(), logic::getLinkedContact);
         todoListPanelPlaceholder.getChildren().add(todoListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -184,16 +191,27 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, and shows its result on the JavaFX thread once it is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeInBackground(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeInBackground(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
+            // Counts and linked entries shown on the cards may change without the card's own entry changing
+            personListPanel.refresh();
+            eventListPanel.refresh();
+            todoListPanel.refresh();
+
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -201,12 +219,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
@@ -1,12 +1,14 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
@@ -41,12 +43,16 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label eventAlias;
     @FXML
+    private Label todoCounts;
+    @FXML
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person}, index, numbers of linked todos and linked event to
+     * display.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, int openTodoCount, int completedTodoCount,
+                      Optional<Event> linkedEvent) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -55,14 +61,24 @@ public class PersonCard extends UiPart<Region> {
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
 
-        if (person.getEventAlias() == null) {
+        if (linkedEvent.isEmpty()) {
             eventAlias.setVisible(false);
             eventAlias.setManaged(false);
         } else {
-            eventAlias.setText(person.getEventAlias().value);
+            eventAlias.setText(linkedEvent.get().getAlias());
             eventAlias.setVisible(true);
             eventAlias.setManaged(true);
         }
+
+        if (openTodoCount == 0 && completedTodoCount == 0) {
+            todoCounts.setVisible(false);
+            todoCounts.setManaged(false);
+        } else {
+            todoCounts.setText("Todos: " + openTodoCount + " open, " + completedTodoCount + " done");
+            todoCounts.setVisible(true);
+            todoCounts.setManaged(true);
+        }
+
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
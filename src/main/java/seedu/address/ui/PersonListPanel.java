@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +11,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,15 +24,33 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final ToIntFunction<Person> openTodoCounter;
+    private final ToIntFunction<Person> completedTodoCounter;
+    private final Function<Person, Optional<Event>> linkedEventFinder;
+
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, using {@code openTodoCounter} and
+     * {@code completedTodoCounter} to look up the numbers of incomplete and completed todos linked to each person,
+     * and {@code linkedEventFinder} to look up the event each person is linked to.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, ToIntFunction<Person> openTodoCounter,
+                           ToIntFunction<Person> completedTodoCounter,
+                           Function<Person, Optional<Event>> linkedEventFinder) {
         super(FXML);
+        this.openTodoCounter = openTodoCounter;
+        this.completedTodoCounter = completedTodoCounter;
+        this.linkedEventFinder = linkedEventFinder;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
+    /**
+     * Redraws the displayed cards, so that their todo counts and linked events are up to date.
+     */
+    public void refresh() {
+        personListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
@@ -41,7 +63,8 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + 1, openTodoCounter.applyAsInt(person),
+                        completedTodoCounter.applyAsInt(person), linkedEventFinder.apply(person)).getRoot());
                 getStyleClass().add("person-card");
             }
         }
@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 
 /**
@@ -29,17 +32,17 @@ public class TodoCard extends UiPart<Region> {
     private Label status;
 
     /**
-     * Creates a {@code TodoCard} with the given {@code Todo} and index to display.
+     * Creates a {@code TodoCard} with the given {@code Todo}, index and linked contact to display.
      */
-    public TodoCard(Todo todo, int displayedIndex) {
+    public TodoCard(Todo todo, int displayedIndex, Optional<Person> linkedContact) {
         super(FXML);
         this.todo = todo;
         id.setText(displayedIndex + ". ");
         todoName.setText(todo.getTodoName().toString());
         description.setText("Description: " + todo.getTodoDescription());
         // Set contact tag
-        if (todo.getContactName() != null) {
-            contactName.setText(todo.getContactName().fullName);
+        if (linkedContact.isPresent()) {
+            contactName.setText(linkedContact.get().getName().fullName);
             contactName.getStyleClass().add("contact-tag");
         } else {
             contactName.setText("No contact linked");
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +10,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 
 /**
@@ -20,15 +23,26 @@ public class TodoListPanel extends UiPart<Region> {
     @FXML
     private ListView<Todo> todoListView;
 
+    private final Function<Todo, Optional<Person>> linkedContactFinder;
+
     /**
-     * Creates a {@code TodoListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TodoListPanel} with the given {@code ObservableList}, using {@code linkedContactFinder} to
+     * look up the contact each todo is linked to.
      */
-    public TodoListPanel(ObservableList<Todo> todoList) {
+    public TodoListPanel(ObservableList<Todo> todoList, Function<Todo, Optional<Person>> linkedContactFinder) {
         super(FXML);
+        this.linkedContactFinder = linkedContactFinder;
         todoListView.setItems(todoList);
         todoListView.setCellFactory(listView -> new TodoListViewCell());
     }
 
+    /**
+     * Redraws the displayed cards, so that their linked contacts are up to date.
+     */
+    public void refresh() {
+        todoListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Todo} using a {@code TodoCard}.
      */
@@ -41,7 +55,7 @@ public class TodoListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TodoCard(todo, getIndex() + 1).getRoot());
+                setGraphic(new TodoCard(todo, getIndex() + 1, linkedContactFinder.apply(todo)).getRoot());
                 getStyleClass().add("todo-card");
             }
         }
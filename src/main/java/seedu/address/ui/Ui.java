@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows an error about changes that could not be saved, and returns once the user has closed it. */
+    void showSaveFailureAndWait(String message);
+
 }
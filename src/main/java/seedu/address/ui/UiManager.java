@@ -50,6 +50,14 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailureAndWait(String message) {
+        logger.info("Showing save failure: " + message);
+        Stage owner = mainWindow == null ? null : mainWindow.getPrimaryStage();
+        showAlertDialogAndWait(owner, AlertType.ERROR, "Could not save data", "Your latest changes were not saved",
+                message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,44 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class BackupPolicyTest {
+    @Test
+    public void constructor_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackupPolicy(-1, 24, 7));
+        assertThrows(IllegalArgumentException.class, () -> new BackupPolicy(60, -1, 7));
+        assertThrows(IllegalArgumentException.class, () -> new BackupPolicy(60, 24, -1));
+    }
+
+    @Test
+    public void isScheduled() {
+        assertTrue(new BackupPolicy().isScheduled());
+        assertFalse(new BackupPolicy(0, 24, 7).isScheduled());
+    }
+
+    @Test
+    public void equals() {
+        BackupPolicy policy = new BackupPolicy(30, 12, 3);
+        assertEquals(policy, new BackupPolicy(30, 12, 3));
+        assertEquals(new BackupPolicy(), new BackupPolicy(BackupPolicy.DEFAULT_INTERVAL_MINUTES,
+                BackupPolicy.DEFAULT_HOURLY_BACKUPS, BackupPolicy.DEFAULT_DAILY_BACKUPS));
+        assertNotEquals(policy, new BackupPolicy(60, 12, 3));
+        assertNotEquals(policy, new BackupPolicy(30, 24, 3));
+        assertNotEquals(policy, new BackupPolicy(30, 12, 7));
+        assertNotEquals(policy, null);
+    }
+
+    @Test
+    public void toStringMethod() {
+        BackupPolicy policy = new BackupPolicy(30, 12, 3);
+        String expected = BackupPolicy.class.getCanonicalName() + "{intervalMinutes=30, hourlyBackups=12, "
+                + "dailyBackups=3}";
+        assertEquals(expected, policy.toString());
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeFeedPolicyTest {
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeedPolicy(true, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeedPolicy(true, -1));
+    }
+
+    @Test
+    public void isEnabled() {
+        assertFalse(new ChangeFeedPolicy().isEnabled());
+        assertTrue(new ChangeFeedPolicy(true, 1024).isEnabled());
+    }
+
+    @Test
+    public void equals() {
+        ChangeFeedPolicy policy = new ChangeFeedPolicy(true, 1024);
+        assertEquals(policy, new ChangeFeedPolicy(true, 1024));
+        assertEquals(new ChangeFeedPolicy(), new ChangeFeedPolicy(false, ChangeFeedPolicy.DEFAULT_MAX_SEGMENT_BYTES));
+        assertNotEquals(policy, new ChangeFeedPolicy(false, 1024));
+        assertNotEquals(policy, new ChangeFeedPolicy(true, 2048));
+        assertNotEquals(policy, null);
+    }
+
+    @Test
+    public void toStringMethod() {
+        ChangeFeedPolicy policy = new ChangeFeedPolicy(true, 1024);
+        String expected = ChangeFeedPolicy.class.getCanonicalName() + "{isEnabled=true, maxSegmentBytes=1024}";
+        assertEquals(expected, policy.toString());
+    }
+}
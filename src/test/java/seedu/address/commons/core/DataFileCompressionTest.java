@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileCompression.Codec;
+
+public class DataFileCompressionTest {
+    @Test
+    public void constructor_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DataFileCompression(Codec.GZIP, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DataFileCompression(Codec.GZIP, 10));
+        assertThrows(IllegalArgumentException.class, () -> new DataFileCompression(null, 1));
+    }
+
+    @Test
+    public void isCompressed() {
+        assertFalse(new DataFileCompression().isCompressed());
+        assertTrue(new DataFileCompression(Codec.DEFLATE, 1).isCompressed());
+    }
+
+    @Test
+    public void equals() {
+        DataFileCompression compression = new DataFileCompression(Codec.GZIP, 6);
+        assertEquals(compression, new DataFileCompression(Codec.GZIP, 6));
+        assertEquals(new DataFileCompression(), new DataFileCompression(Codec.NONE, DataFileCompression.DEFAULT_LEVEL));
+        assertNotEquals(compression, new DataFileCompression(Codec.GZIP, 9));
+        assertNotEquals(compression, new DataFileCompression(Codec.DEFLATE, 6));
+        assertNotEquals(compression, null);
+    }
+
+    @Test
+    public void toStringMethod() {
+        DataFileCompression compression = new DataFileCompression(Codec.GZIP, 9);
+        String expected = DataFileCompression.class.getCanonicalName() + "{codec=GZIP, level=9}";
+        assertEquals(expected, compression.toString());
+    }
+}
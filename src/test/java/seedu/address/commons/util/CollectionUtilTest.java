@@ -1,17 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.CollectionUtil.updateList;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
 public class CollectionUtilTest {
     @Test
     public void requireAllNonNullVarargs() {
@@ -82,6 +91,61 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void updateList_changedEntries_onlyChangedRangesReplaced() {
+        Object[] elements = {new Object(), new Object(), new Object(), new Object(), new Object()};
+        Object edited = new Object();
+        Object added = new Object();
+        ObservableList<Object> list = FXCollections.observableArrayList(elements);
+        List<Object> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Object>) changes::add);
+
+        List<Object> target = List.of(elements[0], edited, elements[2], elements[3], elements[4], added);
+        updateList(list, target);
+
+        assertEquals(target, list);
+        // the edited element is replaced and the added one appended, each with its own change
+        assertEquals(2, changes.size());
+        assertSame(elements[2], list.get(2));
+    }
+
+    @Test
+    public void updateList_unchangedList_noChange() {
+        Object[] elements = {new Object(), new Object()};
+        ObservableList<Object> list = FXCollections.observableArrayList(elements);
+        List<Object> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Object>) changes::add);
+
+        updateList(list, List.of(elements));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void updateList_randomChanges_matchesTarget() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            List<Object> original = new ArrayList<>();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                original.add(new Object());
+            }
+            List<Object> target = new ArrayList<>(original);
+            for (int i = random.nextInt(4); i > 0 && !target.isEmpty(); i--) {
+                target.remove(random.nextInt(target.size()));
+            }
+            for (int i = random.nextInt(4); i > 0; i--) {
+                target.add(random.nextInt(target.size() + 1), new Object());
+            }
+            if (random.nextBoolean() && target.size() > 1) {
+                Collections.swap(target, 0, target.size() - 1);
+            }
+
+            List<Object> list = new ArrayList<>(original);
+            updateList(list, target);
+            assertEquals(target, list);
+        }
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.DataFileCompression.Codec;
+
+public class CompressionUtilTest {
+
+    private static final byte[] CONTENT = "{ \"tags\" : [ \"friends\", \"friends\", \"friends\" ] }"
+            .repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    private byte[] writeAndRead(Path file, DataFileCompression compression) throws Exception {
+        FileUtil.writeToFileAtomically(file, CompressionUtil.compress(compression, out -> out.write(CONTENT)));
+        try (InputStream in = CompressionUtil.newInputStream(file)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    public void compress_eachCodec_decompressedOnRead() throws Exception {
+        for (Codec codec : Codec.values()) {
+            Path file = testFolder.resolve(codec + ".json");
+            assertArrayEquals(CONTENT, writeAndRead(file, new DataFileCompression(codec, 1)));
+            assertEquals(codec != Codec.NONE, CompressionUtil.isCompressed(file));
+        }
+    }
+
+    @Test
+    public void compress_higherLevel_notLarger() throws Exception {
+        Path fastest = testFolder.resolve("fastest.json");
+        Path smallest = testFolder.resolve("smallest.json");
+        writeAndRead(fastest, new DataFileCompression(Codec.DEFLATE, DataFileCompression.MIN_LEVEL));
+        writeAndRead(smallest, new DataFileCompression(Codec.DEFLATE, DataFileCompression.MAX_LEVEL));
+
+        assertTrue(Files.size(smallest) <= Files.size(fastest));
+        assertTrue(Files.size(smallest) < CONTENT.length);
+    }
+
+    @Test
+    public void newInputStream_shortFile_readAsIs() throws Exception {
+        Path file = testFolder.resolve("short.json");
+        Files.write(file, new byte[] {'{'});
+
+        try (InputStream in = CompressionUtil.newInputStream(file)) {
+            assertArrayEquals(new byte[] {'{'}, in.readAllBytes());
+        }
+        assertFalse(CompressionUtil.isCompressed(file));
+        Files.write(file, new byte[0]);
+        assertFalse(CompressionUtil.isCompressed(file));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,27 +10,60 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.ChangeFeedPolicy;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.ArchiveSearch;
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.BackupRequest;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertDataCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExportChangesCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindArchivedCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.MergeRequest;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.interchange.ContactImporter;
+import seedu.address.logic.interchange.ImportRequest;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ListEdit;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ChunkedBackupStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonArchiveStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
@@ -48,7 +83,8 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storage = new StorageManager(
+                new StorageManager.Components(addressBookStorage, userPrefsStorage));
         logic = new LogicManager(model, storage);
     }
 
@@ -70,6 +106,23 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void executeInBackground_commandsRunInOrder() throws Exception {
+        CompletableFuture<CommandResult> added = logic.executeInBackground(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        CompletableFuture<CommandResult> failed = logic.executeInBackground("delete-contact 9");
+        List<Integer> personCounts = new ArrayList<>();
+        logic.runInBackground(() -> personCounts.add(model.getFilteredPersonList().size())).get();
+
+        assertTrue(added.isDone());
+        assertEquals(List.of(1), personCounts);
+        Throwable failure = failed.handle((result, error) -> error).get();
+        assertTrue(failure instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, failure.getMessage());
+
+        assertTrue(logic.awaitPendingCommands());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +135,310 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(addressBookPath));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_saveFailed_savedAgainByNextCommand() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // the address book still differs from the last saved one, so even a read-only command saves it
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureReportedAndSavedAgainByNextCommand() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing.get()) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(new StorageManager.Components(
+                new AsyncAddressBookStorage(failingStorage),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic = new LogicManager(model, storage);
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                messages);
+
+        // the version that failed to be written is not taken as saved, so even a read-only command saves it
+        isFailing.set(false);
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_convertData_dataFileConverted() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+
+        logic.execute(ConvertDataCommand.COMMAND_WORD + " binary");
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(addressBookPath));
+
+        // later changes are saved in the new format
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(addressBookPath));
+        assertEquals(model.getAddressBook(), new BinaryAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void reloadExternalChanges_dataFileChangedByOtherProgram_changesApplied() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("journaled.json");
+        StorageManager storage = new StorageManager(new StorageManager.Components(
+                new JournaledAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic = new LogicManager(model, storage);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(logic.reloadExternalChanges());
+
+        JournaledAddressBookStorage otherProgram = new JournaledAddressBookStorage(addressBookPath);
+        ModelManager otherModel = new ModelManager(otherProgram.readAddressBook().get(), new UserPrefs());
+        List<ListEdit> otherEdits = new ArrayList<>();
+        otherModel.setEditListener(otherEdits::addAll);
+        otherModel.addPerson(HOON);
+        otherProgram.saveAddressBookEdits(otherEdits);
+
+        assertTrue(logic.reloadExternalChanges());
+        assertEquals(otherModel.getAddressBook(), model.getAddressBook());
+        assertFalse(logic.reloadExternalChanges());
+
+        // the reloaded address book is not saved again
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(addressBookPath)).size());
+    }
+
+    @Test
+    public void execute_dataFileChangedBeforeSave_changesSavedOverCopyOfDataFile() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("journaled.json");
+        StorageManager storage = new StorageManager(new StorageManager.Components(
+                new JournaledAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic = new LogicManager(model, storage);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        JournaledAddressBookStorage otherProgram = new JournaledAddressBookStorage(addressBookPath);
+        ModelManager otherModel = new ModelManager(otherProgram.readAddressBook().get(), new UserPrefs());
+        List<ListEdit> otherEdits = new ArrayList<>();
+        otherModel.setEditListener(otherEdits::addAll);
+        otherModel.addPerson(HOON);
+        otherProgram.saveAddressBookEdits(otherEdits);
+
+        // the command changes the address book before the other program's change is reloaded
+        assertThrows(CommandException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 1"));
+        assertFalse(logic.reloadExternalChanges());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(addressBookPath).readAddressBook().get());
+        assertEquals(otherModel.getAddressBook(), new JournaledAddressBookStorage(
+                JournaledAddressBookStorage.getConflictPath(addressBookPath)).readAddressBook().get());
+
+        // later changes are saved as usual
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_archive_entriesMovedToArchiveFile() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        model.addEvent(MEETING);
+        model.addTodo(SEND_INVITES);
+        model.addTodo(REVIEW_PROPOSAL);
+
+        logic.execute(ArchiveCommand.COMMAND_WORD);
+        assertEquals(List.of(), model.getAddressBook().getEventList());
+        assertEquals(List.of(REVIEW_PROPOSAL), model.getAddressBook().getTodoList());
+        assertTrue(Files.exists(JsonArchiveStorage.getArchivePath(addressBookPath)));
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+
+        CommandResult result = logic.execute(FindArchivedCommand.COMMAND_WORD + " invites");
+        String expectedMessage = String.format(ArchiveSearch.MESSAGE_MATCHES_FOUND, 0, 1)
+                + "\nTodo: " + Messages.format(SEND_INVITES, model.getAddressBook());
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void archiveExpiredEntries_autoArchiveOff_nothingArchived() throws Exception {
+        model.addTodo(SEND_INVITES);
+        logic.archiveExpiredEntries();
+        assertEquals(List.of(SEND_INVITES), model.getAddressBook().getTodoList());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAutoArchiveAfterDays(1);
+        model.setUserPrefs(userPrefs);
+        logic.archiveExpiredEntries();
+        assertEquals(List.of(), model.getAddressBook().getTodoList());
+    }
+
+    @Test
+    public void execute_backupAndRestore_addressBookRestored() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        AddressBook backedUp = new AddressBook(model.getAddressBook());
+        String version = logic.backupAddressBookIfChanged().get();
+        // listing the backups waits for the backup to be written
+        logic.execute(RestoreCommand.COMMAND_WORD);
+        assertEquals(Optional.empty(), logic.backupAddressBookIfChanged());
+
+        model.addPerson(HOON);
+        CommandResult result = logic.execute(RestoreCommand.COMMAND_WORD + " " + version);
+        assertEquals(String.format(RestoreCommand.MESSAGE_SUCCESS, version), result.getFeedbackToUser());
+        assertEquals(backedUp, model.getAddressBook());
+        assertEquals(backedUp, new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+
+        // the address book replaced by the restore was backed up first
+        result = logic.execute(RestoreCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(BackupRequest.MESSAGE_BACKUPS_LISTED, 2)));
+
+        result = logic.execute(BackupCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(BackupCommand.MESSAGE_SUCCESS, "")));
+    }
+
+    @Test
+    public void backupAddressBookIfChanged_backupFails_backedUpAgain() throws Exception {
+        // a file in place of the backup folder makes every backup fail
+        Files.createFile(ChunkedBackupStorage.getBackupPath(temporaryFolder.resolve("addressBook.json")));
+        model.addPerson(AMY);
+        assertTrue(logic.backupAddressBookIfChanged().isPresent());
+
+        // listing the backups waits for the backup to fail
+        logic.execute(RestoreCommand.COMMAND_WORD);
+        assertTrue(logic.backupAddressBookIfChanged().isPresent());
+    }
+
+    @Test
+    public void execute_restoreUnknownVersion_throwsCommandException() {
+        assertCommandException(RestoreCommand.COMMAND_WORD + " 20251019-143000",
+                String.format(RestoreCommand.MESSAGE_BACKUP_NOT_FOUND, "20251019-143000"));
+    }
+
+    @Test
+    public void execute_export_fileWrittenInBackground() throws Exception {
+        Path exportPath = temporaryFolder.resolve("contacts.vcf");
+        model.addPerson(AMY);
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + exportPath);
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING_CONTACTS, 1, exportPath),
+                result.getFeedbackToUser());
+
+        logic.awaitPendingExports();
+        assertTrue(Files.readString(exportPath).contains("FN:" + AMY.getName().fullName + "\r\n"));
+    }
+
+    @Test
+    public void execute_exportFails_failureHandlerCalled() throws Exception {
+        // a folder that is not empty cannot be replaced by the exported file
+        Path exportPath = temporaryFolder.resolve("contacts.csv");
+        Files.createDirectories(exportPath.resolve("kept"));
+        List<String> messages = new ArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        logic.execute(ExportCommand.COMMAND_WORD + " " + exportPath);
+        logic.awaitPendingExports();
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).startsWith(String.format(LogicManager.FILE_OPS_EXPORT_ERROR_FORMAT, exportPath,
+                "")));
+    }
+
+    @Test
+    public void execute_changeFeedEnabled_changesRecordedAndExported() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setChangeFeedPolicy(new ChangeFeedPolicy(true, ChangeFeedPolicy.DEFAULT_MAX_SEGMENT_BYTES));
+        model = new ModelManager(new AddressBook(), userPrefs);
+        setUp();
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        Path exportPath = temporaryFolder.resolve("changes.ndjson");
+        CommandResult result = logic.execute(ExportChangesCommand.COMMAND_WORD + " --since 1 " + exportPath);
+
+        assertEquals(String.format(ExportChangesCommand.MESSAGE_SUCCESS, 1, 1, exportPath, 2),
+                result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(exportPath);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"seq\":2,"), lines.get(0));
+        assertTrue(lines.get(0).contains("\"op\":\"delete\""), lines.get(0));
+    }
+
+    @Test
+    public void execute_changeFeedDisabled_nothingRecorded() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json.changes")));
+        assertCommandException(ExportChangesCommand.COMMAND_WORD + " changes.ndjson",
+                ExportChangesCommand.MESSAGE_CHANGE_FEED_DISABLED);
+    }
+
+    @Test
+    public void execute_merge_otherChangesApplied() throws Exception {
+        Path basePath = temporaryFolder.resolve("base.json");
+        Path otherPath = temporaryFolder.resolve("other.json");
+        AddressBook base = new AddressBook();
+        base.addPerson(AMY);
+        new JsonAddressBookStorage(basePath).saveAddressBook(base);
+        AddressBook other = new AddressBook(base);
+        other.addPerson(HOON);
+        new JsonAddressBookStorage(otherPath).saveAddressBook(other);
+        model.addPerson(AMY);
+
+        CommandResult result = logic.execute(MergeCommand.COMMAND_WORD + " " + otherPath + " "
+                + MergeCommand.BASE_OPTION + " " + basePath);
+        assertEquals(String.format(MergeRequest.MESSAGE_MERGED, otherPath, 1, 0, 0), result.getFeedbackToUser());
+        assertEquals(other, model.getAddressBook());
+        assertEquals(other, new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void execute_mergeMissingFile_throwsCommandException() {
+        Path otherPath = temporaryFolder.resolve("other.json");
+        assertCommandException(MergeCommand.COMMAND_WORD + " " + otherPath + " " + MergeCommand.BASE_OPTION + " "
+                + temporaryFolder.resolve("base.json"), String.format(MergeCommand.MESSAGE_FILE_NOT_FOUND, otherPath));
+    }
+
+    @Test
+    public void execute_import_personsAddedAndSavedOnce() throws Exception {
+        Path file = temporaryFolder.resolve("contacts.csv");
+        Files.writeString(file, "name,phone,email,address\n"
+                + "Amy Bee,11111111,amy@example.com,Block 312 Amy Street 1\n"
+                + "Bob Choo,22222222,bob@example.com,Block 123 Bobby Street 3\n"
+                + "Bob,12,bob@example.com,Block 1\n");
+        long version = model.getAddressBookVersion();
+
+        CommandResult result = logic.execute(ImportCommand.COMMAND_WORD + " " + file);
+        assertEquals(String.format(ImportRequest.MESSAGE_SUCCESS, 2, file)
+                + String.format(ImportRequest.MESSAGE_REJECTED, 1, ContactImporter.getErrorFilePath(file)),
+                result.getFeedbackToUser());
+        // the contacts are added as a single change
+        assertEquals(version + 1, model.getAddressBookVersion());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void execute_importMissingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertCommandException(ImportCommand.COMMAND_WORD + " " + file,
+                String.format(ImportRequest.MESSAGE_READ_ERROR, file));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -160,7 +517,8 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storage = new StorageManager(
+                new StorageManager.Components(addressBookStorage, userPrefsStorage));
 
         logic = new LogicManager(model, storage);
 
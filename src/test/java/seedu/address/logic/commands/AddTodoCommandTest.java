@@ -16,6 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.testutil.ModelStub;
@@ -35,10 +36,11 @@ public class AddTodoCommandTest {
     public void execute_todoAcceptedByModel_addSuccessful() throws Exception {
         ModelStubAcceptingTodoAdded modelStub = new ModelStubAcceptingTodoAdded(ALICE);
 
-        Todo validTodo = new TodoBuilder().build();
+        Todo validTodo = new TodoBuilder().withoutContact().build();
         CommandResult commandResult = new AddTodoCommand(validTodo).execute(modelStub);
 
-        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS, Messages.format(validTodo)),
+        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS,
+                        Messages.format(validTodo, modelStub.getAddressBook())),
                 commandResult.getFeedbackToUser());
         assertEquals(Arrays.asList(validTodo), modelStub.todosAdded);
     }
@@ -46,11 +48,13 @@ public class AddTodoCommandTest {
     @Test
     public void execute_todoWithExistingContact_addSuccessful() throws Exception {
         ModelStubAcceptingTodoAdded modelStub = new ModelStubAcceptingTodoAdded(ALICE);
-        Todo validTodoWithContact = new TodoBuilder().withContactName(ALICE.getName().toString()).build();
+        Todo validTodo = new TodoBuilder().withoutContact().build();
+        Todo validTodoWithContact = new TodoBuilder(validTodo).withContact(ALICE).build();
 
-        CommandResult result = new AddTodoCommand(validTodoWithContact).execute(modelStub);
+        CommandResult result = new AddTodoCommand(validTodo, ALICE.getName()).execute(modelStub);
 
-        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS, Messages.format(validTodoWithContact)),
+        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS,
+                        Messages.format(validTodoWithContact, modelStub.getAddressBook())),
                 result.getFeedbackToUser());
         assertEquals(Arrays.asList(validTodoWithContact), modelStub.todosAdded);
     }
@@ -68,10 +72,10 @@ public class AddTodoCommandTest {
     @Test
     public void execute_contactNameProvidedButNotFound_throwsCommandException() {
         ModelStubAcceptingTodoAdded modelStub = new ModelStubAcceptingTodoAdded();
-        Todo todoWithMissingContact = new TodoBuilder().withContactName("N").build();
+        Todo todo = new TodoBuilder().withoutContact().build();
 
         assertThrows(CommandException.class,
-                "Contact not found: N", () -> new AddTodoCommand(todoWithMissingContact)
+                "Contact not found: N", () -> new AddTodoCommand(todo, new Name("N"))
                         .execute(modelStub));
     }
 
@@ -79,7 +83,7 @@ public class AddTodoCommandTest {
     public void toStringMethod() {
         Todo todo = new TodoBuilder().build();
         AddTodoCommand cmd = new AddTodoCommand(todo);
-        String expected = AddTodoCommand.class.getCanonicalName() + "{toAdd=" + todo + "}";
+        String expected = AddTodoCommand.class.getCanonicalName() + "{toAdd=" + todo + ", contactName=null}";
         assertEquals(expected, cmd.toString());
     }
 
@@ -106,6 +110,9 @@ public class AddTodoCommandTest {
 
         // different todo -> false
         assertFalse(addFirst.equals(addSecond));
+
+        // different contact name -> false
+        assertFalse(addFirst.equals(new AddTodoCommand(first, ALICE.getName())));
     }
 
     /**
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ArchiveCommandTest {
+
+    private final Event recentEvent = new EventBuilder().withName("Recent Event").withAlias("RECENT")
+            .withStart(LocalDateTime.now().minusDays(3)).withEnd(LocalDateTime.now().minusDays(2)).build();
+    private final Event upcomingEvent = new EventBuilder().withName("Upcoming Event").withAlias("UPCOMING")
+            .withStart(LocalDateTime.now().plusDays(2)).withEnd(LocalDateTime.now().plusDays(3)).build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addEvent(MEETING);
+        addressBook.addEvent(recentEvent);
+        addressBook.addEvent(upcomingEvent);
+        addressBook.addTodo(REVIEW_PROPOSAL);
+        addressBook.addTodo(SEND_INVITES);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    private static AddressBook entriesOf(List<Event> events) {
+        AddressBook entries = new AddressBook();
+        entries.setEvents(events);
+        entries.setTodos(List.of(SEND_INVITES));
+        return entries;
+    }
+
+    @Test
+    public void execute_noDays_selectsAllEndedEventsAndCompletedTodos() {
+        CommandResult expectedResult = new CommandResult(String.format(ArchiveCommand.MESSAGE_SUCCESS, 2, 1),
+                new ArchiveRequest(entriesOf(List.of(MEETING, recentEvent))));
+        assertEquals(expectedResult, new ArchiveCommand(0).execute(model));
+    }
+
+    @Test
+    public void execute_days_selectsOnlyOlderEvents() {
+        CommandResult expectedResult = new CommandResult(String.format(ArchiveCommand.MESSAGE_SUCCESS, 1, 1),
+                new ArchiveRequest(entriesOf(List.of(MEETING))));
+        assertEquals(expectedResult, new ArchiveCommand(30).execute(model));
+    }
+
+    @Test
+    public void execute_modelNotChanged() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        new ArchiveCommand(0).execute(model);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveAll = new ArchiveCommand(0);
+
+        assertTrue(archiveAll.equals(archiveAll));
+        assertTrue(archiveAll.equals(new ArchiveCommand(0)));
+        assertFalse(archiveAll.equals(null));
+        assertFalse(archiveAll.equals(new ArchiveCommand(30)));
+    }
+}
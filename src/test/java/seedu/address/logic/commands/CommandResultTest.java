@@ -5,8 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.interchange.ExportRequest;
+import seedu.address.logic.interchange.InterchangeFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -15,6 +25,8 @@ public class CommandResultTest {
         // same values -> returns true
         assertTrue(commandResult.equals(new CommandResult("feedback")));
         assertTrue(commandResult.equals(new CommandResult("feedback", false, false)));
+        assertTrue(new CommandResult("feedback", new BackupRequest("20251019-143000"))
+                .equals(new CommandResult("feedback", new BackupRequest("20251019-143000"))));
 
         // same object -> returns true
         assertTrue(commandResult.equals(commandResult));
@@ -33,6 +45,33 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different conversion request -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback",
+                new ConversionRequest(DataFileFormat.BINARY))));
+
+        // different archive request -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", new ArchiveRequest(new AddressBook()))));
+
+        // different archive search -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback",
+                new ArchiveSearch(new EventContainsKeywordsPredicate(List.of("team")),
+                        new TodoContainsKeywordsPredicate(List.of("team"))))));
+
+        // different backup request -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", new BackupRequest("20251019-143000"))));
+
+        // different export request -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback",
+                new ExportRequest(Paths.get("contacts.csv"), InterchangeFormat.CSV, List.of()))));
+
+        // different change export request -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback",
+                new ChangeExportRequest(0, Paths.get("changes.ndjson")))));
+
+        // different merge request -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback",
+                new MergeRequest(Paths.get("other.json"), Paths.get("base.json")))));
     }
 
     @Test
@@ -58,7 +97,8 @@ public class CommandResultTest {
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
                 + ", exit=" + commandResult.isExit()
-                + ", displayList=" + commandResult.getDisplayList() + "}";
+                + ", displayList=" + commandResult.getDisplayList()
+                + ", storageAction=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.ModelManager;
+
+public class ConvertDataCommandTest {
+
+    @Test
+    public void execute_requestsConversion() {
+        CommandResult expectedResult = new CommandResult(
+                String.format(ConvertDataCommand.MESSAGE_SUCCESS, "binary"),
+                new ConversionRequest(DataFileFormat.BINARY));
+        assertEquals(expectedResult, new ConvertDataCommand(DataFileFormat.BINARY).execute(new ModelManager()));
+    }
+
+    @Test
+    public void equals() {
+        ConvertDataCommand toBinary = new ConvertDataCommand(DataFileFormat.BINARY);
+
+        assertTrue(toBinary.equals(toBinary));
+        assertTrue(toBinary.equals(new ConvertDataCommand(DataFileFormat.BINARY)));
+        assertFalse(toBinary.equals(null));
+        assertFalse(toBinary.equals(new ConvertDataCommand(DataFileFormat.JSON)));
+    }
+}
@@ -103,7 +103,7 @@ public class DeleteEventCommandTest {
         }
 
         @Override
-        public void deleteEvent(Event event) {
+        public void deleteEventAndUnlinkPersons(Event event) {
             events.remove(event);
         }
 
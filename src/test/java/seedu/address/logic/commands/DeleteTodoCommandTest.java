@@ -38,7 +38,7 @@ public class DeleteTodoCommandTest {
         DeleteTodoCommand deleteTodoCommand = new DeleteTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(DeleteTodoCommand.MESSAGE_DELETE_TODO_SUCCESS,
-                Messages.format(todoToDelete));
+                Messages.format(todoToDelete, model.getAddressBook()));
 
         Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
         for (Todo t : model.getFilteredTodoList()) {
@@ -63,7 +63,8 @@ public class DeleteTodoCommandTest {
         showTodoAtIndex(model, INDEX_FIRST_PERSON);
 
         DeleteTodoCommand deleteTodoCommand = new DeleteTodoCommand(INDEX_FIRST_PERSON);
-        String expectedMessage = String.format(DeleteTodoCommand.MESSAGE_DELETE_TODO_SUCCESS, Messages.format(first));
+        String expectedMessage = String.format(DeleteTodoCommand.MESSAGE_DELETE_TODO_SUCCESS,
+                Messages.format(first, model.getAddressBook()));
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteTodo(first);
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.ChangeFeedPolicy;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportChangesCommandTest {
+
+    private static final Path FILE = Paths.get("changes.ndjson");
+
+    private static UserPrefs getChangeFeedUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setChangeFeedPolicy(new ChangeFeedPolicy(true, ChangeFeedPolicy.DEFAULT_MAX_SEGMENT_BYTES));
+        return userPrefs;
+    }
+
+    @Test
+    public void execute_changeFeedEnabled_changeExportRequested() {
+        Model model = new ModelManager(getTypicalAddressBook(), getChangeFeedUserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getChangeFeedUserPrefs());
+
+        CommandResult expectedResult = new CommandResult(String.format(ExportChangesCommand.MESSAGE_EXPORTING, 12,
+                FILE), new ChangeExportRequest(12, FILE));
+        assertCommandSuccess(new ExportChangesCommand(12, FILE), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_changeFeedDisabled_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new ExportChangesCommand(0, FILE), model,
+                ExportChangesCommand.MESSAGE_CHANGE_FEED_DISABLED);
+    }
+
+    @Test
+    public void equals() {
+        ExportChangesCommand exportChangesCommand = new ExportChangesCommand(12, FILE);
+
+        // same object -> returns true
+        assertTrue(exportChangesCommand.equals(exportChangesCommand));
+
+        // same values -> returns true
+        assertTrue(exportChangesCommand.equals(new ExportChangesCommand(12, FILE)));
+
+        // different types -> returns false
+        assertFalse(exportChangesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportChangesCommand.equals(null));
+
+        // different sequence -> returns false
+        assertFalse(exportChangesCommand.equals(new ExportChangesCommand(0, FILE)));
+
+        // different file -> returns false
+        assertFalse(exportChangesCommand.equals(new ExportChangesCommand(12, Paths.get("other.ndjson"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportChangesCommand exportChangesCommand = new ExportChangesCommand(12, FILE);
+        String expected = ExportChangesCommand.class.getCanonicalName() + "{sinceSequence=12, file=" + FILE + "}";
+        assertEquals(expected, exportChangesCommand.toString());
+    }
+}
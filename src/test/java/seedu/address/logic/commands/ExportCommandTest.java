@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.interchange.ExportRequest;
+import seedu.address.logic.interchange.InterchangeFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    private static final Path CSV_FILE = Paths.get("contacts.csv");
+    private static final Path ICS_FILE = Paths.get("events.ics");
+
+    private static AddressBook getTypicalAddressBookWithEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        return addressBook;
+    }
+
+    private Model model = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+
+    @Test
+    public void execute_shownContacts_shownContactsExported() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_EXPORTING_CONTACTS, 1,
+                CSV_FILE), new ExportRequest(CSV_FILE, InterchangeFormat.CSV, List.of(ALICE)));
+        assertCommandSuccess(new ExportCommand(CSV_FILE, InterchangeFormat.CSV, false), model, expectedResult,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_allContacts_allContactsExported() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        CommandResult expectedResult = new CommandResult(String.format(ExportCommand.MESSAGE_EXPORTING_CONTACTS,
+                model.getPersonList().size(), CSV_FILE),
+                new ExportRequest(CSV_FILE, InterchangeFormat.CSV, model.getPersonList()));
+        assertCommandSuccess(new ExportCommand(CSV_FILE, InterchangeFormat.CSV, true), model, expectedResult,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_shownEvents_shownEventsExportedWithAllPersons() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        model.updateFilteredEventList(MEETING::isSameEvent);
+
+        ExportRequest request = (ExportRequest) new ExportCommand(ICS_FILE, InterchangeFormat.ICALENDAR, false)
+                .execute(model).getStorageAction().get();
+        assertEquals(List.of(MEETING), request.getEvents());
+        assertEquals(model.getPersonList(), request.getPersons());
+    }
+
+    @Test
+    public void execute_addressBookChangedAfterwards_exportUnchanged() {
+        ExportRequest request = (ExportRequest) new ExportCommand(CSV_FILE, InterchangeFormat.CSV, true).execute(model)
+                .getStorageAction().get();
+        model.deletePerson(ALICE);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), request.getPersons());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(CSV_FILE, InterchangeFormat.CSV, false);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(CSV_FILE, InterchangeFormat.CSV, false)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("other.csv"), InterchangeFormat.CSV, false)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(CSV_FILE, InterchangeFormat.VCARD, false)));
+
+        // all entries -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(CSV_FILE, InterchangeFormat.CSV, true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(CSV_FILE, InterchangeFormat.CSV, true);
+        String expected = ExportCommand.class.getCanonicalName() + "{file=" + CSV_FILE + ", format=CSV, isAll=true}";
+        assertEquals(expected, exportCommand.toString());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.FacetCounts;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FacetsCommand.
+ */
+public class FacetsCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Event event : getTypicalEvents()) {
+            model.addEvent(event);
+            expectedModel.addEvent(event);
+        }
+        for (Todo todo : getTypicalTodos()) {
+            model.addTodo(todo);
+            expectedModel.addTodo(todo);
+        }
+    }
+
+    @Test
+    public void execute_unfilteredList_countsAllEntries() {
+        FacetCounts expectedCounts = FacetCounts.of(expectedModel.getFilteredPersonList(),
+                expectedModel.getFilteredEventList(), expectedModel.getFilteredTodoList(),
+                expectedModel.getAddressBook(),
+                LocalDateTime.now());
+        String expectedMessage = String.format(FacetsCommand.MESSAGE_SUCCESS,
+                expectedModel.getFilteredPersonList().size(), expectedModel.getFilteredEventList().size(),
+                expectedModel.getFilteredTodoList().size(), Messages.format(expectedCounts));
+
+        assertCommandSuccess(new FacetsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_countsDisplayedEntriesOnly() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("Benson"));
+        model.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        FacetCounts expectedCounts = FacetCounts.of(expectedModel.getFilteredPersonList(),
+                expectedModel.getFilteredEventList(), expectedModel.getFilteredTodoList(),
+                expectedModel.getAddressBook(),
+                LocalDateTime.now());
+        String expectedMessage = String.format(FacetsCommand.MESSAGE_SUCCESS, 1,
+                expectedModel.getFilteredEventList().size(), expectedModel.getFilteredTodoList().size(),
+                Messages.format(expectedCounts));
+
+        assertCommandSuccess(new FacetsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FacetsCommand facetsCommand = new FacetsCommand();
+
+        // same object -> returns true
+        assertTrue(facetsCommand.equals(facetsCommand));
+
+        // same type -> returns true
+        assertTrue(facetsCommand.equals(new FacetsCommand()));
+
+        // null -> returns false
+        assertFalse(facetsCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(facetsCommand.equals(new ListCommand()));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
+
+public class FindArchivedCommandTest {
+
+    private static FindArchivedCommand findArchived(String... keywords) {
+        return new FindArchivedCommand(new EventContainsKeywordsPredicate(List.of(keywords)),
+                new TodoContainsKeywordsPredicate(List.of(keywords)));
+    }
+
+    @Test
+    public void execute_requestsArchiveSearch() {
+        ArchiveSearch expectedSearch = new ArchiveSearch(new EventContainsKeywordsPredicate(List.of("team")),
+                new TodoContainsKeywordsPredicate(List.of("team")));
+        CommandResult expectedResult = new CommandResult(FindArchivedCommand.MESSAGE_SEARCHING, expectedSearch);
+        assertEquals(expectedResult, findArchived("team").execute(new ModelManager()));
+    }
+
+    @Test
+    public void describe_listsMatches() {
+        AddressBook matches = new AddressBook();
+        matches.addEvent(MEETING);
+        matches.addTodo(SEND_INVITES);
+        ArchiveSearch search = new ArchiveSearch(event -> true, todo -> true);
+
+        String expectedMessage = String.format(ArchiveSearch.MESSAGE_MATCHES_FOUND, 1, 1)
+                + "\nEvent: " + Messages.format(MEETING)
+                + "\nTodo: " + Messages.format(SEND_INVITES, matches);
+        assertEquals(expectedMessage, search.describe(matches, matches));
+    }
+
+    @Test
+    public void equals() {
+        FindArchivedCommand findTeam = findArchived("team");
+
+        assertTrue(findTeam.equals(findTeam));
+        assertTrue(findTeam.equals(findArchived("team")));
+        assertFalse(findTeam.equals(null));
+        assertFalse(findTeam.equals(findArchived("party")));
+    }
+}
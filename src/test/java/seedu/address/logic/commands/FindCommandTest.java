@@ -53,6 +53,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different refinement mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -75,11 +78,24 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_refinement_searchesOnlyDisplayedPersons() {
+        model.updateFilteredPersonList(preparePredicate("Kurz Elle Kunz"));
+        expectedModel.updateFilteredPersonList(preparePredicate("Carl Elle"));
+
+        // ALICE matches the keywords but is not currently displayed
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(preparePredicate("Alice Carl Elle"), true);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel, DisplayList.PERSON);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isRefinement=false}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -61,7 +61,7 @@ public class FindContactByEventCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         EventAliasMatchesPredicate predicate = preparePredicate("TECHCONF24");
         FindContactByEventCommand command = new FindContactByEventCommand(predicate, new EventAlias("TECHCONF24"));
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate.withEvents(expectedModel.getAddressBook()));
         assertCommandSuccess(command, model, expectedMessage, expectedModel, DisplayList.PERSON);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
@@ -71,7 +71,7 @@ public class FindContactByEventCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
         EventAliasMatchesPredicate predicate = preparePredicate("TSC2025");
         FindContactByEventCommand command = new FindContactByEventCommand(predicate, new EventAlias("TSC2025"));
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate.withEvents(expectedModel.getAddressBook()));
         assertCommandSuccess(command, model, expectedMessage, expectedModel, DisplayList.PERSON);
         assertEquals(Collections.singletonList(JOHN), model.getFilteredPersonList());
     }
@@ -82,7 +82,7 @@ public class FindContactByEventCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         EventAliasMatchesPredicate predicate = preparePredicate("MEET24");
         FindContactByEventCommand command = new FindContactByEventCommand(predicate, new EventAlias("MEET24"));
-        expectedModel.updateFilteredPersonList(predicate);
+        expectedModel.updateFilteredPersonList(predicate.withEvents(expectedModel.getAddressBook()));
         assertCommandSuccess(command, model, expectedMessage, expectedModel, DisplayList.PERSON);
         assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
     }
@@ -53,6 +53,9 @@ public class FindEventCommandTest {
 
         // different event -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different refinement mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindEventCommand(firstPredicate, true)));
     }
 
     @Test
@@ -85,11 +88,24 @@ public class FindEventCommandTest {
         assertEquals(Arrays.asList(CONCERT, MEETING, WORKSHOP), model.getFilteredEventList());
     }
 
+    @Test
+    public void execute_refinement_searchesOnlyDisplayedEvents() {
+        model.updateFilteredEventList(preparePredicate("tsc2025 JAVA2"));
+        expectedModel.updateFilteredEventList(preparePredicate("tsc"));
+
+        // MEETING matches the keywords but is not currently displayed
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 1);
+        FindEventCommand command = new FindEventCommand(preparePredicate("tsc MEET"), true);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel, DisplayList.EVENT);
+        assertEquals(Arrays.asList(CONCERT), model.getFilteredEventList());
+    }
+
     @Test
     public void toStringMethod() {
         AliasContainsKeywordsPredicate predicate = new AliasContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindEventCommand findEventCommand = new FindEventCommand(predicate);
-        String expected = FindEventCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindEventCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isRefinement=false}";
         assertEquals(expected, findEventCommand.toString());
     }
 
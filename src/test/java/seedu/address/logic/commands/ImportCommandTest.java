@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.interchange.ImportRequest;
+import seedu.address.logic.interchange.InterchangeFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ImportCommandTest {
+
+    private static final Path FILE = Paths.get("data", "contacts.csv");
+
+    @Test
+    public void execute_importRequested() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        // the file is only read once the command has been executed
+        CommandResult expectedResult = new CommandResult(String.format(ImportCommand.MESSAGE_IMPORTING, FILE),
+                new ImportRequest(FILE, InterchangeFormat.CSV));
+        assertCommandSuccess(new ImportCommand(FILE, InterchangeFormat.CSV), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(FILE, InterchangeFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(FILE, InterchangeFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"), InterchangeFormat.CSV)));
+
+        // different format -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(FILE, InterchangeFormat.VCARD)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(FILE, InterchangeFormat.CSV);
+        String expected = ImportCommand.class.getCanonicalName() + "{file=" + FILE + ", format=CSV}";
+        assertEquals(expected, importCommand.toString());
+    }
+}
@@ -56,7 +56,7 @@ public class LinkEventCommandTest {
                 personToLink.getEmail(),
                 personToLink.getAddress(),
                 personToLink.getTags(),
-                testEvent.getEventAlias()
+                testEvent.getId()
         );
         expectedModel.setPerson(personToLink, linkedPerson);
 
@@ -83,7 +83,7 @@ public class LinkEventCommandTest {
                 firstPerson.getEmail(),
                 firstPerson.getAddress(),
                 firstPerson.getTags(),
-                testEvent.getEventAlias()
+                testEvent.getId()
         );
         Person linkedSecondPerson = new Person(
                 secondPerson.getName(),
@@ -91,7 +91,7 @@ public class LinkEventCommandTest {
                 secondPerson.getEmail(),
                 secondPerson.getAddress(),
                 secondPerson.getTags(),
-                testEvent.getEventAlias()
+                testEvent.getId()
         );
 
         expectedModel.setPerson(firstPerson, linkedFirstPerson);
@@ -153,7 +153,7 @@ public class LinkEventCommandTest {
                 personToLink.getEmail(),
                 personToLink.getAddress(),
                 personToLink.getTags(),
-                testEvent.getEventAlias()
+                testEvent.getId()
         );
         expectedModel.setPerson(personToLink, linkedPerson);
 
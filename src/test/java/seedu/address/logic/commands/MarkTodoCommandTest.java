@@ -49,7 +49,7 @@ public class MarkTodoCommandTest {
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(todoToMark.withCompletionStatus(true)));
+                Messages.format(todoToMark.withCompletionStatus(true), model.getAddressBook()));
 
         expectedModel.setTodo(todoToMark, todoToMark.withCompletionStatus(true));
 
@@ -76,7 +76,7 @@ public class MarkTodoCommandTest {
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(todoToMark.withCompletionStatus(true)));
+                Messages.format(todoToMark.withCompletionStatus(true), model.getAddressBook()));
 
         expectedModel.setTodo(todoToMark, todoToMark.withCompletionStatus(true));
 
@@ -113,7 +113,7 @@ public class MarkTodoCommandTest {
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(index);
 
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(completedTodo.withCompletionStatus(true)));
+                Messages.format(completedTodo.withCompletionStatus(true), model.getAddressBook()));
 
         expectedModel.setTodo(completedTodo, completedTodo.withCompletionStatus(true));
 
@@ -133,7 +133,7 @@ public class MarkTodoCommandTest {
         Index index = Index.fromZeroBased(todoIndex);
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(index);
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(incompleteTodo.withCompletionStatus(true)));
+                Messages.format(incompleteTodo.withCompletionStatus(true), model.getAddressBook()));
 
         expectedModel.setTodo(incompleteTodo, incompleteTodo.withCompletionStatus(true));
 
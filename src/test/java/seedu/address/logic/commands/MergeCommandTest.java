@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class MergeCommandTest {
+
+    private static final Path OTHER_FILE = Paths.get("shared", "addressbook.json");
+    private static final Path BASE_FILE = Paths.get("shared", "base.json");
+
+    @Test
+    public void execute_mergeRequested() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult expectedResult = new CommandResult(String.format(MergeCommand.MESSAGE_MERGING, OTHER_FILE),
+                new MergeRequest(OTHER_FILE, BASE_FILE));
+        assertCommandSuccess(new MergeCommand(OTHER_FILE, BASE_FILE), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeCommand = new MergeCommand(OTHER_FILE, BASE_FILE);
+
+        // same object -> returns true
+        assertTrue(mergeCommand.equals(mergeCommand));
+
+        // same values -> returns true
+        assertTrue(mergeCommand.equals(new MergeCommand(OTHER_FILE, BASE_FILE)));
+
+        // different types -> returns false
+        assertFalse(mergeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mergeCommand.equals(null));
+
+        // different files -> returns false
+        assertFalse(mergeCommand.equals(new MergeCommand(BASE_FILE, BASE_FILE)));
+        assertFalse(mergeCommand.equals(new MergeCommand(OTHER_FILE, OTHER_FILE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        MergeCommand mergeCommand = new MergeCommand(OTHER_FILE, BASE_FILE);
+        String expected = MergeCommand.class.getCanonicalName() + "{otherFile=" + OTHER_FILE + ", baseFile="
+                + BASE_FILE + "}";
+        assertEquals(expected, mergeCommand.toString());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+
+public class RestoreCommandTest {
+
+    @Test
+    public void execute_noVersion_requestsBackupList() {
+        CommandResult expectedResult = new CommandResult(RestoreCommand.MESSAGE_LISTING,
+                new BackupRequest(BackupRequest.Action.LIST));
+        assertEquals(expectedResult, new RestoreCommand().execute(new ModelManager()));
+    }
+
+    @Test
+    public void execute_version_requestsRestore() {
+        CommandResult expectedResult = new CommandResult(String.format(RestoreCommand.MESSAGE_RESTORING,
+                "20251019-143000"), new BackupRequest("20251019-143000"));
+        assertEquals(expectedResult, new RestoreCommand("20251019-143000").execute(new ModelManager()));
+    }
+
+    @Test
+    public void execute_backup_requestsBackup() {
+        CommandResult expectedResult = new CommandResult(BackupCommand.MESSAGE_BACKING_UP,
+                new BackupRequest(BackupRequest.Action.BACKUP));
+        assertEquals(expectedResult, new BackupCommand().execute(new ModelManager()));
+    }
+
+    @Test
+    public void describe_listsVersions() {
+        assertEquals(BackupRequest.MESSAGE_NO_BACKUPS, BackupRequest.describe(List.of()));
+        assertEquals(String.format(BackupRequest.MESSAGE_BACKUPS_LISTED, 2) + "\n20251019-143000\n20251018-090000",
+                BackupRequest.describe(List.of("20251019-143000", "20251018-090000")));
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreCommand = new RestoreCommand("20251019-143000");
+
+        // same object -> returns true
+        assertTrue(restoreCommand.equals(restoreCommand));
+
+        // same values -> returns true
+        assertTrue(restoreCommand.equals(new RestoreCommand("20251019-143000")));
+        assertTrue(new RestoreCommand().equals(new RestoreCommand()));
+
+        // different types -> returns false
+        assertFalse(restoreCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreCommand.equals(null));
+
+        // different version -> returns false
+        assertFalse(restoreCommand.equals(new RestoreCommand("20251018-090000")));
+        assertFalse(restoreCommand.equals(new RestoreCommand()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RestoreCommand restoreCommand = new RestoreCommand("20251019-143000");
+        String expected = RestoreCommand.class.getCanonicalName() + "{version=20251019-143000}";
+        assertEquals(expected, restoreCommand.toString());
+    }
+}
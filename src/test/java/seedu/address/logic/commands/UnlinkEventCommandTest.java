@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -17,7 +19,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.Person;
 
 /**
@@ -43,7 +44,7 @@ public class UnlinkEventCommandTest {
                 personToUnlink.getEmail(),
                 personToUnlink.getAddress(),
                 personToUnlink.getTags(),
-                new EventAlias("TestEvent")
+                MEETING.getId()
         );
         model.setPerson(personToUnlink, linkedPerson);
 
@@ -78,7 +79,7 @@ public class UnlinkEventCommandTest {
                 firstPerson.getEmail(),
                 firstPerson.getAddress(),
                 firstPerson.getTags(),
-                new EventAlias("TestEvent1")
+                MEETING.getId()
         );
         Person linkedSecondPerson = new Person(
                 secondPerson.getName(),
@@ -86,7 +87,7 @@ public class UnlinkEventCommandTest {
                 secondPerson.getEmail(),
                 secondPerson.getAddress(),
                 secondPerson.getTags(),
-                new EventAlias("TestEvent2")
+                CONCERT.getId()
         );
 
         model.setPerson(firstPerson, linkedFirstPerson);
@@ -49,7 +49,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(todoToUnmark.withCompletionStatus(false)));
+                Messages.format(todoToUnmark.withCompletionStatus(false), model.getAddressBook()));
 
         expectedModel.setTodo(todoToUnmark, todoToUnmark.withCompletionStatus(false));
 
@@ -76,7 +76,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(todoToUnmark.withCompletionStatus(false)));
+                Messages.format(todoToUnmark.withCompletionStatus(false), model.getAddressBook()));
 
         expectedModel.setTodo(todoToUnmark, todoToUnmark.withCompletionStatus(false));
 
@@ -113,7 +113,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(index);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(incompleteTodo.withCompletionStatus(false)));
+                Messages.format(incompleteTodo.withCompletionStatus(false), model.getAddressBook()));
 
         expectedModel.setTodo(incompleteTodo, incompleteTodo.withCompletionStatus(false));
 
@@ -134,7 +134,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(index);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(completedTodo.withCompletionStatus(false)));
+                Messages.format(completedTodo.withCompletionStatus(false), model.getAddressBook()));
 
         expectedModel.setTodo(completedTodo, completedTodo.withCompletionStatus(false));
 
@@ -0,0 +1,145 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ContactImporterTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private final ContactImporter importer = new ContactImporter();
+
+    private Path writeFile(String fileName, String content) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    public void getErrorFilePath_nextToImportedFile() {
+        assertEquals(testFolder.resolve("contacts.csv.errors"),
+                ContactImporter.getErrorFilePath(testFolder.resolve("contacts.csv")));
+    }
+
+    @Test
+    public void importContacts_validCsv_allPersonsInOrder() throws Exception {
+        Path file = writeFile("contacts.csv", CSV_HEADER
+                + "Amy Bee,11111111,amy@example.com,Block 312 Amy Street 1,friend\n"
+                + "Bob Choo,22222222,bob@example.com,Block 123 Bobby Street 3,husband;friend\n");
+
+        ImportResult result = importer.importContacts(file, InterchangeFormat.CSV, List.of());
+        List<Person> expectedPersons = List.of(
+                new PersonBuilder().withName("Amy Bee").withPhone("11111111").withEmail("amy@example.com")
+                        .withAddress("Block 312 Amy Street 1").withTags("friend").build(),
+                new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                        .withAddress("Block 123 Bobby Street 3").withTags("husband", "friend").build());
+        assertEquals(new ImportResult(expectedPersons, 0, null), result);
+        assertFalse(Files.exists(ContactImporter.getErrorFilePath(file)));
+    }
+
+    @Test
+    public void importContacts_invalidAndDuplicateRows_rejectedToErrorFile() throws Exception {
+        Path file = writeFile("contacts.csv", CSV_HEADER
+                + "Amy Bee,11111111,amy@example.com,Block 312 Amy Street 1,\n"
+                + "Carl!,33333333,carl@example.com,Block 1,\n"
+                + "alice pauline,44444444,alice@example.com,Block 2,\n"
+                + "AMY BEE,55555555,amy2@example.com,Block 3,\n"
+                + "Dan,12,dan@example.com,Block 4,\n"
+                + "Eve,66666666,,Block 5,\n");
+
+        ImportResult result = importer.importContacts(file, InterchangeFormat.CSV, List.of(ALICE, BENSON));
+        assertEquals(1, result.getPersons().size());
+        assertEquals("Amy Bee", result.getPersons().get(0).getName().fullName);
+        assertEquals(5, result.getRejectedCount());
+        Path errorFile = ContactImporter.getErrorFilePath(file);
+        assertEquals(Optional.of(errorFile), result.getErrorFilePath());
+
+        assertEquals(List.of(
+                String.format(ContactImporter.ERROR_LINE_FORMAT, 3, Name.MESSAGE_CONSTRAINTS),
+                String.format(ContactImporter.ERROR_LINE_FORMAT, 4,
+                        String.format(ContactImporter.MESSAGE_ALREADY_EXISTS, "alice pauline")),
+                String.format(ContactImporter.ERROR_LINE_FORMAT, 5,
+                        String.format(ContactImporter.MESSAGE_REPEATED, "AMY BEE")),
+                String.format(ContactImporter.ERROR_LINE_FORMAT, 6, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ContactImporter.ERROR_LINE_FORMAT, 7,
+                        String.format(ContactImporter.MESSAGE_MISSING_FIELD, "email"))),
+                Files.readAllLines(errorFile));
+    }
+
+    @Test
+    public void importContacts_noRejections_staleErrorFileRemoved() throws Exception {
+        Path file = writeFile("contacts.csv", CSV_HEADER + "Amy Bee,11111111,amy@example.com,Block 1,\n");
+        Files.writeString(ContactImporter.getErrorFilePath(file), "Line 2: from an earlier import");
+
+        importer.importContacts(file, InterchangeFormat.CSV, List.of());
+        assertFalse(Files.exists(ContactImporter.getErrorFilePath(file)));
+    }
+
+    @Test
+    public void importContacts_moreBatchesThanQueueHolds_allImported() throws Exception {
+        int count = ContactImporter.BATCH_SIZE * (ContactImporter.QUEUE_CAPACITY + 4) + 7;
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < count; i++) {
+            csv.append("Person ").append(i).append(',').append(90000000 + i).append(",person").append(i)
+                    .append("@example.com,Blk ").append(i).append(" Clementi Ave 2,\n");
+        }
+        // a duplicate at the very end is still compared against the whole file
+        csv.append("PERSON 0,12345678,p@example.com,Blk 1,\n");
+        Path file = writeFile("contacts.csv", csv.toString());
+
+        ImportResult result = importer.importContacts(file, InterchangeFormat.CSV, List.of());
+        assertEquals(count, result.getPersons().size());
+        assertEquals("Person " + (count - 1), result.getPersons().get(count - 1).getName().fullName);
+        assertEquals(1, result.getRejectedCount());
+    }
+
+    @Test
+    public void importContacts_vcard_personsImported() throws Exception {
+        Path file = writeFile("contacts.vcf", "BEGIN:VCARD\nVERSION:3.0\nFN:Amy Bee\nTEL:11111111\n"
+                + "EMAIL:amy@example.com\nADR:;;Block 312;Amy Street 1;;;\nCATEGORIES:friend\nEND:VCARD\n"
+                + "BEGIN:VCARD\nVERSION:3.0\nFN:Bob Choo\nEND:VCARD\n");
+
+        ImportResult result = importer.importContacts(file, InterchangeFormat.VCARD, List.of());
+        assertEquals(List.of(new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withEmail("amy@example.com").withAddress("Block 312, Amy Street 1").withTags("friend").build()),
+                result.getPersons());
+        assertEquals(1, result.getRejectedCount());
+        assertTrue(Files.readString(ContactImporter.getErrorFilePath(file)).startsWith("Line 9: "));
+    }
+
+    @Test
+    public void importContacts_missingFile_throwsIoException() {
+        assertThrows(NoSuchFileException.class, () ->
+                importer.importContacts(testFolder.resolve("missing.csv"), InterchangeFormat.CSV, List.of()));
+    }
+
+    @Test
+    public void importContacts_missingColumn_throwsIllegalValueException() throws Exception {
+        Path file = writeFile("contacts.csv", "name,phone,email\nAmy Bee,11111111,amy@example.com\n");
+        assertThrows(IllegalValueException.class, () -> importer.importContacts(file, InterchangeFormat.CSV,
+                List.of()));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class ContentLineWriterTest {
+
+    private static String write(String name, String value) throws Exception {
+        StringWriter out = new StringWriter();
+        new ContentLineWriter(out).write(name, value);
+        return out.toString();
+    }
+
+    @Test
+    public void write_shortLine_notFolded() throws Exception {
+        assertEquals("SUMMARY:Team Meeting\r\n", write("SUMMARY", "Team Meeting"));
+    }
+
+    @Test
+    public void write_longLine_foldedAt75Octets() throws Exception {
+        String value = "x".repeat(200);
+        String written = write("DESCRIPTION", value);
+
+        String[] lines = written.split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals(ContentLineWriter.MAX_LINE_OCTETS, lines[0].length());
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].startsWith(" "));
+            assertTrue(lines[i].length() <= ContentLineWriter.MAX_LINE_OCTETS);
+        }
+        // unfolding gives back the line
+        assertEquals("DESCRIPTION:" + value + "\r\n", written.replace("\r\n ", ""));
+    }
+
+    @Test
+    public void write_multiByteCharacters_notSplit() throws Exception {
+        // each character takes 3 octets, and the emoji 4 octets in two chars
+        String value = "会议".repeat(30) + "🎉".repeat(10);
+        String written = write("SUMMARY", value);
+
+        for (String line : written.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= ContentLineWriter.MAX_LINE_OCTETS);
+            // a character split across lines would not survive encoding
+            assertEquals(line, new String(line.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        }
+        assertEquals("SUMMARY:" + value + "\r\n", written.replace("\r\n ", ""));
+    }
+
+    @Test
+    public void escape() {
+        assertEquals("plain", ContentLineWriter.escape("plain"));
+        assertEquals("a\\, b\\; c\\\\d", ContentLineWriter.escape("a, b; c\\d"));
+        assertEquals("two\\nlines", ContentLineWriter.escape("two\r\nlines"));
+    }
+}
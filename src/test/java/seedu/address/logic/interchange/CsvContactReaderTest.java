@@ -0,0 +1,90 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvContactReaderTest {
+
+    private static List<ContactRecord> readAll(String csv) throws Exception {
+        List<ContactRecord> records = new ArrayList<>();
+        try (CsvContactReader reader = new CsvContactReader(new BufferedReader(new StringReader(csv)))) {
+            Optional<ContactRecord> record = reader.read();
+            while (record.isPresent()) {
+                records.add(record.get());
+                record = reader.read();
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvContactReader(null));
+    }
+
+    @Test
+    public void read_emptyFile_noRecords() throws Exception {
+        assertEquals(List.of(), readAll(""));
+        assertEquals(List.of(), readAll("name,phone,email,address\n"));
+    }
+
+    @Test
+    public void read_simpleRows_recordsRead() throws Exception {
+        List<ContactRecord> records = readAll("Name,Phone,Email,Address,Tags\n"
+                + "Alice Pauline,94351253,alice@example.com,123 Jurong West,friends;colleagues\n"
+                + "\n"
+                + "Benson Meier,98765432,johnd@example.com,311 Clementi Ave 2,\n");
+
+        assertEquals(2, records.size());
+        ContactRecord alice = records.get(0);
+        assertEquals(2, alice.getLineNumber());
+        assertEquals("Alice Pauline", alice.getName());
+        assertEquals("94351253", alice.getPhone());
+        assertEquals("alice@example.com", alice.getEmail());
+        assertEquals("123 Jurong West", alice.getAddress());
+        assertEquals(List.of("friends", "colleagues"), alice.getTags());
+
+        ContactRecord benson = records.get(1);
+        assertEquals(4, benson.getLineNumber());
+        assertEquals(List.of(), benson.getTags());
+    }
+
+    @Test
+    public void read_quotedFields_quotesRemoved() throws Exception {
+        List<ContactRecord> records = readAll("\uFEFFaddress,name,email,phone,company\r\n"
+                + "\"Blk 30, \"\"Geylang\"\" Street 29\n#06-40\",Alice,alice@example.com,94351253,\"ACME, Inc\"\r\n"
+                + "Blk 12,Bob,bob@example.com,98765432,\n");
+
+        assertEquals(2, records.size());
+        assertEquals("Blk 30, \"Geylang\" Street 29\n#06-40", records.get(0).getAddress());
+        assertEquals("Alice", records.get(0).getName());
+        assertEquals(2, records.get(0).getLineNumber());
+        assertEquals("Bob", records.get(1).getName());
+        assertEquals(4, records.get(1).getLineNumber());
+    }
+
+    @Test
+    public void read_missingAndBlankFields_null() throws Exception {
+        ContactRecord record = readAll("name,phone,email,address\nAlice,  ,alice@example.com\n").get(0);
+        assertEquals("Alice", record.getName());
+        assertNull(record.getPhone());
+        assertNull(record.getAddress());
+    }
+
+    @Test
+    public void read_missingColumn_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(CsvContactReader.MESSAGE_MISSING_COLUMN, "email"), ()
+                -> readAll("name,phone,address\nAlice,94351253,123 Jurong West\n"));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvContactWriterTest {
+
+    private static String writeAll(List<Person> persons) throws Exception {
+        StringWriter out = new StringWriter();
+        CsvContactWriter writer = new CsvContactWriter(out);
+        for (Person person : persons) {
+            writer.write(person);
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void write_noPersons_headerOnly() throws Exception {
+        assertEquals("name,phone,email,address,tags\r\n", writeAll(List.of()));
+    }
+
+    @Test
+    public void write_person_rowWritten() throws Exception {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6").withTags("friends", "colleagues")
+                .build();
+        assertEquals("name,phone,email,address,tags\r\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6\",colleagues;friends\r\n",
+                writeAll(List.of(person)));
+    }
+
+    @Test
+    public void write_thenRead_samePersons() throws Exception {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Quinn Lee").withAddress("Blk 1 \"The Rise\", #01-01")
+                .build());
+
+        List<Person> read = new ArrayList<>();
+        try (CsvContactReader reader = new CsvContactReader(new BufferedReader(new StringReader(writeAll(persons))))) {
+            Optional<ContactRecord> record = reader.read();
+            while (record.isPresent()) {
+                read.add(ContactImporter.toPerson(record.get()));
+                record = reader.read();
+            }
+        }
+        assertEquals(persons, read);
+    }
+
+    @Test
+    public void quote() {
+        assertEquals("plain text", CsvContactWriter.quote("plain text"));
+        assertEquals("", CsvContactWriter.quote(""));
+        assertEquals("\"a, b\"", CsvContactWriter.quote("a, b"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvContactWriter.quote("say \"hi\""));
+        assertEquals("\"two\nlines\"", CsvContactWriter.quote("two\nlines"));
+        assertEquals("\" padded \"", CsvContactWriter.quote(" padded "));
+    }
+}
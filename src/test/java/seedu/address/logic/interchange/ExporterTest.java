@@ -0,0 +1,115 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Exporter exporter = new Exporter(Clock.fixed(Instant.parse("2025-10-19T06:30:00Z"), ZoneOffset.UTC));
+
+    private void export(ExportRequest request) throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        exporter.export(request, failures::add).get();
+        assertEquals(List.of(), failures);
+    }
+
+    @Test
+    public void export_contacts_readBackByImporter() throws Exception {
+        Path file = testFolder.resolve("out").resolve("contacts.vcf");
+        export(new ExportRequest(file, InterchangeFormat.VCARD, getTypicalPersons()));
+
+        ImportResult result = new ContactImporter().importContacts(file, InterchangeFormat.VCARD, List.of());
+        assertEquals(getTypicalPersons(), result.getPersons());
+        assertEquals(0, result.getRejectedCount());
+    }
+
+    @Test
+    public void export_manyContacts_allWritten() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com").withAddress("Blk " + i + ", Clementi Ave 2").build());
+        }
+        Path file = testFolder.resolve("contacts.csv");
+        export(new ExportRequest(file, InterchangeFormat.CSV, persons));
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(persons.size() + 1, lines.size());
+        assertEquals("Person 19999,90019999,person19999@example.com,\"Blk 19999, Clementi Ave 2\",",
+                lines.get(lines.size() - 1));
+    }
+
+    @Test
+    public void export_events_linkedPersonsAsAttendees() throws Exception {
+        Path file = testFolder.resolve("events.ics");
+        Person attendee = new PersonBuilder().withName("Quinn Lee").withEmail("quinn@example.com")
+                .withLinkedEvent(MEETING).build();
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(attendee);
+        export(new ExportRequest(file, InterchangeFormat.ICALENDAR, persons, List.of(MEETING, CONCERT)));
+
+        String calendar = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(calendar.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+        String meeting = calendar.substring(calendar.indexOf("SUMMARY:Team Meeting"),
+                calendar.indexOf("SUMMARY:Taylor Swift Concert"));
+        assertTrue(meeting.contains("ATTENDEE;CN=\"Elle Meyer\":mailto:werner@example.com\r\n"));
+        assertTrue(meeting.contains("ATTENDEE;CN=\"Fiona Kunz\":mailto:lydia@example.com\r\n"));
+        assertTrue(meeting.contains("ATTENDEE;CN=\"Quinn Lee\":mailto:quinn@example.com\r\n"));
+        assertFalse(meeting.contains("John Smith"));
+        assertTrue(calendar.contains("ATTENDEE;CN=\"John Smith\":mailto:john@example.com\r\n"));
+    }
+
+    @Test
+    public void export_cannotWrite_failureReportedAndFileUnchanged() throws Exception {
+        // a folder that is not empty cannot be replaced by the exported file
+        Path file = testFolder.resolve("contacts.csv");
+        Files.createDirectory(file);
+        Files.writeString(file.resolve("kept.txt"), "kept");
+        List<IOException> failures = new ArrayList<>();
+
+        Future<?> pending = exporter.export(new ExportRequest(file, InterchangeFormat.CSV, getTypicalPersons()),
+                failures::add);
+        assertThrows(ExecutionException.class, pending::get);
+        assertEquals(1, failures.size());
+        assertEquals("kept", Files.readString(file.resolve("kept.txt")));
+    }
+
+    @Test
+    public void awaitPendingExports_exportsWritten() throws Exception {
+        Path first = testFolder.resolve("first.csv");
+        Path second = testFolder.resolve("second.vcf");
+        exporter.export(new ExportRequest(first, InterchangeFormat.CSV, getTypicalPersons()), e -> { });
+        exporter.export(new ExportRequest(second, InterchangeFormat.VCARD, getTypicalPersons()), e -> { });
+
+        exporter.awaitPendingExports();
+        assertTrue(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+}
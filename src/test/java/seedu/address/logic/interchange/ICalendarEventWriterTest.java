@@ -0,0 +1,68 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ICalendarEventWriterTest {
+
+    // 2025-10-19T14:30:00 in Singapore, so the stamp must be converted to UTC
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-10-19T06:30:00.123Z"),
+            ZoneId.of("Asia/Singapore"));
+
+    @Test
+    public void write_noEvents_emptyCalendar() throws Exception {
+        StringWriter out = new StringWriter();
+        new ICalendarEventWriter(out, CLOCK).writeEnd();
+        assertEquals("BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "PRODID:" + ICalendarEventWriter.PRODUCT_ID + "\r\n"
+                + "CALSCALE:GREGORIAN\r\n"
+                + "END:VCALENDAR\r\n", out.toString());
+    }
+
+    @Test
+    public void write_eventWithAttendees_eventWritten() throws Exception {
+        StringWriter out = new StringWriter();
+        ICalendarEventWriter writer = new ICalendarEventWriter(out, CLOCK);
+        out.getBuffer().setLength(0);
+
+        writer.write(MEETING, List.of(ELLE, FIONA));
+        assertEquals("BEGIN:VEVENT\r\n"
+                + "UID:" + MEETING.getId() + "@overbooked\r\n"
+                + "DTSTAMP:20251019T063000Z\r\n"
+                + "DTSTART:20241225T100000\r\n"
+                + "DTEND:20241225T110000\r\n"
+                + "SUMMARY:Team Meeting\r\n"
+                + "DESCRIPTION:Weekly team standup meeting\r\n"
+                + "CATEGORIES:MEET24\r\n"
+                + "ATTENDEE;CN=\"Elle Meyer\":mailto:werner@example.com\r\n"
+                + "ATTENDEE;CN=\"Fiona Kunz\":mailto:lydia@example.com\r\n"
+                + "END:VEVENT\r\n", out.toString());
+    }
+
+    @Test
+    public void write_textWithSpecialCharacters_escaped() throws Exception {
+        Event event = new EventBuilder(MEETING).withName("Lunch, then planning").withDescription("").build();
+        StringWriter out = new StringWriter();
+        ICalendarEventWriter writer = new ICalendarEventWriter(out, CLOCK);
+
+        writer.write(event, List.of());
+        assertTrue(out.toString().contains("\r\nSUMMARY:Lunch\\, then planning\r\n"));
+        assertFalse(out.toString().contains("DESCRIPTION"));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class InterchangeFormatTest {
+
+    @Test
+    public void ofFile() {
+        assertEquals(Optional.of(InterchangeFormat.CSV), InterchangeFormat.ofFile(Path.of("data", "contacts.csv")));
+        assertEquals(Optional.of(InterchangeFormat.CSV), InterchangeFormat.ofFile(Path.of("CONTACTS.CSV")));
+        assertEquals(Optional.of(InterchangeFormat.VCARD), InterchangeFormat.ofFile(Path.of("contacts.vcf")));
+        assertEquals(Optional.of(InterchangeFormat.VCARD), InterchangeFormat.ofFile(Path.of("contacts.vcard")));
+        assertEquals(Optional.of(InterchangeFormat.ICALENDAR), InterchangeFormat.ofFile(Path.of("events.ics")));
+        assertEquals(Optional.empty(), InterchangeFormat.ofFile(Path.of("contacts.json")));
+        assertEquals(Optional.empty(), InterchangeFormat.ofFile(Path.of("csv")));
+    }
+
+    @Test
+    public void holdsContacts() {
+        assertTrue(InterchangeFormat.CSV.holdsContacts());
+        assertTrue(InterchangeFormat.VCARD.holdsContacts());
+        assertFalse(InterchangeFormat.ICALENDAR.holdsContacts());
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class VCardContactReaderTest {
+
+    private static List<ContactRecord> readAll(String vcards) throws Exception {
+        List<ContactRecord> records = new ArrayList<>();
+        try (VCardContactReader reader = new VCardContactReader(new BufferedReader(new StringReader(vcards)))) {
+            Optional<ContactRecord> record = reader.read();
+            while (record.isPresent()) {
+                records.add(record.get());
+                record = reader.read();
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new VCardContactReader(null));
+    }
+
+    @Test
+    public void read_emptyFile_noRecords() throws Exception {
+        assertEquals(List.of(), readAll(""));
+    }
+
+    @Test
+    public void read_vcards_recordsRead() throws Exception {
+        List<ContactRecord> records = readAll("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "N:Pauline;Alice;;;\r\n"
+                + "FN:Alice Pauline\r\n"
+                + "item1.TEL;TYPE=CELL:94351253\r\n"
+                + "TEL;TYPE=HOME:61234567\r\n"
+                + "EMAIL;TYPE=INTERNET:alice@example.com\r\n"
+                + "ADR;TYPE=HOME:;;123\\, Jurong West Ave 6;Singapore;;640123;\r\n"
+                + "CATEGORIES:friends,colleagues\r\n"
+                + "NOTE:Met at the\r\n"
+                + "  orientation\r\n"
+                + "END:VCARD\r\n"
+                + "begin:vcard\n"
+                + "version:4.0\n"
+                + "n:Meier;Benson;;;\n"
+                + "tel;value=uri:tel:98765432\n"
+                + "end:vcard\n");
+
+        assertEquals(2, records.size());
+        ContactRecord alice = records.get(0);
+        assertEquals(1, alice.getLineNumber());
+        assertEquals("Alice Pauline", alice.getName());
+        assertEquals("94351253", alice.getPhone());
+        assertEquals("alice@example.com", alice.getEmail());
+        assertEquals("123, Jurong West Ave 6, Singapore, 640123", alice.getAddress());
+        assertEquals(List.of("friends", "colleagues"), alice.getTags());
+
+        ContactRecord benson = records.get(1);
+        assertEquals(13, benson.getLineNumber());
+        assertEquals("Benson Meier", benson.getName());
+        assertEquals("98765432", benson.getPhone());
+        assertNull(benson.getEmail());
+        assertNull(benson.getAddress());
+    }
+
+    @Test
+    public void read_foldedLines_unfolded() throws Exception {
+        ContactRecord record = readAll("\uFEFFBEGIN:VCARD\nFN:Alice\n  Pauline\nEMAIL:alice@exam\n\tple.com\nEND:VCARD")
+                .get(0);
+        assertEquals("Alice Pauline", record.getName());
+        assertEquals("alice@example.com", record.getEmail());
+    }
+
+    @Test
+    public void unescape() {
+        assertEquals("a,b;c\\d\ne", VCardContactReader.unescape("a\\,b\\;c\\\\d\\ne"));
+    }
+}
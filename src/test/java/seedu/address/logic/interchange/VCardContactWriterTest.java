@@ -0,0 +1,64 @@
+package seedu.address.logic.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VCardContactWriterTest {
+
+    private static String writeAll(List<Person> persons) throws Exception {
+        StringWriter out = new StringWriter();
+        VCardContactWriter writer = new VCardContactWriter(out);
+        for (Person person : persons) {
+            writer.write(person);
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void write_person_vcardWritten() throws Exception {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6; #08-111")
+                .withTags("friends", "colleagues").build();
+        assertEquals("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "UID:urn:uuid:" + person.getId() + "\r\n"
+                + "FN:Alice Pauline\r\n"
+                + "N:Alice Pauline;;;;\r\n"
+                + "TEL:94351253\r\n"
+                + "EMAIL;TYPE=INTERNET:alice@example.com\r\n"
+                + "ADR:;;123\\, Jurong West Ave 6\\; #08-111;;;;\r\n"
+                + "CATEGORIES:colleagues,friends\r\n"
+                + "END:VCARD\r\n", writeAll(List.of(person)));
+    }
+
+    @Test
+    public void write_thenRead_samePersons() throws Exception {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Quinn Lee")
+                .withAddress("Blk 1 The Rise, #01-01, a long address that has to be folded onto more than one line")
+                .build());
+
+        List<Person> read = new ArrayList<>();
+        try (VCardContactReader reader = new VCardContactReader(
+                new BufferedReader(new StringReader(writeAll(persons))))) {
+            Optional<ContactRecord> record = reader.read();
+            while (record.isPresent()) {
+                read.add(ContactImporter.toPerson(record.get()));
+                record = reader.read();
+            }
+        }
+        assertEquals(persons, read);
+    }
+}
@@ -25,13 +25,13 @@ public class AddTodoCommandParserTest {
     @Test
     public void parse_allFieldsPresent_success() {
         Todo expectedWithContact = new Todo(new TodoName("Review Project Proposal"),
-                "Review the Q1 project proposal document", new Name("John Doe"));
+                "Review the Q1 project proposal document", null);
         assertParseSuccess(parser,
                 PREAMBLE_WHITESPACE
                         + " tn/Review Project Proposal"
                         + " td/Review the Q1 project proposal document"
                         + " n/John Doe",
-                new AddTodoCommand(expectedWithContact));
+                new AddTodoCommand(expectedWithContact, new Name("John Doe")));
 
         Todo expectedNoContact = new Todo(new TodoName("Update Documentation"),
                 "Update API documentation for new features", null);
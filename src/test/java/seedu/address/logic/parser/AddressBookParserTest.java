@@ -9,33 +9,48 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertDataCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.EditEventCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportChangesCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FacetsCommand;
+import seedu.address.logic.commands.FindArchivedCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindEventCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListEventsCommand;
 import seedu.address.logic.commands.ListTodosCommand;
 import seedu.address.logic.commands.MarkTodoCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.UnmarkTodoCommand;
+import seedu.address.logic.interchange.InterchangeFormat;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.AliasContainsKeywordsPredicate;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
 import seedu.address.testutil.EditEventDescriptorBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.EventBuilder;
@@ -108,6 +123,16 @@ public class AddressBookParserTest {
 
     }
 
+    @Test
+    public void parseCommand_facets() throws Exception {
+        assertTrue(parser.parseCommand(FacetsCommand.COMMAND_WORD) instanceof FacetsCommand);
+    }
+
+    @Test
+    public void parseCommand_facetsWithArguments_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parseCommand(FacetsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_listEvents() throws Exception {
         assertTrue(parser.parseCommand(ListEventsCommand.COMMAND_WORD) instanceof ListEventsCommand);
@@ -162,6 +187,65 @@ public class AddressBookParserTest {
         assertEquals(new UnmarkTodoCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_convertData() throws Exception {
+        assertEquals(new ConvertDataCommand(DataFileFormat.BINARY),
+                parser.parseCommand(ConvertDataCommand.COMMAND_WORD + " binary"));
+    }
+
+    @Test
+    public void parseCommand_archive() throws Exception {
+        assertEquals(new ArchiveCommand(0), parser.parseCommand(ArchiveCommand.COMMAND_WORD));
+        assertEquals(new ArchiveCommand(30), parser.parseCommand(ArchiveCommand.COMMAND_WORD + " 30"));
+    }
+
+    @Test
+    public void parseCommand_findArchived() throws Exception {
+        List<String> keywords = Arrays.asList("team", "invites");
+        FindArchivedCommand command = (FindArchivedCommand) parser.parseCommand(
+                FindArchivedCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new FindArchivedCommand(new EventContainsKeywordsPredicate(keywords),
+                new TodoContainsKeywordsPredicate(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_backup() throws Exception {
+        assertTrue(parser.parseCommand(BackupCommand.COMMAND_WORD) instanceof BackupCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                BackupCommand.MESSAGE_USAGE), () -> parser.parseCommand(BackupCommand.COMMAND_WORD + " now"));
+    }
+
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(new RestoreCommand(), parser.parseCommand(RestoreCommand.COMMAND_WORD));
+        assertEquals(new RestoreCommand("20251019-143000"),
+                parser.parseCommand(RestoreCommand.COMMAND_WORD + " 20251019-143000"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("contacts.csv"), InterchangeFormat.CSV),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " contacts.csv"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("events.ics"), InterchangeFormat.ICALENDAR, true),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " all events.ics"));
+    }
+
+    @Test
+    public void parseCommand_exportChanges() throws Exception {
+        assertEquals(new ExportChangesCommand(120, Paths.get("changes.ndjson")),
+                parser.parseCommand(ExportChangesCommand.COMMAND_WORD + " --since 120 changes.ndjson"));
+    }
+
+    @Test
+    public void parseCommand_merge() throws Exception {
+        assertEquals(new MergeCommand(Paths.get("other.json"), Paths.get("base.json")),
+                parser.parseCommand(MergeCommand.COMMAND_WORD + " other.json --base base.json"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ArchiveCommand;
+
+public class ArchiveCommandParserTest {
+
+    private ArchiveCommandParser parser = new ArchiveCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsArchiveCommand() {
+        assertParseSuccess(parser, "", new ArchiveCommand(0));
+        assertParseSuccess(parser, "  30  ", new ArchiveCommand(30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "soon", expectedMessage);
+        assertParseFailure(parser, "99999999999", expectedMessage);
+    }
+}
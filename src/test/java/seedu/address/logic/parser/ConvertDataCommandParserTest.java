@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.logic.commands.ConvertDataCommand;
+
+public class ConvertDataCommandParserTest {
+
+    private ConvertDataCommandParser parser = new ConvertDataCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertDataCommand() {
+        assertParseSuccess(parser, "binary", new ConvertDataCommand(DataFileFormat.BINARY));
+        assertParseSuccess(parser, "  JSON  ", new ConvertDataCommand(DataFileFormat.JSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "xml",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertDataCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertDataCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportChangesCommand;
+
+public class ExportChangesCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportChangesCommand.MESSAGE_USAGE);
+
+    private ExportChangesCommandParser parser = new ExportChangesCommandParser();
+
+    @Test
+    public void parse_noSequence_returnsExportChangesCommandFromStart() {
+        assertParseSuccess(parser, " data/changes.ndjson ",
+                new ExportChangesCommand(0, Paths.get("data/changes.ndjson")));
+        assertParseSuccess(parser, "My Changes.ndjson", new ExportChangesCommand(0, Paths.get("My Changes.ndjson")));
+    }
+
+    @Test
+    public void parse_sequence_returnsExportChangesCommand() {
+        assertParseSuccess(parser, "--since 120 changes.ndjson",
+                new ExportChangesCommand(120, Paths.get("changes.ndjson")));
+        assertParseSuccess(parser, "  --since   0   new changes.ndjson",
+                new ExportChangesCommand(0, Paths.get("new changes.ndjson")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--since 120", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--since120 changes.ndjson", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--since -1 changes.ndjson", ExportChangesCommandParser.MESSAGE_INVALID_SEQUENCE);
+        assertParseFailure(parser, "--since ten changes.ndjson", ExportChangesCommandParser.MESSAGE_INVALID_SEQUENCE);
+        assertParseFailure(parser, "--since 99999999999999999999 changes.ndjson",
+                ExportChangesCommandParser.MESSAGE_INVALID_SEQUENCE);
+    }
+}
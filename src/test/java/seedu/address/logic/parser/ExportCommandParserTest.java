@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.interchange.InterchangeFormat;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_shownEntries_returnsExportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv ",
+                new ExportCommand(Paths.get("data/contacts.csv"), InterchangeFormat.CSV, false));
+        assertParseSuccess(parser, "My Contacts.vcf",
+                new ExportCommand(Paths.get("My Contacts.vcf"), InterchangeFormat.VCARD, false));
+        assertParseSuccess(parser, "events.ics",
+                new ExportCommand(Paths.get("events.ics"), InterchangeFormat.ICALENDAR, false));
+    }
+
+    @Test
+    public void parse_allEntries_returnsExportCommand() {
+        assertParseSuccess(parser, "all contacts.csv",
+                new ExportCommand(Paths.get("contacts.csv"), InterchangeFormat.CSV, true));
+        assertParseSuccess(parser, " ALL  all events.ics",
+                new ExportCommand(Paths.get("all events.ics"), InterchangeFormat.ICALENDAR, true));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFormat_throwsParseException() {
+        assertParseFailure(parser, "contacts.json", ExportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, "all", ExportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
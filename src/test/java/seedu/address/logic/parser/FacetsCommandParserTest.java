@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FacetsCommand;
+
+public class FacetsCommandParserTest {
+
+    private FacetsCommandParser parser = new FacetsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsFacetsCommand() {
+        assertParseSuccess(parser, "", new FacetsCommand());
+        assertParseSuccess(parser, "   ", new FacetsCommand());
+    }
+
+    @Test
+    public void parse_args_throwsParseException() {
+        assertParseFailure(parser, "3", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FacetsCommand.MESSAGE_USAGE));
+    }
+}
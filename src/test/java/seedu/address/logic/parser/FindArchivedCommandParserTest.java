@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindArchivedCommand;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
+
+public class FindArchivedCommandParserTest {
+
+    private FindArchivedCommandParser parser = new FindArchivedCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindArchivedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindArchivedCommand() {
+        List<String> keywords = Arrays.asList("team", "invites");
+        FindArchivedCommand expectedCommand = new FindArchivedCommand(new EventContainsKeywordsPredicate(keywords),
+                new TodoContainsKeywordsPredicate(keywords));
+        assertParseSuccess(parser, "team invites", expectedCommand);
+        assertParseSuccess(parser, " \n team \n \t invites  \t", expectedCommand);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -34,6 +35,13 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice", expectedFindCommand);
     }
 
+    @Test
+    public void parse_withinFlag_returnsRefiningFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true);
+        assertParseSuccess(parser, " " + FLAG_WITHIN + " " + PREFIX_NAME + "Alice Bob", expectedFindCommand);
+    }
+
     @Test
     public void parse_invalidFormat_throwsParseException() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -26,6 +27,13 @@ public class FindEventCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_EVENT_ALIAS + " \n tsc2025 \n \t concert  \t", expectedCommand);
     }
 
+    @Test
+    public void parse_withinFlag_returnsRefiningFindEventCommand() {
+        FindEventCommand expectedCommand =
+                new FindEventCommand(new AliasContainsKeywordsPredicate(Arrays.asList("tsc2025")), true);
+        assertParseSuccess(parser, " " + FLAG_WITHIN + " " + PREFIX_EVENT_ALIAS + "tsc2025", expectedCommand);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE);
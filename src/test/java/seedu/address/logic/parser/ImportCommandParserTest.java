@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.interchange.InterchangeFormat;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv ",
+                new ImportCommand(Paths.get("data/contacts.csv"), InterchangeFormat.CSV));
+        assertParseSuccess(parser, "My Contacts.vcf",
+                new ImportCommand(Paths.get("My Contacts.vcf"), InterchangeFormat.VCARD));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFormat_throwsParseException() {
+        assertParseFailure(parser, "contacts.xlsx", ImportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, "events.ics", ImportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MergeCommand;
+
+public class MergeCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE);
+
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMergeCommand() {
+        assertParseSuccess(parser, " shared/addressbook.json --base shared/base.json ",
+                new MergeCommand(Paths.get("shared/addressbook.json"), Paths.get("shared/base.json")));
+        assertParseSuccess(parser, "My Copy.json   --base   Old Copy.json",
+                new MergeCommand(Paths.get("My Copy.json"), Paths.get("Old Copy.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "addressbook.json", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "addressbook.json --base", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--base base.json", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "addressbook.json base.json", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -2,13 +2,25 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,12 +29,14 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.todo.Todo;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
 
 public class AddressBookTest {
 
@@ -85,6 +99,160 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getAttendeeCount_afterLinkingAndUnlinking_updated() {
+        addressBook.addPerson(ALICE);
+        Person linkedAlice = ALICE.withLinkedEventId(CONCERT.getId());
+        addressBook.setPerson(ALICE, linkedAlice);
+        assertEquals(1, addressBook.getAttendeeCount(CONCERT.getId()));
+
+        addressBook.removePerson(linkedAlice);
+        assertEquals(0, addressBook.getAttendeeCount(CONCERT.getId()));
+    }
+
+    @Test
+    public void getTodoCounts_afterTodoChanges_updated() {
+        addressBook.addPerson(ALICE);
+        Todo todo = new TodoBuilder().withContact(ALICE).withCompleted(false).build();
+        addressBook.addTodo(todo);
+        assertEquals(1, addressBook.getOpenTodoCount(ALICE.getId()));
+
+        Todo completedTodo = new TodoBuilder(todo).withCompleted(true).build();
+        addressBook.setTodo(todo, completedTodo);
+        assertEquals(0, addressBook.getOpenTodoCount(ALICE.getId()));
+        assertEquals(1, addressBook.getCompletedTodoCount(ALICE.getId()));
+
+        addressBook.removeTodo(completedTodo);
+        assertEquals(0, addressBook.getCompletedTodoCount(ALICE.getId()));
+    }
+
+    @Test
+    public void getTodoCounts_afterRenamingPerson_followsPerson() {
+        addressBook.addPerson(ALICE);
+        addressBook.addTodo(new TodoBuilder().withContact(ALICE).build());
+        Person renamedAlice = withIdOf(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        assertEquals(1, addressBook.getOpenTodoCount(renamedAlice.getId()));
+    }
+
+    @Test
+    public void setPerson_renamedPerson_linkedTodosUnchanged() {
+        addressBook.addPerson(ALICE);
+        Todo todo = new TodoBuilder().withContact(ALICE).build();
+        addressBook.addTodo(todo);
+        List<ListChangeListener.Change<? extends Todo>> todoChanges = new ArrayList<>();
+        addressBook.getTodoList().addListener((ListChangeListener<Todo>) todoChanges::add);
+
+        Person renamedAlice = withIdOf(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        assertTrue(todoChanges.isEmpty());
+        assertSame(todo, addressBook.getTodoList().get(0));
+        assertEquals(renamedAlice, addressBook.getPerson(todo.getContactId()).get());
+    }
+
+    @Test
+    public void getAttendeeCount_afterResetData_recounted() {
+        addressBook.resetData(getTypicalAddressBook());
+        // ELLE and FIONA are linked to MEET24
+        assertEquals(2, addressBook.getAttendeeCount(MEETING.getId()));
+    }
+
+    @Test
+    public void removeEntries_archivedEvent_personsUnlinked() {
+        addressBook.resetData(getTypicalAddressBook());
+        addTypicalEvents(addressBook);
+        addressBook.addTodo(SEND_INVITES);
+        addressBook.addTodo(REVIEW_PROPOSAL);
+        AddressBook entries = new AddressBook();
+        entries.setEvents(List.of(MEETING));
+        entries.setTodos(List.of(SEND_INVITES));
+
+        addressBook.removeEntries(entries);
+
+        assertFalse(addressBook.getEventList().contains(MEETING));
+        assertEquals(getTypicalEvents().size() - 1, addressBook.getEventList().size());
+        assertEquals(List.of(REVIEW_PROPOSAL), addressBook.getTodoList());
+        // ELLE and FIONA were linked to MEET24, and are kept without the link
+        assertEquals(getTypicalPersons().size(), addressBook.getPersonList().size());
+        assertEquals(0, addressBook.getAttendeeCount(MEETING.getId()));
+    }
+
+    @Test
+    public void removeEventAndUnlinkPersons_linkedPersons_unlinkedInOneChange() {
+        addressBook.resetData(getTypicalAddressBook());
+        addTypicalEvents(addressBook);
+        List<ListChangeListener.Change<? extends Person>> personChanges = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) personChanges::add);
+
+        addressBook.removeEventAndUnlinkPersons(MEETING);
+
+        assertFalse(addressBook.getEventList().contains(MEETING));
+        // ELLE and FIONA were linked to MEET24, and are kept without the link
+        assertEquals(1, personChanges.size());
+        assertEquals(getTypicalPersons().size(), addressBook.getPersonList().size());
+        assertTrue(addressBook.getPersonList().stream().noneMatch(person -> MEETING.getId().equals(
+                person.getEventId())));
+        assertEquals(0, addressBook.getAttendeeCount(MEETING.getId()));
+    }
+
+    @Test
+    public void removePersonAndUnlinkTodos_linkedTodos_unlinkedInOneChange() {
+        addressBook.resetData(getTypicalAddressBook());
+        Todo otherTodo = new TodoBuilder().withTodoName("Call Alice").withContact(ALICE).build();
+        addressBook.addTodo(SEND_INVITES);
+        addressBook.addTodo(otherTodo);
+        addressBook.addTodo(REVIEW_PROPOSAL);
+        List<ListChangeListener.Change<? extends Todo>> todoChanges = new ArrayList<>();
+        addressBook.getTodoList().addListener((ListChangeListener<Todo>) todoChanges::add);
+
+        addressBook.removePersonAndUnlinkTodos(ALICE);
+
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertEquals(1, todoChanges.size());
+        assertEquals(List.of(SEND_INVITES.withLinkedContactId(null), otherTodo.withLinkedContactId(null),
+                REVIEW_PROPOSAL), addressBook.getTodoList());
+    }
+
+    @Test
+    public void updateData_changedEntries_onlyChangedEntriesReplaced() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addTodo(REVIEW_PROPOSAL);
+        List<ListChangeListener.Change<? extends Person>> personChanges = new ArrayList<>();
+        List<ListChangeListener.Change<? extends Todo>> todoChanges = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) personChanges::add);
+        addressBook.getTodoList().addListener((ListChangeListener<Todo>) todoChanges::add);
+
+        // the data as read back from a data file another program has changed: BENSON edited, JOHN replaced by HOON
+        List<Person> persons = new ArrayList<>();
+        getTypicalPersons().forEach(person -> persons.add(withIdOf(person, person)));
+        persons.set(1, withIdOf(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build()));
+        persons.set(persons.size() - 1, HOON);
+        AddressBook newData = new AddressBook();
+        newData.setPersons(persons);
+        newData.setTodos(List.of(new Todo(REVIEW_PROPOSAL.getId(), REVIEW_PROPOSAL.getTodoName(),
+                REVIEW_PROPOSAL.getTodoDescription(), REVIEW_PROPOSAL.getContactId(), false)));
+
+        addressBook.updateData(newData);
+
+        assertEquals(newData, addressBook);
+        assertEquals(2, personChanges.size());
+        assertTrue(todoChanges.isEmpty());
+        assertSame(ALICE, addressBook.getPersonList().get(0));
+        assertEquals(persons.get(1), addressBook.getPersonList().get(1));
+        assertSame(CARL, addressBook.getPersonList().get(2));
+        assertSame(REVIEW_PROPOSAL, addressBook.getTodoList().get(0));
+    }
+
+    /**
+     * Returns a person with the id of {@code person} and the fields of {@code fields}.
+     */
+    private static Person withIdOf(Person person, Person fields) {
+        return new Person(person.getId(), fields.getName(), fields.getPhone(), fields.getEmail(), fields.getAddress(),
+                fields.getTags(), fields.getEventId());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.SEMINAR;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.JOHN;
+import static seedu.address.testutil.TypicalTodos.BACKUP_DATABASE;
+import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TypicalEvents;
+
+public class FacetCountsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private final AddressBook addressBook = new AddressBook();
+
+    {
+        TypicalEvents.addTypicalEvents(addressBook);
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FacetCounts.of(null, List.of(), List.of(), addressBook, NOW));
+        assertThrows(NullPointerException.class, () -> FacetCounts.of(List.of(), null, List.of(), addressBook, NOW));
+        assertThrows(NullPointerException.class, () -> FacetCounts.of(List.of(), List.of(), null, addressBook, NOW));
+        assertThrows(NullPointerException.class, () -> FacetCounts.of(List.of(), List.of(), List.of(), null, NOW));
+        assertThrows(NullPointerException.class, () ->
+                FacetCounts.of(List.of(), List.of(), List.of(), addressBook, null));
+    }
+
+    @Test
+    public void of_emptyLists_allCountsZero() {
+        FacetCounts facetCounts = FacetCounts.of(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), addressBook, NOW);
+        assertTrue(facetCounts.getTagCounts().isEmpty());
+        assertTrue(facetCounts.getEventCounts().isEmpty());
+        assertEquals(0, facetCounts.getUpcomingEventCount());
+        assertEquals(0, facetCounts.getPastEventCount());
+        assertEquals(0, facetCounts.getCompletedTodoCount());
+        assertEquals(0, facetCounts.getPendingTodoCount());
+    }
+
+    @Test
+    public void of_typicalEntries_countsEachFacet() {
+        FacetCounts facetCounts = FacetCounts.of(List.of(ALICE, BENSON, DANIEL, ELLE, FIONA, JOHN),
+                List.of(CONCERT, MEETING, SEMINAR), List.of(REVIEW_PROPOSAL, SEND_INVITES, BACKUP_DATABASE),
+                addressBook, NOW);
+
+        // ALICE, BENSON and DANIEL are friends, only BENSON owes money
+        assertEquals(Map.of("friends", 3, "owesMoney", 1), facetCounts.getTagCounts());
+        // ELLE and FIONA are linked to MEET24, JOHN to TSC2025
+        assertEquals(Map.of("MEET24", 2, "TSC2025", 1), facetCounts.getEventCounts());
+        // only the meeting in December 2024 has ended
+        assertEquals(2, facetCounts.getUpcomingEventCount());
+        assertEquals(1, facetCounts.getPastEventCount());
+        assertEquals(2, facetCounts.getCompletedTodoCount());
+        assertEquals(1, facetCounts.getPendingTodoCount());
+    }
+
+    @Test
+    public void of_eventEndingNow_past() {
+        FacetCounts facetCounts = FacetCounts.of(List.of(), List.of(MEETING), List.of(), addressBook,
+                MEETING.getEnd());
+        assertEquals(0, facetCounts.getUpcomingEventCount());
+        assertEquals(1, facetCounts.getPastEventCount());
+    }
+
+    @Test
+    public void getTagCounts_orderedByName() {
+        FacetCounts facetCounts = new FacetCounts(Map.of("b", 1, "a", 2, "c", 3), Map.of(), 0, 0, 0, 0);
+        assertEquals(List.of("a", "b", "c"), List.copyOf(facetCounts.getTagCounts().keySet()));
+    }
+
+    @Test
+    public void equals() {
+        FacetCounts facetCounts = new FacetCounts(Map.of("friends", 1), Map.of("TSC2025", 1), 3, 4, 1, 2);
+
+        // same values -> returns true
+        assertTrue(facetCounts.equals(new FacetCounts(Map.of("friends", 1), Map.of("TSC2025", 1), 3, 4, 1, 2)));
+
+        // same object -> returns true
+        assertTrue(facetCounts.equals(facetCounts));
+
+        // null -> returns false
+        assertFalse(facetCounts.equals(null));
+
+        // different types -> returns false
+        assertFalse(facetCounts.equals(5));
+
+        // different tag counts -> returns false
+        assertFalse(facetCounts.equals(new FacetCounts(Map.of("friends", 2), Map.of("TSC2025", 1), 3, 4, 1, 2)));
+
+        // different event counts -> returns false
+        assertFalse(facetCounts.equals(new FacetCounts(Map.of("friends", 1), Map.of(), 3, 4, 1, 2)));
+
+        // different event date counts -> returns false
+        assertFalse(facetCounts.equals(new FacetCounts(Map.of("friends", 1), Map.of("TSC2025", 1), 4, 3, 1, 2)));
+
+        // different todo counts -> returns false
+        assertFalse(facetCounts.equals(new FacetCounts(Map.of("friends", 1), Map.of("TSC2025", 1), 3, 4, 2, 1)));
+    }
+}
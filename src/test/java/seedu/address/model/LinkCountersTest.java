@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class LinkCountersTest {
+
+    private final LinkCounters linkCounters = new LinkCounters();
+
+    @Test
+    public void getCounts_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> linkCounters.getAttendeeCount(null));
+        assertThrows(NullPointerException.class, () -> linkCounters.getOpenTodoCount(null));
+        assertThrows(NullPointerException.class, () -> linkCounters.getCompletedTodoCount(null));
+    }
+
+    @Test
+    public void addPerson_linkedPerson_countedByEventId() {
+        linkCounters.addPerson(new PersonBuilder().withName("Amy").withLinkedEvent(CONCERT).build());
+        linkCounters.addPerson(new PersonBuilder().withName("Bob").withLinkedEvent(CONCERT).build());
+        linkCounters.addPerson(new PersonBuilder().withName("Carl").build());
+
+        assertEquals(2, linkCounters.getAttendeeCount(CONCERT.getId()));
+        assertEquals(0, linkCounters.getAttendeeCount(MEETING.getId()));
+    }
+
+    @Test
+    public void removePerson_linkedPerson_countDecreases() {
+        Person amy = new PersonBuilder().withName("Amy").withLinkedEvent(CONCERT).build();
+        linkCounters.addPerson(amy);
+        linkCounters.removePerson(amy);
+
+        assertEquals(0, linkCounters.getAttendeeCount(CONCERT.getId()));
+    }
+
+    @Test
+    public void addTodo_linkedTodos_countedByCompletion() {
+        Person amy = new PersonBuilder().withName("Amy").build();
+        linkCounters.addTodo(new TodoBuilder().withTodoName("A").withContact(amy).withCompleted(false).build());
+        linkCounters.addTodo(new TodoBuilder().withTodoName("B").withContact(amy).withCompleted(true).build());
+        linkCounters.addTodo(new TodoBuilder().withTodoName("C").withContact(amy).withCompleted(false).build());
+        linkCounters.addTodo(new TodoBuilder().withTodoName("D").withoutContact().withCompleted(false).build());
+
+        assertEquals(2, linkCounters.getOpenTodoCount(amy.getId()));
+        assertEquals(1, linkCounters.getCompletedTodoCount(amy.getId()));
+    }
+
+    @Test
+    public void addTodo_contactRenamed_countsFollowContact() {
+        Person amy = new PersonBuilder().withName("Amy").build();
+        Todo todo = new TodoBuilder().withContact(amy).withCompleted(false).build();
+        linkCounters.addTodo(todo);
+        Person renamedAmy = new Person(amy.getId(), new PersonBuilder().withName("Amy Bee").build().getName(),
+                amy.getPhone(), amy.getEmail(), amy.getAddress(), amy.getTags(), amy.getEventId());
+
+        assertEquals(1, linkCounters.getOpenTodoCount(renamedAmy.getId()));
+    }
+
+    @Test
+    public void reset_recountsFromLists() {
+        linkCounters.addPerson(new PersonBuilder().withName("Amy").withLinkedEvent(CONCERT).build());
+        linkCounters.reset(List.of(new PersonBuilder().withName("Bob").withLinkedEvent(MEETING).build()),
+                Collections.emptyList());
+
+        assertEquals(0, linkCounters.getAttendeeCount(CONCERT.getId()));
+        assertEquals(1, linkCounters.getAttendeeCount(MEETING.getId()));
+    }
+}
@@ -2,29 +2,58 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.EntryChange.EntryType;
+import seedu.address.model.EntryChange.Operation;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.todo.Todo;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
     private ModelManager modelManager = new ModelManager();
 
+    /**
+     * Returns {@code person} with its phone changed to {@code phone}, as an edit does.
+     */
+    private static Person withPhone(Person person, String phone) {
+        return new Person(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getEventId());
+    }
+
     @Test
     public void constructor() {
         assertEquals(new UserPrefs(), modelManager.getUserPrefs());
@@ -142,6 +171,183 @@ public class ModelManagerTest {
         assertEquals(2, modelManager.getFilteredEventList().size());
     }
 
+    @Test
+    public void refineFilteredPersonList_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.refineFilteredPersonList(null));
+    }
+
+    @Test
+    public void refineFilteredPersonList_validPredicate_keepsOnlyDisplayedMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+
+        // ALICE satisfies the refining predicate but is not displayed, so it stays filtered out
+        modelManager.refineFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // persons added after refining are tested against both predicates
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void awaitPendingAddressBook_remainingDataRead_eventsAndTodosFilledIn() {
+        AddressBook fullAddressBook = getTypicalAddressBook();
+        addTypicalEvents(fullAddressBook);
+        for (Todo todo : getTypicalTodos()) {
+            fullAddressBook.addTodo(todo);
+        }
+        AddressBook persons = new AddressBook();
+        persons.setPersons(fullAddressBook.getPersonList());
+        modelManager = new ModelManager(persons, new UserPrefs());
+        long version = modelManager.getAddressBookVersion();
+
+        modelManager.setPendingAddressBook(CompletableFuture.completedFuture(fullAddressBook));
+        modelManager.awaitPendingAddressBook();
+        assertEquals(fullAddressBook, modelManager.getAddressBook());
+        // filling in data read from the file is not a change that needs saving
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        // later calls do nothing
+        modelManager.awaitPendingAddressBook();
+        assertEquals(fullAddressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void awaitPendingAddressBook_firstPersonsRead_remainingPersonsFilledIn() {
+        AddressBook fullAddressBook = getTypicalAddressBook();
+        AddressBook firstPersons = new AddressBook();
+        firstPersons.setPersons(fullAddressBook.getPersonList().subList(0, 2));
+        modelManager = new ModelManager(firstPersons, new UserPrefs());
+        long version = modelManager.getAddressBookVersion();
+
+        modelManager.setPendingAddressBook(CompletableFuture.completedFuture(fullAddressBook));
+        modelManager.awaitPendingAddressBook();
+        assertEquals(fullAddressBook, modelManager.getAddressBook());
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void awaitPendingAddressBook_remainingDataNotRead_emptyAddressBook() {
+        modelManager.addPerson(ALICE);
+        modelManager.setPendingAddressBook(CompletableFuture.failedFuture(
+                new DataLoadingException(new IOException("corrupt"))));
+        modelManager.awaitPendingAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void setChangeListener_personsChanged_changesPassedOn() {
+        List<EntryChange> changes = new ArrayList<>();
+        modelManager.setChangeListener(changes::addAll);
+
+        modelManager.addPerson(ALICE);
+        Person editedAlice = withPhone(ALICE, "99999999");
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(editedAlice);
+
+        assertEquals(List.of(Operation.ADD, Operation.UPDATE, Operation.DELETE), changes.stream()
+                .map(EntryChange::getOperation).collect(Collectors.toList()));
+        for (EntryChange change : changes) {
+            assertEquals(EntryType.PERSON, change.getEntryType());
+            assertEquals(ALICE.getId(), change.getKey());
+        }
+        assertEquals(Optional.of(editedAlice), changes.get(1).getEntry());
+        assertEquals(Optional.empty(), changes.get(2).getEntry());
+    }
+
+    @Test
+    public void setChangeListener_addressBookReplaced_onlyDifferencesPassedOn() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<EntryChange> changes = new ArrayList<>();
+        modelManager.setChangeListener(changes::addAll);
+
+        Person editedBenson = withPhone(BENSON, "99999999");
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(editedBenson).build());
+
+        assertEquals(List.of(new EntryChange(Operation.UPDATE, EntryType.PERSON, BENSON.getId(),
+                changes.get(0).getTime(), editedBenson)), changes);
+    }
+
+    @Test
+    public void setChangeListener_addressBookReadAgain_onlyChangedLinksPassedOn() {
+        Event event = new EventBuilder().build();
+        modelManager.addEvent(event);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<EntryChange> changes = new ArrayList<>();
+        modelManager.setChangeListener(changes::addAll);
+
+        // copies equal to the entries they replace, as a restore reads them from a file, except for a new link
+        Person aliceCopy = withPhone(ALICE, ALICE.getPhone().value);
+        Person linkedBenson = BENSON.withLinkedEventId(event.getId());
+        AddressBook readAgain = new AddressBookBuilder().withPerson(aliceCopy).withPerson(linkedBenson).build();
+        readAgain.addEvent(event);
+        modelManager.setAddressBook(readAgain);
+
+        assertEquals(List.of(new EntryChange(Operation.UPDATE, EntryType.PERSON, BENSON.getId(),
+                changes.get(0).getTime(), linkedBenson)), changes);
+    }
+
+    @Test
+    public void setChangeListener_pendingDataFilledIn_nothingPassedOn() {
+        AddressBook fullAddressBook = new AddressBook();
+        addTypicalEvents(fullAddressBook);
+        List<EntryChange> changes = new ArrayList<>();
+        modelManager.setChangeListener(changes::addAll);
+
+        modelManager.setPendingAddressBook(CompletableFuture.completedFuture(fullAddressBook));
+        modelManager.awaitPendingAddressBook();
+        assertEquals(List.of(), changes);
+
+        modelManager.deleteEvent(fullAddressBook.getEventList().get(0));
+        assertEquals(1, changes.size());
+        assertEquals(EntryType.EVENT, changes.get(0).getEntryType());
+    }
+
+    @Test
+    public void setEditListener_personsChanged_replacedRangesPassedOn() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<ListEdit> edits = new ArrayList<>();
+        modelManager.setEditListener(edits::addAll);
+
+        Person editedAlice = withPhone(ALICE, "99999999");
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+
+        assertEquals(List.of(new ListEdit(EntryType.PERSON, 0, 1, List.of(editedAlice)),
+                new ListEdit(EntryType.PERSON, 1, 1, List.of())), edits);
+    }
+
+    @Test
+    public void setListThread_listsChangedOnListThread() {
+        ExecutorService listThread = Executors.newSingleThreadExecutor();
+        try {
+            List<Thread> changingThreads = new ArrayList<>();
+            modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                    changingThreads.add(Thread.currentThread()));
+            modelManager.setListThread(listThread);
+
+            modelManager.addPerson(ALICE);
+            assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+            modelManager.updateFilteredPersonList(person -> false);
+            assertEquals(List.of(), modelManager.getFilteredPersonList());
+            assertFalse(changingThreads.isEmpty());
+            for (Thread thread : changingThreads) {
+                assertNotEquals(Thread.currentThread(), thread);
+            }
+
+            // failures on the list thread are rethrown to the caller
+            assertThrows(DuplicatePersonException.class, () -> modelManager.addPerson(ALICE));
+        } finally {
+            listThread.shutdown();
+        }
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,43 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrecomputedPredicateTest {
+
+    @Test
+    public void test_beforeInstalled_matchesOnlyPrecomputedEntries() {
+        String match = new String("match");
+        PrecomputedPredicate<String> predicate = new PrecomputedPredicate<>(List.of(match), unused -> true);
+
+        assertTrue(predicate.test(match));
+        // entries are matched by identity, not equality
+        assertFalse(predicate.test(new String("match")));
+    }
+
+    @Test
+    public void test_afterInstalled_evaluatesFullPredicateForEveryEntry() {
+        PrecomputedPredicate<String> predicate =
+                new PrecomputedPredicate<>(List.of("match"), string -> string.startsWith("new"));
+        predicate.markInstalled();
+
+        // the match set is released once installed
+        assertFalse(predicate.test("match"));
+        assertTrue(predicate.test("newEntry"));
+        assertFalse(predicate.test("other"));
+    }
+
+    @Test
+    public void matchingAll_matchesEverythingUntilInstalled() {
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.matchingAll(string -> string.startsWith("new"));
+        assertTrue(predicate.test("other"));
+
+        predicate.markInstalled();
+        assertTrue(predicate.test("newEntry"));
+        assertFalse(predicate.test("other"));
+    }
+}
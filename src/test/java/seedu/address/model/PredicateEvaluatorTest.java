@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PredicateEvaluatorTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = i -> i % 3 == 0;
+
+    @Test
+    public void findMatches_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PredicateEvaluator.findMatches(null, IS_MULTIPLE_OF_THREE));
+        assertThrows(NullPointerException.class, () -> PredicateEvaluator.findMatches(List.of(1), null));
+    }
+
+    @Test
+    public void findMatches_smallList_returnsMatchesInOrder() {
+        assertEquals(Arrays.asList(3, 9, 6),
+                PredicateEvaluator.findMatches(Arrays.asList(1, 3, 9, 4, 6), IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void findMatches_listAboveParallelThreshold_returnsSameMatchesAsSerialFilter() {
+        List<Integer> entries = IntStream.range(0, PredicateEvaluator.PARALLEL_THRESHOLD * 5)
+                .map(i -> (i * 7919) % 100_003)
+                .boxed()
+                .collect(Collectors.toList());
+        List<Integer> expected = entries.stream().filter(IS_MULTIPLE_OF_THREE).collect(Collectors.toList());
+
+        assertEquals(expected, PredicateEvaluator.findMatches(entries, IS_MULTIPLE_OF_THREE));
+    }
+}
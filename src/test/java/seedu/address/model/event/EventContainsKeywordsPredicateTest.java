@@ -0,0 +1,66 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventContainsKeywordsPredicateTest {
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        EventContainsKeywordsPredicate firstPredicate = new EventContainsKeywordsPredicate(firstPredicateKeywordList);
+        EventContainsKeywordsPredicate secondPredicate =
+                new EventContainsKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EventContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_eventContainsKeywords_returnsTrue() {
+        Event event = new EventBuilder().withName("Team Meeting").withAlias("MEET24")
+                .withDescription("Weekly standup").build();
+
+        // Keyword in name
+        assertTrue(new EventContainsKeywordsPredicate(Collections.singletonList("team")).test(event));
+
+        // Keyword is the alias
+        assertTrue(new EventContainsKeywordsPredicate(Collections.singletonList("meet24")).test(event));
+
+        // Keyword in description, among non-matching keywords
+        assertTrue(new EventContainsKeywordsPredicate(Arrays.asList("party", "STANDUP")).test(event));
+    }
+
+    @Test
+    public void test_eventDoesNotContainKeywords_returnsFalse() {
+        Event event = new EventBuilder().withName("Team Meeting").withAlias("MEET24")
+                .withDescription("Weekly standup").build();
+
+        // Zero keywords
+        assertFalse(new EventContainsKeywordsPredicate(Collections.emptyList()).test(event));
+
+        // Only part of a word
+        assertFalse(new EventContainsKeywordsPredicate(Arrays.asList("meet", "week")).test(event));
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.model.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EntryChange.EntryType;
+import seedu.address.model.event.Event;
+import seedu.address.model.merge.MergeConflict.Reason;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class AddressBookMergerTest {
+
+    private final AddressBook base = getTypicalFullAddressBook();
+    private final AddressBook current = new AddressBook(base);
+    private final AddressBook other = new AddressBook(base);
+
+    private static AddressBook getTypicalFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        for (Todo todo : getTypicalTodos()) {
+            addressBook.addTodo(todo);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code person} with its phone changed to {@code phone}, keeping its id.
+     */
+    private static Person withPhone(Person person, String phone) {
+        return new Person(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getEventId());
+    }
+
+    private static Event withDescription(Event event, String description) {
+        return new Event(event.getId(), event.getEventName(), event.getEventAlias(), event.getStart(), event.getEnd(),
+                description);
+    }
+
+    private static Todo completed(Todo todo) {
+        return new Todo(todo.getId(), todo.getTodoName(), todo.getTodoDescription(), todo.getContactId(), true);
+    }
+
+    @Test
+    public void merge_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookMerger.merge(null, current, other));
+        assertThrows(NullPointerException.class, () -> AddressBookMerger.merge(base, null, other));
+        assertThrows(NullPointerException.class, () -> AddressBookMerger.merge(base, current, null));
+    }
+
+    @Test
+    public void merge_noChangesInOther_currentUnchanged() {
+        current.removePerson(ALICE);
+        current.addPerson(new PersonBuilder().withName("Someone New").build());
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        assertEquals(current, result.getAddressBook());
+        assertEquals(0, result.getAddedCount() + result.getUpdatedCount() + result.getDeletedCount());
+        assertEquals(List.of(), result.getConflicts());
+    }
+
+    @Test
+    public void merge_changesOnBothSides_allChangesApplied() {
+        Person newPerson = new PersonBuilder().withName("Someone New").build();
+        Person editedBenson = withPhone(BENSON, "81234567");
+        current.addPerson(newPerson);
+        current.setPerson(BENSON, editedBenson);
+
+        Person otherPerson = new PersonBuilder().withName("Someone Else").build();
+        Person editedCarl = withPhone(CARL, "87654321");
+        Event editedMeeting = withDescription(MEETING, "Moved online");
+        other.addPerson(otherPerson);
+        other.setPerson(CARL, editedCarl);
+        other.removePerson(ALICE);
+        other.setEvent(MEETING, editedMeeting);
+        other.setTodo(REVIEW_PROPOSAL, completed(REVIEW_PROPOSAL));
+        other.removeTodo(SEND_INVITES);
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        AddressBook expected = new AddressBook(current);
+        expected.addPerson(otherPerson);
+        expected.setPerson(CARL, editedCarl);
+        expected.removePerson(ALICE);
+        expected.setEvent(MEETING, editedMeeting);
+        expected.setTodo(REVIEW_PROPOSAL, completed(REVIEW_PROPOSAL));
+        expected.removeTodo(SEND_INVITES);
+
+        assertEquals(expected, result.getAddressBook());
+        assertEquals(1, result.getAddedCount());
+        assertEquals(3, result.getUpdatedCount());
+        assertEquals(2, result.getDeletedCount());
+        assertEquals(List.of(), result.getConflicts());
+        assertSame(editedBenson, result.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getId().equals(BENSON.getId())).findFirst().get());
+    }
+
+    @Test
+    public void merge_sameChangeOnBothSides_noConflict() {
+        current.setPerson(BENSON, withPhone(BENSON, "81234567"));
+        current.removePerson(ALICE);
+        other.setPerson(BENSON, withPhone(BENSON, "81234567"));
+        other.removePerson(ALICE);
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        assertEquals(current, result.getAddressBook());
+        assertEquals(List.of(), result.getConflicts());
+    }
+
+    @Test
+    public void merge_conflictingChanges_currentVersionsKept() {
+        current.setPerson(BENSON, withPhone(BENSON, "81234567"));
+        current.removePerson(ALICE);
+        current.setEvent(MEETING, withDescription(MEETING, "Moved online"));
+        other.setPerson(BENSON, withPhone(BENSON, "87654321"));
+        other.setPerson(ALICE, withPhone(ALICE, "87654321"));
+        other.removeEvent(MEETING);
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        assertEquals(current, result.getAddressBook());
+        assertEquals(0, result.getAddedCount() + result.getUpdatedCount() + result.getDeletedCount());
+        assertEquals(Set.of(new MergeConflict(EntryType.EVENT, MEETING.getAlias(), Reason.DELETED_IN_OTHER),
+                new MergeConflict(EntryType.PERSON, BENSON.getName().fullName, Reason.CHANGED_IN_BOTH),
+                new MergeConflict(EntryType.PERSON, ALICE.getName().fullName, Reason.DELETED_HERE)),
+                Set.copyOf(result.getConflicts()));
+    }
+
+    @Test
+    public void merge_otherAddsDuplicate_conflict() {
+        Person hoon = new PersonBuilder().withName("Hoon Meier").withPhone("81234567").build();
+        current.addPerson(hoon);
+        other.addPerson(new PersonBuilder().withName("HOON MEIER").withPhone("87654321").build());
+        Person editedCarl = withPhone(CARL, "87654321");
+        other.setPerson(CARL, editedCarl);
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        AddressBook expected = new AddressBook(current);
+        expected.setPerson(CARL, editedCarl);
+        assertEquals(expected, result.getAddressBook());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(0, result.getAddedCount());
+        assertEquals(List.of(new MergeConflict(EntryType.PERSON, "HOON MEIER", Reason.DUPLICATE)),
+                result.getConflicts());
+    }
+
+    @Test
+    public void merge_otherDeletesEventLinkedHere_eventKept() {
+        current.setPerson(CARL, CARL.withLinkedEventId(WORKSHOP.getId()));
+        Person editedDaniel = withPhone(DANIEL, "87654321");
+        other.removeEvent(WORKSHOP);
+        other.setPerson(DANIEL, editedDaniel);
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        AddressBook expected = new AddressBook(current);
+        expected.setPerson(DANIEL, editedDaniel);
+        assertEquals(expected, result.getAddressBook());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(0, result.getDeletedCount());
+        assertEquals(List.of(new MergeConflict(EntryType.EVENT, WORKSHOP.getAlias(), Reason.STILL_LINKED)),
+                result.getConflicts());
+    }
+
+    @Test
+    public void merge_otherLinksToEventDeletedHere_linkUndone() {
+        current.removeEvent(WORKSHOP);
+        other.setPerson(CARL, CARL.withLinkedEventId(WORKSHOP.getId()));
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        assertEquals(current, result.getAddressBook());
+        assertEquals(0, result.getAddedCount() + result.getUpdatedCount() + result.getDeletedCount());
+        assertEquals(List.of(new MergeConflict(EntryType.PERSON, CARL.getName().fullName, Reason.MISSING_LINK)),
+                result.getConflicts());
+    }
+
+    @Test
+    public void merge_otherDeletesPersonLinkedHere_personKept() {
+        Todo todo = new TodoBuilder().withTodoName("Call George").withContact(GEORGE).build();
+        current.addTodo(todo);
+        other.removePerson(GEORGE);
+
+        MergeResult result = AddressBookMerger.merge(base, current, other);
+        assertEquals(current, result.getAddressBook());
+        assertEquals(0, result.getDeletedCount());
+        assertEquals(List.of(new MergeConflict(EntryType.PERSON, GEORGE.getName().fullName, Reason.STILL_LINKED)),
+                result.getConflicts());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.merge.EntryHashTree.Difference;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class EntryHashTreeTest {
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static Person withPhone(Person person, String phone) {
+        return new Person(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getEventId());
+    }
+
+    private static EntryHashTree<Person> treeOf(List<Person> persons, int depth) {
+        return new EntryHashTree<>(persons, Person::getId, EntryHashes::hashOf, depth);
+    }
+
+    @Test
+    public void depthFor() {
+        assertEquals(0, EntryHashTree.depthFor(0));
+        assertEquals(0, EntryHashTree.depthFor(EntryHashTree.ENTRIES_PER_LEAF));
+        assertEquals(1, EntryHashTree.depthFor(EntryHashTree.ENTRIES_PER_LEAF + 1));
+        assertEquals(17, EntryHashTree.depthFor(1_000_000));
+        assertEquals(20, EntryHashTree.depthFor(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void diff_differentDepths_throwsIllegalArgumentException() {
+        List<Person> persons = createPersons(10);
+        assertThrows(IllegalArgumentException.class, () -> treeOf(persons, 2).diff(treeOf(persons, 3)));
+    }
+
+    @Test
+    public void getRootHash_sameEntriesInAnyOrder_sameHash() {
+        List<Person> persons = createPersons(1000);
+        List<Person> shuffled = new ArrayList<>(persons);
+        Collections.shuffle(shuffled, new Random(1));
+
+        assertEquals(treeOf(persons, 7).getRootHash(), treeOf(shuffled, 7).getRootHash());
+        assertEquals(List.of(), treeOf(persons, 7).diff(treeOf(shuffled, 7)));
+    }
+
+    @Test
+    public void diff_entriesChanged_onlyChangedEntriesReturned() {
+        List<Person> persons = createPersons(5000);
+        List<Person> changed = new ArrayList<>(persons);
+        Person edited = withPhone(persons.get(10), "81234567");
+        changed.set(10, edited);
+        Person removed = changed.remove(2000);
+        Person added = new PersonBuilder().withName("Someone New").build();
+        changed.add(added);
+        int depth = EntryHashTree.depthFor(persons.size());
+
+        List<Difference<Person>> differences = treeOf(persons, depth).diff(treeOf(changed, depth));
+        assertEquals(Set.of(edited.getId(), removed.getId(), added.getId()), differences.stream()
+                .map(Difference::getKey).collect(Collectors.toSet()));
+        for (Difference<Person> difference : differences) {
+            UUID key = difference.getKey();
+            if (key.equals(edited.getId())) {
+                assertSame(persons.get(10), difference.getEntry());
+                assertSame(edited, difference.getOtherEntry());
+            } else if (key.equals(removed.getId())) {
+                assertSame(removed, difference.getEntry());
+                assertNull(difference.getOtherEntry());
+            } else {
+                assertNull(difference.getEntry());
+                assertSame(added, difference.getOtherEntry());
+            }
+        }
+        assertNotEquals(treeOf(persons, depth).getRootHash(), treeOf(changed, depth).getRootHash());
+    }
+
+    @Test
+    public void diff_emptyTrees_noDifferences() {
+        assertEquals(List.of(), treeOf(List.of(), 0).diff(treeOf(List.of(), 0)));
+        List<Person> persons = createPersons(3);
+        assertEquals(3, treeOf(List.of(), 0).diff(treeOf(persons, 0)).size());
+    }
+}
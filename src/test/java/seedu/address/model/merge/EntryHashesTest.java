@@ -0,0 +1,48 @@
+package seedu.address.model.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class EntryHashesTest {
+
+    @Test
+    public void hashOf_person() {
+        assertEquals(EntryHashes.hashOf(ALICE), EntryHashes.hashOf(new PersonBuilder(ALICE).build()));
+        assertNotEquals(EntryHashes.hashOf(ALICE), EntryHashes.hashOf(new PersonBuilder(ALICE)
+                .withName(ALICE.getName().fullName.toUpperCase()).build()));
+        assertNotEquals(EntryHashes.hashOf(ALICE), EntryHashes.hashOf(new PersonBuilder(ALICE).withTags().build()));
+
+        // tags are compared as a set
+        assertEquals(EntryHashes.hashOf(new PersonBuilder().withTags("a", "b").build()),
+                EntryHashes.hashOf(new PersonBuilder().withTags("b", "a").build()));
+
+        // linking an event changes the person, though equals ignores it
+        assertNotEquals(EntryHashes.hashOf(new PersonBuilder().build()),
+                EntryHashes.hashOf(new PersonBuilder().withLinkedEvent(MEETING).build()));
+    }
+
+    @Test
+    public void hashOf_event() {
+        assertEquals(EntryHashes.hashOf(new EventBuilder().build()), EntryHashes.hashOf(new EventBuilder().build()));
+        assertNotEquals(EntryHashes.hashOf(new EventBuilder().build()),
+                EntryHashes.hashOf(new EventBuilder().withDescription("Moved online").build()));
+    }
+
+    @Test
+    public void hashOf_todo() {
+        assertEquals(EntryHashes.hashOf(REVIEW_PROPOSAL), EntryHashes.hashOf(new TodoBuilder(REVIEW_PROPOSAL).build()));
+        assertNotEquals(EntryHashes.hashOf(REVIEW_PROPOSAL),
+                EntryHashes.hashOf(new TodoBuilder(REVIEW_PROPOSAL).withCompleted(true).build()));
+        assertNotEquals(EntryHashes.hashOf(REVIEW_PROPOSAL),
+                EntryHashes.hashOf(new TodoBuilder(REVIEW_PROPOSAL).withoutContact().build()));
+    }
+}
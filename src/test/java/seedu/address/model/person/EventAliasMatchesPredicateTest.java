@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class EventAliasMatchesPredicateTest {
+
+    @Test
+    public void test_eventsNotGiven_throwsIllegalStateException() {
+        EventAliasMatchesPredicate predicate = new EventAliasMatchesPredicate(CONCERT.getEventAlias());
+        assertThrows(IllegalStateException.class, EventAliasMatchesPredicate.MESSAGE_EVENTS_NOT_SET, () ->
+                predicate.test(new PersonBuilder().withLinkedEvent(CONCERT).build()));
+    }
+
+    @Test
+    public void test_linkedEventHasAlias_returnsTrue() {
+        AddressBook events = new AddressBook();
+        events.addEvent(CONCERT);
+        EventAliasMatchesPredicate predicate = new EventAliasMatchesPredicate(CONCERT.getEventAlias())
+                .withEvents(events);
+        assertTrue(predicate.test(new PersonBuilder().withLinkedEvent(CONCERT).build()));
+    }
+
+    @Test
+    public void test_linkedEventHasOtherAlias_returnsFalse() {
+        AddressBook events = new AddressBook();
+        events.addEvent(CONCERT);
+        events.addEvent(MEETING);
+        EventAliasMatchesPredicate predicate = new EventAliasMatchesPredicate(CONCERT.getEventAlias())
+                .withEvents(events);
+        assertFalse(predicate.test(new PersonBuilder().withLinkedEvent(MEETING).build()));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+}
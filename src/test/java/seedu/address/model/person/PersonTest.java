@@ -97,7 +97,7 @@ public class PersonTest {
                 + ", email=" + ALICE.getEmail()
                 + ", address=" + ALICE.getAddress()
                 + ", tags=" + ALICE.getTags()
-                + ", event=" + (ALICE.getEventAlias() == null ? "No event" : ALICE.getEventAlias().toString()) + "}";
+                + ", event=" + (ALICE.getEventId() == null ? "No event" : ALICE.getEventId().toString()) + "}";
         assertEquals(expected, ALICE.toString());
     }
 }
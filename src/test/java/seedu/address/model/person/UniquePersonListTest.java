@@ -7,14 +7,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -58,6 +62,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedAsOneChange() {
+        uniquePersonList.add(ALICE);
+        List<Integer> changeCount = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.add(1));
+
+        uniquePersonList.addAll(List.of(BOB, AMY));
+        assertEquals(List.of(ALICE, BOB, AMY), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceInCapitals = new PersonBuilder(BOB).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, aliceInCapitals)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +187,20 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_namesDifferInCaseUnderTurkishLocale_throwsDuplicatePersonException() {
+        // Lower-casing "I" in the Turkish locale gives a dotless i, so the names must not be keyed in that locale
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            List<Person> persons = List.of(new PersonBuilder().withName("Ivan").build(),
+                    new PersonBuilder(BOB).withName("IVAN").build());
+            assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(persons));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -2,7 +2,9 @@ package seedu.address.model.todo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import org.junit.jupiter.api.Test;
 
@@ -11,25 +13,25 @@ import seedu.address.testutil.TodoBuilder;
 public class TodoTest {
 
     @Test
-    public void getContactNameDisplay_noContact_returnsNoContactLinked() {
+    public void getContactId_noContact_returnsNull() {
         Todo todo = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call Taylor Swift's manager")
-                .withoutContactName()
+                .withoutContact()
                 .build();
 
-        assertEquals("No contact linked", todo.getContactNameDisplay());
+        assertNull(todo.getContactId());
     }
 
     @Test
-    public void getContactNameDisplay_withContact_returnsName() {
+    public void getContactId_withContact_returnsId() {
         Todo todo = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call Taylor Swift's manager")
-                .withContactName("Alex Yeoh")
+                .withContact(ALICE)
                 .build();
 
-        assertEquals("Alex Yeoh", todo.getContactNameDisplay());
+        assertEquals(ALICE.getId(), todo.getContactId());
     }
 
     @Test
@@ -37,7 +39,7 @@ public class TodoTest {
         Todo a = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call manager")
-                .withContactName("Alex Yeoh")
+                .withContact(ALICE)
                 .build();
         Todo b = new TodoBuilder(a).build();
         assertEquals(a.hashCode(), b.hashCode());
@@ -48,7 +50,7 @@ public class TodoTest {
         Todo base = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call manager")
-                .withContactName("Alex Yeoh")
+                .withContact(ALICE)
                 .build();
 
         // same values -> true
@@ -73,14 +75,14 @@ public class TodoTest {
         assertFalse(base.equals(diffDesc));
 
         // different contact -> false (null vs non-null)
-        Todo diffContact = new TodoBuilder(base).withoutContactName().build();
+        Todo diffContact = new TodoBuilder(base).withoutContact().build();
         assertFalse(base.equals(diffContact));
 
         // different isCompleted -> false
         Todo completedVariant = new Todo(
                 new TodoName(base.getTodoName().toString()),
                 base.getTodoDescription(),
-                base.getContactName(),
+                base.getContactId(),
                 true);
         assertFalse(base.equals(completedVariant));
     }
@@ -90,13 +92,13 @@ public class TodoTest {
         Todo todo = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call manager")
-                .withContactName("Alex Yeoh")
+                .withContact(ALICE)
                 .build();
 
         String expected = "Todo{"
                 + "todoName='" + todo.getTodoName() + '\''
                 + ", todoDescription='" + todo.getTodoDescription() + '\''
-                + ", contactName='" + todo.getContactName() + '\''
+                + ", contactId='" + todo.getContactId() + '\''
                 + ", isCompleted=" + todo.getIsCompleted()
                 + '}';
 
@@ -108,13 +110,13 @@ public class TodoTest {
         Todo todo = new TodoBuilder()
                 .withTodoName("Draft email")
                 .withDescription("Write and send the draft")
-                .withoutContactName()
+                .withoutContact()
                 .build();
 
         String expected = "Todo{"
                 + "todoName='" + todo.getTodoName() + '\''
                 + ", todoDescription='" + todo.getTodoDescription() + '\''
-                + ", contactName='" + todo.getContactName() + '\''
+                + ", contactId='" + todo.getContactId() + '\''
                 + ", isCompleted=" + todo.getIsCompleted()
                 + '}';
 
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
 import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
 import static seedu.address.testutil.TypicalTodos.UPDATE_DOCS;
@@ -77,7 +78,7 @@ public class UniqueTodoListTest {
     public void setTodo_editedTodoHasSameIdentity_success() {
         uniqueTodoList.add(REVIEW_PROPOSAL);
         Todo editedReviewProposal = new TodoBuilder(REVIEW_PROPOSAL)
-                .withContactName("Different Contact")
+                .withContact(BENSON)
                 .withCompleted(true)
                 .build();
         uniqueTodoList.setTodo(REVIEW_PROPOSAL, editedReviewProposal);
@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_flushed_readBackSame() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // changes made after a save do not leak into it
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA);
+
+        storage.flushAddressBook();
+        assertEquals(expected, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_afterFirstSave_editsAppended() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<ListEdit> edits = new ArrayList<>();
+        model.setEditListener(edits::addAll);
+        assertFalse(storage.hasSavedCopy());
+        storage.saveAddressBook(model.getAddressBook());
+        storage.flushAddressBook();
+        assertTrue(storage.hasSavedCopy());
+
+        model.addPerson(HOON);
+        storage.saveAddressBookEdits(edits);
+        edits.clear();
+        model.addPerson(IDA);
+        storage.saveAddressBookEdits(edits);
+        storage.flushAddressBook();
+
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_replacedWhileQueued_editsSavedAndReplacementCopied() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JournaledAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBookEdits(List<ListEdit> edits) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveAddressBookEdits(edits);
+            }
+        });
+        List<IOException> reported = Collections.synchronizedList(new ArrayList<>());
+        storage.setSaveFailureHandler(reported::add);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<ListEdit> edits = new ArrayList<>();
+        model.setEditListener(edits::addAll);
+        storage.saveAddressBook(model.getAddressBook());
+        storage.flushAddressBook();
+
+        // another program replaces the data file while the save of the edits waits to be written
+        model.addPerson(HOON);
+        storage.saveAddressBookEdits(edits);
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+        release.countDown();
+
+        Path conflictPath = JournaledAddressBookStorage.getConflictPath(filePath);
+        assertThrows(IOException.class, String.format(JournaledAddressBookStorage.MESSAGE_CHANGED_EXTERNALLY,
+                filePath, conflictPath), storage::flushAddressBook);
+        assertEquals(1, reported.size());
+        assertFalse(storage.isAddressBookChangedExternally());
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+        assertEquals(replacement, new JsonAddressBookStorage(conflictPath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_savesCoalesced() throws Exception {
+        BlockingStorage blockingStorage = new BlockingStorage(testFolder.resolve("data.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(blockingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        blockingStorage.writeStarted.await();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        blockingStorage.release.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, blockingStorage.saved.size());
+        assertEquals(addressBook, new AddressBook(blockingStorage.saved.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReportedAndRethrownByFlush() {
+        IOException failure = new IOException("disk full");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw failure;
+                    }
+                });
+        List<IOException> reported = Collections.synchronizedList(new ArrayList<>());
+        storage.setSaveFailureHandler(reported::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, "disk full", storage::flushAddressBook);
+        assertEquals(1, reported.size());
+        assertSame(failure, reported.get(0));
+    }
+
+    @Test
+    public void readAddressBook_afterSave_seesSavedData() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writtenBeforeReturning() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherPath);
+
+        assertTrue(new JsonAddressBookStorage(otherPath).readAddressBook().isPresent());
+    }
+
+    /**
+     * A storage whose first save waits until it is released, and which remembers everything saved through it.
+     */
+    private static class BlockingStorage extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+
+        BlockingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(addressBook);
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.storage.BinaryAddressBookReader.FIRST_PERSON_PAGE_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getTypicalFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        for (Todo todo : getTypicalTodos()) {
+            addressBook.addTodo(todo);
+        }
+        return addressBook;
+    }
+
+    private static AddressBook createAddressBookWithPersons(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        return addressBook;
+    }
+
+    private static byte[] encode(AddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void open_mappedFile_success() throws Exception {
+        AddressBook original = getTypicalFullAddressBook();
+        Path filePath = testFolder.resolve("data.bin");
+        Files.write(filePath, encode(original));
+
+        assertEquals(original, BinaryAddressBookReader.open(filePath).toAddressBook());
+    }
+
+    @Test
+    public void toAddressBook_personsDecodedFirst_personsNotDecodedAgain() throws Exception {
+        AddressBook original = getTypicalFullAddressBook();
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(encode(original)));
+
+        List<Person> persons = reader.decodePersons();
+        assertEquals(original.getPersonList(), persons);
+        AddressBook addressBook = reader.toAddressBook();
+        assertEquals(original, addressBook);
+        assertSame(persons.get(3), addressBook.getPersonList().get(3));
+    }
+
+    @Test
+    public void decodeFirstPersons_morePersonsThanPage_onlyFirstPageDecoded() throws Exception {
+        AddressBook original = createAddressBookWithPersons(FIRST_PERSON_PAGE_SIZE + 10);
+        byte[] bytes = encode(original);
+
+        // corrupt the last person, which is not on the first page
+        int lastPersonOffset = ByteBuffer.wrap(bytes).getInt(personIndexOffset(bytes)
+                + (FIRST_PERSON_PAGE_SIZE + 9) * Integer.BYTES);
+        bytes[lastPersonOffset + 2 * Long.BYTES + 1] = '!';
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(bytes));
+
+        assertEquals(original.getPersonList().subList(0, FIRST_PERSON_PAGE_SIZE), reader.decodeFirstPersons());
+        assertThrows(IllegalValueException.class, reader::decodePersons);
+    }
+
+    @Test
+    public void toAddressBook_firstPersonsDecoded_firstPersonsNotDecodedAgain() throws Exception {
+        AddressBook original = createAddressBookWithPersons(FIRST_PERSON_PAGE_SIZE + 10);
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(encode(original)));
+
+        List<Person> firstPersons = reader.decodeFirstPersons();
+        AddressBook addressBook = reader.toAddressBook();
+        assertEquals(original, addressBook);
+        assertSame(firstPersons.get(3), addressBook.getPersonList().get(3));
+    }
+
+    @Test
+    public void toAddressBook_personCorrupt_throwsIllegalValueException() throws Exception {
+        byte[] bytes = encode(getTypicalFullAddressBook());
+
+        // corrupt the first person by making its name invalid
+        int nameOffset = ByteBuffer.wrap(bytes).getInt(personIndexOffset(bytes)) + 2 * Long.BYTES + 1;
+        bytes[nameOffset] = '!';
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(bytes));
+
+        assertThrows(IllegalValueException.class, reader::decodePersons);
+        assertThrows(IllegalValueException.class, reader::toAddressBook);
+    }
+
+    @Test
+    public void toAddressBook_fileWithoutRecordIndex_success() throws Exception {
+        // version 1 files link entries by alias and name, so only unlinked entries are encoded alike in both versions
+        AddressBook original = new AddressBook();
+        AddressBook linked = getTypicalFullAddressBook();
+        linked.getEventList().forEach(original::addEvent);
+        linked.getPersonList().forEach(person -> original.addPerson(person.withLinkedEventId(null)));
+        linked.getTodoList().forEach(todo -> original.addTodo(todo.withLinkedContactId(null)));
+        byte[] bytes = encode(original);
+
+        // a version 1 file ends where the record index starts, followed by the offsets of the four sections
+        ByteBuffer trailer = ByteBuffer.wrap(bytes, bytes.length - BinaryAddressBookCodec.TRAILER_SIZE,
+                BinaryAddressBookCodec.TRAILER_SIZE_WITHOUT_INDEX);
+        int indexOffset = (int) ByteBuffer.wrap(bytes).getLong(bytes.length - BinaryAddressBookCodec.TRAILER_SIZE
+                + BinaryAddressBookCodec.SECTION_COUNT * Long.BYTES);
+        ByteArrayOutputStream versionOne = new ByteArrayOutputStream();
+        versionOne.write(bytes, 0, indexOffset);
+        versionOne.write(trailer.array(), trailer.position(), trailer.remaining());
+        byte[] versionOneBytes = versionOne.toByteArray();
+        versionOneBytes[BinaryAddressBookCodec.MAGIC.length] = BinaryAddressBookCodec.VERSION_WITHOUT_INDEX;
+
+        assertEquals(original, new BinaryAddressBookReader(ByteBuffer.wrap(versionOneBytes)).toAddressBook());
+    }
+
+    @Test
+    public void constructor_notBinaryFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                new BinaryAddressBookReader(ByteBuffer.wrap("{ \"persons\": [] }".getBytes())));
+        assertThrows(IllegalValueException.class, () -> new BinaryAddressBookReader(ByteBuffer.allocate(0)));
+    }
+
+    private static int personIndexOffset(byte[] bytes) {
+        return (int) ByteBuffer.wrap(bytes).getLong(bytes.length - BinaryAddressBookCodec.TRAILER_SIZE
+                + (BinaryAddressBookCodec.SECTION_COUNT + 1) * Long.BYTES);
+    }
+
+    @Test
+    public void toAddressBook_truncatedIndex_throwsIllegalValueException() throws Exception {
+        byte[] bytes = encode(getTypicalFullAddressBook());
+        int personIndexOffset = personIndexOffset(bytes);
+        Arrays.fill(bytes, personIndexOffset, personIndexOffset + Integer.BYTES, (byte) 0x7F);
+
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(bytes));
+        assertThrows(IllegalValueException.class, reader::toAddressBook);
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.todo.Todo;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getTypicalFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        for (Todo todo : getTypicalTodos()) {
+            addressBook.addTodo(todo);
+        }
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList().get(0).getId(), readBack.getPersonList().get(0).getId());
+        assertEquals(original.getTodoList(), readBack.getTodoList());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBookInStages_savedFile_personsReadFirst() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+        storage.saveAddressBook(original);
+
+        StagedAddressBook staged = storage.readAddressBookInStages().get();
+        assertEquals(original.getPersonList(), staged.getPersons());
+        assertEquals(original, new AddressBook(staged.readRemaining()));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("data.bin");
+        Path jsonPath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalFullAddressBook();
+
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath, true).saveAddressBook(original);
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path binaryPath = testFolder.resolve("data.bin");
+        Path jsonPath = testFolder.resolve("data.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryPath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(jsonPath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(testFolder.resolve("missing.bin")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        AddressBook original = getTypicalFullAddressBook();
+        new BinaryAddressBookStorage(filePath, new DataFileCompression(DataFileCompression.Codec.GZIP, 1))
+                .saveAddressBook(original);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalFullAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalFullAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        for (int i = BinaryAddressBookCodec.MAGIC.length + 1; i < bytes.length; i += 3) {
+            bytes[i] = (byte) 0xFF;
+        }
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookCodec.MAGIC.length] = BinaryAddressBookCodec.VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void isAddressBookChangedExternally() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(storage.isAddressBookChangedExternally());
+
+        original.addPerson(HOON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(storage.isAddressBookChangedExternally());
+
+        storage.readAddressBook();
+        assertFalse(storage.isAddressBookChangedExternally());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("data.bin")).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.BackupPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChunkedBackupStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getTypicalFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        for (Todo todo : getTypicalTodos()) {
+            addressBook.addTodo(todo);
+        }
+        return addressBook;
+    }
+
+    private static AddressBook createLargeAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Blk " + (i % 500) + ", Clementi Ave " + (i % 7) + ", #0" + (i % 9) + "-" + i)
+                    .build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a storage in the test folder that takes its backups at {@code time}.
+     */
+    private ChunkedBackupStorage storageAt(String time, BackupPolicy policy) {
+        Clock clock = Clock.fixed(LocalDateTime.parse(time).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new ChunkedBackupStorage(testFolder, policy, clock);
+    }
+
+    private Set<Path> listChunks() throws Exception {
+        try (Stream<Path> files = Files.walk(testFolder.resolve("chunks"))) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void getBackupPath_nextToDataFile() {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.backups"), ChunkedBackupStorage.getBackupPath(dataFilePath));
+    }
+
+    @Test
+    public void isValidVersion() {
+        assertTrue(ChunkedBackupStorage.isValidVersion("20251019-143000"));
+        assertFalse(ChunkedBackupStorage.isValidVersion("2025-10-19"));
+        assertFalse(ChunkedBackupStorage.isValidVersion("../20251019-143000"));
+        assertFalse(ChunkedBackupStorage.isValidVersion(""));
+    }
+
+    @Test
+    public void getBackupVersions_noBackups_emptyList() throws Exception {
+        assertEquals(List.of(), new ChunkedBackupStorage(testFolder, new BackupPolicy()).getBackupVersions());
+    }
+
+    @Test
+    public void backupAddressBook_thenReadBackup_sameAddressBook() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        AddressBook original = getTypicalFullAddressBook();
+
+        String version = storage.backupAddressBook(original);
+        assertEquals("20251019-143000", version);
+        assertEquals(List.of(version), storage.getBackupVersions());
+        assertEquals(original, storage.readBackup(version).get());
+
+        // nothing but the chunks and manifests is left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(Set.of("chunks", "versions"), files.map(file -> file.getFileName().toString())
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void backupAddressBook_written_onBackedUpRun() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        AtomicBoolean isBackedUp = new AtomicBoolean();
+
+        storage.backupAddressBook(getTypicalFullAddressBook(), () -> isBackedUp.set(true));
+        storage.getBackupVersions();
+        assertTrue(isBackedUp.get());
+    }
+
+    @Test
+    public void backupAddressBook_writeFails_onBackedUpNotRun() throws Exception {
+        Files.createFile(testFolder.resolve("chunks"));
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        AtomicBoolean isBackedUp = new AtomicBoolean();
+
+        storage.backupAddressBook(getTypicalFullAddressBook(), () -> isBackedUp.set(true));
+        assertEquals(List.of(), storage.getBackupVersions());
+        assertFalse(isBackedUp.get());
+    }
+
+    @Test
+    public void backupAddressBook_changedAfterBackup_backupUnchanged() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        AddressBook addressBook = getTypicalFullAddressBook();
+        AddressBook original = new AddressBook(addressBook);
+
+        String version = storage.backupAddressBook(addressBook);
+        addressBook.setPersons(List.of());
+        assertEquals(original, storage.readBackup(version).get());
+    }
+
+    @Test
+    public void backupAddressBook_sameSecond_separateVersions() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        AddressBook first = getTypicalFullAddressBook();
+
+        assertEquals("20251019-143000", storage.backupAddressBook(first));
+        assertEquals("20251019-143001", storage.backupAddressBook(new AddressBook()));
+        assertEquals(List.of("20251019-143001", "20251019-143000"), storage.getBackupVersions());
+        assertEquals(first, storage.readBackup("20251019-143000").get());
+        assertEquals(new AddressBook(), storage.readBackup("20251019-143001").get());
+    }
+
+    @Test
+    public void backupAddressBook_onePersonChanged_fewChunksAdded() throws Exception {
+        AddressBook addressBook = createLargeAddressBook(5000);
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        storage.backupAddressBook(addressBook);
+        storage.getBackupVersions();
+        Set<Path> chunksBefore = listChunks();
+        assertTrue(chunksBefore.size() > 4);
+
+        Person person = addressBook.getPersonList().get(2500);
+        addressBook.setPerson(person, new PersonBuilder(person).withPhone("91234567").build());
+        String version = storage.backupAddressBook(addressBook);
+        storage.getBackupVersions();
+
+        Set<Path> chunksAfter = listChunks();
+        chunksAfter.removeAll(chunksBefore);
+        assertTrue(chunksAfter.size() <= 2, chunksAfter.size() + " chunks added");
+        assertEquals(addressBook, storage.readBackup(version).get());
+    }
+
+    @Test
+    public void readBackup_unknownVersion_emptyResult() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        storage.backupAddressBook(getTypicalFullAddressBook());
+
+        assertEquals(Optional.empty(), storage.readBackup("20251019-143059"));
+        assertEquals(Optional.empty(), storage.readBackup("../addressbook"));
+    }
+
+    @Test
+    public void readBackup_missingChunk_throwsDataLoadingException() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        String version = storage.backupAddressBook(getTypicalFullAddressBook());
+        storage.getBackupVersions();
+
+        for (Path chunk : listChunks()) {
+            Files.delete(chunk);
+        }
+        assertThrows(DataLoadingException.class, () -> storage.readBackup(version));
+    }
+
+    @Test
+    public void readBackup_truncatedChunk_throwsDataLoadingException() throws Exception {
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", new BackupPolicy());
+        String version = storage.backupAddressBook(getTypicalFullAddressBook());
+        storage.getBackupVersions();
+
+        for (Path chunk : listChunks()) {
+            Files.write(chunk, new byte[0]);
+        }
+        assertThrows(DataLoadingException.class, () -> storage.readBackup(version));
+    }
+
+    @Test
+    public void backupAddressBook_expiredBackups_removedWithTheirChunks() throws Exception {
+        BackupPolicy policy = new BackupPolicy(60, 1, 1);
+        ChunkedBackupStorage earlierStorage = storageAt("2025-10-18T09:00:00", policy);
+        String expired = earlierStorage.backupAddressBook(getTypicalFullAddressBook());
+        earlierStorage.getBackupVersions();
+        ChunkedBackupStorage storage = storageAt("2025-10-19T14:30:00", policy);
+        String kept = storage.backupAddressBook(new AddressBook());
+
+        assertEquals(List.of(kept), storage.getBackupVersions());
+        assertEquals(Optional.empty(), storage.readBackup(expired));
+        assertEquals(1, listChunks().size());
+        assertEquals(new AddressBook(), storage.readBackup(kept).get());
+    }
+
+    @Test
+    public void selectVersionsToKeep() {
+        List<String> versions = List.of("20251019-143000", "20251019-140000", "20251019-133000", "20251019-120000",
+                "20251018-230000", "20251018-100000", "20251017-090000");
+
+        assertEquals(Set.of("20251019-143000", "20251019-140000", "20251019-133000", "20251018-230000"),
+                ChunkedBackupStorage.selectVersionsToKeep(versions, new BackupPolicy(60, 2, 2)));
+        assertEquals(Set.of("20251019-143000", "20251019-140000", "20251019-133000", "20251019-120000",
+                "20251018-230000", "20251017-090000"),
+                ChunkedBackupStorage.selectVersionsToKeep(versions, new BackupPolicy(60, 3, 7)));
+
+        // the backups taken in the newest backup's hour are always kept
+        assertEquals(Set.of("20251019-143000", "20251019-140000"),
+                ChunkedBackupStorage.selectVersionsToKeep(versions, new BackupPolicy(60, 0, 0)));
+        assertEquals(Set.of(), ChunkedBackupStorage.selectVersionsToKeep(List.of(), new BackupPolicy()));
+    }
+}
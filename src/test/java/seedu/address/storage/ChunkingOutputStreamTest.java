@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ChunkingOutputStreamTest {
+
+    private static final int DATA_SIZE = 2 * 1024 * 1024;
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] bytes = new byte[size];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes {@code data} to a {@code ChunkingOutputStream} {@code writeSize} bytes at a time, and returns the chunks.
+     */
+    private static List<byte[]> chunk(byte[] data, int writeSize) throws IOException {
+        List<byte[]> chunks = new ArrayList<>();
+        try (ChunkingOutputStream out = new ChunkingOutputStream((chunk, length) ->
+                chunks.add(Arrays.copyOf(chunk, length)))) {
+            for (int i = 0; i < data.length; i += writeSize) {
+                out.write(data, i, Math.min(writeSize, data.length - i));
+            }
+        }
+        return chunks;
+    }
+
+    @Test
+    public void constructor_nullConsumer_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ChunkingOutputStream(null));
+    }
+
+    @Test
+    public void close_nothingWritten_noChunks() throws Exception {
+        assertEquals(List.of(), chunk(new byte[0], 1));
+    }
+
+    @Test
+    public void write_randomData_chunksJoinToData() throws Exception {
+        byte[] data = randomBytes(DATA_SIZE, 1);
+        List<byte[]> chunks = chunk(data, 1000);
+
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (int i = 0; i < chunks.size(); i++) {
+            int size = chunks.get(i).length;
+            assertTrue(size <= ChunkingOutputStream.MAX_CHUNK_SIZE);
+            assertTrue(size >= ChunkingOutputStream.MIN_CHUNK_SIZE || i == chunks.size() - 1);
+            joined.write(chunks.get(i));
+        }
+        assertArrayEquals(data, joined.toByteArray());
+        assertTrue(chunks.size() > DATA_SIZE / ChunkingOutputStream.MAX_CHUNK_SIZE);
+    }
+
+    @Test
+    public void write_differentWriteSizes_sameChunks() throws Exception {
+        byte[] data = randomBytes(DATA_SIZE / 4, 2);
+        List<byte[]> expectedChunks = chunk(data, data.length);
+        List<byte[]> chunks = chunk(data, 1);
+
+        assertEquals(expectedChunks.size(), chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            assertArrayEquals(expectedChunks.get(i), chunks.get(i));
+        }
+    }
+
+    @Test
+    public void write_bytesInserted_otherChunksUnchanged() throws Exception {
+        byte[] data = randomBytes(DATA_SIZE, 3);
+        byte[] inserted = randomBytes(100, 4);
+        byte[] edited = new byte[data.length + inserted.length];
+        System.arraycopy(data, 0, edited, 0, DATA_SIZE / 2);
+        System.arraycopy(inserted, 0, edited, DATA_SIZE / 2, inserted.length);
+        System.arraycopy(data, DATA_SIZE / 2, edited, DATA_SIZE / 2 + inserted.length, DATA_SIZE / 2);
+
+        Set<ByteBuffer> chunksBefore = new HashSet<>();
+        for (byte[] chunk : chunk(data, 4096)) {
+            chunksBefore.add(ByteBuffer.wrap(chunk));
+        }
+        List<byte[]> chunksAfter = chunk(edited, 4096);
+        long newChunkCount = chunksAfter.stream().filter(chunk -> !chunksBefore.contains(ByteBuffer.wrap(chunk)))
+                .count();
+        assertTrue(newChunkCount <= 2, newChunkCount + " of " + chunksAfter.size() + " chunks changed");
+    }
+
+    @Test
+    public void getCount_bytesWritten() throws Exception {
+        ChunkingOutputStream out = new ChunkingOutputStream((chunk, length) -> { });
+        out.write(randomBytes(1000, 5));
+        out.write(7);
+        assertEquals(1001, out.getCount());
+    }
+
+    @Test
+    public void write_afterClose_throwsIoException() throws Exception {
+        ChunkingOutputStream out = new ChunkingOutputStream((chunk, length) -> { });
+        out.close();
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.core.DataFileCompression;
+import seedu.address.commons.core.DataFileCompression.Codec;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+/**
+ * Measures the size of the JSON data file and the time taken to save and load it, uncompressed and with each codec
+ * at each compression level. Run with {@code gradlew benchmarkCompression}, optionally passing the number of
+ * persons with {@code --args}.
+ */
+public class CompressionBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20_000;
+    private static final int EVENT_COUNT = 50;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates"};
+    private static final String[] DOMAINS = {"example.com", "u.nus.edu", "gmail.com"};
+
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = createAddressBook(personCount);
+        Path folder = Files.createTempDirectory("compression-benchmark");
+
+        System.out.printf("%d persons, %d events, %d todos; median of %d runs%n", personCount, EVENT_COUNT,
+                personCount / 2, MEASURED_RUNS);
+        System.out.printf("%-8s %5s %12s %9s %9s%n", "codec", "level", "size (B)", "save (ms)", "load (ms)");
+        measure(folder, addressBook, new DataFileCompression());
+        for (Codec codec : new Codec[] {Codec.GZIP, Codec.DEFLATE}) {
+            for (int level = DataFileCompression.MIN_LEVEL; level <= DataFileCompression.MAX_LEVEL; level++) {
+                measure(folder, addressBook, new DataFileCompression(codec, level));
+            }
+        }
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            addressBook.addEvent(new EventBuilder().withName("Event " + i).withAlias("event" + i).build());
+        }
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@" + DOMAINS[i % DOMAINS.length])
+                    .withAddress("Blk " + (i % 500) + ", Clementi Ave " + (i % 7) + ", #0" + (i % 9) + "-" + i)
+                    .withTags(TAGS[i % TAGS.length], TAGS[(i / TAGS.length) % TAGS.length])
+                    .withLinkedEvent(addressBook.getEventList().get(i % EVENT_COUNT))
+                    .build());
+        }
+        for (int i = 0; i < personCount / 2; i++) {
+            addressBook.addTodo(new TodoBuilder().withTodoName("Follow up " + i)
+                    .withDescription("Send the slides for event" + (i % EVENT_COUNT))
+                    .withContact(addressBook.getPersonList().get(i))
+                    .withCompleted(i % 3 == 0)
+                    .build());
+        }
+        return addressBook;
+    }
+
+    private static void measure(Path folder, AddressBook addressBook, DataFileCompression compression)
+            throws IOException, DataLoadingException {
+        Path filePath = folder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false, compression);
+        List<Long> saveTimes = new ArrayList<>();
+        List<Long> loadTimes = new ArrayList<>();
+
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            storage.readAddressBook();
+            long loaded = System.nanoTime();
+            if (run >= WARMUP_RUNS) {
+                saveTimes.add(saved - start);
+                loadTimes.add(loaded - saved);
+            }
+        }
+
+        System.out.printf("%-8s %5s %12d %9.1f %9.1f%n", compression.getCodec(),
+                compression.isCompressed() ? String.valueOf(compression.getLevel()) : "-", Files.size(filePath),
+                median(saveTimes) / 1e6, median(loadTimes) / 1e6);
+        Files.delete(filePath);
+    }
+
+    private static long median(List<Long> times) {
+        Long[] sorted = times.toArray(new Long[0]);
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullListener_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DataFileWatcher(testFolder.resolve("data.json"), null));
+    }
+
+    @Test
+    public void constructor_missingFolder_folderCreated() throws Exception {
+        Path folder = testFolder.resolve("data");
+        try (DataFileWatcher watcher = new DataFileWatcher(folder.resolve("data.json"), () -> { })) {
+            assertTrue(Files.isDirectory(folder));
+        }
+    }
+
+    @Test
+    public void start_journalChanged_listenerCalled() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CountDownLatch changed = new CountDownLatch(1);
+        try (DataFileWatcher watcher = new DataFileWatcher(filePath, changed::countDown)) {
+            watcher.start();
+            Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath), "{}");
+
+            assertTrue(changed.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void start_otherFileChanged_listenerNotCalled() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CountDownLatch changed = new CountDownLatch(1);
+        try (DataFileWatcher watcher = new DataFileWatcher(filePath, changed::countDown)) {
+            watcher.start();
+            Files.writeString(testFolder.resolve("preferences.json"), "{}");
+
+            assertFalse(changed.await(DataFileWatcher.SETTLE_MILLIS * 5, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,473 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ListEdit;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
+import seedu.address.testutil.TypicalTodos;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ListEdit> edits = new ArrayList<>();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_laterSaves_appendToJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        model.addPerson(HOON);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        model.deletePerson(BENSON);
+        model.addTodo(TypicalTodos.REVIEW_PROPOSAL);
+        saveEdits(storage);
+
+        // the snapshot is left alone, and each edit is one journal line
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(model.getAddressBook(), readBack);
+    }
+
+    @Test
+    public void readAddressBook_journaledEntries_idsAndLinksKept() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(MEETING);
+        ModelManager model = recordingModelOf(original);
+        storage.saveAddressBook(model.getAddressBook());
+
+        Person linkedHoon = new PersonBuilder(HOON).withLinkedEvent(MEETING).build();
+        Todo linkedTodo = new TodoBuilder().withContact(linkedHoon).build();
+        model.addPerson(linkedHoon);
+        model.addTodo(linkedTodo);
+        saveEdits(storage);
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        Person replayedHoon = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        Todo replayedTodo = readBack.getTodoList().get(0);
+        assertEquals(linkedHoon.getId(), replayedHoon.getId());
+        assertEquals(MEETING.getId(), replayedHoon.getEventId());
+        assertEquals(linkedTodo.getId(), replayedTodo.getId());
+        assertEquals(linkedHoon.getId(), replayedTodo.getContactId());
+    }
+
+    @Test
+    public void saveAddressBookEdits_snapshotReplaced_editsSavedOverCopiedReplacement() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+
+        // e.g. the data file was converted to binary by another program
+        AddressBook replacement = new AddressBook(model.getAddressBook());
+        replacement.removePerson(BENSON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(replacement);
+        model.deletePerson(ALICE);
+        Path conflictPath = JournaledAddressBookStorage.getConflictPath(filePath);
+        assertThrows(IOException.class, String.format(JournaledAddressBookStorage.MESSAGE_CHANGED_EXTERNALLY,
+                filePath, conflictPath), () -> saveEdits(storage));
+        // the storage applied the edits to its copy even though it threw
+        edits.clear();
+        assertEquals(replacement, new BinaryAddressBookStorage(conflictPath).readAddressBook().get());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(storage.isAddressBookChangedExternally());
+
+        // later edits are journaled against the snapshot of the edits saved over the replacement
+        model.addPerson(IDA);
+        saveEdits(storage);
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_journalChangedWithoutEdits_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+
+        JournaledAddressBookStorage otherProgram = new JournaledAddressBookStorage(filePath);
+        ModelManager otherModel = recordingModelOf(otherProgram.readAddressBook().get());
+        otherModel.addPerson(HOON);
+        saveEdits(otherProgram);
+
+        storage.saveAddressBookEdits(List.of());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getConflictPath(filePath)));
+        assertTrue(storage.isAddressBookChangedExternally());
+        assertEquals(otherModel.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_snapshotDeleted_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+
+        Files.delete(filePath);
+        model.deletePerson(ALICE);
+        saveEdits(storage);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_laterSave_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+
+        // a whole address book replaces the copy, and later edits are made to it
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.removePerson(ALICE);
+        storage.saveAddressBook(new AddressBookSnapshot(replacement));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+
+        model = recordingModelOf(replacement);
+        model.addPerson(IDA);
+        saveEdits(storage);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_nothingReadOrSaved_throwsIllegalStateException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("data.json"));
+        assertFalse(storage.hasSavedCopy());
+        assertThrows(IllegalStateException.class, () -> storage.saveAddressBookEdits(List.of()));
+    }
+
+    @Test
+    public void saveAddressBookEdits_afterRead_appendsToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage previousStorage = new JournaledAddressBookStorage(filePath);
+        ModelManager previousModel = recordingModelOf(getTypicalAddressBook());
+        previousStorage.saveAddressBook(previousModel.getAddressBook());
+        previousModel.addPerson(HOON);
+        saveEdits(previousStorage);
+        String snapshot = Files.readString(filePath);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(storage.readAddressBook().get());
+        model.addPerson(IDA);
+        saveEdits(storage);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        List<String> journalLines = Files.readAllLines(journalPath);
+        assertEquals(2, journalLines.size());
+        assertEquals(2, JsonUtil.fromJsonString(journalLines.get(1), JsonAdaptedJournalRecord.class).getSeq());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_noEdits_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        storage.saveAddressBookEdits(List.of());
+
+        assertEquals(snapshot, Files.readString(filePath));
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void isAddressBookChangedExternally_ownSaves_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        assertFalse(storage.isAddressBookChangedExternally());
+
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+
+        assertFalse(storage.isAddressBookChangedExternally());
+    }
+
+    @Test
+    public void isAddressBookChangedExternally_changedByOtherStorage_returnsTrue() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // another program appends to the journal
+        JournaledAddressBookStorage otherStorage = new JournaledAddressBookStorage(filePath);
+        recordingModelOf(otherStorage.readAddressBook().get()).addPerson(HOON);
+        saveEdits(otherStorage);
+        assertTrue(storage.isAddressBookChangedExternally());
+
+        storage.readAddressBook();
+        assertFalse(storage.isAddressBookChangedExternally());
+
+        // another program replaces the snapshot
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(storage.isAddressBookChangedExternally());
+    }
+
+    @Test
+    public void isAddressBookChangedExternally_createdByOtherStorage_returnsTrue() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        assertTrue(storage.readAddressBook().isEmpty());
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(storage.isAddressBookChangedExternally());
+    }
+
+    @Test
+    public void markAddressBookSaved_mergedAddressBook_laterSavesAppendChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        JournaledAddressBookStorage otherStorage = new JournaledAddressBookStorage(filePath);
+        recordingModelOf(otherStorage.readAddressBook().get()).addPerson(HOON);
+        saveEdits(otherStorage);
+
+        // the entries read back are merged into the model, which keeps its own instances of the unchanged ones
+        model.updateAddressBook(storage.readAddressBook().get());
+        storage.markAddressBookSaved(model.getAddressBook());
+        edits.clear();
+        model.addPerson(IDA);
+        saveEdits(storage);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookEdits_checkpointIntervalReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+
+        model.addPerson(HOON);
+        saveEdits(storage);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+
+        model.addPerson(IDA);
+        saveEdits(storage);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_recordsNotReplayedTwice() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+
+        model.addPerson(HOON);
+        saveEdits(storage);
+        assertFalse(Files.exists(journalPath));
+
+        // simulate a crash after the snapshot was written but before the journal was removed
+        String staleRecord = toJournalLine(JsonAdaptedJournalRecord.ofPersons(1, 7, 0, List.of(HOON)));
+        Files.writeString(journalPath, staleRecord);
+
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+
+        Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath), "{\"seq\":2,\"li",
+                StandardOpenOption.APPEND);
+
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_unreadableRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        List<String> lines = Files.readAllLines(journalPath);
+        lines.add(0, "{\"seq\":2,\"li");
+        Files.write(journalPath, lines);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBookInStages_journaledTodos_replayedInRemainingStage() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        model.addTodo(TypicalTodos.REVIEW_PROPOSAL);
+        saveEdits(storage);
+
+        JournaledAddressBookStorage otherStorage = new JournaledAddressBookStorage(filePath);
+        StagedAddressBook staged = otherStorage.readAddressBookInStages().get();
+        assertEquals(model.getAddressBook().getPersonList(), staged.getPersons());
+        assertEquals(model.getAddressBook(), new AddressBook(staged.readRemaining()));
+
+        // the remaining stage picks up the journal, so later saves append to it
+        model.addPerson(IDA);
+        saveEdits(otherStorage);
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookCache_unchangedFiles_laterSavesAppendToJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = recordingModelOf(getTypicalAddressBook());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveEdits(storage);
+        storage.saveAddressBookCache();
+        assertTrue(Files.exists(WarmStartCache.getCachePath(filePath)));
+
+        JournaledAddressBookStorage otherStorage = new JournaledAddressBookStorage(filePath);
+        ModelManager readBack = recordingModelOf(otherStorage.readAddressBook().get());
+        assertEquals(model.getAddressBook(), readBack.getAddressBook());
+
+        // the journal position is restored from the cache, so the next change is appended after HOON's record
+        String snapshot = Files.readString(filePath);
+        readBack.addPerson(IDA);
+        saveEdits(otherStorage);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(readBack.getAddressBook(),
+                new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookCache_nothingReadOrSaved_noCache() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBookCache();
+        assertFalse(Files.exists(WarmStartCache.getCachePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_recordDoesNotFit_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+
+        String record = toJournalLine(JsonAdaptedJournalRecord.ofPersons(1, 5, 1, List.of(HOON)));
+        Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath), record);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Returns a model holding {@code addressBook} whose edits are recorded in {@code edits}, as they are by
+     * {@code LogicManager}.
+     */
+    private ModelManager recordingModelOf(ReadOnlyAddressBook addressBook) {
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        model.setEditListener(edits::addAll);
+        return model;
+    }
+
+    /**
+     * Saves the edits recorded so far to {@code storage} and forgets them.
+     */
+    private void saveEdits(AddressBookStorage storage) throws Exception {
+        storage.saveAddressBookEdits(edits);
+        edits.clear();
+    }
+
+    private static String toJournalLine(JsonAdaptedJournalRecord record) throws Exception {
+        return JsonUtil.toCompactJsonString(record) + System.lineSeparator();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+import static seedu.address.testutil.TypicalTodos.UPDATE_DOCS;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.Todo;
+
+public class JsonAdaptedModuleTest {
+
+    @Test
+    public void serializers_eachEntry_roundTrips() throws Exception {
+        JsonAdaptedPerson person = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonAdaptedPerson(BENSON)), JsonAdaptedPerson.class);
+        assertEquals(BENSON, person.toModelType());
+
+        JsonAdaptedEvent event = JsonUtil.fromJsonString(
+                JsonUtil.toCompactJsonString(new JsonAdaptedEvent(MEETING)), JsonAdaptedEvent.class);
+        assertEquals(MEETING, event.toModelType());
+
+        for (Todo todo : new Todo[] {SEND_INVITES, UPDATE_DOCS}) {
+            JsonAdaptedTodo adaptedTodo = JsonUtil.fromJsonString(
+                    JsonUtil.toCompactJsonString(new JsonAdaptedTodo(todo)), JsonAdaptedTodo.class);
+            assertEquals(todo, adaptedTodo.toModelType());
+        }
+    }
+
+    @Test
+    public void serialize_person_tagsWrittenAsStrings() throws Exception {
+        Person person = new Person(BENSON.getId(), BENSON.getName(), BENSON.getPhone(), BENSON.getEmail(),
+                BENSON.getAddress(), Set.of(new Tag("friends")), null);
+        String expected = "{\"id\":\"" + BENSON.getId() + "\",\"name\":\"" + BENSON.getName()
+                + "\",\"phone\":\"" + BENSON.getPhone() + "\",\"email\":\"" + BENSON.getEmail()
+                + "\",\"address\":\"" + BENSON.getAddress() + "\",\"tags\":[\"friends\"],\"eventAlias\":null,"
+                + "\"eventId\":null}";
+        assertEquals(expected, JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person)));
+    }
+
+    @Test
+    public void deserialize_unknownAndMissingFields_unknownSkipped() throws Exception {
+        String json = "{\"extra\":{\"nested\":[1,2]},\"name\":\"Alice Pauline\",\"phone\":94351253,"
+                + "\"email\":\"alice@example.com\",\"address\":\"123, Jurong West Ave 6\",\"tags\":null}";
+        Person person = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        assertEquals("94351253", person.getPhone().value);
+        assertTrue(person.getTags().isEmpty());
+
+        String todoJson = "{\"todoName\":\"Call Alice\",\"description\":\"Confirm\",\"isCompleted\":\"true\"}";
+        assertTrue(JsonUtil.fromJsonString(todoJson, JsonAdaptedTodo.class).toModelType().getIsCompleted());
+    }
+
+    @Test
+    public void deserialize_wrongTypes_throwsJsonMappingException() {
+        assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString("[\"Alice\"]", JsonAdaptedPerson.class));
+        assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString("{\"name\":{\"first\":\"Alice\"}}", JsonAdaptedPerson.class));
+        assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString("{\"tags\":\"friends\"}", JsonAdaptedPerson.class));
+        assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString("{\"isCompleted\":\"yes\"}", JsonAdaptedTodo.class));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class JsonAddressBookLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookLoaderTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void load_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonAddressBookLoader.load(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void load_savedAddressBook_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        // saved files list events before the persons that refer to them
+        String json = Files.readString(filePath);
+        assertTrue(json.indexOf("\"events\"") < json.indexOf("\"persons\""));
+        assertTrue(json.indexOf("\"persons\"") < json.indexOf("\"todos\""));
+
+        assertEquals(original, JsonAddressBookLoader.load(filePath).get().toModelType());
+    }
+
+    @Test
+    public void load_entriesBeforeTheirReferences_linksResolvedById() throws Exception {
+        AddressBook addressBook = JsonAddressBookLoader.load(
+                TEST_DATA_FOLDER.resolve("todosFirstAddressBook.json")).get().toModelType();
+
+        Person person = addressBook.getPersonList().get(0);
+        assertEquals(UUID.fromString("2f1d5c3a-8a9e-4c3b-9d7e-1b2a3c4d5e6f"), person.getId());
+        assertEquals(UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7"), person.getEventId());
+        assertEquals(person.getId(), addressBook.getTodoList().get(0).getContactId());
+    }
+
+    @Test
+    public void load_notAnObject_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                JsonAddressBookLoader.load(TEST_DATA_FOLDER.resolve("notAnObjectAddressBook.json")));
+    }
+
+    @Test
+    public void applyJournalRecord_recordDoesNotFit_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(new AddressBook()), filePath);
+        JsonAddressBookLoader loader = JsonAddressBookLoader.load(filePath).get();
+
+        JsonAdaptedJournalRecord record = JsonAdaptedJournalRecord.ofPersons(1, 1, 0, List.of(HOON));
+        assertThrows(IllegalValueException.class, String.format(JsonAddressBookLoader.MESSAGE_INVALID_JOURNAL_RECORD,
+                1), () -> loader.applyJournalRecord(record));
+    }
+}
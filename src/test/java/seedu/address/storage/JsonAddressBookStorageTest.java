@@ -2,22 +2,28 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileCompression;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.todo.Todo;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +92,53 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBookInStages_savedFile_personsReadFirst() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        for (Todo todo : getTypicalTodos()) {
+            original.addTodo(todo);
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        StagedAddressBook staged = jsonAddressBookStorage.readAddressBookInStages().get();
+        assertEquals(original.getPersonList(), staged.getPersons());
+        assertEquals(original, new AddressBook(staged.readRemaining()));
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("missing.json")).readAddressBookInStages()
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_compact_writtenOnOneLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_detectedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        long uncompressedSize = Files.size(filePath);
+
+        for (DataFileCompression.Codec codec : DataFileCompression.Codec.values()) {
+            new JsonAddressBookStorage(filePath, false, new DataFileCompression(codec, DataFileCompression.MAX_LEVEL))
+                    .saveAddressBook(original);
+            assertEquals(codec != DataFileCompression.Codec.NONE, CompressionUtil.isCompressed(filePath));
+            assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        }
+        assertTrue(Files.size(filePath) < uncompressedSize);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
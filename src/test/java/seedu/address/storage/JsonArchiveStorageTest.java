@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONFERENCE;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalTodos.BACKUP_DATABASE;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.todo.Todo;
+import seedu.address.model.todo.TodoContainsKeywordsPredicate;
+
+public class JsonArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook entriesOf(List<Event> events, List<Todo> todos) {
+        AddressBook entries = new AddressBook();
+        entries.setEvents(events);
+        entries.setTodos(todos);
+        return entries;
+    }
+
+    private static ReadOnlyAddressBook searchAll(JsonArchiveStorage storage) throws DataLoadingException {
+        return storage.searchArchive(event -> true, todo -> true);
+    }
+
+    @Test
+    public void getArchivePath_nextToDataFile() {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.archive"), JsonArchiveStorage.getArchivePath(dataFilePath));
+    }
+
+    @Test
+    public void searchArchive_missingFile_emptyResult() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("data.json.archive"));
+        ReadOnlyAddressBook matches = searchAll(storage);
+        assertTrue(matches.getEventList().isEmpty());
+        assertTrue(matches.getTodoList().isEmpty());
+    }
+
+    @Test
+    public void archiveEntries_noEntries_fileNotCreated() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        new JsonArchiveStorage(filePath).archiveEntries(new AddressBook());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void archiveEntries_severalTimes_allEntriesFound() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("data.json.archive"));
+        storage.archiveEntries(entriesOf(List.of(MEETING), List.of(SEND_INVITES)));
+        storage.archiveEntries(entriesOf(List.of(CONFERENCE), List.of(BACKUP_DATABASE)));
+
+        ReadOnlyAddressBook matches = searchAll(storage);
+        assertEquals(List.of(MEETING, CONFERENCE), matches.getEventList());
+        assertEquals(List.of(SEND_INVITES, BACKUP_DATABASE), matches.getTodoList());
+        assertTrue(matches.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void searchArchive_keywords_onlyMatchesReturned() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("data.json.archive"));
+        storage.archiveEntries(entriesOf(List.of(MEETING, CONFERENCE), List.of(SEND_INVITES, BACKUP_DATABASE)));
+
+        ReadOnlyAddressBook matches = storage.searchArchive(
+                new EventContainsKeywordsPredicate(List.of("conference")),
+                new TodoContainsKeywordsPredicate(List.of("conference")));
+        assertEquals(List.of(CONFERENCE), matches.getEventList());
+        assertTrue(matches.getTodoList().isEmpty());
+
+        matches = storage.searchArchive(new EventContainsKeywordsPredicate(List.of("backup")),
+                new TodoContainsKeywordsPredicate(List.of("backup")));
+        assertTrue(matches.getEventList().isEmpty());
+        assertEquals(List.of(BACKUP_DATABASE), matches.getTodoList());
+    }
+
+    @Test
+    public void searchArchive_entryArchivedTwice_returnedOnce() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("data.json.archive"));
+        storage.archiveEntries(entriesOf(List.of(MEETING), List.of(SEND_INVITES)));
+        storage.archiveEntries(entriesOf(List.of(MEETING, CONFERENCE), List.of(SEND_INVITES)));
+
+        ReadOnlyAddressBook matches = searchAll(storage);
+        assertEquals(List.of(MEETING, CONFERENCE), matches.getEventList());
+        assertEquals(List.of(SEND_INVITES), matches.getTodoList());
+    }
+
+    @Test
+    public void searchArchive_incompleteLastRecord_skipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        JsonArchiveStorage storage = new JsonArchiveStorage(filePath);
+        storage.archiveEntries(entriesOf(List.of(MEETING), List.of()));
+        Files.write(filePath, "{\"archivedAt\":\"2025-".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(List.of(MEETING), searchAll(storage).getEventList());
+    }
+
+    @Test
+    public void searchArchive_unreadableEarlierRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json.archive");
+        Files.writeString(filePath, "not json" + System.lineSeparator());
+        JsonArchiveStorage storage = new JsonArchiveStorage(filePath);
+        storage.archiveEntries(entriesOf(List.of(MEETING), List.of()));
+
+        assertThrows(DataLoadingException.class, () -> searchAll(storage));
+    }
+}
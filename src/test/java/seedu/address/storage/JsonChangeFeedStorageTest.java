@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ChangeFeedPolicy;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EntryChange;
+import seedu.address.model.EntryChange.EntryType;
+import seedu.address.model.EntryChange.Operation;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonChangeFeedStorageTest {
+
+    private static final Instant TIME = Instant.parse("2025-10-19T14:30:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    private static EntryChange added(Person person) {
+        return new EntryChange(Operation.ADD, EntryType.PERSON, person.getId(), TIME, person);
+    }
+
+    private static EntryChange deleted(Person person) {
+        return new EntryChange(Operation.DELETE, EntryType.PERSON, person.getId(), TIME, null);
+    }
+
+    private JsonChangeFeedStorage createStorage(long maxSegmentBytes) {
+        return new JsonChangeFeedStorage(testFolder.resolve("changes"), new ChangeFeedPolicy(true, maxSegmentBytes));
+    }
+
+    private List<String> listSegmentNames() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder.resolve("changes"))) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Exports the changes of {@code storage} after {@code sinceSequence}, and returns their sequence numbers.
+     */
+    private List<Long> exportSequences(JsonChangeFeedStorage storage, long sinceSequence) throws IOException {
+        Path file = testFolder.resolve("export.ndjson");
+        long count = storage.exportChanges(sinceSequence, file);
+        List<Long> sequences = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .map(line -> Long.parseLong(line.substring("{\"seq\":".length(), line.indexOf(','))))
+                .collect(Collectors.toList());
+        assertEquals(count, sequences.size());
+        return sequences;
+    }
+
+    @Test
+    public void getChangeFeedPath_nextToDataFile() {
+        Path dataFilePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.changes"),
+                JsonChangeFeedStorage.getChangeFeedPath(dataFilePath));
+    }
+
+    @Test
+    public void getLastChangeSequence_noChanges_zero() throws Exception {
+        assertEquals(0, createStorage(1024).getLastChangeSequence());
+    }
+
+    @Test
+    public void appendChanges_thenExport_recordsInOrder() throws Exception {
+        JsonChangeFeedStorage storage = createStorage(1024 * 1024);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        storage.appendChanges(List.of(added(ALICE)));
+        storage.appendChanges(List.of(new EntryChange(Operation.UPDATE, EntryType.PERSON, ALICE.getId(), TIME,
+                editedAlice), deleted(ALICE)));
+        assertEquals(3, storage.getLastChangeSequence());
+
+        Path file = testFolder.resolve("export.ndjson");
+        assertEquals(3, storage.exportChanges(0, file));
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+
+        JsonAdaptedChangeRecord update = JsonUtil.fromJsonString(lines.get(1), JsonAdaptedChangeRecord.class);
+        assertEquals(2, update.getSeq());
+        assertEquals("update", update.getOp());
+        assertEquals("person", update.getType());
+        assertEquals(editedAlice, update.getPerson().toModelType());
+        assertTrue(lines.get(0).startsWith("{\"seq\":1,\"time\":\"2025-10-19T14:30:00Z\",\"op\":\"add\""),
+                lines.get(0));
+        assertNull(JsonUtil.fromJsonString(lines.get(2), JsonAdaptedChangeRecord.class).getPerson());
+    }
+
+    @Test
+    public void appendChanges_segmentFull_newSegmentStarted() throws Exception {
+        JsonChangeFeedStorage storage = createStorage(1);
+        storage.appendChanges(List.of(added(ALICE)));
+        storage.appendChanges(List.of(added(BENSON), added(CARL)));
+        storage.appendChanges(List.of(deleted(ALICE)));
+
+        // changes appended together are kept together
+        assertEquals(List.of(JsonChangeFeedStorage.getSegmentName(1), JsonChangeFeedStorage.getSegmentName(2),
+                JsonChangeFeedStorage.getSegmentName(4)), listSegmentNames());
+        assertEquals(List.of(1L, 2L, 3L, 4L), exportSequences(storage, 0));
+        assertEquals(List.of(3L, 4L), exportSequences(storage, 2));
+        assertEquals(List.of(4L), exportSequences(storage, 3));
+        assertEquals(List.of(), exportSequences(storage, 4));
+    }
+
+    @Test
+    public void appendChanges_newStorage_numberingContinued() throws Exception {
+        createStorage(1).appendChanges(List.of(added(ALICE), added(BENSON)));
+        JsonChangeFeedStorage storage = createStorage(1024 * 1024);
+        assertEquals(2, storage.getLastChangeSequence());
+
+        storage.appendChanges(List.of(deleted(ALICE)));
+        assertEquals(List.of(1L, 2L, 3L), exportSequences(storage, 0));
+        assertEquals(List.of(JsonChangeFeedStorage.getSegmentName(1)), listSegmentNames());
+    }
+
+    @Test
+    public void appendChanges_incompleteRecordLeftBehind_recordCutOff() throws Exception {
+        createStorage(1024 * 1024).appendChanges(List.of(added(ALICE), added(BENSON)));
+        Path segment = testFolder.resolve("changes").resolve(JsonChangeFeedStorage.getSegmentName(1));
+        Files.write(segment, "{\"seq\":3,\"time\":\"2025-10".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JsonChangeFeedStorage storage = createStorage(1024 * 1024);
+        assertEquals(2, storage.getLastChangeSequence());
+        storage.appendChanges(List.of(deleted(ALICE)));
+        assertEquals(List.of(1L, 2L, 3L), exportSequences(storage, 0));
+    }
+
+    @Test
+    public void getLastChangeSequence_damagedRecord_throwsIoException() throws Exception {
+        Path folder = testFolder.resolve("changes");
+        Files.createDirectories(folder);
+        Files.write(folder.resolve(JsonChangeFeedStorage.getSegmentName(1)),
+                "not a record\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> createStorage(1024).getLastChangeSequence());
+    }
+}
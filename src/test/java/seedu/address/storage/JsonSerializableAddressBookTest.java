@@ -5,13 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalTodos;
 
 public class JsonSerializableAddressBookTest {
 
@@ -19,6 +24,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path ID_LINKED_FILE = TEST_DATA_FOLDER.resolve("idLinkedAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +51,44 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_idLinkedFile_linksResolvedById() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(ID_LINKED_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Person person = addressBookFromFile.getPersonList().get(0);
+        assertEquals(UUID.fromString("2f1d5c3a-8a9e-4c3b-9d7e-1b2a3c4d5e6f"), person.getId());
+        assertEquals(UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7"), person.getEventId());
+        assertEquals(person.getId(), addressBookFromFile.getTodoList().get(0).getContactId());
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_fromModel_idsPreserved() throws Exception {
+        AddressBook original = AddressBookBuilder.getTypicalAddressBook();
+        for (Todo todo : TypicalTodos.getTypicalTodos()) {
+            original.addTodo(todo);
+        }
+        AddressBook converted = new JsonSerializableAddressBook(original).toModelType();
+
+        assertEquals(original, converted);
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), converted.getPersonList().get(i).getId());
+        }
+        for (int i = 0; i < original.getEventList().size(); i++) {
+            assertEquals(original.getEventList().get(i).getId(), converted.getEventList().get(i).getId());
+        }
+        for (int i = 0; i < original.getTodoList().size(); i++) {
+            assertEquals(original.getTodoList().get(i).getId(), converted.getTodoList().get(i).getId());
+        }
+    }
+
 }
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static String convertUnlessMultipleOf(int index, int divisor) throws IllegalValueException {
+        if (index > 0 && index % divisor == 0) {
+            throw new IllegalValueException("Entry " + index + " is invalid");
+        }
+        return "entry " + index;
+    }
+
+    @Test
+    public void convert_smallList_convertedInOrder() throws Exception {
+        assertEquals(List.of("entry 0", "entry 1", "entry 2"), ParallelConverter.convert(3, i -> "entry " + i));
+        assertEquals(List.of(), ParallelConverter.convert(0, i -> "entry " + i));
+    }
+
+    @Test
+    public void convert_listAboveParallelThreshold_convertedInOrder() throws Exception {
+        int size = ParallelConverter.PARALLEL_THRESHOLD * 5;
+        List<String> expected = IntStream.range(0, size).mapToObj(i -> "entry " + i).collect(Collectors.toList());
+
+        assertEquals(expected, ParallelConverter.convert(size, i -> "entry " + i));
+    }
+
+    @Test
+    public void convert_severalInvalidEntries_firstErrorReported() {
+        int size = ParallelConverter.PARALLEL_THRESHOLD * 5;
+        int firstInvalid = ParallelConverter.PARALLEL_THRESHOLD * 3 + 1;
+
+        assertThrows(IllegalValueException.class, "Entry " + firstInvalid + " is invalid", () ->
+                ParallelConverter.convert(size, i -> convertUnlessMultipleOf(i, firstInvalid)));
+        assertThrows(IllegalValueException.class, "Entry 7 is invalid", () ->
+                ParallelConverter.convert(size, i -> convertUnlessMultipleOf(i, 7)));
+    }
+}
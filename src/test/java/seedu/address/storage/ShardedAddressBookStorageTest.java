@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getTypicalFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        for (Todo todo : getTypicalTodos()) {
+            addressBook.addTodo(todo);
+        }
+        return addressBook;
+    }
+
+    private static JsonShardManifest readManifest(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get();
+    }
+
+    private static Set<String> listShards(Path filePath) throws Exception {
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardFolder(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getTodoList(), readBack.getTodoList());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBookInStages_todoShard_readInRemainingStage() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+        storage.saveAddressBook(original);
+
+        StagedAddressBook staged = new ShardedAddressBookStorage(filePath).readAddressBookInStages().get();
+        assertEquals(original.getPersonList(), staged.getPersons());
+        Files.delete(ShardedAddressBookStorage.getShardFolder(filePath).resolve(readManifest(filePath).getTodos()));
+        assertThrows(DataLoadingException.class, staged::readRemaining);
+
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(original);
+        staged = new ShardedAddressBookStorage(filePath).readAddressBookInStages().get();
+        assertEquals(original, new AddressBook(staged.readRemaining()));
+    }
+
+    @Test
+    public void saveAddressBook_todoChanged_onlyTodoShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+        storage.saveAddressBook(original);
+        JsonShardManifest before = readManifest(filePath);
+
+        Todo todo = original.getTodoList().get(0);
+        original.setTodo(todo, new Todo(todo.getId(), todo.getTodoName(), todo.getTodoDescription(),
+                todo.getContactId(), !todo.getIsCompleted()));
+        storage.saveAddressBook(original);
+        JsonShardManifest after = readManifest(filePath);
+
+        assertEquals(before.getGeneration() + 1, after.getGeneration());
+        assertEquals(before.getEvents(), after.getEvents());
+        assertEquals(before.getPersons(), after.getPersons());
+        assertEquals(before.getPersonOrder(), after.getPersonOrder());
+        assertNotEquals(before.getTodos(), after.getTodos());
+        assertFalse(listShards(filePath).contains(before.getTodos()));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_linkedEntries_idsAndLinksKept() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        addTypicalEvents(original);
+        Person linkedHoon = new PersonBuilder(HOON).withLinkedEvent(MEETING).build();
+        Todo linkedTodo = new TodoBuilder().withContact(linkedHoon).build();
+        original.addPerson(linkedHoon);
+        original.addTodo(linkedTodo);
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        Person readHoon = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        Todo readTodo = readBack.getTodoList().get(readBack.getTodoList().size() - 1);
+        assertEquals(linkedHoon.getId(), readHoon.getId());
+        assertEquals(MEETING.getId(), readHoon.getEventId());
+        assertEquals(linkedTodo.getId(), readTodo.getId());
+        assertEquals(linkedHoon.getId(), readTodo.getContactId());
+    }
+
+    @Test
+    public void markAddressBookSaved_savedByOtherStorage_laterSavesIncremental() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalFullAddressBook());
+
+        AddressBook changed = getTypicalFullAddressBook();
+        changed.removePerson(ALICE);
+        changed.addPerson(ALICE);
+        new ShardedAddressBookStorage(filePath).saveAddressBook(changed);
+        JsonShardManifest before = readManifest(filePath);
+
+        storage.markAddressBookSaved(changed);
+        assertFalse(storage.isAddressBookChangedExternally());
+        storage.saveAddressBook(changed);
+        assertEquals(before.getGeneration(), readManifest(filePath).getGeneration());
+
+        Todo todo = changed.getTodoList().get(0);
+        changed.setTodo(todo, new Todo(todo.getId(), todo.getTodoName(), todo.getTodoDescription(),
+                todo.getContactId(), !todo.getIsCompleted()));
+        storage.saveAddressBook(changed);
+        JsonShardManifest after = readManifest(filePath);
+        assertEquals(before.getPersonOrder(), after.getPersonOrder());
+        assertEquals(before.getEvents(), after.getEvents());
+        assertNotEquals(before.getTodos(), after.getTodos());
+        assertEquals(changed, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalFullAddressBook();
+        storage.saveAddressBook(original);
+        long generation = readManifest(filePath).getGeneration();
+
+        storage.saveAddressBook(original);
+        assertEquals(generation, readManifest(filePath).getGeneration());
+
+        // a storage that read the files only rewrites what changed since
+        ShardedAddressBookStorage otherStorage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(otherStorage.readAddressBook().get());
+        otherStorage.saveAddressBook(readBack);
+        assertEquals(generation, readManifest(filePath).getGeneration());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalFullAddressBook());
+        Files.delete(ShardedAddressBookStorage.getShardFolder(filePath).resolve(readManifest(filePath).getEvents()));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_inconsistentPersonOrder_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalFullAddressBook());
+        Files.writeString(ShardedAddressBookStorage.getShardFolder(filePath)
+                .resolve(readManifest(filePath).getPersonOrder()), ALICE.getId() + "\n");
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void isManifest() throws Exception {
+        Path shardedPath = testFolder.resolve("sharded.json");
+        Path jsonPath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalFullAddressBook();
+        new ShardedAddressBookStorage(shardedPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(ShardedAddressBookStorage.isManifest(shardedPath));
+        assertFalse(ShardedAddressBookStorage.isManifest(jsonPath));
+        assertFalse(ShardedAddressBookStorage.isManifest(testFolder.resolve("missing.json")));
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.EntryChange.EntryType;
+import seedu.address.model.ListEdit;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -26,7 +33,8 @@ public class StorageManagerTest {
     public void setUp() {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storageManager = new StorageManager(new StorageManager.Components(addressBookStorage,
+                userPrefsStorage));
     }
 
     private Path getTempFilePath(String fileName) {
@@ -60,6 +68,65 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void convertAddressBook_toBinaryAndBack_formatKeptBySaves() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        assertEquals(DataFileFormat.JSON, storageManager.getAddressBookFormat());
+
+        storageManager.convertAddressBook(original, DataFileFormat.BINARY);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(storageManager.getAddressBookFilePath()));
+        original.removePerson(original.getPersonList().get(0));
+        storageManager.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(storageManager.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+
+        storageManager.convertAddressBook(original, DataFileFormat.JSON);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(storageManager.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertAddressBook_journaledToBinary_journalDeleted() throws Exception {
+        Path filePath = getTempFilePath("journaled");
+        StorageManager journaledStorageManager = new StorageManager(new StorageManager.Components(
+                new JournaledAddressBookStorage(filePath), new JsonUserPrefsStorage(getTempFilePath("prefs"))));
+        AddressBook original = getTypicalAddressBook();
+        journaledStorageManager.saveAddressBook(original);
+        journaledStorageManager.saveAddressBookEdits(List.of(new ListEdit(EntryType.PERSON, 0, 1, List.of())));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+
+        journaledStorageManager.convertAddressBook(original, DataFileFormat.BINARY);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new AddressBook(journaledStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_formatDetected() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(storageManager.getAddressBookFilePath()).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(DataFileFormat.BINARY, storageManager.getAddressBookFormat());
+
+        // later saves keep the format the file was found in
+        storageManager.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertAddressBook_toSharded_formatDetected() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.convertAddressBook(original, DataFileFormat.SHARDED);
+        assertTrue(ShardedAddressBookStorage.isManifest(storageManager.getAddressBookFilePath()));
+
+        StorageManager otherStorageManager = new StorageManager(new StorageManager.Components(
+                new JsonAddressBookStorage(storageManager.getAddressBookFilePath()),
+                new JsonUserPrefsStorage(storageManager.getUserPrefsFilePath())));
+        assertEquals(original, new AddressBook(otherStorageManager.readAddressBook().get()));
+        assertEquals(DataFileFormat.SHARDED, otherStorageManager.getAddressBookFormat());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
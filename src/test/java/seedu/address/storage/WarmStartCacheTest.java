@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.addTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.todo.Todo;
+
+public class WarmStartCacheTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFile;
+    private Path journalFile;
+    private WarmStartCache cache;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFile = testFolder.resolve("data.json");
+        journalFile = testFolder.resolve("data.json.journal");
+        Files.writeString(dataFile, "{ \"persons\" : [ ] }");
+        cache = new WarmStartCache(WarmStartCache.getCachePath(dataFile), List.of(dataFile, journalFile));
+
+        addressBook = getTypicalAddressBook();
+        addTypicalEvents(addressBook);
+        for (Todo todo : getTypicalTodos()) {
+            addressBook.addTodo(todo);
+        }
+    }
+
+    @Test
+    public void read_missingCache_emptyResult() {
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_unchangedSources_cachedAddressBook() throws Exception {
+        cache.write(addressBook, 7, 3);
+
+        WarmStartCache.CachedAddressBook cachedAddressBook = cache.read().get();
+        assertEquals(addressBook, cachedAddressBook.getAddressBook());
+        assertEquals(addressBook.getTodoList(), cachedAddressBook.getAddressBook().getTodoList());
+        assertEquals(7, cachedAddressBook.getJournalSequence());
+        assertEquals(3, cachedAddressBook.getJournalRecordCount());
+    }
+
+    @Test
+    public void read_sourceChanged_emptyResult() throws Exception {
+        cache.write(addressBook, 0, 0);
+        Files.writeString(journalFile, "{}" + System.lineSeparator());
+        assertFalse(cache.read().isPresent());
+
+        cache.write(addressBook, 0, 0);
+        assertTrue(cache.read().isPresent());
+        Files.delete(journalFile);
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_contentChangedWithSameSizeAndTime_emptyResult() throws Exception {
+        cache.write(addressBook, 0, 0);
+        FileTime time = Files.getLastModifiedTime(dataFile);
+        Files.writeString(dataFile, "{ \"friends\" : [ ] }");
+        Files.setLastModifiedTime(dataFile, time);
+
+        assertFalse(cache.read().isPresent());
+    }
+
+    @Test
+    public void read_corruptCache_emptyResult() throws Exception {
+        cache.write(addressBook, 0, 0);
+        Path cachePath = WarmStartCache.getCachePath(dataFile);
+        byte[] bytes = Files.readAllBytes(cachePath);
+        Files.write(cachePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertFalse(cache.read().isPresent());
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.EntryChange;
+import seedu.address.model.ListEdit;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -51,16 +58,56 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateAddressBook(ReadOnlyAddressBook newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPendingAddressBook(CompletableFuture<? extends ReadOnlyAddressBook> remainingData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void awaitPendingAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setChangeListener(Consumer<List<EntryChange>> changeListener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setEditListener(Consumer<List<ListEdit>> editListener) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setListThread(Executor listThread) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -112,6 +159,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void refineFilteredPersonList(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         throw new AssertionError("This method should not be called.");
@@ -127,6 +179,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void refineFilteredEventList(Predicate<Event> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deletePersonAndUnlinkTodos(Person target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteEventAndUnlinkPersons(Event event) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeEntries(ReadOnlyAddressBook entries) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasTodo(Todo todo) {
         throw new AssertionError("This method should not be called.");
@@ -147,6 +219,31 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int getAttendeeCount(Event event) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getOpenTodoCount(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getCompletedTodoCount(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Event> getLinkedEvent(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Person> getLinkedContact(Todo todo) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Todo> getFilteredTodoList() {
         throw new AssertionError("This method should not be called.");
@@ -157,4 +254,9 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void refineFilteredTodoList(Predicate<Todo> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 }
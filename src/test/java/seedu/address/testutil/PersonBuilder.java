@@ -2,8 +2,9 @@ package seedu.address.testutil;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
-import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -21,14 +22,13 @@ public class PersonBuilder {
     public static final String DEFAULT_PHONE = "85355255";
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
-    public static final String DEFAULT_ALIAS = "BP2026";
 
     private Name name;
     private Phone phone;
     private Email email;
     private Address address;
     private Set<Tag> tags;
-    private EventAlias linkedEventAlias;
+    private UUID linkedEventId;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -39,7 +39,7 @@ public class PersonBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         tags = new HashSet<>();
-        linkedEventAlias = new EventAlias(DEFAULT_ALIAS);
+        linkedEventId = null;
     }
 
     /**
@@ -51,8 +51,7 @@ public class PersonBuilder {
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
-        linkedEventAlias = personToCopy.getEventAlias();
-
+        linkedEventId = personToCopy.getEventId();
     }
 
     /**
@@ -96,15 +95,23 @@ public class PersonBuilder {
     }
 
     /**
-     * Sets the {@code linkedEventAlias} of the {@code Person} that we are building.
+     * Links the {@code Person} that we are building to {@code event}.
+     */
+    public PersonBuilder withLinkedEvent(Event event) {
+        this.linkedEventId = event.getId();
+        return this;
+    }
+
+    /**
+     * Sets the {@code linkedEventId} of the {@code Person} that we are building.
      */
-    public PersonBuilder withLinkedEventAlias(String alias) {
-        this.linkedEventAlias = new EventAlias(alias);
+    public PersonBuilder withLinkedEventId(UUID linkedEventId) {
+        this.linkedEventId = linkedEventId;
         return this;
     }
 
     public Person build() {
-        return new Person(name, phone, email, address, tags, linkedEventAlias);
+        return new Person(name, phone, email, address, tags, linkedEventId);
     }
 
 }
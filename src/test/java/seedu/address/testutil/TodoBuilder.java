@@ -1,6 +1,8 @@
 package seedu.address.testutil;
 
-import seedu.address.model.person.Name;
+import java.util.UUID;
+
+import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.TodoName;
 
@@ -11,11 +13,10 @@ public class TodoBuilder {
 
     public static final String DEFAULT_TODO_NAME = "Review Project Proposal";
     public static final String DEFAULT_DESCRIPTION = "Review the Q1 project proposal document";
-    public static final String DEFAULT_CONTACT_NAME = "Alice Pauline";
 
     private TodoName todoName;
     private String description;
-    private Name contactName;
+    private UUID contactId;
     private boolean isCompleted;
 
     /**
@@ -24,7 +25,7 @@ public class TodoBuilder {
     public TodoBuilder() {
         todoName = new TodoName(DEFAULT_TODO_NAME);
         description = DEFAULT_DESCRIPTION;
-        contactName = new Name(DEFAULT_CONTACT_NAME);
+        contactId = TypicalPersons.ALICE.getId();
         isCompleted = false;
     }
 
@@ -34,7 +35,7 @@ public class TodoBuilder {
     public TodoBuilder(Todo todoToCopy) {
         todoName = todoToCopy.getTodoName();
         description = todoToCopy.getTodoDescription();
-        contactName = todoToCopy.getContactName();
+        contactId = todoToCopy.getContactId();
         isCompleted = todoToCopy.getIsCompleted();
     }
 
@@ -55,18 +56,26 @@ public class TodoBuilder {
     }
 
     /**
-     * Sets the {@code contactName} of the {@code Todo} that we are building.
+     * Links the {@code Todo} that we are building to {@code contact}.
+     */
+    public TodoBuilder withContact(Person contact) {
+        this.contactId = contact.getId();
+        return this;
+    }
+
+    /**
+     * Sets the {@code contactId} of the {@code Todo} that we are building.
      */
-    public TodoBuilder withContactName(String contactName) {
-        this.contactName = new Name(contactName);
+    public TodoBuilder withContactId(UUID contactId) {
+        this.contactId = contactId;
         return this;
     }
 
     /**
-     * Sets the {@code contactName} to null for the {@code Todo} that we are building.
+     * Sets the {@code contactId} to null for the {@code Todo} that we are building.
      */
-    public TodoBuilder withoutContactName() {
-        this.contactName = null;
+    public TodoBuilder withoutContact() {
+        this.contactId = null;
         return this;
     }
 
@@ -82,6 +91,6 @@ public class TodoBuilder {
      * Builds the {@code Todo} object.
      */
     public Todo build() {
-        return new Todo(todoName, description, contactName, isCompleted);
+        return new Todo(todoName, description, contactId, isCompleted);
     }
 }
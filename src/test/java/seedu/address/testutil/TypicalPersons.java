@@ -10,6 +10,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,12 +38,12 @@ public class TypicalPersons {
     public static final Person DANIEL = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
             .withEmail("cornelia@example.com").withAddress("10th street").withTags("friends").build();
     public static final Person ELLE = new PersonBuilder().withName("Elle Meyer").withPhone("9482224")
-            .withLinkedEventAlias("MEET24").withEmail("werner@example.com").withAddress("michegan ave").build();
+            .withLinkedEvent(MEETING).withEmail("werner@example.com").withAddress("michegan ave").build();
     public static final Person FIONA = new PersonBuilder().withName("Fiona Kunz").withPhone("9482427")
-            .withLinkedEventAlias("MEET24").withEmail("lydia@example.com").withAddress("little tokyo").build();
+            .withLinkedEvent(MEETING).withEmail("lydia@example.com").withAddress("little tokyo").build();
     public static final Person GEORGE = new PersonBuilder().withName("George Best").withPhone("9482442")
             .withEmail("anna@example.com").withAddress("4th street").build();
-    public static final Person JOHN = new PersonBuilder().withName("John Smith").withLinkedEventAlias("TSC2025")
+    public static final Person JOHN = new PersonBuilder().withName("John Smith").withLinkedEvent(CONCERT)
             .withPhone("9472442").withEmail("john@example.com").withAddress("4th street").build();
 
     // Manually added